@@ -17,6 +17,8 @@ package org.eclipse.debug.jdi.tests;
 import java.util.List;
 import java.util.ListIterator;
 
+import org.eclipse.jdi.internal.request.EventRequestManagerImpl;
+
 import com.sun.jdi.Field;
 import com.sun.jdi.Location;
 import com.sun.jdi.request.AccessWatchpointRequest;
@@ -25,6 +27,7 @@ import com.sun.jdi.request.ClassPrepareRequest;
 import com.sun.jdi.request.ClassUnloadRequest;
 import com.sun.jdi.request.EventRequestManager;
 import com.sun.jdi.request.ExceptionRequest;
+import com.sun.jdi.request.InvalidRequestStateException;
 import com.sun.jdi.request.ModificationWatchpointRequest;
 import com.sun.jdi.request.StepRequest;
 import com.sun.jdi.request.ThreadDeathRequest;
@@ -153,6 +156,49 @@ public class EventRequestManagerTest extends AbstractJDITest {
 		fManager.deleteEventRequest(request);
 		assertEquals("2", 0, fManager.classUnloadRequests().size());
 	}
+	/**
+	 * Test enabling several requests with one batch of commands
+	 */
+	public void testJDIEnableEventRequests() {
+		BreakpointRequest bp = fManager.createBreakpointRequest(getLocation());
+		ClassPrepareRequest request = fManager.createClassPrepareRequest();
+		request.addClassFilter("org.eclipse.debug.jdi.tests.program.*");
+		request.enable();
+		try {
+			((EventRequestManagerImpl) fManager).enableEventRequests(List.of(bp, request));
+			assertTrue("1", bp.isEnabled());
+			assertTrue("2", request.isEnabled());
+			assertTrue("3", fManager.breakpointRequests().contains(bp));
+		} finally {
+			fManager.deleteEventRequest(bp);
+			fManager.deleteEventRequest(request);
+		}
+		assertFalse("4", bp.isEnabled());
+	}
+	/**
+	 * Test that enabling a batch of requests skips the requests deleted
+	 * before the batch is enabled
+	 */
+	public void testJDIEnableDeletedEventRequests() {
+		BreakpointRequest deleted = fManager.createBreakpointRequest(getLocation());
+		ClassPrepareRequest request = fManager.createClassPrepareRequest();
+		request.addClassFilter("org.eclipse.debug.jdi.tests.program.*");
+		fManager.deleteEventRequest(deleted);
+		try {
+			((EventRequestManagerImpl) fManager).enableEventRequests(List.of(deleted, request));
+			assertFalse("1", deleted.isEnabled());
+			assertTrue("2", request.isEnabled());
+			assertFalse("3", fManager.breakpointRequests().contains(deleted));
+			try {
+				deleted.enable();
+				fail("4");
+			} catch (InvalidRequestStateException e) {
+				// expected
+			}
+		} finally {
+			fManager.deleteEventRequest(request);
+		}
+	}
 	/**
 	 * Test JDI createExceptionRequest(), exceptionRequests()
 	 * and deleteEventRequest(EventRequest)
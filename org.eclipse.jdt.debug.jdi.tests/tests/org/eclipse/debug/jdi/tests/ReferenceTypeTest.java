@@ -15,17 +15,26 @@ package org.eclipse.debug.jdi.tests;
 
 import static org.junit.Assert.assertNotEquals;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jdi.internal.ReferenceTypeImpl;
+import org.eclipse.jdi.internal.VirtualMachineImpl;
+import org.eclipse.jdi.internal.jdwp.JdwpCommandMetrics.CommandStatistics;
+import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
+
 import com.sun.jdi.Field;
 import com.sun.jdi.IntegerValue;
 import com.sun.jdi.Method;
 import com.sun.jdi.ObjectReference;
 import com.sun.jdi.ReferenceType;
+import com.sun.jdi.TypeComponent;
 
 /**
  * Tests for JDI com.sun.jdi.ReferenceType
@@ -314,6 +323,98 @@ public class ReferenceTypeTest extends AbstractJDITest {
 			assertEquals("4", 0, type.methodsByName("fraz", "()Z").size());
 		}
 	}
+	/**
+	 * Test preloading the types of a package, which then retrieves nothing
+	 * more when their methods, fields, modifiers and source names are asked.
+	 */
+	public void testJDIPreloadReferenceTypes() throws Exception {
+		VirtualMachineImpl vm = (VirtualMachineImpl) fVM;
+		ReferenceTypeImpl type = (ReferenceTypeImpl) fTypes.get(fMainClassIndex);
+		type.flushStoredJdwpResults();
+		vm.preloadReferenceTypes(List.of("org.eclipse.debug.jdi.tests.program"), new NullProgressMonitor());
+		vm.setCommandMetricsEnabled(true);
+		try {
+			List<Method> methods = type.methods();
+			List<Field> fields = type.fields();
+			int modifiers = type.modifiers();
+			String sourceName = type.sourceName();
+			assertEquals("1", 0, getRequestCount(vm, JdwpCommandPacket.RT_METHODS, JdwpCommandPacket.RT_METHODS_WITH_GENERIC,
+					JdwpCommandPacket.RT_FIELDS, JdwpCommandPacket.RT_FIELDS_WITH_GENERIC, JdwpCommandPacket.RT_MODIFIERS, JdwpCommandPacket.RT_SOURCE_FILE));
+
+			// the preloaded results are the retrieved ones
+			type.flushStoredJdwpResults();
+			assertEquals("2", toStrings(type.methods()), toStrings(methods));
+			assertEquals("3", toStrings(type.fields()), toStrings(fields));
+			assertEquals("4", type.modifiers(), modifiers);
+			assertEquals("5", type.sourceName(), sourceName);
+		} finally {
+			vm.setCommandMetricsEnabled(false);
+		}
+	}
+	/**
+	 * Test that a canceled preload does not retrieve the types.
+	 */
+	public void testJDIPreloadReferenceTypesCanceled() {
+		VirtualMachineImpl vm = (VirtualMachineImpl) fVM;
+		ReferenceTypeImpl type = (ReferenceTypeImpl) fTypes.get(fMainClassIndex);
+		type.flushStoredJdwpResults();
+		IProgressMonitor monitor = new NullProgressMonitor();
+		monitor.setCanceled(true);
+		vm.preloadReferenceTypes(List.of("org.eclipse.debug.jdi.tests.program"), monitor);
+		vm.setCommandMetricsEnabled(true);
+		try {
+			type.methods();
+			assertEquals("1", 1, getRequestCount(vm, JdwpCommandPacket.RT_METHODS, JdwpCommandPacket.RT_METHODS_WITH_GENERIC));
+		} finally {
+			vm.setCommandMetricsEnabled(false);
+		}
+	}
+	/**
+	 * Test preloading types while their stored results are flushed, the
+	 * results are then the ones of the type.
+	 */
+	public void testJDIPreloadReferenceTypesWhileFlushed() throws Exception {
+		VirtualMachineImpl vm = (VirtualMachineImpl) fVM;
+		ReferenceTypeImpl type = (ReferenceTypeImpl) fTypes.get(fMainClassIndex);
+		List<String> methods = toStrings(type.methods());
+		List<String> fields = toStrings(type.fields());
+		Thread preloader = new Thread(() -> {
+			for (int i = 0; i < 20; i++) {
+				vm.preloadReferenceTypes(List.of("org.eclipse.debug.jdi.tests.program"), new NullProgressMonitor());
+			}
+		});
+		preloader.start();
+		while (preloader.isAlive()) {
+			type.flushStoredJdwpResults();
+			Thread.yield();
+		}
+		preloader.join();
+		assertEquals("1", methods, toStrings(type.methods()));
+		assertEquals("2", fields, toStrings(type.fields()));
+		for (Method method : type.methods()) {
+			if (!method.isAbstract() && !method.isNative()) {
+				assertFalse("3." + method.name(), method.allLineLocations().isEmpty());
+			}
+		}
+	}
+	private static long getRequestCount(VirtualMachineImpl vm, int... commands) {
+		long count = 0;
+		for (CommandStatistics statistics : vm.getCommandMetrics().getStatistics()) {
+			for (int command : commands) {
+				if (statistics.getCommand() == command) {
+					count += statistics.getCount();
+				}
+			}
+		}
+		return count;
+	}
+	private static List<String> toStrings(List<? extends TypeComponent> components) {
+		List<String> strings = new ArrayList<>(components.size());
+		for (TypeComponent component : components) {
+			strings.add(component.name() + component.signature() + component.modifiers());
+		}
+		return strings;
+	}
 	/**
 	 * Test JDI isAbstract(), isFinal() and isStatic()
 	 * and JDWP 'Type - Get modifiers'.
@@ -17,6 +17,8 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
+import org.eclipse.jdi.internal.StackFrameImpl;
+
 import com.sun.jdi.AbsentInformationException;
 import com.sun.jdi.ClassNotLoadedException;
 import com.sun.jdi.InvalidTypeException;
@@ -25,6 +27,7 @@ import com.sun.jdi.ObjectReference;
 import com.sun.jdi.ReferenceType;
 import com.sun.jdi.StackFrame;
 import com.sun.jdi.ThreadReference;
+import com.sun.jdi.Value;
 
 /**
  * Tests for JDI com.sun.jdi.StackFrame.
@@ -126,6 +129,17 @@ public class StackFrameTest extends AbstractJDITest {
 		assertNull("5", value);
 
 	}
+	/**
+	 * Test asynchronous getValues(List) and JDWP 'StackFrame - Get values'.
+	 */
+	@SuppressWarnings("restriction")
+	public void testJDIGetValuesAsync() throws Exception {
+		List<LocalVariable> vars = new LinkedList<>();
+		vars.add(getLocalVariable());
+		Map<LocalVariable, Value> values = fFrame.getValues(vars);
+		Map<LocalVariable, Value> asyncValues = ((StackFrameImpl) fFrame).getValuesAsync(vars).get();
+		assertEquals("1", values, asyncValues);
+	}
 	/**
 	 * Test JDI thisObject().
 	 */
@@ -16,6 +16,8 @@ package org.eclipse.debug.jdi.tests;
 import java.lang.reflect.InvocationTargetException;
 import java.util.List;
 
+import org.eclipse.jdi.internal.ThreadReferenceImpl;
+
 import com.sun.jdi.ClassNotLoadedException;
 import com.sun.jdi.ClassType;
 import com.sun.jdi.IncompatibleThreadStateException;
@@ -108,6 +110,17 @@ public class ThreadReferenceTest extends AbstractJDITest {
 		}
 		assertTrue("2", frames.size() > 0);
 	}
+	/**
+	 * Test asynchronous 'Thread - Get frames'.
+	 */
+	@SuppressWarnings("restriction")
+	public void testJDIFramesAsync() throws Exception {
+		List<StackFrame> frames = fThread.frames();
+		List<StackFrame> asyncFrames = ((ThreadReferenceImpl) fThread).framesAsync().get();
+		assertEquals("1", frames, asyncFrames);
+		asyncFrames = ((ThreadReferenceImpl) fThread).framesAsync(1, frames.size() - 1).get();
+		assertEquals("2", frames.subList(1, frames.size()), asyncFrames);
+	}
 	/**
 	 * Test JDI interrupt()().
 	 */
@@ -18,6 +18,10 @@ import java.util.List;
 import java.util.ListIterator;
 import java.util.Vector;
 
+import org.eclipse.jdi.internal.VirtualMachineImpl;
+import org.eclipse.jdi.internal.jdwp.JdwpCommandMetrics.CommandStatistics;
+import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
+
 import com.sun.jdi.BooleanValue;
 import com.sun.jdi.ByteValue;
 import com.sun.jdi.CharValue;
@@ -161,6 +165,52 @@ public class VirtualMachineTest extends AbstractJDITest {
 		//  This is optional functionality, thus this is not a failure
 		fVM.canWatchFieldModification();
 	}
+	/**
+	 * Test that the JDWP requests sent to the VM are counted and timed per
+	 * command once command metrics are enabled.
+	 */
+	public void testJDICommandMetrics() {
+		VirtualMachineImpl vm = (VirtualMachineImpl) fVM;
+		vm.setCommandMetricsEnabled(true);
+		try {
+			fVM.allThreads();
+			fVM.allThreads();
+			fVM.classesByName("java.lang.Object");
+			CommandStatistics threads = getStatistics(vm, JdwpCommandPacket.VM_ALL_THREADS);
+			assertEquals("1", 2, threads.getCount());
+			assertEquals("2", 0, threads.getFailures());
+			assertTrue("3", threads.getBytesOut() > 0);
+			assertTrue("4", threads.getBytesIn() > 0);
+			assertTrue("5", threads.getTotalNanos() > 0);
+			assertTrue("6", threads.getMaxNanos() > 0);
+			assertTrue("7", threads.getMaxNanos() <= threads.getTotalNanos());
+			assertTrue("8", threads.getPercentileNanos(50) <= threads.getMaxNanos());
+			CommandStatistics classes = getStatistics(vm, JdwpCommandPacket.VM_CLASSES_BY_SIGNATURE);
+			assertEquals("9", 1, classes.getCount());
+			assertTrue("10", classes.getTotalNanos() > 0);
+
+			vm.getCommandMetrics().reset();
+			fVM.allThreads();
+			assertEquals("11", 1, getStatistics(vm, JdwpCommandPacket.VM_ALL_THREADS).getCount());
+			assertNull("12", findStatistics(vm, JdwpCommandPacket.VM_CLASSES_BY_SIGNATURE));
+		} finally {
+			vm.setCommandMetricsEnabled(false);
+		}
+		assertNull("13", vm.getCommandMetrics());
+	}
+	private static CommandStatistics getStatistics(VirtualMachineImpl vm, int command) {
+		CommandStatistics statistics = findStatistics(vm, command);
+		assertNotNull("No statistics of " + command, statistics);
+		return statistics;
+	}
+	private static CommandStatistics findStatistics(VirtualMachineImpl vm, int command) {
+		for (CommandStatistics statistics : vm.getCommandMetrics().getStatistics()) {
+			if (statistics.getCommand() == command) {
+				return statistics;
+			}
+		}
+		return null;
+	}
 	/**
 	 * Test JDI eventQueue().
 	 */
@@ -0,0 +1,54 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Starts platform threads one after the other and a waiting virtual thread,
+ * lets them end, then hits a breakpoint in another virtual thread.
+ */
+public class ThreadRegistry21 {
+
+	public static void main(String[] args) throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		Thread[] platform = new Thread[3];
+		for (int i = 0; i < platform.length; i++) {
+			CountDownLatch running = new CountDownLatch(1);
+			platform[i] = Thread.ofPlatform().name("Registry-" + i).start(() -> {
+				running.countDown();
+				await(release);
+			});
+			// the next thread starts once this one runs
+			running.await();
+		}
+		Thread waiting = Thread.ofVirtual().name("Registry-virtual-waiting").start(() -> await(release));
+		System.out.println("Threads started"); // breakpoint: threads running
+		release.countDown();
+		for (Thread thread : platform) {
+			thread.join();
+		}
+		waiting.join();
+		System.out.println("Threads ended"); // breakpoint: threads ended
+		Thread.ofVirtual().name("Registry-virtual").start(() -> {
+			System.out.println("In virtual thread"); // breakpoint: virtual thread
+		}).join();
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,46 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+import java.lang.reflect.Proxy;
+import java.util.function.IntSupplier;
+
+/**
+ * Lines with code in several methods, or in several ranges of one method.
+ */
+public class LineLocations18 {
+
+	private int count = Integer.getInteger("count", 1).intValue(); // inlined in both constructors
+
+	public LineLocations18() {
+	}
+
+	public LineLocations18(int more) {
+		count += more;
+	}
+
+	public int sum() {
+		IntSupplier twice = () -> count * 2; // in sum() and its lambda
+		int sum = 0;
+		for (int i = 0; i < count; i++) { // two ranges of sum()
+			sum += twice.getAsInt();
+		}
+		return sum;
+	}
+
+	public static void main(String[] args) {
+		// a proxy class has no line information
+		Runnable proxy = (Runnable) Proxy.newProxyInstance(LineLocations18.class.getClassLoader(), new Class<?>[] { Runnable.class }, (p, m, a) -> null);
+		int sum = new LineLocations18().sum() + new LineLocations18(2).sum();
+		System.out.println(proxy.getClass().getName() + sum); // breakpoint
+	}
+}
@@ -0,0 +1,30 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+public class DeepRecursion {
+
+	public static void main(String[] args) {
+		recurse(200);
+	}
+
+	static void recurse(int depth) {
+		if (depth > 0) {
+			recurse(depth - 1);
+			return;
+		}
+		int i = 0;
+		i++;
+		System.out.println(i);
+	}
+}
@@ -0,0 +1,47 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tests logical structures decoded from the fields of collections.
+ */
+public class NativeLogicalStructures {
+
+	public static void main(String[] args) {
+		ArrayList<Integer> arrayList = new ArrayList<>();
+		ArrayDeque<Integer> deque = new ArrayDeque<>(8);
+		HashMap<Integer, Integer> hashMap = new HashMap<>();
+		LinkedHashMap<Integer, Integer> linkedHashMap = new LinkedHashMap<>();
+		ConcurrentHashMap<Integer, Integer> concurrentHashMap = new ConcurrentHashMap<>();
+		LinkedHashSet<Integer> linkedHashSet = new LinkedHashSet<>();
+		for (int i = 0; i < 10000; i++) {
+			arrayList.add(i);
+			hashMap.put(i, -i);
+			concurrentHashMap.put(i, -i);
+		}
+		for (int i = 2; i < 8; i++) {
+			deque.addLast(i);
+		}
+		// the first elements go before the start of the array, at its end
+		deque.addFirst(1);
+		deque.addFirst(0);
+		for (int i = 100; i > 0; i--) {
+			linkedHashMap.put(i, i * 2);
+			linkedHashSet.add(i);
+		}
+		System.out.println(arrayList.size() + deque.size() + hashMap.size() + linkedHashMap.size() + concurrentHashMap.size() + linkedHashSet.size());
+	}
+}
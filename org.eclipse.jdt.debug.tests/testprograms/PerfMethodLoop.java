@@ -0,0 +1,31 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+/**
+ * A loop calling an instance method of a new object each time
+ */
+public class PerfMethodLoop {
+
+	private static long sum;
+
+	public static void main(String[] args) {
+		for (int i = 0; i < 100000; i++) {
+			new PerfMethodLoop().add(i);
+		}
+	}
+
+	private void add(int i) {
+		sum += i;
+	}
+}
@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.test.stepping;
+
+import java.util.List;
+
+import org.eclipse.debug.core.model.ILineBreakpoint;
+import org.eclipse.jdt.debug.core.IJavaStackFrame;
+import org.eclipse.jdt.debug.core.IJavaThread;
+import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.debug.core.model.JDIThread;
+
+/**
+ * Tests that the stack frames of a deep stack are retrieved a page at a time.
+ */
+public class StackFramePagingTests extends AbstractDebugTest {
+
+	private static final int PAGE = JDIThread.STACK_FRAME_PAGE_SIZE;
+
+	/**
+	 * Creates test case.
+	 *
+	 * @param name test name
+	 */
+	public StackFramePagingTests(String name) {
+		super(name);
+	}
+
+	/**
+	 * Tests that only the top page of frames is bound after suspending at a
+	 * breakpoint and after stepping, and that step and drop to frame
+	 * enablement do not retrieve the frames below it
+	 */
+	public void testOnlyTopPageBoundAfterStep() throws Exception {
+		String typeName = "DeepRecursion";
+		ILineBreakpoint bp = createLineBreakpoint(26, typeName);
+
+		IJavaThread thread = null;
+		try {
+			thread = launchToLineBreakpoint(typeName, bp);
+			JDIThread jdiThread = (JDIThread) thread;
+			int count = thread.getFrameCount();
+			assertTrue("The stack should be deeper than three pages: " + count, count > 3 * PAGE);
+			IJavaStackFrame top = (IJavaStackFrame) thread.getTopStackFrame();
+			assertEquals("Only the top page should be bound when suspended", count - PAGE, jdiThread.getUnboundStackFrameCount());
+
+			thread = stepOver(top);
+			jdiThread = (JDIThread) thread;
+			top = (IJavaStackFrame) thread.getTopStackFrame();
+			assertEquals("Wrong line after step", 27, top.getLineNumber());
+			top.canStepReturn();
+			top.canDropToFrame();
+			top.canForceReturn();
+			assertEquals("Only the top page should be bound after a step", count - PAGE, jdiThread.getUnboundStackFrameCount());
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests that frames below the top page are retrieved by page when asked
+	 * for, and are the frames a full retrieval returns
+	 */
+	public void testUnboundFramesRetrievedByPage() throws Exception {
+		String typeName = "DeepRecursion";
+		ILineBreakpoint bp = createLineBreakpoint(26, typeName);
+
+		IJavaThread thread = null;
+		try {
+			thread = launchToLineBreakpoint(typeName, bp);
+			int count = thread.getFrameCount();
+			thread = stepOver((IJavaStackFrame) thread.getTopStackFrame());
+			JDIThread jdiThread = (JDIThread) thread;
+
+			// the bottom frames are not bound yet
+			List<IJavaStackFrame> bottom = jdiThread.computeStackFrames(count - 2, 2);
+			assertEquals("Wrong number of bottom frames", 2, bottom.size());
+			assertNotNull("Bottom frame should be bound", bottom.get(1));
+			assertEquals("Bottom frame should be main", "main", bottom.get(1).getMethodName());
+			assertEquals("Only the top and bottom pages should be bound", count - PAGE - (count % PAGE == 0 ? PAGE : count % PAGE), jdiThread.getUnboundStackFrameCount());
+
+			IJavaStackFrame middle = jdiThread.computeStackFrames(PAGE + 1, 1).get(0);
+			assertNotNull("Middle frame should be bound", middle);
+			assertEquals("Middle frame should be a recursion", "recurse", middle.getMethodName());
+
+			List<IJavaStackFrame> all = jdiThread.computeStackFrames();
+			assertEquals("Wrong number of frames", count, all.size());
+			assertEquals("All frames should be bound", 0, jdiThread.getUnboundStackFrameCount());
+			assertSame("The middle frame should be retrieved once", middle, all.get(PAGE + 1));
+			assertSame("The bottom frame should be retrieved once", bottom.get(1), all.get(count - 1));
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+}
@@ -17,6 +17,7 @@ package org.eclipse.jdt.debug.tests;
 
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.jdt.debug.test.stepping.ForceReturnTests;
+import org.eclipse.jdt.debug.test.stepping.StackFramePagingTests;
 import org.eclipse.jdt.debug.test.stepping.StepFilterTests;
 import org.eclipse.jdt.debug.test.stepping.StepIntoSelectionTests;
 import org.eclipse.jdt.debug.test.stepping.StepIntoSelectionWithGenerics;
@@ -83,17 +84,24 @@ import org.eclipse.jdt.debug.tests.core.InstructionPointerTests;
 import org.eclipse.jdt.debug.tests.core.JDWPTests;
 import org.eclipse.jdt.debug.tests.core.JavaDebugTargetTests;
 import org.eclipse.jdt.debug.tests.core.JavaLibraryPathTests;
+import org.eclipse.jdt.debug.tests.core.JdwpCommandMetricsTests;
+import org.eclipse.jdt.debug.tests.core.JdwpDataCursorTests;
+import org.eclipse.jdt.debug.tests.core.JdwpSessionReplayTests;
+import org.eclipse.jdt.debug.tests.core.LineLocationsTests;
 import org.eclipse.jdt.debug.tests.core.LineTrackerTests;
 import org.eclipse.jdt.debug.tests.core.LiteralTests17;
 import org.eclipse.jdt.debug.tests.core.LocalVariableTests;
+import org.eclipse.jdt.debug.tests.core.LongKeyValueCacheTests;
 import org.eclipse.jdt.debug.tests.core.ModuleOptionsTests;
 import org.eclipse.jdt.debug.tests.core.MultiReleaseLaunchTests;
 import org.eclipse.jdt.debug.tests.core.ProcessTests;
 import org.eclipse.jdt.debug.tests.core.ResolveRuntimeClasspathTests;
 import org.eclipse.jdt.debug.tests.core.RuntimeClasspathEntryTests;
+import org.eclipse.jdt.debug.tests.core.SocketChannelConnectionTests;
 import org.eclipse.jdt.debug.tests.core.StaticVariableTests;
 import org.eclipse.jdt.debug.tests.core.StratumTests;
 import org.eclipse.jdt.debug.tests.core.StringSubstitutionTests;
+import org.eclipse.jdt.debug.tests.core.ThreadRegistryTests;
 import org.eclipse.jdt.debug.tests.core.TypeTests;
 import org.eclipse.jdt.debug.tests.core.VMInstallTests;
 import org.eclipse.jdt.debug.tests.core.WatchExpressionTests;
@@ -253,6 +261,7 @@ public class AutomatedSuite extends DebugSuite {
 		if (JavaProjectHelper.isJava6Compatible()) {
 			addTest(new TestSuite(ForceReturnTests.class));
 		}
+		addTest(new TestSuite(StackFramePagingTests.class));
 
 	//Classpath tests
 		addTest(new TestSuite(JavaLibraryPathTests.class));
@@ -293,6 +302,9 @@ public class AutomatedSuite extends DebugSuite {
 		addTest(new TestSuite(WatchExpressionTests.class));
 		addTest(new TestSuite(StratumTests.class));
 		addTest(new TestSuite(JavaDebugTargetTests.class));
+		if (JavaProjectHelper.isJava23_Compatible()) {
+			addTest(new TestSuite(ThreadRegistryTests.class));
+		}
 		addTest(new TestSuite(WorkingDirectoryTests.class));
 		addTest(new TestSuite(EventDispatcherTest.class));
 		addTest(new TestSuite(SyntheticVariableTests.class));
@@ -328,6 +340,11 @@ public class AutomatedSuite extends DebugSuite {
 
 	// JDWP tests
 		addTest(new TestSuite(JDWPTests.class));
+		addTest(new TestSuite(JdwpDataCursorTests.class));
+		addTest(new TestSuite(JdwpCommandMetricsTests.class));
+		addTest(new TestSuite(SocketChannelConnectionTests.class));
+		addTest(new TestSuite(JdwpSessionReplayTests.class));
+		addTest(new TestSuite(LongKeyValueCacheTests.class));
 		addTest(new TestSuite(MultipleConnectionsTest.class));
 	// Refresh state tests
 		addTest(new TestSuite(RefreshStateTests.class));
@@ -413,6 +430,7 @@ public class AutomatedSuite extends DebugSuite {
 			addTest(new TestSuite(ModelPresentationTests18.class));
 			addTest(new TestSuite(ConditionalBreakpointsInJava8Tests.class));
 			addTest(new TestSuite(LambdaBreakpointsInJava8Tests.class));
+			addTest(new TestSuite(LineLocationsTests.class));
 		}
 		if (JavaProjectHelper.isJava5Compatible()) {
 			addTest(new TestSuite(MethodBreakpointTests15.class));
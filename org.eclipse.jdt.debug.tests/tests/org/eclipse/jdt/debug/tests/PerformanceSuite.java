@@ -18,9 +18,12 @@ import junit.framework.TestSuite;
 
 import org.eclipse.jdt.debug.tests.performance.BreakpointManagerPerfTests;
 import org.eclipse.jdt.debug.tests.performance.PerfBreakpointTests;
+import org.eclipse.jdt.debug.tests.performance.PerfCompiledConditionTests;
 import org.eclipse.jdt.debug.tests.performance.PerfConditionalBreakpointsTests;
 import org.eclipse.jdt.debug.tests.performance.PerfConsoleTests;
 import org.eclipse.jdt.debug.tests.performance.PerfContextualLaunchMenu;
+import org.eclipse.jdt.debug.tests.performance.PerfInterpreterTests;
+import org.eclipse.jdt.debug.tests.performance.PerfPacketReceiveManagerTests;
 import org.eclipse.jdt.debug.tests.performance.PerfSteppingTests;
 import org.eclipse.jdt.debug.tests.performance.PerfVariableDetailTests;
 
@@ -46,9 +49,12 @@ public class PerformanceSuite extends DebugSuite {
         addTest(new TestSuite(PerfContextualLaunchMenu.class));
         addTest(new TestSuite(PerfBreakpointTests.class));
         addTest(new TestSuite(PerfConditionalBreakpointsTests.class));
+        addTest(new TestSuite(PerfCompiledConditionTests.class));
         addTest(new TestSuite(PerfSteppingTests.class));
         addTest(new TestSuite(PerfConsoleTests.class));
         addTest(new TestSuite(PerfVariableDetailTests.class));
         addTest(new TestSuite(BreakpointManagerPerfTests.class));
+        addTest(new TestSuite(PerfPacketReceiveManagerTests.class));
+        addTest(new TestSuite(PerfInterpreterTests.class));
     }
 }
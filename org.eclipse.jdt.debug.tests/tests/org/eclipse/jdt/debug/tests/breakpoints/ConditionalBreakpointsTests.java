@@ -13,22 +13,38 @@
  *******************************************************************************/
 package org.eclipse.jdt.debug.tests.breakpoints;
 
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.InstanceScope;
 import org.eclipse.debug.core.model.IBreakpoint;
 import org.eclipse.debug.core.model.IStackFrame;
 import org.eclipse.debug.core.model.IVariable;
 import org.eclipse.debug.internal.ui.views.console.ProcessConsole;
+import org.eclipse.jdt.debug.core.IJavaDebugTarget;
 import org.eclipse.jdt.debug.core.IJavaLineBreakpoint;
 import org.eclipse.jdt.debug.core.IJavaPrimitiveValue;
 import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
+import org.eclipse.jdt.debug.eval.ICompiledExpression;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
 import org.eclipse.jdt.debug.tests.TestUtil;
+import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
+import org.eclipse.jdt.internal.debug.core.breakpoints.CompiledConditionCache;
+import org.eclipse.jdt.internal.debug.eval.ast.engine.ASTEvaluationEngine;
+import org.eclipse.jdt.internal.debug.eval.ast.instructions.Instruction;
+import org.eclipse.jdt.internal.debug.eval.ast.instructions.InstructionSequence;
+import org.eclipse.jdt.internal.debug.eval.ast.instructions.RemoteOperator;
 
 /**
  * Tests conditional breakpoints.
  */
 public class ConditionalBreakpointsTests extends AbstractDebugTest {
 
+	/**
+	 * A condition true when <code>i</code> is 3, sending enough messages to be
+	 * evaluated in the target
+	 */
+	private static final String IN_TARGET_CONDITION = "Integer.valueOf(i).equals(Integer.valueOf(3)) && String.valueOf(i).length() == 1";
+
 	/**
 	 * Constructor
 	 */
@@ -63,6 +79,148 @@ public class ConditionalBreakpointsTests extends AbstractDebugTest {
 		}
 	}
 
+	/**
+	 * Tests that editing a condition discards the compilations of the old and
+	 * new condition, which are otherwise shared by the hits of the breakpoint
+	 */
+	public void testEditedConditionIsRecompiled() throws Exception {
+		String typeName = "HitCountLooper";
+		IJavaLineBreakpoint bp = createConditionalLineBreakpoint(19, typeName, "i == 3", true);
+
+		IJavaThread thread= null;
+		try {
+			thread= launchToLineBreakpoint(typeName, bp);
+			IJavaStackFrame top = (IJavaStackFrame) thread.getTopStackFrame();
+			CompiledConditionCache cache = CompiledConditionCache.getDefault();
+			ASTEvaluationEngine engine = new ASTEvaluationEngine(getProjectContext(), (IJavaDebugTarget) thread.getDebugTarget());
+			try {
+				ICompiledExpression oldCondition = cache.getCompiledExpression("i == 3", top, engine, false);
+				ICompiledExpression newCondition = cache.getCompiledExpression("i == 7", top, engine, false);
+				assertSame("The old condition should be compiled once", oldCondition, cache.getCompiledExpression("i == 3", top, engine, false));
+				assertSame("The new condition should be compiled once", newCondition, cache.getCompiledExpression("i == 7", top, engine, false));
+
+				bp.setCondition("i == 7");
+				assertNotSame("The old condition should be compiled again", oldCondition, cache.getCompiledExpression("i == 3", top, engine, false));
+				assertNotSame("The new condition should be compiled again", newCondition, cache.getCompiledExpression("i == 7", top, engine, false));
+			} finally {
+				engine.dispose();
+			}
+			thread = resumeToLineBreakpoint(thread, bp);
+
+			IJavaStackFrame frame = (IJavaStackFrame)thread.getTopStackFrame();
+			IVariable var = findVariable(frame, "i");
+			assertNotNull("Could not find variable 'i'", var);
+
+			IJavaPrimitiveValue value = (IJavaPrimitiveValue)var.getValue();
+			assertNotNull("variable 'i' has no value", value);
+			int iValue = value.getIntValue();
+			assertEquals("value of 'i' should be '7', but was " + iValue, 7, iValue);
+
+			bp.delete();
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests a breakpoint with a condition sending several messages evaluated
+	 * in the target
+	 */
+	public void testConditionEvaluatedInTarget() throws Exception {
+		IEclipsePreferences prefs = InstanceScope.INSTANCE.getNode(JDIDebugPlugin.getUniqueIdentifier());
+		prefs.putBoolean(JDIDebugPlugin.PREF_EVALUATE_CONDITIONS_IN_TARGET, true);
+		String typeName = "HitCountLooper";
+		IJavaLineBreakpoint bp = createConditionalLineBreakpoint(19, typeName, IN_TARGET_CONDITION, true);
+
+		IJavaThread thread= null;
+		try {
+			thread= launchToLineBreakpoint(typeName, bp);
+
+			IJavaStackFrame frame = (IJavaStackFrame)thread.getTopStackFrame();
+			IVariable var = findVariable(frame, "i");
+			assertNotNull("Could not find variable 'i'", var);
+
+			IJavaPrimitiveValue value = (IJavaPrimitiveValue)var.getValue();
+			assertNotNull("variable 'i' has no value", value);
+			int iValue = value.getIntValue();
+			assertEquals("value of 'i' should be '3', but was " + iValue, 3, iValue);
+
+			bp.delete();
+		} finally {
+			prefs.remove(JDIDebugPlugin.PREF_EVALUATE_CONDITIONS_IN_TARGET);
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests that only conditions sending several messages, and not assigning
+	 * local variables, are compiled to a class evaluating them in the target
+	 */
+	public void testConditionsCompiledInTarget() throws Exception {
+		String typeName = "HitCountLooper";
+		IJavaLineBreakpoint bp = createLineBreakpoint(19, typeName);
+
+		IJavaThread thread = null;
+		try {
+			thread = launchToLineBreakpoint(typeName, bp);
+			IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+			ASTEvaluationEngine engine = new ASTEvaluationEngine(getProjectContext(), (IJavaDebugTarget) thread.getDebugTarget());
+			try {
+				assertTrue("The condition should be evaluated in the target", isCompiledInTarget(engine.getCompiledExpressionInTarget(IN_TARGET_CONDITION, frame)));
+				assertFalse("A condition without message sends should be interpreted", isCompiledInTarget(engine.getCompiledExpressionInTarget("i == 3", frame)));
+				assertFalse("A condition assigning a local variable should be interpreted", isCompiledInTarget(engine.getCompiledExpressionInTarget("(i = Integer.valueOf(i).intValue()) == String.valueOf(i).length()", frame)));
+				assertFalse("A condition incrementing a local variable should be interpreted", isCompiledInTarget(engine.getCompiledExpressionInTarget(IN_TARGET_CONDITION + " && i++ > 0", frame)));
+				assertFalse("A snippet of several statements should be interpreted", isCompiledInTarget(engine.getCompiledExpressionInTarget("int j = i; return " + IN_TARGET_CONDITION + ";", frame)));
+			} finally {
+				engine.dispose();
+			}
+			bp.delete();
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests that a condition assigning a local variable changes it in the
+	 * frame when conditions are evaluated in the target
+	 */
+	public void testConditionAssigningLocalEvaluatedInTarget() throws Exception {
+		IEclipsePreferences prefs = InstanceScope.INSTANCE.getNode(JDIDebugPlugin.getUniqueIdentifier());
+		prefs.putBoolean(JDIDebugPlugin.PREF_EVALUATE_CONDITIONS_IN_TARGET, true);
+		String typeName = "HitCountLooper";
+		IJavaLineBreakpoint bp = createConditionalLineBreakpoint(19, typeName, "(i = Integer.valueOf(i + 10).intValue()) > String.valueOf(i).length()", true);
+
+		IJavaThread thread = null;
+		try {
+			thread = launchToLineBreakpoint(typeName, bp);
+
+			IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+			IVariable var = findVariable(frame, "i");
+			assertNotNull("Could not find variable 'i'", var);
+			IJavaPrimitiveValue value = (IJavaPrimitiveValue) var.getValue();
+			assertEquals("The condition should have assigned 'i'", 10, value.getIntValue());
+
+			bp.delete();
+		} finally {
+			prefs.remove(JDIDebugPlugin.PREF_EVALUATE_CONDITIONS_IN_TARGET);
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	private static boolean isCompiledInTarget(ICompiledExpression expression) {
+		assertFalse("The condition should compile", expression.hasErrors());
+		for (Instruction instruction : ((InstructionSequence) expression).getInstructions()) {
+			if (instruction instanceof RemoteOperator) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * Tests a static method call that has a conditional breakpoint on it
 	 */
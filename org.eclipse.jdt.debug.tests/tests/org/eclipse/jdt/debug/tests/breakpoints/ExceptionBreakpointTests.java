@@ -293,6 +293,68 @@ public class ExceptionBreakpointTests extends AbstractDebugTest {
 		}
 	}
 
+	/**
+	 * tests that the breakpoint suspends with wildcard exclusion filters that do not match
+	 */
+	public void testWildcardExclusiveScopedExceptionHit() throws Exception {
+		String typeName = "ThrowsNPE";
+		IJavaExceptionBreakpoint ex = createExceptionBreakpoint("java.lang.NullPointerException", true, false);
+		ex.setExclusionFilters(new String[] {"*IO", "Break*", "Hit*Exception"});
+
+		IJavaThread thread = null;
+		try {
+			thread = launchToBreakpoint(typeName);
+			assertNotNull("Did not suspend", thread);
+			assertEquals("Should have suspended at NPE", ex, thread.getBreakpoints()[0]);
+			ex.delete();
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * tests that the breakpoint does not suspend once a matching wildcard exclusion filter is set
+	 */
+	public void testWildcardExclusiveScopedExceptionMissed() throws Exception {
+		String typeName = "ThrowsNPE";
+		IJavaExceptionBreakpoint ex = createExceptionBreakpoint("java.lang.NullPointerException", true, false);
+		ex.setExclusionFilters(new String[] {"*IO"});
+		ex.setExclusionFilters(new String[] {"*IO", "Throws*"});
+
+		IJavaDebugTarget target= null;
+		try {
+			target = launchAndTerminate(typeName);
+			ex.delete();
+		} finally {
+			terminateAndRemove(target);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * tests that an inclusion filter combined with exclusion filters still
+	 * matches exceptions thrown in nested types, whose name only contains the
+	 * filter
+	 */
+	public void testInclusiveScopedExceptionInNestedType() throws Exception {
+		String typeName = "ThrowsInNestedType";
+		IJavaExceptionBreakpoint ex = createExceptionBreakpoint("java.lang.NullPointerException", true, false);
+		ex.setInclusionFilters(new String[] {"ThrowsInNestedType"});
+		ex.setExclusionFilters(new String[] {"java.*"});
+
+		IJavaThread thread = null;
+		try {
+			thread = launchToBreakpoint(typeName);
+			assertNotNull("Did not suspend", thread);
+			assertEquals("Should have suspended at NPE", ex, thread.getBreakpoints()[0]);
+			ex.delete();
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
 	/**
 	 * tests that breakpoint is skipped when told to do so
 	 */
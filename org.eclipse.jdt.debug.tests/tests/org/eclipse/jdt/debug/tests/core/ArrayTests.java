@@ -103,6 +103,99 @@ public class ArrayTests extends AbstractDebugTest {
 		}
 	}
 
+	public void testSetByteValues() throws Exception {
+		String typeName = "ByteArrayTests";
+		ILineBreakpoint bp = createLineBreakpoint(30, typeName);
+
+		IJavaThread thread = null;
+		try {
+			thread= launchToLineBreakpoint(typeName, bp);
+			IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+			assertNotNull(frame);
+			IJavaVariable v = findVariable(frame, "bytes");
+			assertNotNull(v);
+			IJavaArray array = (IJavaArray) v.getValue();
+			assertNotNull(array);
+			byte[] replacements = new byte[100];
+			for (int i = 0; i < replacements.length; i++) {
+				replacements[i] = (byte) -i;
+			}
+			array.setValues(2500, replacements);
+			IJavaValue[] range = array.getValues(2400, 200);
+			for (int i = 0; i < range.length; i++) {
+				byte byteValue = ((IJavaPrimitiveValue) range[i]).getByteValue();
+				assertEquals("Wrong value", i < 100 ? (byte) ((2400 + i) % 128) : (byte) -(i - 100), byteValue);
+			}
+			// more bytes than fit in one command
+			byte[] bytes = new byte[40000];
+			for (int i = 0; i < bytes.length; i++) {
+				bytes[i] = (byte) (i % 127);
+			}
+			IJavaArray large = ((IJavaArrayType) array.getJavaType()).newInstance(bytes.length);
+			large.setValues(0, bytes);
+			IJavaValue[] values = large.getValues();
+			for (int i = 0; i < values.length; i++) {
+				assertEquals("Wrong value", bytes[i], ((IJavaPrimitiveValue) values[i]).getByteValue());
+			}
+			try {
+				array.setValues(array.getLength() - 10, new byte[20]);
+				fail("Bytes should be out of bounds");
+			} catch (IndexOutOfBoundsException e) {
+				// expected
+			}
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	public void testGetValuesRange() throws Exception {
+		String typeName = "ByteArrayTests";
+		ILineBreakpoint bp = createLineBreakpoint(30, typeName);
+
+		IJavaThread thread = null;
+		try {
+			thread= launchToLineBreakpoint(typeName, bp);
+			IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+			assertNotNull(frame);
+			IJavaVariable v = findVariable(frame, "bytes");
+			assertNotNull(v);
+			IJavaArray array = (IJavaArray) v.getValue();
+			assertNotNull(array);
+			IJavaValue[] all = array.getValues();
+			IJavaValue[] range = array.getValues(2400, 200);
+			assertEquals("Wrong number of values", 200, range.length);
+			for (int i = 0; i < range.length; i++) {
+				assertEquals("Wrong value", all[2400 + i], range[i]);
+			}
+			// the range is read again once modified
+			IJavaValue[] replacements = new IJavaValue[100];
+			IJavaDebugTarget target = (IJavaDebugTarget) frame.getDebugTarget();
+			for (int i = 0; i < replacements.length; i++) {
+				replacements[i] = target.newValue((byte)-1);
+			}
+			array.setValues(2500, 100, replacements, 0);
+			range = array.getValues(2400, 200);
+			for (int i = 0; i < range.length; i++) {
+				byte byteValue = ((IJavaPrimitiveValue)range[i]).getByteValue();
+				if (i < 100) {
+					assertEquals("Wrong value", ((IJavaPrimitiveValue) all[2400 + i]).getByteValue(), byteValue);
+				} else {
+					assertEquals((byte)-1, byteValue);
+				}
+			}
+			try {
+				array.getValues(all.length - 10, 20);
+				fail("Range should be out of bounds");
+			} catch (IndexOutOfBoundsException e) {
+				// expected
+			}
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
 	public void testSetValueRange() throws Exception {
 		String typeName = "ByteArrayTests";
 		ILineBreakpoint bp = createLineBreakpoint(30, typeName);
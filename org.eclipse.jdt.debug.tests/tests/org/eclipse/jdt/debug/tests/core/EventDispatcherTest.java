@@ -13,9 +13,16 @@
  *******************************************************************************/
 package org.eclipse.jdt.debug.tests.core;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.runtime.jobs.IJobChangeEvent;
@@ -30,6 +37,7 @@ import org.eclipse.jdt.debug.core.IJavaLineBreakpoint;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
 import org.eclipse.jdt.internal.debug.core.EventDispatcher.AbstractDispatchJob;
+import org.eclipse.jdt.internal.debug.core.ThreadOrderedExecutor;
 import org.eclipse.jdt.internal.debug.core.model.JDIThread;
 
 public class EventDispatcherTest extends AbstractDebugTest {
@@ -127,4 +135,146 @@ public class EventDispatcherTest extends AbstractDebugTest {
 		assertEquals("Unexpected number of event dispatching jobs: " + jobs.size() + " | " + jobs.keySet(), 2, jobs.size());
 	}
 
-}
\ No newline at end of file
+	/**
+	 * Tests that the event sets of a thread are dispatched while those of
+	 * another thread are still being dispatched
+	 */
+	public void testThreadsDispatchedConcurrently() throws Exception {
+		ExecutorService pool = Executors.newFixedThreadPool(2);
+		try {
+			ThreadOrderedExecutor<String> executor = new ThreadOrderedExecutor<>(pool);
+			CountDownLatch secondDispatched = new CountDownLatch(1);
+			CountDownLatch firstDone = new CountDownLatch(1);
+			AtomicBoolean concurrent = new AtomicBoolean();
+			executor.execute("first", () -> {
+				try {
+					// with serial dispatch the second thread would only be
+					// dispatched once this returns
+					concurrent.set(secondDispatched.await(DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS));
+				} catch (InterruptedException e) {
+				}
+				firstDone.countDown();
+			});
+			executor.execute("second", secondDispatched::countDown);
+			assertTrue("The first thread should be dispatched", firstDone.await(DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS));
+			assertTrue("The second thread should be dispatched while the first one is", concurrent.get());
+		}
+		finally {
+			pool.shutdownNow();
+		}
+	}
+
+	/**
+	 * Tests that the event sets of each thread are dispatched one at a time,
+	 * in the order they were received
+	 */
+	public void testThreadEventSetsDispatchedInOrder() throws Exception {
+		int threads = 4;
+		int eventSets = 500;
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		try {
+			ThreadOrderedExecutor<Integer> executor = new ThreadOrderedExecutor<>(pool);
+			List<List<Integer>> dispatched = new ArrayList<>();
+			AtomicInteger[] running = new AtomicInteger[threads];
+			AtomicBoolean overlapped = new AtomicBoolean();
+			CountDownLatch done = new CountDownLatch(threads * eventSets);
+			for (int thread = 0; thread < threads; thread++) {
+				dispatched.add(Collections.synchronizedList(new ArrayList<>()));
+				running[thread] = new AtomicInteger();
+			}
+			for (int set = 0; set < eventSets; set++) {
+				for (int thread = 0; thread < threads; thread++) {
+					int t = thread;
+					int index = set;
+					executor.execute(Integer.valueOf(thread), () -> {
+						if (running[t].incrementAndGet() > 1) {
+							overlapped.set(true);
+						}
+						dispatched.get(t).add(Integer.valueOf(index));
+						Thread.yield();
+						running[t].decrementAndGet();
+						done.countDown();
+					});
+				}
+			}
+			assertTrue("All event sets should be dispatched", done.await(DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS));
+			assertFalse("Event sets of a thread should not be dispatched concurrently", overlapped.get());
+			for (int thread = 0; thread < threads; thread++) {
+				List<Integer> order = dispatched.get(thread);
+				assertEquals("Unexpected number of event sets dispatched", eventSets, order.size());
+				for (int set = 0; set < eventSets; set++) {
+					assertEquals("Event sets of thread " + thread + " should be dispatched in order", set, order.get(set).intValue());
+				}
+			}
+		}
+		finally {
+			pool.shutdownNow();
+		}
+	}
+
+	/**
+	 * Tests that the event sets of a thread that is evaluating are dispatched
+	 * right away, after the queued event sets of the thread but without
+	 * waiting for the one being dispatched
+	 */
+	public void testEvaluatingThreadDispatchedAfterQueuedEventSets() throws Exception {
+		ExecutorService pool = Executors.newFixedThreadPool(1);
+		try {
+			ThreadOrderedExecutor<String> executor = new ThreadOrderedExecutor<>(pool);
+			CountDownLatch running = new CountDownLatch(1);
+			CountDownLatch release = new CountDownLatch(1);
+			List<String> dispatched = Collections.synchronizedList(new ArrayList<>());
+			executor.execute("thread", () -> {
+				running.countDown();
+				try {
+					// like a listener waiting for an evaluation to complete
+					release.await(DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS);
+				} catch (InterruptedException e) {
+				}
+				dispatched.add("running");
+			});
+			assertTrue("The first event set should be dispatched", running.await(DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS));
+			executor.execute("thread", () -> dispatched.add("queued"));
+			executor.runNow("thread", () -> dispatched.add("evaluating"));
+			assertEquals("The queued event set should be dispatched first", List.of("queued", "evaluating"), new ArrayList<>(dispatched));
+			release.countDown();
+			assertTrue("All event sets should be dispatched", executor.awaitIdle(DEFAULT_TIMEOUT));
+			assertEquals("Event sets should be dispatched once", List.of("queued", "evaluating", "running"), new ArrayList<>(dispatched));
+		}
+		finally {
+			pool.shutdownNow();
+		}
+	}
+
+	/**
+	 * Tests waiting for the event sets of all threads to be dispatched, as
+	 * done before dispatching the death of the VM
+	 */
+	public void testAwaitThreadEventSetsDispatched() throws Exception {
+		ExecutorService pool = Executors.newFixedThreadPool(2);
+		try {
+			ThreadOrderedExecutor<Integer> executor = new ThreadOrderedExecutor<>(pool);
+			CountDownLatch release = new CountDownLatch(1);
+			AtomicInteger dispatched = new AtomicInteger();
+			for (int set = 0; set < 10; set++) {
+				for (int thread = 0; thread < 3; thread++) {
+					executor.execute(Integer.valueOf(thread), () -> {
+						try {
+							release.await(DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS);
+						} catch (InterruptedException e) {
+						}
+						dispatched.incrementAndGet();
+					});
+				}
+			}
+			assertFalse("Should time out while event sets are being dispatched", executor.awaitIdle(100));
+			release.countDown();
+			assertTrue("All event sets should be dispatched", executor.awaitIdle(DEFAULT_TIMEOUT));
+			assertEquals("Unexpected number of event sets dispatched", 30, dispatched.get());
+			assertTrue("Should not wait without event sets", executor.awaitIdle(0));
+		}
+		finally {
+			pool.shutdownNow();
+		}
+	}
+}
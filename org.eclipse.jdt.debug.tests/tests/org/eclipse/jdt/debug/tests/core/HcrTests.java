@@ -28,9 +28,12 @@ import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.core.IJavaVariable;
 import org.eclipse.jdt.debug.core.JDIDebugModel;
+import org.eclipse.jdt.debug.eval.ICompiledExpression;
 import org.eclipse.jdt.debug.testplugin.DebugElementEventWaiter;
 import org.eclipse.jdt.debug.testplugin.DebugEventWaiter;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.debug.core.breakpoints.CompiledConditionCache;
+import org.eclipse.jdt.internal.debug.eval.ast.engine.ASTEvaluationEngine;
 
 /**
  * Tests hot code replace
@@ -193,6 +196,78 @@ public class HcrTests extends AbstractDebugTest {
 		}
 	}
 
+	/**
+	 * Tests that hot code replace discards the conditions compiled before it,
+	 * although the frames they were compiled for have the same shape
+	 */
+	public void testHcrDiscardsCompiledConditions() throws Exception {
+		String typeName = "org.eclipse.debug.tests.targets.HcrClass";
+		createLineBreakpoint(42, typeName);
+		IJavaThread thread= null;
+		ASTEvaluationEngine engine = null;
+		try {
+			thread= launchToBreakpoint(typeName);
+			assertNotNull("Breakpoint not hit within timeout period", thread);
+
+			IJavaDebugTarget target = (IJavaDebugTarget)thread.getDebugTarget();
+			if (target.supportsHotCodeReplace()) {
+				CompiledConditionCache cache = CompiledConditionCache.getDefault();
+				engine = new ASTEvaluationEngine(get14Project(), target);
+				IJavaStackFrame frame = (IJavaStackFrame)thread.getTopStackFrame();
+				ICompiledExpression expression = cache.getCompiledExpression("x.equals(instVar)", frame, engine, false);
+				assertFalse("The condition should compile", expression.hasErrors());
+				assertSame("The condition should be compiled once", expression, cache.getCompiledExpression("x.equals(instVar)", frame, engine, false));
+				removeAllBreakpoints();
+				// now do the HCR
+				ICompilationUnit cu = getCompilationUnit(get14Project(), "src", "org.eclipse.debug.tests.targets", "HcrClass.java");
+				cu = cu.getPrimary();
+				if (!cu.isWorkingCopy()) {
+					cu = cu.getWorkingCopy(null);
+				}
+				assertTrue("HcrClass.java does not exist", cu.exists());
+				IBuffer buffer = cu.getBuffer();
+				String contents = buffer.getContents();
+				String originalContent = buffer.getContents();
+				int index = contents.indexOf("\"One\"");
+				assertTrue("Could not find code to replace", index > 0);
+				String newCode = contents.substring(0, index) + "\"Two\"" + contents.substring(index + 5);
+				buffer.setContents(newCode);
+
+				// save contents
+				DebugElementEventWaiter waiter = new DebugElementEventWaiter(DebugEvent.SUSPEND, thread);
+				cu.commitWorkingCopy(true, null);
+				waitForBuild();
+				waiter.waitForEvent();
+
+				// should have dropped to frame 'one'
+				frame = (IJavaStackFrame)thread.getTopStackFrame();
+				assertNotNull("No top stack frame", frame);
+				if (!"one".equals(frame.getMethodName())) {
+					// terminate & restore, and try again - @see bug 287084
+					thread.terminate();
+					buffer.setContents(originalContent);
+					cu.commitWorkingCopy(true, null);
+					throw new TestAgainException("Retest - the correct method name was not present after HCR");
+				}
+
+				// resume to a frame of the same shape
+				createLineBreakpoint(42, typeName);
+				thread = resume(thread);
+				frame = (IJavaStackFrame)thread.getTopStackFrame();
+				assertEquals("Should be back in method 'four'", "four", frame.getMethodName());
+				assertNotSame("The condition should be compiled again after hot code replace", expression, cache.getCompiledExpression("x.equals(instVar)", frame, engine, false));
+			} else {
+				System.err.println("Warning: HCR test skipped since target VM does not support HCR.");
+			}
+		} finally {
+			if (engine != null) {
+				engine.dispose();
+			}
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
 	/**
 	 * Tests a general (plug-in) listener.
 	 */
@@ -16,9 +16,12 @@ package org.eclipse.jdt.debug.tests.core;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.InstanceScope;
 import org.eclipse.debug.core.model.ILineBreakpoint;
 import org.eclipse.debug.core.model.IVariable;
 import org.eclipse.jdt.debug.core.IJavaDebugTarget;
+import org.eclipse.jdt.debug.core.IJavaFieldVariable;
 import org.eclipse.jdt.debug.core.IJavaObject;
 import org.eclipse.jdt.debug.core.IJavaReferenceType;
 import org.eclipse.jdt.debug.core.IJavaStackFrame;
@@ -26,6 +29,9 @@ import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.core.IJavaValue;
 import org.eclipse.jdt.debug.core.IJavaVariable;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.jdt.internal.debug.core.model.ValueCache;
 
 public class InstanceVariableTests extends AbstractDebugTest {
 
@@ -226,4 +232,81 @@ public class InstanceVariableTests extends AbstractDebugTest {
 			removeAllBreakpoints();
 		}
 	}
+
+	/**
+	 * Tests that the field values retrieved in bulk when an object is expanded,
+	 * including the field values of its children, are those retrieved one by one
+	 */
+	public void testPrefetchedFieldValues() throws Exception {
+		IEclipsePreferences prefs = InstanceScope.INSTANCE.getNode(JDIDebugPlugin.getUniqueIdentifier());
+		prefs.putBoolean(JDIDebugPlugin.PREF_PREFETCH_CHILD_VALUES, true);
+		String typeName = "InstanceVariablesTests";
+
+		ILineBreakpoint bp = createLineBreakpoint(33, typeName);
+
+		IJavaThread thread= null;
+		try {
+			thread= launchToLineBreakpoint(typeName, bp);
+
+			IJavaStackFrame frame = (IJavaStackFrame)thread.getTopStackFrame();
+			IVariable[] locals = frame.getVariables();
+			IVariable ivt = findVariable(frame, "ivt");
+			assertNotNull("Could not find variable 'ivt'", ivt);
+			assertTrue("Should be among the variables of the frame", List.of(locals).contains(ivt));
+
+			IJavaObject object = (IJavaObject)ivt.getValue();
+			IVariable[] fields = object.getVariables();
+			assertTrue("Should have fields", fields.length > 0);
+			for (IVariable field : fields) {
+				IJavaVariable variable = (IJavaVariable) field;
+				String expected = object.getField(variable.getName(), ((IJavaFieldVariable) variable).getDeclaringType().getSignature()).getValue().getValueString();
+				assertEquals("Wrong value of " + variable.getName(), expected, variable.getValue().getValueString());
+			}
+			IJavaVariable date = object.getField("date", false);
+			assertNotNull(date);
+			assertTrue("'date' should have fields", date.getValue().getVariables().length > 0);
+		} finally {
+			prefs.remove(JDIDebugPlugin.PREF_PREFETCH_CHILD_VALUES);
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests that variables of the same field share the value read in one
+	 * suspension, and that the value is read again after a step
+	 */
+	public void testValueCacheSharedByVariables() throws Exception {
+		String typeName = "InstanceVariablesTests";
+
+		ILineBreakpoint bp = createLineBreakpoint(33, typeName);
+
+		IJavaThread thread= null;
+		try {
+			thread= launchToLineBreakpoint(typeName, bp);
+
+			IJavaStackFrame frame = (IJavaStackFrame)thread.getTopStackFrame();
+			IVariable ivt = findVariable(frame, "ivt");
+			assertNotNull("Could not find variable 'ivt'", ivt);
+			IJavaObject object = (IJavaObject)ivt.getValue();
+			ValueCache cache = ((JDIDebugTarget) thread.getDebugTarget()).getValueCache();
+
+			assertEquals("redefined public", object.getField("pubStr", false).getValue().getValueString());
+			long hits = cache.getHitCount();
+			long misses = cache.getMissCount();
+			assertEquals("redefined public", object.getField("pubStr", false).getValue().getValueString());
+			assertEquals("Value should be read from the cache", hits + 1, cache.getHitCount());
+			assertEquals("Value should not be read from the target", misses, cache.getMissCount());
+
+			int epoch = cache.getEpoch();
+			stepOver(frame);
+			assertTrue("Epoch should end with the step", cache.getEpoch() != epoch);
+			misses = cache.getMissCount();
+			object.getField("pubStr", false).getValue();
+			assertEquals("Value should be read from the target", misses + 1, cache.getMissCount());
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
 }
@@ -0,0 +1,187 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdi.internal.jdwp.JdwpCommandMetrics;
+import org.eclipse.jdi.internal.jdwp.JdwpCommandMetrics.CommandStatistics;
+import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
+import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+
+/**
+ * Tests that the metrics of JDWP requests are recorded per command: counts,
+ * bytes and round trip times.
+ */
+public class JdwpCommandMetricsTests extends AbstractDebugTest {
+
+	public JdwpCommandMetricsTests(String name) {
+		super(name);
+	}
+
+	/**
+	 * Tests that the requests of each command are counted apart, and that the
+	 * statistics are ordered by command set and command
+	 */
+	public void testCountsPerCommand() throws Exception {
+		JdwpCommandMetrics metrics = new JdwpCommandMetrics();
+		assertTrue("Nothing should be recorded yet", metrics.getStatistics().isEmpty());
+		metrics.record(JdwpCommandPacket.TR_FRAMES, 23, 100, 1000);
+		metrics.record(JdwpCommandPacket.VM_ALL_THREADS, 11, 50, 2000);
+		metrics.record(JdwpCommandPacket.TR_FRAMES, 23, 300, 3000);
+		metrics.recordFailure(JdwpCommandPacket.TR_FRAMES, 23);
+		metrics.recordFailure(JdwpCommandPacket.VM_VERSION, 11);
+
+		List<CommandStatistics> statistics = metrics.getStatistics();
+		assertEquals("Wrong number of commands", 3, statistics.size());
+		CommandStatistics version = statistics.get(0);
+		CommandStatistics threads = statistics.get(1);
+		CommandStatistics frames = statistics.get(2);
+		assertEquals("Wrong command order", JdwpCommandPacket.VM_VERSION, version.getCommand());
+		assertEquals("Wrong command order", JdwpCommandPacket.VM_ALL_THREADS, threads.getCommand());
+		assertEquals("Wrong command order", JdwpCommandPacket.TR_FRAMES, frames.getCommand());
+
+		assertEquals("Wrong count of VM_VERSION", 0, version.getCount());
+		assertEquals("Wrong failures of VM_VERSION", 1, version.getFailures());
+		assertEquals("Wrong bytes out of VM_VERSION", 11, version.getBytesOut());
+		assertEquals("Wrong bytes in of VM_VERSION", 0, version.getBytesIn());
+		assertEquals("A failure should not be timed", 0, version.getTotalNanos());
+
+		assertEquals("Wrong count of VM_ALL_THREADS", 1, threads.getCount());
+		assertEquals("Wrong failures of VM_ALL_THREADS", 0, threads.getFailures());
+		assertEquals("Wrong bytes out of VM_ALL_THREADS", 11, threads.getBytesOut());
+		assertEquals("Wrong bytes in of VM_ALL_THREADS", 50, threads.getBytesIn());
+
+		assertEquals("Wrong count of TR_FRAMES", 2, frames.getCount());
+		assertEquals("Wrong failures of TR_FRAMES", 1, frames.getFailures());
+		assertEquals("Wrong bytes out of TR_FRAMES", 69, frames.getBytesOut());
+		assertEquals("Wrong bytes in of TR_FRAMES", 400, frames.getBytesIn());
+		assertEquals("Wrong name of TR_FRAMES", "THREAD_REFERENCE - FRAMES", frames.getName());
+	}
+
+	/**
+	 * Tests that the round trip times of each command are summed, that the
+	 * longest is kept and that percentiles fall in the bucket of the time
+	 */
+	public void testTimingsPerCommand() throws Exception {
+		JdwpCommandMetrics metrics = new JdwpCommandMetrics();
+		for (int i = 0; i < 9; i++) {
+			metrics.record(JdwpCommandPacket.VM_ALL_CLASSES, 11, 100, 100);
+		}
+		metrics.record(JdwpCommandPacket.VM_ALL_CLASSES, 11, 100, 10000);
+		metrics.record(JdwpCommandPacket.VM_VERSION, 11, 100, 5);
+		metrics.record(JdwpCommandPacket.VM_VERSION, 11, 100, -3);
+
+		CommandStatistics classes = getStatistics(metrics, JdwpCommandPacket.VM_ALL_CLASSES);
+		assertEquals("Wrong total time", 10900, classes.getTotalNanos());
+		assertEquals("Wrong longest time", 10000, classes.getMaxNanos());
+		// 100 falls in the bucket [96, 104) and 10000 in [9216, 10240)
+		assertEquals("Wrong median", 96, classes.getPercentileNanos(50));
+		assertEquals("Wrong 90th percentile", 96, classes.getPercentileNanos(90));
+		assertEquals("Wrong 99th percentile", 9216, classes.getPercentileNanos(99));
+		assertEquals("Wrong 100th percentile", 9216, classes.getPercentileNanos(100));
+
+		CommandStatistics version = getStatistics(metrics, JdwpCommandPacket.VM_VERSION);
+		assertEquals("A negative time should count as 0", 5, version.getTotalNanos());
+		assertEquals("Wrong longest time", 5, version.getMaxNanos());
+		assertEquals("Small times should be exact", 0, version.getPercentileNanos(50));
+		assertEquals("Small times should be exact", 5, version.getPercentileNanos(100));
+
+		metrics.recordFailure(JdwpCommandPacket.VM_DISPOSE, 11);
+		assertEquals("No percentile without answered requests", 0, getStatistics(metrics, JdwpCommandPacket.VM_DISPOSE).getPercentileNanos(50));
+	}
+
+	/**
+	 * Tests that a percentile is reported within an eighth below the time
+	 * recorded, for times of all magnitudes
+	 */
+	public void testPercentilePrecision() throws Exception {
+		for (long nanos = 1; nanos > 0 && nanos < Long.MAX_VALUE / 3; nanos = nanos * 3 + 1) {
+			JdwpCommandMetrics metrics = new JdwpCommandMetrics();
+			metrics.record(JdwpCommandPacket.VM_VERSION, 11, 100, nanos);
+			long percentile = getStatistics(metrics, JdwpCommandPacket.VM_VERSION).getPercentileNanos(50);
+			assertTrue("Percentile " + percentile + " above " + nanos, percentile <= nanos);
+			assertTrue("Percentile " + percentile + " too far below " + nanos, nanos - percentile <= percentile / 8);
+		}
+	}
+
+	/**
+	 * Tests that a snapshot is not changed by later requests and that a reset
+	 * discards everything recorded
+	 */
+	public void testSnapshotAndReset() throws Exception {
+		JdwpCommandMetrics metrics = new JdwpCommandMetrics();
+		metrics.record(JdwpCommandPacket.VM_VERSION, 11, 100, 1000);
+		CommandStatistics snapshot = getStatistics(metrics, JdwpCommandPacket.VM_VERSION);
+		metrics.record(JdwpCommandPacket.VM_VERSION, 11, 100, 1000);
+		assertEquals("The snapshot should not change", 1, snapshot.getCount());
+		assertEquals("Wrong count", 2, getStatistics(metrics, JdwpCommandPacket.VM_VERSION).getCount());
+		metrics.reset();
+		assertTrue("Everything should be discarded", metrics.getStatistics().isEmpty());
+		metrics.record(JdwpCommandPacket.VM_VERSION, 11, 100, 1000);
+		assertEquals("Wrong count after reset", 1, getStatistics(metrics, JdwpCommandPacket.VM_VERSION).getCount());
+	}
+
+	/**
+	 * Tests that requests recorded by several threads at once are all counted
+	 */
+	public void testConcurrentRecording() throws Exception {
+		JdwpCommandMetrics metrics = new JdwpCommandMetrics();
+		int threadCount = 4;
+		int requests = 10000;
+		List<Thread> threads = new ArrayList<>();
+		for (int t = 0; t < threadCount; t++) {
+			long nanos = t + 1;
+			threads.add(new Thread(() -> {
+				for (int i = 0; i < requests; i++) {
+					metrics.record(JdwpCommandPacket.VM_ALL_THREADS, 11, 100, nanos);
+				}
+			}, "Metrics recorder " + t));
+		}
+		threads.forEach(Thread::start);
+		for (Thread thread : threads) {
+			thread.join(60000);
+			assertFalse("Recorder should be done", thread.isAlive());
+		}
+		CommandStatistics statistics = getStatistics(metrics, JdwpCommandPacket.VM_ALL_THREADS);
+		assertEquals("Wrong count", (long) threadCount * requests, statistics.getCount());
+		assertEquals("Wrong bytes out", threadCount * requests * 11L, statistics.getBytesOut());
+		assertEquals("Wrong total time", (1 + 2 + 3 + 4) * (long) requests, statistics.getTotalNanos());
+		assertEquals("Wrong longest time", threadCount, statistics.getMaxNanos());
+	}
+
+	/**
+	 * Tests that the JSON document holds the statistics of each command
+	 */
+	public void testJson() throws Exception {
+		JdwpCommandMetrics metrics = new JdwpCommandMetrics();
+		assertEquals("Wrong empty document", "{\"commands\":[]}", metrics.toJson());
+		metrics.record(JdwpCommandPacket.VM_VERSION, 11, 100, 5);
+		metrics.recordFailure(JdwpCommandPacket.VM_ALL_THREADS, 11);
+		String json = metrics.toJson();
+		assertTrue("Wrong document: " + json, json.contains("{\"commandSet\":1,\"command\":1,\"name\":\"VIRTUAL_MACHINE - VERSION\",\"count\":1,\"failures\":0,\"bytesOut\":11,\"bytesIn\":100,\"totalNanos\":5,\"latencyNanos\":{\"p50\":5,\"p90\":5,\"p99\":5,\"max\":5}}"));
+		assertTrue("Wrong document: " + json, json.contains("\"command\":4,\"name\":\"VIRTUAL_MACHINE - ALL_THREADS\",\"count\":0,\"failures\":1"));
+	}
+
+	private static CommandStatistics getStatistics(JdwpCommandMetrics metrics, int command) {
+		for (CommandStatistics statistics : metrics.getStatistics()) {
+			if (statistics.getCommand() == command) {
+				return statistics;
+			}
+		}
+		fail("No statistics of command " + command);
+		return null;
+	}
+}
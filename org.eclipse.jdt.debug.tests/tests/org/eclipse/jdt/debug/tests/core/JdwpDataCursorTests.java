@@ -0,0 +1,224 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.core;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.UTFDataFormatException;
+
+import org.eclipse.jdi.internal.jdwp.JdwpDataCursor;
+import org.eclipse.jdi.internal.jdwp.JdwpString;
+import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+
+/**
+ * Tests that a {@link JdwpDataCursor} decodes packet data like a
+ * {@link DataInputStream}.
+ */
+public class JdwpDataCursorTests extends AbstractDebugTest {
+
+	public JdwpDataCursorTests(String name) {
+		super(name);
+	}
+
+	/**
+	 * Tests that primitive values are decoded as a data input stream decodes
+	 * them
+	 */
+	public void testPrimitives() throws Exception {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		out.writeBoolean(true);
+		out.writeBoolean(false);
+		out.writeByte(-2);
+		out.writeByte(200);
+		out.writeShort(-3);
+		out.writeShort(65000);
+		out.writeChar('€');
+		out.writeInt(Integer.MIN_VALUE + 5);
+		out.writeLong(0x8123456789abcdefL);
+		out.writeFloat(-1.5f);
+		out.writeDouble(Math.PI);
+		byte[] data = bytes.toByteArray();
+
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+		JdwpDataCursor cursor = new JdwpDataCursor(data);
+		assertEquals(in.readBoolean(), cursor.readBoolean());
+		assertEquals(in.readBoolean(), cursor.readBoolean());
+		assertEquals(in.readByte(), cursor.readByte());
+		assertEquals(in.readUnsignedByte(), cursor.readUnsignedByte());
+		assertEquals(in.readShort(), cursor.readShort());
+		assertEquals(in.readUnsignedShort(), cursor.readUnsignedShort());
+		assertEquals(in.readChar(), cursor.readChar());
+		assertEquals(in.readInt(), cursor.readInt());
+		assertEquals(in.readLong(), cursor.readLong());
+		assertEquals(in.readFloat(), cursor.readFloat(), 0);
+		assertEquals(in.readDouble(), cursor.readDouble(), 0);
+		assertEquals("All data should be read", 0, cursor.remaining());
+		assertEquals("Wrong position", data.length, cursor.position());
+	}
+
+	/**
+	 * Tests reading IDs of different sizes
+	 */
+	public void testReadUnsigned() throws Exception {
+		byte[] data = new byte[] { (byte) 0xff, 0x01, 0x02, 0x03, (byte) 0x80, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x01 };
+		JdwpDataCursor cursor = new JdwpDataCursor(data);
+		assertEquals(0xff01L, cursor.readUnsigned(2));
+		assertEquals(0x0203L, cursor.readUnsigned(2));
+		assertEquals(0x8000000000000001L, cursor.readUnsigned(8));
+	}
+
+	/**
+	 * Tests decoding JDWP strings, which have a four byte length, and
+	 * {@link java.io.DataInput#readUTF()} strings, which have a two byte length
+	 */
+	public void testStrings() throws Exception {
+		String[] strings = new String[] { "", "Ljava/lang/Object;", "été € \u0000" };
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		for (String string : strings) {
+			JdwpString.write(string, out);
+			out.writeUTF(string);
+		}
+		JdwpDataCursor cursor = new JdwpDataCursor(bytes.toByteArray());
+		for (String string : strings) {
+			assertEquals(string, cursor.readString());
+			assertEquals(string, cursor.readUTF());
+		}
+		assertEquals("All data should be read", 0, cursor.remaining());
+	}
+
+	/**
+	 * Tests that lines end at any of the line terminators, as with a data
+	 * input stream
+	 */
+	public void testReadLine() throws Exception {
+		byte[] data = "one\ntwo\r\nthree\rfour".getBytes("ISO-8859-1");
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+		JdwpDataCursor cursor = new JdwpDataCursor(data);
+		for (int i = 0; i < 5; i++) {
+			@SuppressWarnings("deprecation")
+			String expected = in.readLine();
+			assertEquals("Wrong line " + i, expected, cursor.readLine());
+		}
+		assertNull("No lines should be left", cursor.readLine());
+		assertEquals("Empty line", "", new JdwpDataCursor(new byte[] { '\n' }).readLine());
+	}
+
+	/**
+	 * Tests that reading past the end of the data throws an end of file
+	 * exception and does not move the cursor
+	 */
+	public void testEndOfData() throws Exception {
+		JdwpDataCursor cursor = new JdwpDataCursor(new byte[] { 1, 2, 3 });
+		try {
+			cursor.readInt();
+			fail("Reading an int from three bytes should fail");
+		} catch (EOFException e) {
+			// expected
+		}
+		assertEquals("The cursor should not have moved", 0, cursor.position());
+		assertEquals(0x0102, cursor.readShort());
+		try {
+			cursor.readFully(new byte[2]);
+			fail("Reading two bytes from one should fail");
+		} catch (EOFException e) {
+			// expected
+		}
+		assertEquals(3, cursor.readByte());
+		try {
+			cursor.readBoolean();
+			fail("Reading from empty data should fail");
+		} catch (EOFException e) {
+			// expected
+		}
+
+		cursor = new JdwpDataCursor(null);
+		assertEquals("A cursor over no data should be empty", 0, cursor.remaining());
+		try {
+			cursor.readByte();
+			fail("Reading from no data should fail");
+		} catch (EOFException e) {
+			// expected
+		}
+	}
+
+	/**
+	 * Tests that a string longer than the data left throws an end of file
+	 * exception
+	 */
+	public void testStringPastEndOfData() throws Exception {
+		JdwpDataCursor cursor = new JdwpDataCursor(new byte[] { 0, 0, 0, 5, 'a', 'b' });
+		try {
+			cursor.readString();
+			fail("Reading five bytes from two should fail");
+		} catch (EOFException e) {
+			// expected
+		}
+		cursor = new JdwpDataCursor(new byte[] { (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff });
+		try {
+			cursor.readString();
+			fail("Reading a negative length string should fail");
+		} catch (EOFException e) {
+			// expected
+		}
+	}
+
+	/**
+	 * Tests that a string ending within a multibyte character is rejected
+	 * rather than decoded from the bytes that follow it
+	 */
+	public void testTruncatedCharacter() throws Exception {
+		// 'a' then the first byte of a two byte character, followed by 'b'
+		// which is not part of the string
+		assertTruncated(new byte[] { 0, 0, 0, 2, 'a', (byte) 0xc3, 'b' });
+		// the first two bytes of a three byte character, followed by bytes
+		// which are not part of the string
+		assertTruncated(new byte[] { 0, 0, 0, 2, (byte) 0xe2, (byte) 0x82, (byte) 0xac });
+		// the first byte of a three byte character at the end of the data
+		assertTruncated(new byte[] { 0, 0, 0, 1, (byte) 0xe2 });
+	}
+
+	private void assertTruncated(byte[] data) throws Exception {
+		JdwpDataCursor cursor = new JdwpDataCursor(data);
+		try {
+			cursor.readString();
+			fail("A truncated character should be rejected");
+		} catch (UTFDataFormatException e) {
+			// expected
+		}
+		try {
+			JdwpString.read(new DataInputStream(new ByteArrayInputStream(data)));
+			fail("A truncated character should be rejected when read from a stream");
+		} catch (UTFDataFormatException e) {
+			// expected
+		}
+	}
+
+	/**
+	 * Tests skipping bytes, which stops at the end of the data
+	 */
+	public void testSkipBytes() throws Exception {
+		JdwpDataCursor cursor = new JdwpDataCursor(new byte[] { 1, 2, 3, 4, 5 });
+		assertEquals(0, cursor.skipBytes(-1));
+		assertEquals(2, cursor.skipBytes(2));
+		assertEquals(3, cursor.readByte());
+		assertEquals(2, cursor.skipBytes(10));
+		assertEquals(0, cursor.remaining());
+		assertEquals(0, cursor.skipBytes(1));
+	}
+}
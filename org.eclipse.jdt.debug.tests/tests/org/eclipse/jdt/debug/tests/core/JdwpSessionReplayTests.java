@@ -0,0 +1,263 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.core;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.Arrays;
+
+import org.eclipse.jdi.internal.connect.SocketTransportService;
+import org.eclipse.jdi.internal.spy.JdwpCommandPacket;
+import org.eclipse.jdi.internal.spy.JdwpPacket;
+import org.eclipse.jdi.internal.spy.JdwpReplayVM;
+import org.eclipse.jdi.internal.spy.JdwpReplyPacket;
+import org.eclipse.jdi.internal.spy.JdwpSessionReader;
+import org.eclipse.jdi.internal.spy.JdwpSessionReader.Record;
+import org.eclipse.jdi.internal.spy.JdwpSessionRecorder;
+import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+
+import com.sun.jdi.connect.spi.Connection;
+
+/**
+ * Tests recording a JDWP session, reading the capture back and replaying it
+ * to a debugger with a {@link JdwpReplayVM}.
+ */
+public class JdwpSessionReplayTests extends AbstractDebugTest {
+
+	private static final byte[] VERSION_REPLY = { 1, 2, 3, 4 };
+
+	private static final byte[] CLASSES_REPLY = { 5, 6 };
+
+	private static final byte[] CLASSES_REPLY_AGAIN = { 7, 8, 9 };
+
+	private static final byte[] START_EVENT = { 10 };
+
+	private static final byte[] STEP_EVENT = { 11, 12 };
+
+	private JdwpReplayVM fVM;
+
+	private Connection fConnection;
+
+	public JdwpSessionReplayTests(String name) {
+		super(name);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		if (fConnection != null) {
+			fConnection.close();
+		}
+		if (fVM != null) {
+			fVM.stopListening();
+		}
+		super.tearDown();
+	}
+
+	/**
+	 * Tests that the packets read from a capture are the packets recorded, in
+	 * order and with their sender
+	 */
+	public void testReadRecording() throws Exception {
+		JdwpCommandPacket version = newCommand(JdwpCommandPacket.VM_VERSION, null);
+		JdwpCommandPacket classes = newCommand(JdwpCommandPacket.VM_ALL_CLASSES, new byte[] { 42 });
+		byte[] capture = record(version, classes);
+
+		try (JdwpSessionReader reader = new JdwpSessionReader(new ByteArrayInputStream(capture))) {
+			long time = assertRecord(reader.read(), true, JdwpCommandPacket.E_COMPOSITE, START_EVENT, 0);
+			time = assertRecord(reader.read(), false, JdwpCommandPacket.VM_VERSION, null, time);
+			time = assertReply(reader.read(), version.getId(), VERSION_REPLY, time);
+			time = assertRecord(reader.read(), true, JdwpCommandPacket.E_COMPOSITE, STEP_EVENT, time);
+			time = assertRecord(reader.read(), false, JdwpCommandPacket.VM_ALL_CLASSES, new byte[] { 42 }, time);
+			time = assertReply(reader.read(), classes.getId(), CLASSES_REPLY, time);
+			assertNull("The capture should be read completely", reader.read());
+		}
+	}
+
+	/**
+	 * Tests that a capture interrupted in the middle of a packet ends before
+	 * that packet, and that a stream that is not a capture is rejected
+	 */
+	public void testReadInvalidRecording() throws Exception {
+		byte[] capture = record(newCommand(JdwpCommandPacket.VM_VERSION, null), newCommand(JdwpCommandPacket.VM_ALL_CLASSES, null));
+		byte[] truncated = Arrays.copyOf(capture, capture.length - 1);
+		int count = 0;
+		try (JdwpSessionReader reader = new JdwpSessionReader(new ByteArrayInputStream(truncated))) {
+			while (reader.read() != null) {
+				count++;
+			}
+		}
+		assertEquals("The interrupted reply should be dropped", 5, count);
+
+		try {
+			new JdwpSessionReader(new ByteArrayInputStream(new byte[] { 'J', 'D', 'W', 'P', 0, 1 }));
+			fail("A stream without the capture header should be rejected");
+		} catch (IOException e) {
+			// expected
+		}
+	}
+
+	/**
+	 * Tests that a debugger connected to the replay VM gets the recorded reply
+	 * of each command, with the id of its own command, and the recorded events
+	 * after as many commands as in the recording
+	 */
+	public void testReplay() throws Exception {
+		byte[] capture = record(newCommand(JdwpCommandPacket.VM_VERSION, null), newCommand(JdwpCommandPacket.VM_ALL_CLASSES, new byte[] { 42 }));
+		connect(capture);
+
+		assertEvent(read(), START_EVENT);
+		JdwpCommandPacket version = send(JdwpCommandPacket.VM_VERSION, null);
+		assertReply(read(), version, JdwpReplyPacket.NONE, VERSION_REPLY);
+		assertEvent(read(), STEP_EVENT);
+		JdwpCommandPacket classes = send(JdwpCommandPacket.VM_ALL_CLASSES, new byte[] { 42 });
+		assertReply(read(), classes, JdwpReplyPacket.NONE, CLASSES_REPLY);
+		assertEquals("All commands should have been recorded", 0, fVM.getUnmatchedCommands());
+	}
+
+	/**
+	 * Tests that the replies of a command recorded several times are replayed
+	 * in order, the last one being repeated, and that a command that was not
+	 * recorded is not implemented
+	 */
+	public void testReplayRepeatedAndUnknownCommands() throws Exception {
+		JdwpCommandPacket first = newCommand(JdwpCommandPacket.VM_ALL_CLASSES, null);
+		JdwpCommandPacket second = newCommand(JdwpCommandPacket.VM_ALL_CLASSES, null);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (JdwpSessionRecorder recorder = new JdwpSessionRecorder(bytes)) {
+			recorder.record(false, first);
+			recorder.record(true, newReply(first, CLASSES_REPLY));
+			recorder.record(false, second);
+			recorder.record(true, newReply(second, CLASSES_REPLY_AGAIN));
+		}
+		connect(bytes.toByteArray());
+
+		byte[][] expected = { CLASSES_REPLY, CLASSES_REPLY_AGAIN, CLASSES_REPLY_AGAIN };
+		for (int i = 0; i < expected.length; i++) {
+			JdwpCommandPacket command = send(JdwpCommandPacket.VM_ALL_CLASSES, null);
+			assertReply(read(), command, JdwpReplyPacket.NONE, expected[i]);
+		}
+		// same command with other data
+		JdwpCommandPacket unknown = send(JdwpCommandPacket.VM_ALL_CLASSES, new byte[] { 1 });
+		assertReply(read(), unknown, JdwpReplyPacket.NOT_IMPLEMENTED, null);
+		unknown = send(JdwpCommandPacket.VM_VERSION, null);
+		assertReply(read(), unknown, JdwpReplyPacket.NOT_IMPLEMENTED, null);
+		assertEquals("Wrong number of commands without recorded reply", 2, fVM.getUnmatchedCommands());
+	}
+
+	/**
+	 * Records a session in which the VM sends a start event, answers the
+	 * given commands, and sends a step event between them.
+	 *
+	 * @return the capture
+	 */
+	private byte[] record(JdwpCommandPacket version, JdwpCommandPacket classes) throws Exception {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (JdwpSessionRecorder recorder = new JdwpSessionRecorder(bytes)) {
+			recorder.record(true, newCommand(JdwpCommandPacket.E_COMPOSITE, START_EVENT));
+			recorder.record(false, version);
+			recorder.record(true, newReply(version, VERSION_REPLY));
+			recorder.record(true, newCommand(JdwpCommandPacket.E_COMPOSITE, STEP_EVENT));
+			recorder.record(false, classes);
+			recorder.record(true, newReply(classes, CLASSES_REPLY));
+		}
+		return bytes.toByteArray();
+	}
+
+	private void connect(byte[] capture) throws Exception {
+		try (JdwpSessionReader reader = new JdwpSessionReader(new ByteArrayInputStream(capture))) {
+			fVM = new JdwpReplayVM(reader, false);
+		}
+		int port = fVM.startListening(0);
+		fConnection = new SocketTransportService().attach(InetAddress.getLoopbackAddress().getHostAddress(), port, 5000, 5000);
+	}
+
+	private JdwpCommandPacket send(int command, byte[] data) throws IOException {
+		JdwpCommandPacket packet = newCommand(command, data);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		packet.write(bytes);
+		fConnection.writePacket(bytes.toByteArray());
+		return packet;
+	}
+
+	private JdwpPacket read() throws IOException {
+		return JdwpPacket.read(new ByteArrayInputStream(fConnection.readPacket()));
+	}
+
+	private void assertEvent(JdwpPacket packet, byte[] data) {
+		assertTrue("Should be an event", packet instanceof JdwpCommandPacket);
+		assertEquals("Wrong event", JdwpCommandPacket.E_COMPOSITE, ((JdwpCommandPacket) packet).getCommand());
+		assertTrue("Wrong event data", Arrays.equals(data, packet.data()));
+	}
+
+	private void assertReply(JdwpPacket packet, JdwpCommandPacket command, short errorCode, byte[] data) {
+		assertTrue("Should be a reply", packet instanceof JdwpReplyPacket);
+		assertEquals("The reply should have the id of the command", command.getId(), packet.getId());
+		assertEquals("Wrong error code", errorCode, ((JdwpReplyPacket) packet).errorCode());
+		assertTrue("Wrong reply data", Arrays.equals(data, packet.data()));
+	}
+
+	/**
+	 * Checks a record of a command sent by the debugger or of an event.
+	 *
+	 * @return the time of the record
+	 */
+	private long assertRecord(Record record, boolean fromVM, int command, byte[] data, long after) {
+		assertNotNull("Missing record", record);
+		assertEquals("Wrong sender", fromVM, record.isFromVM());
+		assertTrue("Records should be in time order", record.getTime() >= after);
+		assertTrue("Should be a command", record.getPacket() instanceof JdwpCommandPacket);
+		assertEquals("Wrong command", command, ((JdwpCommandPacket) record.getPacket()).getCommand());
+		assertTrue("Wrong command data", Arrays.equals(data, record.getPacket().data()));
+		return record.getTime();
+	}
+
+	/**
+	 * Checks a record of a reply sent by the VM.
+	 *
+	 * @return the time of the record
+	 */
+	private long assertReply(Record record, int id, byte[] data, long after) {
+		assertNotNull("Missing record", record);
+		assertTrue("Replies are sent by the VM", record.isFromVM());
+		assertTrue("Records should be in time order", record.getTime() >= after);
+		assertTrue("Should be a reply", record.getPacket() instanceof JdwpReplyPacket);
+		assertEquals("Wrong reply id", id, record.getPacket().getId());
+		assertTrue("Wrong reply data", Arrays.equals(data, record.getPacket().data()));
+		return record.getTime();
+	}
+
+	private JdwpCommandPacket newCommand(int command, byte[] data) {
+		JdwpCommandPacket packet = new JdwpCommandPacket(command);
+		packet.setData(data);
+		return packet;
+	}
+
+	/**
+	 * Creates the reply to the given command, reading it from its bytes since
+	 * the id of a packet cannot be set directly.
+	 */
+	private JdwpReplyPacket newReply(JdwpCommandPacket command, byte[] data) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		out.writeInt(11 + data.length);
+		out.writeInt(command.getId());
+		out.writeByte(JdwpPacket.FLAG_REPLY_PACKET);
+		out.writeShort(JdwpReplyPacket.NONE);
+		out.write(data);
+		return (JdwpReplyPacket) JdwpPacket.read(new ByteArrayInputStream(bytes.toByteArray()));
+	}
+}
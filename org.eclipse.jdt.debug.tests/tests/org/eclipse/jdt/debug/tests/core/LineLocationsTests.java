@@ -0,0 +1,191 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.debug.core.model.ILineBreakpoint;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.debug.core.IJavaStackFrame;
+import org.eclipse.jdt.debug.core.IJavaThread;
+import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.jdt.internal.debug.core.model.JDIObjectValue;
+
+import com.sun.jdi.AbsentInformationException;
+import com.sun.jdi.Location;
+import com.sun.jdi.Method;
+import com.sun.jdi.ReferenceType;
+
+/**
+ * Tests finding the locations of a line in all the methods of a type, which
+ * goes through the index of the line tables of the type.
+ */
+public class LineLocationsTests extends AbstractDebugTest {
+
+	private static final String TYPE_NAME = "LineLocations18";
+
+	private static final int BREAKPOINT_LINE = 44;
+
+	public LineLocationsTests(String name) {
+		super(name);
+	}
+
+	@Override
+	protected IJavaProject getProjectContext() {
+		return get18Project();
+	}
+
+	/**
+	 * Tests that the line of a field initializer has a location in each
+	 * constructor
+	 */
+	public void testLineInSeveralMethods() throws Exception {
+		IJavaThread thread = null;
+		try {
+			thread = launchToBreakpoint();
+			List<Location> locations = getType(thread).locationsOfLine(22);
+			assertEquals("Wrong number of locations: " + locations, 2, locations.size());
+			Method first = locations.get(0).method();
+			Method second = locations.get(1).method();
+			assertTrue("Should be a constructor: " + first, first.isConstructor());
+			assertTrue("Should be a constructor: " + second, second.isConstructor());
+			assertEquals("The constructors should be in declaration order", "()V", first.signature());
+			assertEquals("The constructors should be in declaration order", "(I)V", second.signature());
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests that the line of a lambda has a location in the method declaring
+	 * the lambda and in the synthetic method of its body
+	 */
+	public void testLineInLambda() throws Exception {
+		IJavaThread thread = null;
+		try {
+			thread = launchToBreakpoint();
+			ReferenceType type = getType(thread);
+			assertLambdaLine(type, 32, "sum");
+			assertLambdaLine(type, 42, "main");
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	private void assertLambdaLine(ReferenceType type, int line, String methodName) throws Exception {
+		List<Location> locations = type.locationsOfLine(line);
+		assertEquals("Wrong number of locations of line " + line + ": " + locations, 2, locations.size());
+		assertEquals("Wrong declaring method of line " + line, methodName, locations.get(0).method().name());
+		Method lambda = locations.get(1).method();
+		assertTrue("Should be a lambda method: " + lambda, lambda.name().startsWith("lambda$"));
+		assertTrue("The lambda method should be synthetic: " + lambda, lambda.isSynthetic());
+		assertEquals("The lambda body should start the method", 0, locations.get(1).codeIndex());
+	}
+
+	/**
+	 * Tests that a line with two ranges of code in one method, like the header
+	 * of a loop, has a location for each range
+	 */
+	public void testLineInSeveralRanges() throws Exception {
+		IJavaThread thread = null;
+		try {
+			thread = launchToBreakpoint();
+			List<Location> locations = getType(thread).locationsOfLine(34);
+			assertEquals("Wrong number of locations: " + locations, 2, locations.size());
+			assertEquals("Wrong method", "sum", locations.get(0).method().name());
+			assertEquals("Wrong method", "sum", locations.get(1).method().name());
+			assertTrue("The ranges should be in code index order", locations.get(0).codeIndex() < locations.get(1).codeIndex());
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests that lines without code have no locations
+	 */
+	public void testLinesWithoutCode() throws Exception {
+		IJavaThread thread = null;
+		try {
+			thread = launchToBreakpoint();
+			ReferenceType type = getType(thread);
+			for (int line : new int[] { 1, 21, 23, 41, 46, 1000, -1 }) {
+				assertTrue("Line " + line + " should not have locations", type.locationsOfLine(line).isEmpty());
+			}
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests that the locations of each line of the type are the locations of
+	 * the line in each of its methods, in the order of the methods
+	 */
+	public void testSameLocationsAsMethods() throws Exception {
+		IJavaThread thread = null;
+		try {
+			thread = launchToBreakpoint();
+			ReferenceType type = getType(thread);
+			for (int line = 1; line <= 50; line++) {
+				List<Location> expected = new ArrayList<>();
+				for (Method method : type.methods()) {
+					expected.addAll(method.locationsOfLine(line));
+				}
+				assertEquals("Wrong locations of line " + line, expected, type.locationsOfLine(line));
+			}
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests that looking a line up in a type whose methods have no line
+	 * information reports the absent information
+	 */
+	public void testTypeWithoutLineInformation() throws Exception {
+		IJavaThread thread = null;
+		try {
+			thread = launchToBreakpoint();
+			IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+			JDIObjectValue proxy = (JDIObjectValue) frame.findVariable("proxy").getValue();
+			ReferenceType type = proxy.getUnderlyingObject().referenceType();
+			try {
+				type.locationsOfLine(1);
+				fail("The proxy class " + type.name() + " should not have line information");
+			} catch (AbsentInformationException e) {
+				// expected
+			}
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	private IJavaThread launchToBreakpoint() throws Exception {
+		ILineBreakpoint bp = createLineBreakpoint(BREAKPOINT_LINE, TYPE_NAME);
+		return launchToLineBreakpoint(TYPE_NAME, bp);
+	}
+
+	private ReferenceType getType(IJavaThread thread) {
+		List<ReferenceType> types = ((JDIDebugTarget) thread.getDebugTarget()).getVM().classesByName(TYPE_NAME);
+		assertEquals("The type should be loaded once", 1, types.size());
+		return types.get(0);
+	}
+}
@@ -0,0 +1,254 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.core;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.jdi.internal.LongKeyValueCache;
+import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+
+/**
+ * Tests the cache of mirrors by JDWP ID, alone and with several threads
+ * updating and reading it.
+ */
+public class LongKeyValueCacheTests extends AbstractDebugTest {
+
+	/**
+	 * Cached value remembering its key, so that a value found under another
+	 * key is noticed.
+	 */
+	record Value(long key, int version) {
+	}
+
+	private static final int THREADS = 4;
+
+	private static final int KEYS_PER_THREAD = 2000;
+
+	private static final int ROUNDS = 20;
+
+	public LongKeyValueCacheTests(String name) {
+		super(name);
+	}
+
+	/**
+	 * Tests putting, replacing and removing values
+	 */
+	public void testPutGetRemove() throws Exception {
+		LongKeyValueCache<Value> cache = new LongKeyValueCache<>();
+		Value first = new Value(7, 0);
+		Value second = new Value(7, 1);
+		Value negative = new Value(-1, 0);
+		assertNull("The cache should be empty", cache.get(7));
+		cache.put(7, first);
+		cache.put(-1, negative);
+		assertSame("Wrong value", first, cache.get(7));
+		assertSame("Wrong value of a negative key", negative, cache.get(-1));
+		cache.put(7, second);
+		assertSame("The value should be replaced", second, cache.get(7));
+		assertEquals("A replaced value should not be kept", 2, cache.values().size());
+		assertSame("Wrong removed value", second, cache.remove(7));
+		assertNull("The value should be removed", cache.get(7));
+		assertNull("The value should be removed once", cache.remove(7));
+		assertSame("Other keys should not be affected", negative, cache.get(-1));
+	}
+
+	/**
+	 * Tests that keys probing the same slots are told apart, also after the
+	 * keys probed before them are removed and the table grows
+	 */
+	public void testCollisions() throws Exception {
+		LongKeyValueCache<Value> cache = new LongKeyValueCache<>();
+		long[] keys = collidingKeys(12);
+		List<Value> values = new ArrayList<>();
+		for (long key : keys) {
+			Value value = new Value(key, 0);
+			values.add(value);
+			cache.put(key, value);
+		}
+		for (int i = 0; i < keys.length; i++) {
+			assertSame("Wrong value of colliding key " + i, values.get(i), cache.get(keys[i]));
+		}
+		// remove every other key, so that lookups probe past removed entries
+		for (int i = 0; i < keys.length; i += 2) {
+			assertSame("Wrong removed value of colliding key " + i, values.get(i), cache.remove(keys[i]));
+		}
+		for (int i = 0; i < keys.length; i++) {
+			if (i % 2 == 0) {
+				assertNull("Colliding key " + i + " should be removed", cache.get(keys[i]));
+			} else {
+				assertSame("Wrong value of colliding key " + i + " after removals", values.get(i), cache.get(keys[i]));
+			}
+		}
+		// put the removed keys back and enough keys to grow the table
+		for (int i = 0; i < keys.length; i += 2) {
+			cache.put(keys[i], values.get(i));
+		}
+		for (long key = 1; key <= 1000; key++) {
+			Value value = new Value(key * 1000003, 0);
+			values.add(value);
+			cache.put(value.key(), value);
+		}
+		for (int i = 0; i < keys.length; i++) {
+			assertSame("Wrong value of colliding key " + i + " after growing", values.get(i), cache.get(keys[i]));
+		}
+		assertEquals("Wrong number of values", values.size(), cache.values().size());
+	}
+
+	/**
+	 * Tests that threads putting, replacing and removing their own keys while
+	 * other threads look keys up always find the value last put under a key,
+	 * and that readers never see a value under another key
+	 */
+	public void testConcurrentPutGetRemove() throws Exception {
+		LongKeyValueCache<Value> cache = new LongKeyValueCache<>();
+		ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+		AtomicBoolean writing = new AtomicBoolean(true);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Value>[] kept = newKeptValues();
+
+		List<Thread> writers = new ArrayList<>();
+		for (int t = 0; t < THREADS; t++) {
+			int thread = t;
+			writers.add(new Thread(() -> {
+				try {
+					start.await();
+					kept[thread] = writeKeys(cache, thread);
+				} catch (Throwable e) {
+					failures.add(e);
+				}
+			}, "Cache writer " + t));
+		}
+		List<Thread> readers = new ArrayList<>();
+		for (int t = 0; t < THREADS; t++) {
+			readers.add(new Thread(() -> {
+				try {
+					start.await();
+					while (writing.get()) {
+						for (int thread = 0; thread < THREADS; thread++) {
+							for (int i = 0; i < KEYS_PER_THREAD; i += 7) {
+								long key = key(thread, i);
+								Value value = cache.get(key);
+								if (value != null && value.key() != key) {
+									throw new AssertionError("Value of " + value.key() + " found under " + key);
+								}
+							}
+						}
+					}
+				} catch (Throwable e) {
+					failures.add(e);
+				}
+			}, "Cache reader " + t));
+		}
+		writers.forEach(Thread::start);
+		readers.forEach(Thread::start);
+		start.countDown();
+		for (Thread writer : writers) {
+			writer.join(60000);
+			assertFalse("Writer should be done", writer.isAlive());
+		}
+		writing.set(false);
+		for (Thread reader : readers) {
+			reader.join(60000);
+			assertFalse("Reader should be done", reader.isAlive());
+		}
+		assertTrue("Failures: " + failures, failures.isEmpty());
+
+		Set<Value> expected = new HashSet<>();
+		for (int thread = 0; thread < THREADS; thread++) {
+			for (int i = 0; i < KEYS_PER_THREAD; i++) {
+				Value value = kept[thread].get(i);
+				assertSame("Wrong value of key " + i + " of thread " + thread, value, cache.get(key(thread, i)));
+				if (value != null) {
+					expected.add(value);
+				}
+			}
+		}
+		assertEquals("Wrong values", expected, new HashSet<>(cache.values()));
+	}
+
+	/**
+	 * Puts, replaces and removes the keys of the given thread in rounds,
+	 * checking that each key has the value last put under it.
+	 *
+	 * @return the value kept for each key at the end, or <code>null</code> if
+	 *         the key was removed
+	 */
+	private List<Value> writeKeys(LongKeyValueCache<Value> cache, int thread) {
+		List<Value> kept = new ArrayList<>();
+		for (int i = 0; i < KEYS_PER_THREAD; i++) {
+			kept.add(null);
+		}
+		for (int round = 0; round < ROUNDS; round++) {
+			for (int i = 0; i < KEYS_PER_THREAD; i++) {
+				long key = key(thread, i);
+				if ((i + round) % 3 == 0) {
+					Value removed = cache.remove(key);
+					if (removed != kept.get(i)) {
+						throw new AssertionError("Removed " + removed + " instead of " + kept.get(i));
+					}
+					kept.set(i, null);
+				} else {
+					Value value = new Value(key, round);
+					cache.put(key, value);
+					kept.set(i, value);
+				}
+				if (cache.get(key) != kept.get(i)) {
+					throw new AssertionError("Found " + cache.get(key) + " instead of " + kept.get(i));
+				}
+			}
+		}
+		return kept;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<Value>[] newKeptValues() {
+		return new List[THREADS];
+	}
+
+	/**
+	 * @return the key number <code>i</code> of the given thread, spread over
+	 *         the segments of the cache like object IDs
+	 */
+	private static long key(int thread, int i) {
+		return ((long) thread << 40) + i * 8L;
+	}
+
+	/**
+	 * @return keys that fall in the same segment of the cache and share the
+	 *         first slot they probe in tables of up to 65536 slots. The keys
+	 *         are found by hashing them as the cache does.
+	 */
+	private static long[] collidingKeys(int count) {
+		long[] keys = new long[count];
+		int found = 0;
+		int target = hash(1) & 0xF000FFFF;
+		for (long key = 1; found < count; key++) {
+			if ((hash(key) & 0xF000FFFF) == target) {
+				keys[found++] = key;
+			}
+		}
+		return keys;
+	}
+
+	private static int hash(long key) {
+		long h = key * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32));
+	}
+}
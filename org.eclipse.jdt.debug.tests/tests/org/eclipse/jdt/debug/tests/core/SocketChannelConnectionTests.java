@@ -0,0 +1,279 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.core;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdi.internal.connect.ByteBufferPool;
+import org.eclipse.jdi.internal.connect.SocketChannelConnection;
+import org.eclipse.jdi.internal.connect.SocketTransportService;
+import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
+import org.eclipse.jdi.internal.jdwp.JdwpDataCursor;
+import org.eclipse.jdi.internal.jdwp.JdwpPacket;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
+import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+
+import com.sun.jdi.connect.spi.Connection;
+
+/**
+ * Tests reading and writing packets through a {@link SocketChannelConnection}
+ * connected to a channel playing the Virtual Machine.
+ */
+public class SocketChannelConnectionTests extends AbstractDebugTest {
+
+	private static final byte[] HANDSHAKE = "JDWP-Handshake".getBytes();
+
+	/**
+	 * Data length larger than the pooled buffers, so that a packet is read
+	 * and written in several parts
+	 */
+	private static final int LARGE_LENGTH = ByteBufferPool.DEFAULT_BUFFER_SIZE * 2 + 17;
+
+	private ServerSocketChannel fServer;
+
+	private SocketChannel fVM;
+
+	private SocketChannelConnection fConnection;
+
+	public SocketChannelConnectionTests(String name) {
+		super(name);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		fServer = ServerSocketChannel.open();
+		fServer.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+		CompletableFuture<SocketChannel> accepted = CompletableFuture.supplyAsync(() -> {
+			try {
+				SocketChannel channel = fServer.accept();
+				readFully(channel, HANDSHAKE.length);
+				writeFully(channel, HANDSHAKE);
+				return channel;
+			} catch (IOException e) {
+				throw new RuntimeException(e);
+			}
+		});
+		int port = fServer.socket().getLocalPort();
+		Connection connection = new SocketTransportService().attach(InetAddress.getLoopbackAddress().getHostAddress(), port, 5000, 5000, true);
+		fVM = accepted.get(5, TimeUnit.SECONDS);
+		assertTrue("A channel connection should be used", connection instanceof SocketChannelConnection);
+		fConnection = (SocketChannelConnection) connection;
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		if (fConnection != null) {
+			fConnection.close();
+		}
+		if (fVM != null) {
+			fVM.close();
+		}
+		if (fServer != null) {
+			fServer.close();
+		}
+		super.tearDown();
+	}
+
+	/**
+	 * Tests that packets sent by the Virtual Machine are read with their
+	 * data, including empty and large packets, and that the data of the
+	 * packets read first is not changed by the packets read after them
+	 */
+	public void testReadJdwpPackets() throws Exception {
+		List<JdwpPacket> sent = new ArrayList<>();
+		sent.add(newCommand(JdwpCommandPacket.VM_VERSION, 0));
+		// enough small packets to fill several shared data arrays
+		for (int i = 0; i < 200; i++) {
+			sent.add(newReply(1 + i * 7 % 1000));
+		}
+		sent.add(newReply(LARGE_LENGTH));
+		sent.add(newCommand(JdwpCommandPacket.VM_ALL_THREADS, 3));
+		CompletableFuture<Void> written = writeAsync(toBytes(sent));
+
+		List<JdwpPacket> read = new ArrayList<>();
+		for (int i = 0; i < sent.size(); i++) {
+			read.add(fConnection.readJdwpPacket());
+		}
+		written.get(5, TimeUnit.SECONDS);
+		for (int i = 0; i < sent.size(); i++) {
+			assertSamePacket("Packet " + i, sent.get(i), read.get(i));
+		}
+	}
+
+	/**
+	 * Tests that raw packets read through the connection service provider
+	 * interface are the bytes sent by the Virtual Machine
+	 */
+	public void testReadPacket() throws Exception {
+		JdwpPacket small = newReply(10);
+		JdwpPacket large = newReply(LARGE_LENGTH);
+		CompletableFuture<Void> written = writeAsync(toBytes(Arrays.asList(small, large)));
+		assertTrue("Wrong small packet", Arrays.equals(small.getPacketAsBytes(), fConnection.readPacket()));
+		assertTrue("Wrong large packet", Arrays.equals(large.getPacketAsBytes(), fConnection.readPacket()));
+		written.get(5, TimeUnit.SECONDS);
+	}
+
+	/**
+	 * Tests that packets written through the connection reach the Virtual
+	 * Machine unchanged, whether written one at a time or together
+	 */
+	public void testWritePackets() throws Exception {
+		List<JdwpPacket> packets = new ArrayList<>();
+		packets.add(newCommand(JdwpCommandPacket.VM_VERSION, 0));
+		packets.add(newCommand(JdwpCommandPacket.VM_ALL_THREADS, 100));
+		packets.add(newCommand(JdwpCommandPacket.VM_ALL_THREADS, LARGE_LENGTH));
+		byte[] expected = toBytes(packets);
+
+		CompletableFuture<byte[]> received = CompletableFuture.supplyAsync(() -> {
+			try {
+				return readFully(fVM, expected.length * 2);
+			} catch (IOException e) {
+				throw new RuntimeException(e);
+			}
+		});
+		fConnection.writePackets(packets);
+		for (JdwpPacket packet : packets) {
+			fConnection.writePacket(packet.getPacketAsBytes());
+		}
+		byte[] bytes = received.get(5, TimeUnit.SECONDS);
+		assertTrue("Wrong packets written together", Arrays.equals(expected, Arrays.copyOfRange(bytes, 0, expected.length)));
+		assertTrue("Wrong packets written one at a time", Arrays.equals(expected, Arrays.copyOfRange(bytes, expected.length, bytes.length)));
+	}
+
+	/**
+	 * Tests that a packet written by the connection and echoed back by the
+	 * Virtual Machine is read as the packet written
+	 */
+	public void testRoundTrip() throws Exception {
+		JdwpPacket packet = newCommand(JdwpCommandPacket.VM_ALL_THREADS, 1000);
+		fConnection.writePackets(List.of(packet));
+		writeFully(fVM, readFully(fVM, packet.getLength()));
+		assertSamePacket("Echoed packet", packet, fConnection.readJdwpPacket());
+	}
+
+	/**
+	 * Tests that reading fails once the Virtual Machine closes the channel
+	 */
+	public void testReadAfterVMClosed() throws Exception {
+		fVM.close();
+		try {
+			fConnection.readJdwpPacket();
+			fail("Reading from a closed channel should fail");
+		} catch (IOException e) {
+			// expected
+		}
+	}
+
+	private JdwpCommandPacket newCommand(int command, int dataLength) {
+		JdwpCommandPacket packet = new JdwpCommandPacket(command);
+		packet.setData(newData(dataLength, command));
+		return packet;
+	}
+
+	private JdwpReplyPacket newReply(int dataLength) {
+		JdwpReplyPacket packet = new JdwpReplyPacket();
+		packet.setData(newData(dataLength, dataLength));
+		packet.setErrorCode(JdwpReplyPacket.NONE);
+		return packet;
+	}
+
+	private byte[] newData(int length, int seed) {
+		if (length == 0) {
+			return null;
+		}
+		byte[] data = new byte[length];
+		for (int i = 0; i < length; i++) {
+			data[i] = (byte) (seed + i * 31);
+		}
+		return data;
+	}
+
+	private void assertSamePacket(String message, JdwpPacket expected, JdwpPacket actual) throws Exception {
+		assertEquals(message + ": wrong type", expected.getClass(), actual.getClass());
+		assertEquals(message + ": wrong id", expected.getId(), actual.getId());
+		assertEquals(message + ": wrong length", expected.getLength(), actual.getLength());
+		if (expected instanceof JdwpCommandPacket) {
+			assertEquals(message + ": wrong command", ((JdwpCommandPacket) expected).getCommand(), ((JdwpCommandPacket) actual).getCommand());
+		}
+		byte[] data = expected.data();
+		if (data == null) {
+			assertEquals(message + ": should not have data", 0, actual.getDataLength());
+			assertNull(message + ": should not have data", actual.data());
+			return;
+		}
+		assertTrue(message + ": wrong data", Arrays.equals(data, actual.data()));
+		JdwpDataCursor cursor = actual.dataCursor();
+		byte[] decoded = new byte[data.length];
+		cursor.readFully(decoded);
+		assertTrue(message + ": wrong decoded data", Arrays.equals(data, decoded));
+		assertEquals(message + ": all data should be decoded", 0, cursor.remaining());
+		byte[] streamed = new byte[data.length];
+		actual.dataInStream().readFully(streamed);
+		assertTrue(message + ": wrong streamed data", Arrays.equals(data, streamed));
+	}
+
+	/**
+	 * Writes the given bytes to the channel of the Virtual Machine without
+	 * waiting for the connection to read them.
+	 */
+	private CompletableFuture<Void> writeAsync(byte[] bytes) {
+		return CompletableFuture.runAsync(() -> {
+			try {
+				writeFully(fVM, bytes);
+			} catch (IOException e) {
+				throw new RuntimeException(e);
+			}
+		});
+	}
+
+	private static byte[] toBytes(List<JdwpPacket> packets) throws IOException {
+		int length = 0;
+		for (JdwpPacket packet : packets) {
+			length += packet.getLength();
+		}
+		ByteBuffer buffer = ByteBuffer.allocate(length);
+		for (JdwpPacket packet : packets) {
+			buffer.put(packet.getPacketAsBytes());
+		}
+		return buffer.array();
+	}
+
+	private static byte[] readFully(SocketChannel channel, int length) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(length);
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer) < 0) {
+				throw new IOException("Channel closed after " + buffer.position() + " bytes");
+			}
+		}
+		return buffer.array();
+	}
+
+	private static void writeFully(SocketChannel channel, byte[] bytes) throws IOException {
+		ByteBuffer buffer = ByteBuffer.wrap(bytes);
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+	}
+}
@@ -0,0 +1,193 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.eclipse.debug.core.model.IThread;
+import org.eclipse.debug.core.model.IVariable;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.debug.core.IJavaLineBreakpoint;
+import org.eclipse.jdt.debug.core.IJavaStackFrame;
+import org.eclipse.jdt.debug.core.IJavaThread;
+import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.jdt.internal.debug.core.model.JDIObjectValue;
+import org.eclipse.jdt.internal.debug.core.model.JDIThread;
+
+import com.sun.jdi.ObjectReference;
+import com.sun.jdi.ThreadReference;
+
+/**
+ * Tests the threads of a debug target: the order in which they are listed,
+ * their removal when they end, and the tracking of virtual threads from
+ * their start or on demand.
+ */
+public class ThreadRegistryTests extends AbstractDebugTest {
+
+	private static final String TYPE_NAME = "ThreadRegistry21";
+
+	private static final int THREADS_RUNNING_LINE = 35;
+
+	private static final int THREADS_ENDED_LINE = 41;
+
+	private static final int VIRTUAL_THREAD_LINE = 43;
+
+	private static final String THREAD_PREFIX = "Registry-";
+
+	public ThreadRegistryTests(String name) {
+		super(name);
+	}
+
+	@Override
+	protected IJavaProject getProjectContext() {
+		return get23Project();
+	}
+
+	/**
+	 * Tests that threads are listed in the order they started
+	 */
+	public void testThreadsInStartOrder() throws Exception {
+		IJavaThread thread = null;
+		try {
+			thread = launchToLineBreakpoint(TYPE_NAME, createLineBreakpoint(THREADS_RUNNING_LINE, TYPE_NAME));
+			List<String> names = getThreadNames(getTarget(thread));
+			List<String> started = new ArrayList<>();
+			for (String name : names) {
+				if (name.startsWith(THREAD_PREFIX) && !name.contains("virtual")) {
+					started.add(name);
+				}
+			}
+			assertEquals("Threads should be listed in start order", List.of("Registry-0", "Registry-1", "Registry-2"), started);
+			assertTrue("The main thread should be listed before the threads it started: " + names, names.indexOf("main") < names.indexOf("Registry-0"));
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests that threads are removed from the target once they end
+	 */
+	public void testThreadsRemovedOnDeath() throws Exception {
+		IJavaThread thread = null;
+		try {
+			thread = launchToLineBreakpoint(TYPE_NAME, createLineBreakpoint(THREADS_RUNNING_LINE, TYPE_NAME));
+			JDIDebugTarget target = getTarget(thread);
+			List<JDIThread> started = new ArrayList<>();
+			for (IThread element : target.getThreads()) {
+				if (element.getName().startsWith(THREAD_PREFIX)) {
+					started.add((JDIThread) element);
+				}
+			}
+			assertEquals("Wrong number of started threads: " + started, 4, started.size());
+
+			thread = resumeToLineBreakpoint(thread, createLineBreakpoint(THREADS_ENDED_LINE, TYPE_NAME));
+			for (JDIThread ended : started) {
+				assertTrue("Thread should be terminated: " + ended.getName(), ended.isTerminated());
+				assertNull("Thread should be removed: " + ended.getName(), target.findThread(ended.getUnderlyingThread()));
+			}
+			for (String name : getThreadNames(target)) {
+				assertFalse("Thread should not be listed: " + name, name.startsWith(THREAD_PREFIX));
+			}
+			assertSame("The main thread should stay", thread, target.findThread(((JDIThread) thread).getUnderlyingThread()));
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests that virtual threads are added when they start when they are not
+	 * tracked on demand
+	 */
+	public void testVirtualThreadsTrackedFromStart() throws Exception {
+		IJavaThread thread = null;
+		try {
+			thread = launchToLineBreakpoint(TYPE_NAME, createLineBreakpoint(THREADS_RUNNING_LINE, TYPE_NAME));
+			JDIDebugTarget target = getTarget(thread);
+			JDIThread waiting = target.findThread(getWaitingThread(thread));
+			assertNotNull("The waiting virtual thread should be added when it starts", waiting);
+			assertTrue("Should be a virtual thread", waiting.isVirtualThread());
+			assertTrue("The waiting virtual thread should be listed", getThreadNames(target).contains("Registry-virtual-waiting"));
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests that when virtual threads are tracked on demand, thread start
+	 * events are only requested for platform threads, and a virtual thread is
+	 * added once it hits a breakpoint
+	 */
+	public void testVirtualThreadsTrackedOnDemand() throws Exception {
+		IEclipsePreferences prefs = InstanceScope.INSTANCE.getNode(JDIDebugPlugin.getUniqueIdentifier());
+		prefs.putBoolean(JDIDebugPlugin.PREF_TRACK_VIRTUAL_THREADS_ON_DEMAND, true);
+		IJavaThread thread = null;
+		try {
+			thread = launchToLineBreakpoint(TYPE_NAME, createLineBreakpoint(THREADS_RUNNING_LINE, TYPE_NAME));
+			JDIDebugTarget target = getTarget(thread);
+			assertNull("The waiting virtual thread should not be added", target.findThread(getWaitingThread(thread)));
+			List<String> names = getThreadNames(target);
+			assertFalse("The waiting virtual thread should not be listed", names.contains("Registry-virtual-waiting"));
+			assertTrue("Platform threads should be added when they start: " + names, names.containsAll(List.of("Registry-0", "Registry-1", "Registry-2")));
+
+			IJavaLineBreakpoint bp = createLineBreakpoint(VIRTUAL_THREAD_LINE, TYPE_NAME);
+			IJavaThread virtual = resumeToLineBreakpoint(thread, bp);
+			thread = virtual;
+			assertTrue("Should be a virtual thread", ((JDIThread) virtual).isVirtualThread());
+			assertEquals("Wrong thread", "Registry-virtual", virtual.getName());
+			assertSame("The virtual thread should be added when it hits the breakpoint", virtual, target.findThread(((JDIThread) virtual).getUnderlyingThread()));
+			assertTrue("The virtual thread should be listed", getThreadNames(target).contains("Registry-virtual"));
+		} finally {
+			prefs.remove(JDIDebugPlugin.PREF_TRACK_VIRTUAL_THREADS_ON_DEMAND);
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	private JDIDebugTarget getTarget(IJavaThread thread) {
+		return (JDIDebugTarget) thread.getDebugTarget();
+	}
+
+	/**
+	 * @return the names of the threads of the target, in the order they are
+	 *         listed
+	 */
+	private List<String> getThreadNames(JDIDebugTarget target) throws Exception {
+		List<String> names = new ArrayList<>();
+		for (IThread thread : target.getThreads()) {
+			names.add(thread.getName());
+		}
+		return names;
+	}
+
+	/**
+	 * @return the underlying thread of the waiting virtual thread, read from
+	 *         the <code>waiting</code> variable of the main method
+	 */
+	private ThreadReference getWaitingThread(IJavaThread thread) throws Exception {
+		IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+		IVariable variable = findVariable(frame, "waiting");
+		assertNotNull("Could not find variable 'waiting'", variable);
+		ObjectReference object = ((JDIObjectValue) variable.getValue()).getUnderlyingObject();
+		assertTrue("Should be a thread: " + object, object instanceof ThreadReference);
+		return (ThreadReference) object;
+	}
+}
@@ -13,11 +13,18 @@
  *******************************************************************************/
 package org.eclipse.jdt.debug.tests.core;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
 import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.IExpressionManager;
 import org.eclipse.debug.core.model.IValue;
 import org.eclipse.debug.core.model.IWatchExpression;
+import org.eclipse.debug.core.model.IWatchExpressionListener;
+import org.eclipse.debug.core.model.IWatchExpressionResult;
 import org.eclipse.debug.internal.ui.DebugUIPlugin;
 import org.eclipse.debug.ui.IDebugUIConstants;
 import org.eclipse.jdt.debug.core.IJavaDebugTarget;
@@ -27,6 +34,8 @@ import org.eclipse.jdt.debug.core.IJavaValue;
 import org.eclipse.jdt.debug.testplugin.DebugElementEventWaiter;
 import org.eclipse.jdt.debug.testplugin.ExpressionWaiter;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.debug.core.model.JDIObjectValue;
+import org.eclipse.jdt.internal.debug.ui.JavaWatchExpressionDelegate;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.ui.IWorkbench;
 import org.eclipse.ui.IWorkbenchPage;
@@ -71,6 +80,116 @@ public class WatchExpressionTests extends AbstractDebugTest {
 		}
 	}
 
+	/**
+	 * Tests that the listeners of watch expressions waiting to be evaluated are
+	 * notified when the thread terminates before evaluating them.
+	 */
+	public void testPendingExpressionsFinishedOnTerminate() throws Exception {
+		String typeName = "WatchItemTests";
+		createLineBreakpoint(42, typeName);
+		IJavaThread thread= null;
+		CountDownLatch release = new CountDownLatch(1);
+		try {
+			thread= launchToBreakpoint(typeName);
+			assertNotNull("Breakpoint not hit within timeout period", thread);
+			IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+
+			// keep the evaluation waiting behind another runnable of the thread
+			CountDownLatch blocked = new CountDownLatch(1);
+			thread.queueRunnable(() -> {
+				blocked.countDown();
+				try {
+					release.await(DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS);
+				} catch (InterruptedException e) {
+				}
+			});
+			assertTrue("The thread should run the blocking runnable", blocked.await(DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS));
+
+			List<IWatchExpressionResult> results = new CopyOnWriteArrayList<>();
+			CountDownLatch finished = new CountDownLatch(2);
+			IWatchExpressionListener listener = result -> {
+				results.add(result);
+				finished.countDown();
+			};
+			new JavaWatchExpressionDelegate().evaluateExpression("fVector.size()", frame, listener);
+			new JavaWatchExpressionDelegate().evaluateExpression("fVector.isEmpty()", frame, listener);
+			thread.getDebugTarget().terminate();
+			release.countDown();
+
+			assertTrue("The listeners should be notified when the thread terminates", finished.await(DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS));
+			for (IWatchExpressionResult result : results) {
+				assertNull("There should be no result", result);
+			}
+		} finally {
+			release.countDown();
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests that the objects created by watch expressions evaluated together
+	 * are not garbage collected before they are reported, although the
+	 * following expressions let the target run and collect garbage.
+	 */
+	public void testNewObjectsKeptUntilReported() throws Exception {
+		String typeName = "WatchItemTests";
+		createLineBreakpoint(42, typeName);
+		IJavaThread thread= null;
+		CountDownLatch release = new CountDownLatch(1);
+		try {
+			thread= launchToBreakpoint(typeName);
+			assertNotNull("Breakpoint not hit within timeout period", thread);
+			IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+
+			// keep the thread busy so that the expressions are evaluated together
+			CountDownLatch blocked = new CountDownLatch(1);
+			thread.queueRunnable(() -> {
+				blocked.countDown();
+				try {
+					release.await(DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS);
+				} catch (InterruptedException e) {
+				}
+			});
+			assertTrue("The thread should run the blocking runnable", blocked.await(DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS));
+
+			String[] expressions = { "new java.util.ArrayList(fVector)", "fVector.toString() + \"!\"",
+					"new StringBuilder().append(fVector.size())", "Runtime.getRuntime().gc()", "Runtime.getRuntime().gc()" };
+			List<String> failures = new CopyOnWriteArrayList<>();
+			CountDownLatch finished = new CountDownLatch(expressions.length);
+			IWatchExpressionListener listener = result -> {
+				try {
+					if (result == null) {
+						failures.add("No result");
+					} else if (result.hasErrors() && !result.getExpressionText().endsWith("gc()")) {
+						failures.add("No value for " + result.getExpressionText());
+					} else if (result.getValue() instanceof JDIObjectValue) {
+						JDIObjectValue value = (JDIObjectValue) result.getValue();
+						if (value.getUnderlyingObject().isCollected()) {
+							failures.add("The value of " + result.getExpressionText() + " was collected");
+						} else if (value.getJavaType().getName().equals("java.lang.String") && !value.getValueString().endsWith("!")) {
+							failures.add("Wrong value of " + result.getExpressionText() + ": " + value.getValueString());
+						}
+					}
+				} catch (Exception e) {
+					failures.add(result.getExpressionText() + ": " + e);
+				}
+				finished.countDown();
+			};
+			for (String expression : expressions) {
+				new JavaWatchExpressionDelegate().evaluateExpression(expression, frame, listener);
+			}
+			release.countDown();
+
+			assertTrue("The listeners should be notified", finished.await(DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS));
+			assertTrue("Failures: " + failures, failures.isEmpty());
+		} finally {
+			release.countDown();
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
 	/**
 	 * Test a watch expression that is created while a program is suspended.
      *
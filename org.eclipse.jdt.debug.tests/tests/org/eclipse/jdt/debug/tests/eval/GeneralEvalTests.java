@@ -13,9 +13,20 @@
  *******************************************************************************/
 package org.eclipse.jdt.debug.tests.eval;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.model.IValue;
+import org.eclipse.jdt.debug.core.IJavaDebugTarget;
+import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
+import org.eclipse.jdt.debug.eval.ICompiledExpression;
+import org.eclipse.jdt.debug.eval.IEvaluationResult;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.debug.eval.ast.engine.ASTEvaluationEngine;
 
 /**
  * Tests that evaluations in non-generified source
@@ -445,6 +456,82 @@ public class GeneralEvalTests extends AbstractDebugTest {
 		}
 	}
 
+	/**
+	 * Tests expressions made of literals only, which are computed when compiling
+	 */
+	public void testLiteralConstants() throws Exception {
+		IJavaThread thread = null;
+		try {
+			String typename = "bug401270";
+			createLineBreakpoint(25, typename);
+			thread = launchToBreakpoint(typename);
+			assertNotNull("the program did not suspend", thread);
+			IValue value = doEval(thread, "60 * 1000 + 1");
+			assertEquals("The result of 60 * 1000 + 1 is wrong", "60001", value.getValueString());
+			value = doEval(thread, "-2147483648");
+			assertEquals("The result of -2147483648 is wrong", "-2147483648", value.getValueString());
+			value = doEval(thread, "\"a\" + 1 + 'c'");
+			assertEquals("The result of \"a\" + 1 + 'c' is wrong", "a1c", value.getValueString());
+			value = doEval(thread, "(1L << 40) > 1000 && !('a' == 98)");
+			assertTrue("The result of (1L << 40) > 1000 && !('a' == 98) should be true", Boolean.parseBoolean(value.getValueString()));
+		}
+		finally {
+			removeAllBreakpoints();
+			terminateAndRemove(thread);
+		}
+	}
+
+	/**
+	 * Tests evaluating several expressions in a single evaluation, the results
+	 * being reported in the order of the expressions even if one of them has
+	 * errors
+	 */
+	public void testEvaluateExpressions() throws Exception {
+		IJavaThread thread = null;
+		try {
+			String typename = "bug401270";
+			createLineBreakpoint(25, typename);
+			thread = launchToBreakpoint(typename);
+			assertNotNull("the program did not suspend", thread);
+			IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+			assertNotNull("There should be a stackframe", frame);
+			ASTEvaluationEngine engine = new ASTEvaluationEngine(getProjectContext(), (IJavaDebugTarget) thread.getDebugTarget());
+			try {
+				List<String> snippets = Arrays.asList("60 * 1000 + 1", "unknownVariable", "\"abc\".length()");
+				List<ICompiledExpression> expressions = new ArrayList<>();
+				for (String snippet : snippets) {
+					expressions.add(engine.getCompiledExpression(snippet, frame));
+				}
+				List<IEvaluationResult> results = new CopyOnWriteArrayList<>();
+				List<Boolean> evaluating = new CopyOnWriteArrayList<>();
+				IJavaThread evaluationThread = thread;
+				engine.evaluateExpressions(expressions, frame, result -> {
+					evaluating.add(Boolean.valueOf(evaluationThread.isPerformingEvaluation()));
+					results.add(result);
+				}, DebugEvent.EVALUATION_IMPLICIT, false);
+				long timeoutNanos = System.nanoTime() + DEFAULT_TIMEOUT * 1_000_000L;
+				while (results.size() < snippets.size() && System.nanoTime() < timeoutNanos) {
+					Thread.sleep(1);
+				}
+				assertEquals("All the expressions should have a result", snippets.size(), results.size());
+				assertFalse("The results should be reported once the thread is done evaluating", evaluating.contains(Boolean.TRUE));
+				for (int i = 0; i < snippets.size(); i++) {
+					assertEquals("The results should be in the order of the expressions", snippets.get(i), results.get(i).getSnippet());
+				}
+				assertEquals("The result of 60 * 1000 + 1 is wrong", "60001", results.get(0).getValue().getValueString());
+				assertTrue("unknownVariable should not compile", results.get(1).hasErrors());
+				assertFalse("The evaluation of \"abc\".length() should not have errors", results.get(2).hasErrors());
+				assertEquals("The result of \"abc\".length() is wrong", "3", results.get(2).getValue().getValueString());
+			} finally {
+				engine.dispose();
+			}
+		}
+		finally {
+			removeAllBreakpoints();
+			terminateAndRemove(thread);
+		}
+	}
+
 	/**
 	 * https://bugs.eclipse.org/bugs/show_bug.cgi?id=508105
 	 */
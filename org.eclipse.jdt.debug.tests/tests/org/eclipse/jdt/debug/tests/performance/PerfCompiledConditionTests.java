@@ -0,0 +1,101 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 IBM Corporation and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.performance;
+
+import org.eclipse.jdt.debug.core.IJavaDebugTarget;
+import org.eclipse.jdt.debug.core.IJavaLineBreakpoint;
+import org.eclipse.jdt.debug.core.IJavaStackFrame;
+import org.eclipse.jdt.debug.core.IJavaThread;
+import org.eclipse.jdt.debug.eval.ICompiledExpression;
+import org.eclipse.jdt.debug.tests.AbstractDebugPerformanceTest;
+import org.eclipse.jdt.internal.debug.core.breakpoints.CompiledConditionCache;
+import org.eclipse.jdt.internal.debug.eval.ast.engine.ASTEvaluationEngine;
+import org.eclipse.test.performance.Dimension;
+
+/**
+ * Tests the performance of getting the compiled condition of a breakpoint on
+ * each hit, from the shared cache or by compiling it again. Each hit is in a
+ * new frame with a new receiver, so that the shape of the frame is read from
+ * the target for the cache.
+ */
+public class PerfCompiledConditionTests extends AbstractDebugPerformanceTest {
+
+	private static final String TYPE_NAME = "PerfMethodLoop";
+
+	private static final String CONDITION = "i % 100 == 0 && sum > 0";
+
+	private static final int WARM_UP_HITS = 10;
+
+	private static final int MEASURED_HITS = 50;
+
+	/**
+	 * Constructor
+	 */
+	public PerfCompiledConditionTests(String name) {
+		super(name);
+	}
+
+	/**
+	 * Tests the performance of getting a condition from the cache shared by
+	 * the hits of a breakpoint
+	 */
+	public void testCachedCondition() throws Exception {
+		tagAsSummary("Cached breakpoint condition", Dimension.ELAPSED_PROCESS);
+		measureHits(true);
+	}
+
+	/**
+	 * Tests the performance of compiling a condition on each hit of a
+	 * breakpoint. Compare with {@link #testCachedCondition()}.
+	 */
+	public void testRecompiledCondition() throws Exception {
+		measureHits(false);
+	}
+
+	private void measureHits(boolean cached) throws Exception {
+		// just in case
+		removeAllBreakpoints();
+		IJavaLineBreakpoint bp = createLineBreakpoint(29, TYPE_NAME);
+
+		IJavaThread thread = null;
+		ASTEvaluationEngine engine = null;
+		try {
+			thread = launchToLineBreakpoint(TYPE_NAME, bp, false);
+			engine = new ASTEvaluationEngine(getProjectContext(), (IJavaDebugTarget) thread.getDebugTarget());
+			CompiledConditionCache cache = CompiledConditionCache.getDefault();
+			for (int n = 0; n < WARM_UP_HITS + MEASURED_HITS; n++) {
+				IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+				boolean measured = n >= WARM_UP_HITS;
+				if (measured) {
+					startMeasuring();
+				}
+				ICompiledExpression expression = cached ? cache.getCompiledExpression(CONDITION, frame, engine, false)
+						: engine.getCompiledExpression(CONDITION, frame);
+				if (measured) {
+					stopMeasuring();
+				}
+				assertFalse("The condition should compile", expression.hasErrors());
+				thread = resumeToLineBreakpoint(thread, bp);
+			}
+			commitMeasurements();
+			assertPerformance();
+		} finally {
+			if (engine != null) {
+				engine.dispose();
+			}
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+}
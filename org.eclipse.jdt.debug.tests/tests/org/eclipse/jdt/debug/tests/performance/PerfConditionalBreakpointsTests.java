@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.jdt.debug.tests.performance;
 
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.InstanceScope;
 import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.DebugPlugin;
@@ -21,6 +23,7 @@ import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.jdt.debug.core.IJavaLineBreakpoint;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.tests.AbstractDebugPerformanceTest;
+import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
 import org.eclipse.test.performance.Dimension;
 
 /**
@@ -66,11 +69,47 @@ public class PerfConditionalBreakpointsTests extends AbstractDebugPerformanceTes
         super(name);
     }
 
+    /**
+     * A condition sending several messages, true when <code>i</code> is a
+     * multiple of 100
+     */
+    private static final String MESSAGE_SENDS_CONDITION = "Integer.valueOf(i).hashCode() % 100 == 0 & v.size() == i & !v.isEmpty()";
+
+    private String fCondition;
+
     /**
      * Tests the performance of launching to conditional breakpoints
      */
     public void testConditionalBreakpoints() throws Exception {
         tagAsSummary("Conditional Breakpoint Test", Dimension.ELAPSED_PROCESS);
+        runConditionalBreakpoints("i%100==0");
+    }
+
+    /**
+     * Tests the performance of conditional breakpoints whose condition sends
+     * several messages, interpreted
+     */
+    public void testConditionalBreakpointsWithMessageSends() throws Exception {
+        runConditionalBreakpoints(MESSAGE_SENDS_CONDITION);
+    }
+
+    /**
+     * Tests the performance of conditional breakpoints whose condition sends
+     * several messages, evaluated in the target. Compare with
+     * {@link #testConditionalBreakpointsWithMessageSends()}.
+     */
+    public void testConditionalBreakpointsWithMessageSendsInTarget() throws Exception {
+        IEclipsePreferences prefs = InstanceScope.INSTANCE.getNode(JDIDebugPlugin.getUniqueIdentifier());
+        prefs.putBoolean(JDIDebugPlugin.PREF_EVALUATE_CONDITIONS_IN_TARGET, true);
+        try {
+            runConditionalBreakpoints(MESSAGE_SENDS_CONDITION);
+        } finally {
+            prefs.remove(JDIDebugPlugin.PREF_EVALUATE_CONDITIONS_IN_TARGET);
+        }
+    }
+
+    private void runConditionalBreakpoints(String condition) throws Exception {
+        fCondition = condition;
         // just in case
         removeAllBreakpoints();
 
@@ -99,7 +138,7 @@ public class PerfConditionalBreakpointsTests extends AbstractDebugPerformanceTes
         try {
             if (!fConditionalBreakpointSet) {
                 fBP.delete();
-                fBP = createConditionalLineBreakpoint(25, fTypeName, "i%100==0", true);
+                fBP = createConditionalLineBreakpoint(25, fTypeName, fCondition, true);
                 fConditionalBreakpointSet = true;
             } else if (!fWarmUpComplete) {
                 fHitCount++;
@@ -0,0 +1,218 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 IBM Corporation and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.performance;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.debug.core.IJavaDebugTarget;
+import org.eclipse.jdt.debug.core.IJavaObject;
+import org.eclipse.jdt.debug.core.IJavaPrimitiveValue;
+import org.eclipse.jdt.debug.core.IJavaValue;
+import org.eclipse.jdt.debug.core.IJavaVariable;
+import org.eclipse.jdt.internal.debug.eval.ast.engine.IRuntimeContext;
+import org.eclipse.jdt.internal.debug.eval.ast.engine.Interpreter;
+import org.eclipse.jdt.internal.debug.eval.ast.instructions.AndOperator;
+import org.eclipse.jdt.internal.debug.eval.ast.instructions.EqualEqualOperator;
+import org.eclipse.jdt.internal.debug.eval.ast.instructions.GreaterOperator;
+import org.eclipse.jdt.internal.debug.eval.ast.instructions.Instruction;
+import org.eclipse.jdt.internal.debug.eval.ast.instructions.InstructionSequence;
+import org.eclipse.jdt.internal.debug.eval.ast.instructions.MultiplyOperator;
+import org.eclipse.jdt.internal.debug.eval.ast.instructions.PlusOperator;
+import org.eclipse.jdt.internal.debug.eval.ast.instructions.Pop;
+import org.eclipse.jdt.internal.debug.eval.ast.instructions.PushInt;
+import org.eclipse.jdt.internal.debug.eval.ast.instructions.PushLocalVariable;
+import org.eclipse.jdt.internal.debug.eval.ast.instructions.PushThis;
+import org.eclipse.jdt.internal.debug.eval.ast.instructions.RemainderOperator;
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.test.performance.Performance;
+import org.eclipse.test.performance.PerformanceTestCase;
+
+/**
+ * Tests the performance of executing compiled expressions, such as breakpoint
+ * conditions, in the interpreter. The runtime context is stubbed, so that only
+ * the cost of the interpreter itself is measured.
+ */
+public class PerfInterpreterTests extends PerformanceTestCase {
+
+	private static final int EXECUTIONS = 20000;
+
+	/**
+	 * Number of requests to disable garbage collection of the receiver
+	 */
+	private final AtomicInteger fDisableCollectionCount = new AtomicInteger();
+
+	/**
+	 * Tests the performance of a condition that only reads a local variable
+	 * and computes on primitive values: <code>count * 3 + 7 > 100 & count % 2 == 0</code>
+	 */
+	public void testPrimitiveCondition() throws Exception {
+		tagAsSummary("Interpreter, primitive condition", Dimension.ELAPSED_PROCESS);
+		measureExecutions(createCondition(false));
+	}
+
+	/**
+	 * Tests the performance of a condition that also pushes the receiver,
+	 * whose garbage collection must not be disabled since no instruction lets
+	 * the target run
+	 */
+	public void testConditionWithReceiver() throws Exception {
+		tagAsSummary("Interpreter, condition with receiver", Dimension.ELAPSED_PROCESS);
+		measureExecutions(createCondition(true));
+		assertEquals("Garbage collection should not be disabled for the receiver", 0, fDisableCollectionCount.get());
+	}
+
+	private void measureExecutions(InstructionSequence condition) throws Exception {
+		IRuntimeContext context = createContext();
+		Performance perf = Performance.getDefault();
+		try {
+			// ensure class loading and JIT is done.
+			for (int i = 0; i < 3; i++) {
+				execute(condition, context);
+			}
+			for (int i = 0; i < 10; i++) {
+				fPerformanceMeter.start();
+				execute(condition, context);
+				fPerformanceMeter.stop();
+			}
+			fPerformanceMeter.commit();
+			perf.assertPerformance(fPerformanceMeter);
+		} finally {
+			fPerformanceMeter.dispose();
+		}
+	}
+
+	private void execute(InstructionSequence condition, IRuntimeContext context) throws Exception {
+		for (int i = 0; i < EXECUTIONS; i++) {
+			Interpreter interpreter = new Interpreter(condition, context);
+			interpreter.execute(false);
+			assertTrue("Condition should be true", ((IJavaPrimitiveValue) interpreter.getResult()).getBooleanValue());
+		}
+	}
+
+	/**
+	 * Returns the instructions of <code>count * 3 + 7 > 100 & count % 2 == 0</code>,
+	 * preceded by pushing and popping the receiver if asked.
+	 */
+	private InstructionSequence createCondition(boolean pushReceiver) {
+		InstructionSequence sequence = new InstructionSequence("count * 3 + 7 > 100 & count % 2 == 0");
+		if (pushReceiver) {
+			sequence.add(new PushThis(0));
+			sequence.add(new Pop(0));
+		}
+		sequence.add(new PushLocalVariable("count"));
+		sequence.add(new PushInt(3));
+		sequence.add(new MultiplyOperator(Instruction.T_int, Instruction.T_int, Instruction.T_int, 0));
+		sequence.add(new PushInt(7));
+		sequence.add(new PlusOperator(Instruction.T_int, Instruction.T_int, Instruction.T_int, 0));
+		sequence.add(new PushInt(100));
+		sequence.add(new GreaterOperator(Instruction.T_int, Instruction.T_int, 0));
+		sequence.add(new PushLocalVariable("count"));
+		sequence.add(new PushInt(2));
+		sequence.add(new RemainderOperator(Instruction.T_int, Instruction.T_int, Instruction.T_int, 0));
+		sequence.add(new PushInt(0));
+		sequence.add(new EqualEqualOperator(Instruction.T_int, Instruction.T_int, true, 0));
+		sequence.add(new AndOperator(Instruction.T_boolean, Instruction.T_boolean, Instruction.T_boolean, 0));
+		return sequence;
+	}
+
+	/**
+	 * Returns a runtime context with a local variable <code>count</code> of
+	 * value 42 and a receiver, whose target creates primitive values in
+	 * memory.
+	 */
+	private IRuntimeContext createContext() {
+		IJavaDebugTarget target = stub(IJavaDebugTarget.class, (proxy, method, args) -> {
+			if (method.getName().equals("newValue") && args != null && args.length == 1 && !(args[0] instanceof String)) {
+				return newPrimitiveValue(args[0]);
+			}
+			return defaultValue(method.getReturnType());
+		});
+		IJavaValue countValue = newPrimitiveValue(Integer.valueOf(42));
+		IJavaVariable count = stub(IJavaVariable.class, (proxy, method, args) -> {
+			switch (method.getName()) {
+				case "getName":
+					return "count";
+				case "getValue":
+					return countValue;
+				default:
+					return defaultValue(method.getReturnType());
+			}
+		});
+		IJavaObject receiver = stub(IJavaObject.class, (proxy, method, args) -> {
+			if (method.getName().equals("disableCollection")) {
+				fDisableCollectionCount.incrementAndGet();
+			}
+			return defaultValue(method.getReturnType());
+		});
+		return stub(IRuntimeContext.class, (proxy, method, args) -> {
+			switch (method.getName()) {
+				case "getVM":
+					return target;
+				case "getThis":
+					return receiver;
+				case "getLocals":
+					return new IJavaVariable[] { count };
+				default:
+					return defaultValue(method.getReturnType());
+			}
+		});
+	}
+
+	/**
+	 * Returns a primitive value holding the given boolean or number.
+	 */
+	private static IJavaValue newPrimitiveValue(Object value) {
+		return stub(IJavaPrimitiveValue.class, (proxy, method, args) -> {
+			switch (method.getName()) {
+				case "getBooleanValue":
+					return value;
+				case "getIntValue":
+					return Integer.valueOf(((Number) value).intValue());
+				case "getLongValue":
+					return Long.valueOf(((Number) value).longValue());
+				case "getFloatValue":
+					return Float.valueOf(((Number) value).floatValue());
+				case "getDoubleValue":
+					return Double.valueOf(((Number) value).doubleValue());
+				case "getValueString":
+					return String.valueOf(value);
+				case "hashCode":
+					return Integer.valueOf(System.identityHashCode(proxy));
+				case "equals":
+					return Boolean.valueOf(proxy == args[0]);
+				default:
+					return defaultValue(method.getReturnType());
+			}
+		});
+	}
+
+	private static <T> T stub(Class<T> type, InvocationHandler handler) {
+		return type.cast(Proxy.newProxyInstance(PerfInterpreterTests.class.getClassLoader(), new Class<?>[] { type }, handler));
+	}
+
+	private static Object defaultValue(Class<?> type) {
+		if (type == boolean.class) {
+			return Boolean.FALSE;
+		}
+		if (type == int.class) {
+			return Integer.valueOf(0);
+		}
+		if (type == long.class) {
+			return Long.valueOf(0);
+		}
+		return null;
+	}
+}
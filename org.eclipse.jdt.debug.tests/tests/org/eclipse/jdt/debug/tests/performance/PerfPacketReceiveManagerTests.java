@@ -0,0 +1,193 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 IBM Corporation and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.performance;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdi.internal.connect.PacketReceiveManager;
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.test.performance.Performance;
+import org.eclipse.test.performance.PerformanceTestCase;
+
+import com.sun.jdi.connect.spi.ClosedConnectionException;
+import com.sun.jdi.connect.spi.Connection;
+
+/**
+ * Tests the performance of correlating JDWP replies with their requests when
+ * many threads are waiting for replies at the same time. The replies are only
+ * sent once all the requesters are parked waiting for them, and in a random
+ * order.
+ */
+public class PerfPacketReceiveManagerTests extends PerformanceTestCase {
+
+	/**
+	 * Number of times each requester waits for a reply
+	 */
+	private static final int ROUNDS = 200;
+
+	private static final long TIMEOUT = 10000;
+
+	/**
+	 * In-memory connection that hands out the reply packets queued by the
+	 * test, simulating a VM that answers out of order.
+	 */
+	private static class ReplyConnection extends Connection {
+
+		private final LinkedBlockingQueue<byte[]> fReplies = new LinkedBlockingQueue<>();
+
+		private volatile boolean fOpen = true;
+
+		void queueReply(int id) {
+			byte[] packet = new byte[11];
+			packet[3] = 11;
+			packet[4] = (byte) (id >>> 24);
+			packet[5] = (byte) (id >>> 16);
+			packet[6] = (byte) (id >>> 8);
+			packet[7] = (byte) id;
+			packet[8] = (byte) 0x80;
+			fReplies.add(packet);
+		}
+
+		@Override
+		public byte[] readPacket() throws IOException {
+			try {
+				return fReplies.take();
+			} catch (InterruptedException e) {
+				throw new ClosedConnectionException();
+			}
+		}
+
+		@Override
+		public void writePacket(byte[] pkt) throws IOException {
+			throw new IOException("read only connection");
+		}
+
+		@Override
+		public void close() {
+			fOpen = false;
+		}
+
+		@Override
+		public boolean isOpen() {
+			return fOpen;
+		}
+	}
+
+	/**
+	 * Tests the performance of a single requester waiting for its replies
+	 */
+	public void testSingleRequester() throws Exception {
+		tagAsSummary("Reply correlation, 1 requester", Dimension.ELAPSED_PROCESS);
+		measureRequesters(1);
+	}
+
+	/**
+	 * Tests the performance of many concurrent requesters waiting for their
+	 * replies
+	 */
+	public void testConcurrentRequesters() throws Exception {
+		tagAsSummary("Reply correlation, 64 requesters", Dimension.ELAPSED_PROCESS);
+		measureRequesters(64);
+	}
+
+	private void measureRequesters(int requesters) throws Exception {
+		Performance perf = Performance.getDefault();
+		try {
+			// ensure class loading and JIT is done.
+			for (int i = 0; i < 3; i++) {
+				runRequesters(requesters);
+			}
+			for (int i = 0; i < 10; i++) {
+				fPerformanceMeter.start();
+				runRequesters(requesters);
+				fPerformanceMeter.stop();
+			}
+			fPerformanceMeter.commit();
+			perf.assertPerformance(fPerformanceMeter);
+		} finally {
+			fPerformanceMeter.dispose();
+		}
+	}
+
+	private void runRequesters(int requesters) throws Exception {
+		ReplyConnection connection = new ReplyConnection();
+		PacketReceiveManager manager = new PacketReceiveManager(connection, null);
+		Thread receiver = new Thread(manager, "Packet Receiver");
+		receiver.setDaemon(true);
+		receiver.start();
+		CountDownLatch[] waiting = new CountDownLatch[ROUNDS];
+		for (int round = 0; round < ROUNDS; round++) {
+			waiting[round] = new CountDownLatch(requesters);
+		}
+		AtomicInteger received = new AtomicInteger();
+		Thread[] threads = new Thread[requesters];
+		try {
+			for (int i = 0; i < requesters; i++) {
+				int index = i;
+				threads[i] = new Thread(() -> {
+					for (int round = 0; round < ROUNDS; round++) {
+						int id = round * requesters + index + 1;
+						waiting[round].countDown();
+						if (manager.getReply(id, TIMEOUT).getId() == id) {
+							received.incrementAndGet();
+						}
+					}
+				});
+				threads[i].start();
+			}
+			// the replies of a round are only sent once all the requesters
+			// wait for them, in a random order
+			Random random = new Random(requesters);
+			List<Integer> ids = new ArrayList<>(requesters);
+			for (int round = 0; round < ROUNDS; round++) {
+				waiting[round].await();
+				awaitParked(threads);
+				ids.clear();
+				for (int i = 0; i < requesters; i++) {
+					ids.add(Integer.valueOf(round * requesters + i + 1));
+				}
+				Collections.shuffle(ids, random);
+				for (Integer id : ids) {
+					connection.queueReply(id.intValue());
+				}
+			}
+			for (Thread thread : threads) {
+				thread.join();
+			}
+		} finally {
+			manager.disconnectVM();
+			receiver.interrupt();
+		}
+		assertEquals("Not all replies were received", requesters * ROUNDS, received.get());
+	}
+
+	/**
+	 * Waits until the given threads are parked waiting for their reply, or
+	 * have ended.
+	 */
+	private static void awaitParked(Thread[] threads) {
+		for (Thread thread : threads) {
+			while (thread.getState() != Thread.State.TIMED_WAITING && thread.isAlive()) {
+				Thread.onSpinWait();
+			}
+		}
+	}
+}
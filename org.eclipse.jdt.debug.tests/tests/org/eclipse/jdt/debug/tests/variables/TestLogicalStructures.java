@@ -13,6 +13,9 @@
  *******************************************************************************/
 package org.eclipse.jdt.debug.tests.variables;
 
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.ILogicalStructureType;
 import org.eclipse.debug.core.model.IBreakpoint;
@@ -20,10 +23,15 @@ import org.eclipse.debug.core.model.IValue;
 import org.eclipse.debug.core.model.IVariable;
 import org.eclipse.jdt.debug.core.IJavaArray;
 import org.eclipse.jdt.debug.core.IJavaObject;
+import org.eclipse.jdt.debug.core.IJavaPrimitiveValue;
 import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
+import org.eclipse.jdt.debug.core.IJavaValue;
 import org.eclipse.jdt.debug.core.IJavaVariable;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
+import org.eclipse.jdt.internal.debug.core.logicalstructures.CompiledSnippetCache;
+import org.eclipse.jdt.internal.debug.core.logicalstructures.JavaLogicalStructures;
 
 /**
  * Tests for logical structures
@@ -149,4 +157,144 @@ public class TestLogicalStructures extends AbstractDebugTest {
 			removeAllBreakpoints();
 		}
 	}
+
+	/**
+	 * Tests that the snippets of a logical structure are compiled once for
+	 * the values of the same type.
+	 */
+	public void testCompiledSnippetsReused() throws Exception {
+		IEclipsePreferences prefs = InstanceScope.INSTANCE.getNode(JDIDebugPlugin.getUniqueIdentifier());
+		prefs.putBoolean(JDIDebugPlugin.PREF_NATIVE_LOGICAL_STRUCTURES, false);
+		String typeName = "LogicalStructures";
+		createLineBreakpoint(34, typeName);
+		IJavaThread thread= null;
+		try {
+			thread= launchToBreakpoint(typeName);
+			assertNotNull("Breakpoint not hit within timeout period", thread);
+
+			IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+			assertNotNull("missing top frame", frame);
+
+			IJavaVariable variable = frame.findVariable("list");
+			assertNotNull("Missing variable 'list'", variable);
+
+			IValue value = variable.getValue();
+			ILogicalStructureType[] types = DebugPlugin.getLogicalStructureTypes(value);
+			assertEquals("Should be one logical structure type", 1, types.length);
+
+			CompiledSnippetCache cache = JavaLogicalStructures.getCompiledSnippetCache();
+			types[0].getLogicalStructure(value);
+			long hits = cache.getHitCount();
+			long misses = cache.getMissCount();
+			IJavaArray array = (IJavaArray) types[0].getLogicalStructure(value);
+			assertEquals("Should be two elements in the structure", 2, array.getLength());
+			assertEquals("Snippet should not be compiled again", misses, cache.getMissCount());
+			assertEquals("Compiled snippet should be reused", hits + 1, cache.getHitCount());
+		} finally {
+			prefs.remove(JDIDebugPlugin.PREF_NATIVE_LOGICAL_STRUCTURES);
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests the logical structures of collections decoded from their fields,
+	 * without evaluations.
+	 */
+	public void testNativeLogicalStructures() throws Exception {
+		String typeName = "NativeLogicalStructures";
+		createLineBreakpoint(45, typeName);
+		IJavaThread thread= null;
+		try {
+			thread= launchToBreakpoint(typeName);
+			assertNotNull("Breakpoint not hit within timeout period", thread);
+
+			IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+			assertNotNull("missing top frame", frame);
+
+			long misses = JavaLogicalStructures.getCompiledSnippetCache().getMissCount();
+
+			IJavaArray arrayList = getLogicalArray(frame, "arrayList");
+			assertEquals("Wrong number of elements", 10000, arrayList.getLength());
+			assertEquals("Wrong element", 9999, intValue(arrayList.getValue(9999)));
+
+			IJavaArray deque = getLogicalArray(frame, "deque");
+			assertEquals("Wrong number of elements", 8, deque.getLength());
+			for (int i = 0; i < 8; i++) {
+				assertEquals("Wrong element", i, intValue(deque.getValue(i)));
+			}
+			// ranges are read from the arrays backing the collections, the
+			// elements 0 and 1 sit at the end of the array of the deque and
+			// the others at its start
+			IJavaValue[] wrapped = deque.getValues(1, 4);
+			for (int i = 0; i < 4; i++) {
+				assertEquals("Wrong element", i + 1, intValue(wrapped[i]));
+			}
+			IJavaValue[] last = arrayList.getValues(9990, 10);
+			for (int i = 0; i < 10; i++) {
+				assertEquals("Wrong element", 9990 + i, intValue(last[i]));
+			}
+			try {
+				arrayList.setValue(0, arrayList.getValue(1));
+				fail("The elements of a logical structure should not be changed");
+			} catch (DebugException e) {
+				// expected
+			}
+
+			IJavaArray hashMap = getLogicalArray(frame, "hashMap");
+			assertEquals("Wrong number of entries", 10000, hashMap.getLength());
+			IVariable[] entry = getEntry(hashMap.getValue(1234));
+			assertEquals("Wrong entry", -intValue(entry[0].getValue()), intValue(entry[1].getValue()));
+
+			IJavaArray concurrentHashMap = getLogicalArray(frame, "concurrentHashMap");
+			assertEquals("Wrong number of entries", 10000, concurrentHashMap.getLength());
+			entry = getEntry(concurrentHashMap.getValue(4321));
+			assertEquals("Wrong entry", -intValue(entry[0].getValue()), intValue(entry[1].getValue()));
+
+			IJavaArray linkedHashMap = getLogicalArray(frame, "linkedHashMap");
+			assertEquals("Wrong number of entries", 100, linkedHashMap.getLength());
+			for (int i = 0; i < 100; i++) {
+				entry = getEntry(linkedHashMap.getValue(i));
+				assertEquals("Entries should be in insertion order", 100 - i, intValue(entry[0].getValue()));
+				assertEquals("Wrong entry", 2 * (100 - i), intValue(entry[1].getValue()));
+			}
+
+			IJavaArray linkedHashSet = getLogicalArray(frame, "linkedHashSet");
+			assertEquals("Wrong number of elements", 100, linkedHashSet.getLength());
+			for (int i = 0; i < 100; i++) {
+				assertEquals("Elements should be in insertion order", 100 - i, intValue(linkedHashSet.getValue(i)));
+			}
+
+			assertEquals("No snippet should be compiled", misses, JavaLogicalStructures.getCompiledSnippetCache().getMissCount());
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	private IJavaArray getLogicalArray(IJavaStackFrame frame, String name) throws Exception {
+		IJavaVariable variable = frame.findVariable(name);
+		assertNotNull("Missing variable '" + name + "'", variable);
+		IValue value = variable.getValue();
+		ILogicalStructureType[] types = DebugPlugin.getLogicalStructureTypes(value);
+		assertEquals("Should be one logical structure type", 1, types.length);
+		IValue logicalValue = types[0].getLogicalStructure(value);
+		assertEquals("Logical value should be an array", "java.lang.Object[]", ((IJavaValue) logicalValue).getJavaType().getName());
+		return (IJavaArray) logicalValue;
+	}
+
+	private IVariable[] getEntry(IJavaValue value) throws Exception {
+		ILogicalStructureType[] types = DebugPlugin.getLogicalStructureTypes(value);
+		assertEquals("Should be one logical structure type", 1, types.length);
+		IVariable[] children = types[0].getLogicalStructure(value).getVariables();
+		assertEquals("Should be two elements in the structure", 2, children.length);
+		assertEquals("First entry should be key", "key", children[0].getName());
+		assertEquals("Second entry should be value", "value", children[1].getName());
+		return children;
+	}
+
+	private int intValue(IValue value) throws Exception {
+		IJavaPrimitiveValue primitive = (IJavaPrimitiveValue) ((IJavaObject) value).getField("value", false).getValue();
+		return primitive.getIntValue();
+	}
 }
@@ -13,8 +13,15 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.debug.ui;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.DebugException;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.IDebugEventSetListener;
 import org.eclipse.debug.core.model.IDebugElement;
 import org.eclipse.debug.core.model.IStackFrame;
 import org.eclipse.debug.core.model.IThread;
@@ -27,6 +34,7 @@ import org.eclipse.jdt.debug.core.IJavaDebugTarget;
 import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.eval.IAstEvaluationEngine;
+import org.eclipse.jdt.debug.eval.ICompiledExpression;
 import org.eclipse.jdt.debug.eval.IEvaluationListener;
 import org.eclipse.jdt.debug.eval.IEvaluationResult;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
@@ -36,6 +44,14 @@ import org.eclipse.jdt.internal.debug.ui.display.JavaInspectExpression;
 
 public class JavaWatchExpressionDelegate implements IWatchExpressionDelegate {
 
+	/**
+	 * Evaluations waiting to run, by stack frame. The watch expressions
+	 * refreshed together are evaluated in a single evaluation of the thread.
+	 * An evaluation is removed when it runs, or when its thread terminates
+	 * before.
+	 */
+	private static final Map<IJavaStackFrame, EvaluationRunnable> fgPendingEvaluations = new HashMap<>();
+
 	private String fExpressionText;
 	private IWatchExpressionListener fListener;
 
@@ -72,8 +88,10 @@ public class JavaWatchExpressionDelegate implements IWatchExpressionDelegate {
 	/**
 	 * Ask to evaluate the expression in the context of the given stack frame.
 	 *
-	 * The evaluation is performed asynchronously. A change debug event, with
-	 * this as the source, is fired when the evaluation is completed.
+	 * The evaluation is performed asynchronously, together with the other
+	 * watch expressions asked to be evaluated in the same stack frame in the
+	 * meantime. A change debug event, with this as the source, is fired when
+	 * the evaluation is completed.
 	 *
 	 * @param javaStackFrame the stack frame in the context of which performed
 	 * the evaluation.
@@ -81,7 +99,18 @@ public class JavaWatchExpressionDelegate implements IWatchExpressionDelegate {
 	protected void doEvaluation(IJavaStackFrame javaStackFrame) {
 		IJavaThread thread = (IJavaThread)javaStackFrame.getThread();
 		if (preEvaluationCheck(thread)) {
-			thread.queueRunnable(new EvaluationRunnable(javaStackFrame));
+			EvaluationRunnable runnable;
+			synchronized (fgPendingEvaluations) {
+				runnable = fgPendingEvaluations.get(javaStackFrame);
+				if (runnable != null) {
+					runnable.fDelegates.add(this);
+					return;
+				}
+				runnable = new EvaluationRunnable(javaStackFrame);
+				runnable.fDelegates.add(this);
+				fgPendingEvaluations.put(javaStackFrame, runnable);
+			}
+			runnable.queue(thread);
 		} else {
 			fListener.watchEvaluationFinished(null);
 		}
@@ -98,25 +127,58 @@ public class JavaWatchExpressionDelegate implements IWatchExpressionDelegate {
 	}
 
 	/**
-	 * Runnable used to evaluate the expression.
+	 * Runnable used to evaluate the expressions pending in a stack frame. The
+	 * listeners of the expressions are notified once the thread is done
+	 * evaluating, or without a result if the thread terminates before.
 	 */
-	private final class EvaluationRunnable implements Runnable {
+	private static final class EvaluationRunnable implements Runnable, IDebugEventSetListener {
 
 		private final IJavaStackFrame fStackFrame;
 
+		/**
+		 * The delegates of the expressions to evaluate, in order. Only added to
+		 * while pending, with the lock of the pending evaluations held.
+		 */
+		private final List<JavaWatchExpressionDelegate> fDelegates = new ArrayList<>();
+
+		/**
+		 * Number of delegates whose listener has been notified
+		 */
+		private int fNotified;
+
 		private EvaluationRunnable(IJavaStackFrame frame) {
 			fStackFrame= frame;
 		}
 
+		/**
+		 * Queues this runnable on the given thread, the thread of the frame.
+		 */
+		private void queue(IJavaThread thread) {
+			DebugPlugin.getDefault().addDebugEventListener(this);
+			thread.queueRunnable(this);
+			if (thread.isTerminated()) {
+				// the thread does not run this, and may have terminated before
+				// this listened to it
+				finished();
+			}
+		}
+
 		@Override
 		public void run() {
+			endPending();
+			List<JavaWatchExpressionDelegate> delegates = fDelegates;
 			IJavaProject project = JavaDebugUtils.resolveJavaProject(fStackFrame);
 			if (project == null) {
-				fListener.watchEvaluationFinished(null);
+				finished();
 				return;
 			}
 			IAstEvaluationEngine evaluationEngine= JDIDebugPlugin.getDefault().getEvaluationEngine(project, (IJavaDebugTarget) fStackFrame.getDebugTarget());
-			// the evaluation listener
+			List<ICompiledExpression> expressions = new ArrayList<>(delegates.size());
+			for (JavaWatchExpressionDelegate delegate : delegates) {
+				expressions.add(evaluationEngine.getCompiledExpression(delegate.fExpressionText, fStackFrame));
+			}
+			// the evaluation listener, notified of the results in the order
+			// of the expressions
 			IEvaluationListener listener= new IEvaluationListener() {
 				@Override
 				public void evaluationComplete(final IEvaluationResult result) {
@@ -142,14 +204,70 @@ public class JavaWatchExpressionDelegate implements IWatchExpressionDelegate {
 							return result.getException();
 						}
 					};
-					fListener.watchEvaluationFinished(watchResult);
+					notifyNext(watchResult);
 				}
 			};
 			try {
-				evaluationEngine.evaluate(fExpressionText, fStackFrame, listener, DebugEvent.EVALUATION_IMPLICIT, false);
+				evaluationEngine.evaluateExpressions(expressions, fStackFrame, listener, DebugEvent.EVALUATION_IMPLICIT, false);
 			} catch (DebugException e) {
 				JDIDebugPlugin.log(e);
-				fListener.watchEvaluationFinished(null);
+				finished();
+			}
+		}
+
+		@Override
+		public void handleDebugEvents(DebugEvent[] events) {
+			for (DebugEvent event : events) {
+				if (event.getKind() == DebugEvent.TERMINATE
+						&& (event.getSource() == fStackFrame.getThread() || event.getSource() == fStackFrame.getDebugTarget())) {
+					// the queued runnables of the thread are dropped
+					finished();
+					return;
+				}
+			}
+		}
+
+		/**
+		 * Stops collecting expressions to evaluate.
+		 */
+		private void endPending() {
+			synchronized (fgPendingEvaluations) {
+				fgPendingEvaluations.remove(fStackFrame, this);
+			}
+		}
+
+		/**
+		 * Notifies the listener of the next expression of its result.
+		 */
+		private void notifyNext(IWatchExpressionResult result) {
+			JavaWatchExpressionDelegate delegate;
+			synchronized (this) {
+				if (fNotified == fDelegates.size()) {
+					// finished without a result
+					return;
+				}
+				delegate = fDelegates.get(fNotified++);
+				if (fNotified == fDelegates.size()) {
+					DebugPlugin.getDefault().removeDebugEventListener(this);
+				}
+			}
+			delegate.fListener.watchEvaluationFinished(result);
+		}
+
+		/**
+		 * Notifies the listeners of the expressions without a result yet that
+		 * there is none.
+		 */
+		private void finished() {
+			endPending();
+			List<JavaWatchExpressionDelegate> remaining;
+			synchronized (this) {
+				remaining = new ArrayList<>(fDelegates.subList(fNotified, fDelegates.size()));
+				fNotified = fDelegates.size();
+			}
+			DebugPlugin.getDefault().removeDebugEventListener(this);
+			for (JavaWatchExpressionDelegate delegate : remaining) {
+				delegate.fListener.watchEvaluationFinished(null);
 			}
 		}
 	}
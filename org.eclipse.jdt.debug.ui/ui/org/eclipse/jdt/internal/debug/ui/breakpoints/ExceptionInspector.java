@@ -96,7 +96,7 @@ JDIDebugUIPlugin.getUniqueIdentifier(),
 												IBreakpoint[] breakpoints = thread.getBreakpoints();
 												if (breakpoints.length == 1) {
 													if (breakpoints[0] instanceof IJavaExceptionBreakpoint exception) {
-														IJavaObject lastException = ((JavaExceptionBreakpoint)exception).getLastException();
+														IJavaObject lastException = ((JavaExceptionBreakpoint)exception).getLastException(thread);
 														if (lastException != null) {
 															IExpression exp = new JavaInspectExpression(exception.getExceptionTypeName(), lastException);
 															Tree tree = (Tree) ((IDebugView)part).getViewer().getControl();
@@ -95,6 +95,17 @@ public class JavaThreadContentProvider extends JavaElementContentProvider {
 		if (!thread.isSuspended()) {
 			return EMPTY;
 		}
+		if (thread instanceof JDIThread jThread && !isDisplayMonitors() && !getStackFrameProvider().isCollapseStackFrames()) {
+			// children are exactly the frames, only retrieve the requested ones
+			if (!jThread.getDebugTarget().isSuspended() && jThread.isSuspendVoteInProgress()) {
+				return EMPTY;
+			}
+			try {
+				return jThread.computeStackFrames(index, length).toArray();
+			} catch (DebugException e) {
+				return EMPTY;
+			}
+		}
 		return getElements(getChildren(thread), index, length);
 	}
 
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.jdt.debug.eval;
 
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.debug.core.DebugException;
@@ -170,6 +171,54 @@ public interface IAstEvaluationEngine extends IEvaluationEngine {
 			IJavaPrimitiveValue object, IJavaThread thread,
 			IEvaluationListener listener, int evaluationDetail,
 			boolean hitBreakpoints) throws DebugException;
+
+	/**
+	 * Asynchronously evaluates the given expressions in the context of the
+	 * specified stack frame, reporting the result of each expression back to
+	 * the given listener in the order of the expressions. Unlike evaluating
+	 * the expressions one by one, the expressions are evaluated in a single
+	 * evaluation of the thread: the thread is reserved once, and the
+	 * expressions share their runtime context, such as the variables of the
+	 * frame and the types they load. The results are reported once the
+	 * thread is done evaluating all the expressions, so that listeners can
+	 * use the thread, for example to compute the details of a value. Objects
+	 * resulting from the expressions are kept from being garbage collected
+	 * until they are reported, since the following expressions let the
+	 * target run. The thread runs the evaluation with the given evaluation
+	 * detail (@see
+	 * IJavaThread#runEvaluation(IEvaluationRunnable, IProgressMonitor, int)).
+	 * Compilation and runtime errors are reported in the result of each
+	 * expression, an expression failing does not prevent the following ones
+	 * from being evaluated.
+	 *
+	 * @param expressions
+	 *            the expressions to evaluate
+	 * @param frame
+	 *            the stack frame context in which to run the evaluation.
+	 * @param listener
+	 *            the listener that will receive a notification for each
+	 *            expression when/if its evaluation completes
+	 * @param evaluationDetail
+	 *            bitmask of one of <code>DebugEvent.EVALUATION</code> or
+	 *            <code>DebugEvent.EVALUATION_IMPLICIT</code> and
+	 *            optionally <code>DISABLE_GC_ON_RESULT</code>
+	 * @param hitBreakpoints
+	 *            whether or not breakpoints should be honored in the evaluation
+	 *            thread during the evaluation. If <code>false</code>,
+	 *            breakpoints hit in the evaluation thread will be ignored.
+	 * @exception DebugException
+	 *                if this method fails, for the same reasons as
+	 *                {@link #evaluateExpression(ICompiledExpression, IJavaStackFrame, IEvaluationListener, int, boolean)}
+	 * @since 3.25
+	 */
+	public default void evaluateExpressions(List<ICompiledExpression> expressions,
+			IJavaStackFrame frame, IEvaluationListener listener,
+			int evaluationDetail, boolean hitBreakpoints) throws DebugException {
+		for (ICompiledExpression expression : expressions) {
+			evaluateExpression(expression, frame, listener, evaluationDetail, hitBreakpoints);
+		}
+	}
+
 	/**
 	 * Synchronously generates a compiled expression from the given expression
 	 * in the context of the specified stack frame. The generated expression can
@@ -17,6 +17,8 @@ package org.eclipse.jdt.internal.debug.eval;
 
 import static org.eclipse.jdt.core.eval.ICodeSnippetRequestor.LOCAL_VAR_PREFIX;
 
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -57,7 +59,11 @@ public class RemoteEvaluator {
 
 	private final List<String> variableNames;
 
-	private final IJavaClassObject loadedClass = null;
+	/**
+	 * The code snippet class already defined by each class loader, so that
+	 * repeated evaluations do not define the classes again.
+	 */
+	private final Map<IJavaObject, IJavaClassObject> loadedClasses = new HashMap<>();
 
 	private final String enclosingTypeName;
 
@@ -74,15 +80,16 @@ public class RemoteEvaluator {
 
 	private IJavaClassObject loadTheClasses(IJavaThread theThread) throws DebugException {
 
-		if (loadedClass != null) {
-			return loadedClass;
-		}
 		JDIDebugTarget debugTarget = ((JDIDebugTarget) theThread.getDebugTarget());
 		IJavaClassObject theMainClass = null;
 		IJavaObject classloader = null;
 
 		IJavaReferenceType surroundingClass = findType(this.enclosingTypeName, debugTarget);
 		classloader = surroundingClass.getClassLoaderObject();
+		IJavaClassObject loadedClass = getLoadedClass(classloader);
+		if (loadedClass != null) {
+			return loadedClass;
+		}
 
 		for (Map.Entry<String, byte[]> entry : classFiles.entrySet()) {
 			String className = entry.getKey();
@@ -93,7 +100,7 @@ public class RemoteEvaluator {
 					theMainClass = existingClass.getClassObject();
 				}
 			} else {
-				IJavaArray byteArray = createClassBytes(theThread, debugTarget, entry);
+				IJavaArray byteArray = createClassBytes(debugTarget, entry);
 				IJavaValue[] defineClassArgs = new IJavaValue[] { // args for defineClass
 						debugTarget.newValue(className.replaceAll("/", ".")), // class name //$NON-NLS-1$ //$NON-NLS-2$
 						byteArray, // classBytes,
@@ -108,19 +115,40 @@ public class RemoteEvaluator {
 				}
 			}
 		}
+		if (theMainClass != null && classloader != null) {
+			synchronized (loadedClasses) {
+				loadedClasses.put(classloader, theMainClass);
+			}
+		}
 		return theMainClass;
 	}
 
-	private IJavaArray createClassBytes(IJavaThread theThread, JDIDebugTarget debugTarget, Map.Entry<String, byte[]> entry) throws DebugException {
+	/**
+	 * Returns the code snippet class already defined by the given class loader,
+	 * forgetting the classes of targets that are no longer available.
+	 *
+	 * @param classloader
+	 *            a class loader, or <code>null</code>
+	 * @return the code snippet class defined by the class loader, or
+	 *         <code>null</code> if none
+	 */
+	private IJavaClassObject getLoadedClass(IJavaObject classloader) {
+		synchronized (loadedClasses) {
+			for (Iterator<IJavaObject> iterator = loadedClasses.keySet().iterator(); iterator.hasNext();) {
+				IJavaDebugTarget target = (IJavaDebugTarget) iterator.next().getDebugTarget();
+				if (target.isTerminated() || target.isDisconnected()) {
+					iterator.remove();
+				}
+			}
+			return classloader == null ? null : loadedClasses.get(classloader);
+		}
+	}
+
+	private IJavaArray createClassBytes(JDIDebugTarget debugTarget, Map.Entry<String, byte[]> entry) throws DebugException {
 		IJavaReferenceType byteArrayType = findType("byte[]", debugTarget);//$NON-NLS-1$
 		byte[] classBytes = entry.getValue();
 		IJavaArray byteArray = ((IJavaArrayType) byteArrayType).newInstance(classBytes.length);
-
-		IJavaValue[] debugClassBytes = new IJavaValue[classBytes.length];
-		for (int ix = 0; ix < classBytes.length; ++ix) {
-			debugClassBytes[ix] = ((JDIDebugTarget) theThread.getDebugTarget()).newValue(classBytes[ix]);
-		}
-		byteArray.setValues(debugClassBytes);
+		byteArray.setValues(0, classBytes);
 		return byteArray;
 	}
 
@@ -296,11 +324,50 @@ public class RemoteEvaluator {
 	}
 
 	public IJavaValue evaluate(IJavaThread theThread, IJavaValue[] args) throws DebugException {
-		IJavaObject codeSnippetInstance = null;
-		IJavaDebugTarget debugTarget = ((IJavaDebugTarget) theThread.getDebugTarget());
+		return run(theThread, createSnippetInstance(theThread, args));
+	}
+
+	/**
+	 * Creates an instance of the code snippet class bound to the given values
+	 * of its variables, defining the classes in the target first if needed.
+	 *
+	 * @param theThread
+	 *            the thread to create the instance in
+	 * @param args
+	 *            the values of the variables of the code snippet
+	 * @return the instance of the code snippet class
+	 * @exception DebugException
+	 *                if the classes cannot be defined, or the instance cannot
+	 *                be created or initialized
+	 */
+	public IJavaObject createSnippetInstance(IJavaThread theThread, IJavaValue[] args) throws DebugException {
 		try {
-			codeSnippetInstance = newInstance(theThread);
+			IJavaObject codeSnippetInstance = newInstance(theThread);
 			initializeFreeVars(codeSnippetInstance, args);
+			return codeSnippetInstance;
+		} catch (DebugException e) {
+			printTargetException(theThread, e);
+			throw e;
+		}
+	}
+
+	/**
+	 * Runs the given instance of the code snippet class and returns its
+	 * result.
+	 *
+	 * @param theThread
+	 *            the thread to run the code snippet in
+	 * @param codeSnippetInstance
+	 *            an instance created by
+	 *            {@link #createSnippetInstance(IJavaThread, IJavaValue[])}
+	 * @return the result of the code snippet
+	 * @exception DebugException
+	 *                if the code snippet throws an exception, or its result
+	 *                cannot be retrieved
+	 */
+	public IJavaValue run(IJavaThread theThread, IJavaObject codeSnippetInstance) throws DebugException {
+		IJavaDebugTarget debugTarget = ((IJavaDebugTarget) theThread.getDebugTarget());
+		try {
 			codeSnippetInstance.sendMessage(ICodeSnippetRequestor.RUN_METHOD, "()V", null, theThread, false); //$NON-NLS-1$
 
 			// now retrieve the description of the result
@@ -318,23 +385,31 @@ public class RemoteEvaluator {
 			IJavaValue result = convertResult(debugTarget, (IJavaClassObject) resultType.getValue(), (IJavaValue) resultValue.getValue());
 			return result;
 		} catch (DebugException e) {
-			Throwable underlyingException = e.getStatus().getException();
-			if (underlyingException instanceof InvocationException) {
-				ObjectReference theException = ((InvocationException) underlyingException).exception();
-				if (theException != null) {
+			printTargetException(theThread, e);
+			throw e;
+		}
+	}
+
+	/**
+	 * Prints the stack trace of the exception thrown in the target by a failed
+	 * invocation, if any.
+	 */
+	private void printTargetException(IJavaThread theThread, DebugException e) {
+		Throwable underlyingException = e.getStatus().getException();
+		if (underlyingException instanceof InvocationException) {
+			ObjectReference theException = ((InvocationException) underlyingException).exception();
+			if (theException != null) {
+				try {
 					try {
-						try {
-							IJavaObject v = (IJavaObject) JDIValue.createValue((JDIDebugTarget) debugTarget, theException);
-							v.sendMessage("printStackTrace", "()V", null, theThread, false); //$NON-NLS-2$ //$NON-NLS-1$
-						} catch (DebugException de) {
-							JDIDebugPlugin.log(de);
-						}
-					} catch (RuntimeException re) {
-						JDIDebugPlugin.log(re);
+						IJavaObject v = (IJavaObject) JDIValue.createValue((JDIDebugTarget) theThread.getDebugTarget(), theException);
+						v.sendMessage("printStackTrace", "()V", null, theThread, false); //$NON-NLS-2$ //$NON-NLS-1$
+					} catch (DebugException de) {
+						JDIDebugPlugin.log(de);
 					}
+				} catch (RuntimeException re) {
+					JDIDebugPlugin.log(re);
 				}
 			}
-			throw e;
 		}
 	}
 
@@ -86,6 +86,18 @@ public class RemoteEvaluatorBuilder {
 		acceptFunctionalExpression(node, expectedResult);
 	}
 
+	/**
+	 * Accepts an expression to be evaluated as a whole by the built evaluator,
+	 * such as the condition of a breakpoint.
+	 *
+	 * @param node
+	 *            the expression
+	 */
+	public void acceptExpression(Expression node) {
+		FunctionalEvalVisitor visitor = new FunctionalEvalVisitor();
+		node.accept(visitor);
+		this.snippet = "(" + visitor.buffer.toString() + ")"; //$NON-NLS-1$//$NON-NLS-2$
+	}
 
 	private void acceptFunctionalExpression(Expression node, ITypeBinding expectedResult) {
 		FunctionalEvalVisitor visitor = new FunctionalEvalVisitor();
@@ -199,6 +199,38 @@ public class ASTEvaluationEngine implements IAstEvaluationEngine {
 		doEvaluation(expression, context, (IJavaThread) frame.getThread(), listener, evaluationDetail, hitBreakpoints);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see org.eclipse.jdt.debug.eval.IAstEvaluationEngine#evaluateExpressions(java.util.List,
+	 * org.eclipse.jdt.debug.core.IJavaStackFrame, org.eclipse.jdt.debug.eval.IEvaluationListener, int, boolean)
+	 */
+	@Override
+	public void evaluateExpressions(List<ICompiledExpression> expressions, IJavaStackFrame frame, IEvaluationListener listener, int evaluationDetail, boolean hitBreakpoints) throws DebugException {
+		IJavaThread thread = (IJavaThread) frame.getThread();
+		List<InstructionSequence> sequences = new ArrayList<>(expressions.size());
+		for (ICompiledExpression expression : expressions) {
+			if (!(expression instanceof InstructionSequence)) {
+				throw new DebugException(new Status(IStatus.ERROR, JDIDebugPlugin.getUniqueIdentifier(), IStatus.OK, EvaluationEngineMessages.ASTEvaluationEngine_AST_evaluation_engine_cannot_evaluate_expression, null));
+			}
+			traceCaller(expression.getSnippet(), thread);
+			sequences.add((InstructionSequence) expression);
+		}
+		if (sequences.isEmpty()) {
+			return;
+		}
+		if (isNestedEvaluation(thread, evaluationDetail)) {
+			for (InstructionSequence sequence : sequences) {
+				reportNestedEvaluation(sequence, thread, listener);
+			}
+			return;
+		}
+		// a single runtime context for all the expressions, so that the
+		// frame, its variables and the types looked up are shared
+		RuntimeContext context = new RuntimeContext(getJavaProject(), frame);
+		thread.queueRunnable(new EvalRunnable(sequences, thread, context, listener, evaluationDetail, hitBreakpoints));
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
@@ -241,13 +273,8 @@ public class ASTEvaluationEngine implements IAstEvaluationEngine {
 	 */
 	private void doEvaluation(ICompiledExpression expression, IRuntimeContext context, IJavaThread thread, IEvaluationListener listener, int evaluationDetail, boolean hitBreakpoints) throws DebugException {
 		if (expression instanceof InstructionSequence) {
-			// don't queue explicit evaluation if the thread is all ready
-			// performing an evaluation.
-			if (thread.isSuspended() && ((JDIThread) thread).isInvokingMethod()
-					|| thread.isPerformingEvaluation() && evaluationDetail == DebugEvent.EVALUATION) {
-				EvaluationResult result = new EvaluationResult(this, expression.getSnippet(), thread);
-				result.addError(EvaluationEngineMessages.ASTEvaluationEngine_Cannot_perform_nested_evaluations);
-				listener.evaluationComplete(result);
+			if (isNestedEvaluation(thread, evaluationDetail)) {
+				reportNestedEvaluation(expression, thread, listener);
 				return;
 			}
 			thread.queueRunnable(new EvalRunnable((InstructionSequence) expression, thread, context, listener, evaluationDetail, hitBreakpoints));
@@ -256,6 +283,24 @@ public class ASTEvaluationEngine implements IAstEvaluationEngine {
 		}
 	}
 
+	/**
+	 * Returns whether an evaluation in the given thread would be nested in a
+	 * method invocation or, if explicit, in an evaluation the thread is
+	 * already performing.
+	 */
+	private boolean isNestedEvaluation(IJavaThread thread, int evaluationDetail) {
+		// don't queue explicit evaluation if the thread is all ready
+		// performing an evaluation.
+		return thread.isSuspended() && ((JDIThread) thread).isInvokingMethod()
+				|| thread.isPerformingEvaluation() && evaluationDetail == DebugEvent.EVALUATION;
+	}
+
+	private void reportNestedEvaluation(ICompiledExpression expression, IJavaThread thread, IEvaluationListener listener) {
+		EvaluationResult result = new EvaluationResult(this, expression.getSnippet(), thread);
+		result.addError(EvaluationEngineMessages.ASTEvaluationEngine_Cannot_perform_nested_evaluations);
+		listener.evaluationComplete(result);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
@@ -263,6 +308,27 @@ public class ASTEvaluationEngine implements IAstEvaluationEngine {
 	 */
 	@Override
 	public ICompiledExpression getCompiledExpression(String snippet, IJavaStackFrame frame) {
+		return getCompiledExpression(snippet, frame, false);
+	}
+
+	/**
+	 * Returns a compiled expression for the given snippet in the context of the given frame, like
+	 * {@link #getCompiledExpression(String, IJavaStackFrame)}. A snippet made of a single expression that sends several messages is compiled to a
+	 * class that is injected in the target and evaluates the whole expression there, in a single method invocation. The expression is still
+	 * interpreted when the class cannot be injected. Other snippets, and expressions assigning local variables, are compiled to instructions
+	 * interpreted one by one.
+	 *
+	 * @param snippet
+	 *            the code snippet to compile
+	 * @param frame
+	 *            the stack frame context the snippet is compiled in
+	 * @return the compiled expression
+	 */
+	public ICompiledExpression getCompiledExpressionInTarget(String snippet, IJavaStackFrame frame) {
+		return getCompiledExpression(snippet, frame, true);
+	}
+
+	private ICompiledExpression getCompiledExpression(String snippet, IJavaStackFrame frame, boolean evaluateInTarget) {
 		IJavaProject javaProject = getJavaProject();
 		RuntimeContext context = new RuntimeContext(javaProject, frame);
 
@@ -368,7 +434,7 @@ public class ASTEvaluationEngine implements IAstEvaluationEngine {
 			return expression;
 		}
 
-		return createExpressionFromAST(snippet, mapper, unit);
+		return createExpressionFromAST(snippet, mapper, unit, evaluateInTarget);
 	}
 
 	private List<IVariable> extractVariables(IJavaObject thisClass) throws DebugException {
@@ -599,6 +665,22 @@ public class ASTEvaluationEngine implements IAstEvaluationEngine {
 	 *            the compilation unit (AST) generated for the snippet
 	 */
 	private ICompiledExpression createExpressionFromAST(String snippet, EvaluationSourceGenerator mapper, CompilationUnit unit) {
+		return createExpressionFromAST(snippet, mapper, unit, false);
+	}
+
+	/**
+	 * Creates a compiled expression for the given snippet using the given mapper and compilation unit (AST).
+	 *
+	 * @param snippet
+	 *            the code snippet to be compiled
+	 * @param mapper
+	 *            the object which will be used to create the expression
+	 * @param unit
+	 *            the compilation unit (AST) generated for the snippet
+	 * @param evaluateInTarget
+	 *            whether a snippet made of a single expression is evaluated in the target by an injected class
+	 */
+	private ICompiledExpression createExpressionFromAST(String snippet, EvaluationSourceGenerator mapper, CompilationUnit unit, boolean evaluateInTarget) {
 		IProblem[] problems = unit.getProblems();
 		if (problems.length != 0) {
 			boolean snippetError = false;
@@ -641,7 +723,7 @@ public class ASTEvaluationEngine implements IAstEvaluationEngine {
 			}
 		}
 
-		ASTInstructionCompiler visitor = new ASTInstructionCompiler(mapper.getSnippetStart(), snippet, getJavaProject());
+		ASTInstructionCompiler visitor = new ASTInstructionCompiler(mapper.getSnippetStart(), snippet, getJavaProject(), evaluateInTarget);
 		unit.accept(visitor);
 
 		return visitor.getInstructions();
@@ -678,7 +760,7 @@ public class ASTEvaluationEngine implements IAstEvaluationEngine {
 
 	class EvalRunnable implements Runnable {
 
-		private final InstructionSequence fExpression;
+		private final List<InstructionSequence> fExpressions;
 
 		private final IJavaThread fThread;
 
@@ -693,7 +775,16 @@ public class ASTEvaluationEngine implements IAstEvaluationEngine {
 		private final boolean fDisableGcOnResult;
 
 		public EvalRunnable(InstructionSequence expression, IJavaThread thread, IRuntimeContext context, IEvaluationListener listener, int evaluationDetail, boolean hitBreakpoints) {
-			fExpression = expression;
+			this(Collections.singletonList(expression), thread, context, listener, evaluationDetail, hitBreakpoints);
+		}
+
+		/**
+		 * Evaluates the given expressions in a single evaluation of the thread,
+		 * notifying the listener of the result of each expression once the
+		 * thread is done evaluating, in the order of the expressions.
+		 */
+		public EvalRunnable(List<InstructionSequence> expressions, IJavaThread thread, IRuntimeContext context, IEvaluationListener listener, int evaluationDetail, boolean hitBreakpoints) {
+			fExpressions = expressions;
 			fThread = thread;
 			fContext = context;
 			fListener = listener;
@@ -704,59 +795,34 @@ public class ASTEvaluationEngine implements IAstEvaluationEngine {
 
 		@Override
 		public void run() {
-			if (JDIDebugOptions.DEBUG_AST_EVAL) {
-				StringBuilder buf = new StringBuilder();
-				buf.append(JDIDebugOptions.FORMAT.format(Instant.now()));
-				buf.append(" : AST Evaluation"); //$NON-NLS-1$
-				buf.append("\n\tExpression: "); //$NON-NLS-1$
-				buf.append(fExpression.getSnippet());
-				buf.append("\n\tThread: "); //$NON-NLS-1$
-				try {
-					String name = fThread.getName();
-					buf.append('[');
-					buf.append(name);
-					buf.append("] "); //$NON-NLS-1$
-				} catch (DebugException e) {
+			final List<InstructionSequence> expressions = fExpressions;
+			final Interpreter[] interpreters = new Interpreter[expressions.size()];
+			boolean hasErrors = true;
+			for (int i = 0; i < interpreters.length; i++) {
+				InstructionSequence expression = expressions.get(i);
+				if (JDIDebugOptions.DEBUG_AST_EVAL) {
+					traceEvaluation(expression);
 				}
-				buf.append(fThread.toString());
-				buf.append("\n\tDetail: "); //$NON-NLS-1$
-				if (fEvaluationDetail == DebugEvent.EVALUATION) {
-					buf.append("EVALUATION"); //$NON-NLS-1$
-				} else if (fEvaluationDetail == DebugEvent.EVALUATION_IMPLICIT) {
-					buf.append("EVALUATION_IMPLICIT"); //$NON-NLS-1$
-				} else {
-					buf.append(fEvaluationDetail);
+				// expressions with errors are reported without interpreting them
+				if (!expression.hasErrors()) {
+					interpreters[i] = new Interpreter(expression, fContext);
+					hasErrors = false;
 				}
-				buf.append(" Hit Breakpoints: "); //$NON-NLS-1$
-				buf.append(fHitBreakpoints);
-				JDIDebugOptions.trace(buf.toString());
 			}
-			EvaluationResult result = new EvaluationResult(ASTEvaluationEngine.this, fExpression.getSnippet(), fThread);
-			if (fExpression.hasErrors()) {
-				String[] errors = fExpression.getErrorMessages();
-				for (String error : errors) {
-					result.addError(error);
-				}
-				evaluationFinished(result);
-				if (JDIDebugOptions.DEBUG_AST_EVAL) {
-					StringBuilder buf = new StringBuilder();
-					buf.append("\tErrors: "); //$NON-NLS-1$
-					for (int i = 0; i < errors.length; i++) {
-						if (i > 0) {
-							buf.append('\n');
-						}
-						buf.append("\t\t"); //$NON-NLS-1$
-						buf.append(errors[i]);
-					}
-					JDIDebugOptions.trace(buf.toString());
+			if (hasErrors) {
+				for (InstructionSequence expression : expressions) {
+					reportErrors(expression);
 				}
 				return;
 			}
-			final Interpreter interpreter = new Interpreter(fExpression, fContext);
-
+			// the results of a batch are reported after the following
+			// expressions let the target run, keep them until then
+			final boolean keepResults = fDisableGcOnResult || interpreters.length > 1;
 			class EvaluationRunnable implements IEvaluationRunnable, ITerminate {
 
-				CoreException fException;
+				final CoreException[] fExceptions = new CoreException[interpreters.length];
+				final long[] fDurations = new long[interpreters.length];
+				volatile int fCurrent = 0;
 				boolean fTerminated = false;
 
 				@Override
@@ -764,30 +830,46 @@ public class ASTEvaluationEngine implements IAstEvaluationEngine {
 					EventFilter filter = new EventFilter();
 					try {
 						DebugPlugin.getDefault().addDebugEventFilter(filter);
-						interpreter.execute(fDisableGcOnResult);
-					} catch (CoreException exception) {
-						fException = exception;
-						if (fEvaluationDetail == DebugEvent.EVALUATION && exception.getStatus().getException() instanceof InvocationException) {
-							// print the stack trace for the exception if an
-							// *explicit* evaluation
-							InvocationException invocationException = (InvocationException) exception.getStatus().getException();
-							ObjectReference exObject = invocationException.exception();
-							IJavaObject modelObject = (IJavaObject) JDIValue.createValue((JDIDebugTarget) getDebugTarget(), exObject);
-							try {
-								modelObject.sendMessage("printStackTrace", "()V", null, jt, false); //$NON-NLS-1$ //$NON-NLS-2$
-							} catch (DebugException e) {
-								// unable to print stack trace
+						for (; fCurrent < interpreters.length && !fTerminated; fCurrent++) {
+							Interpreter interpreter = interpreters[fCurrent];
+							long start = System.currentTimeMillis();
+							if (interpreter != null) {
+								try {
+									interpreter.execute(keepResults);
+								} catch (CoreException exception) {
+									fExceptions[fCurrent] = exception;
+									printStackTrace(exception, jt);
+								}
 							}
+							fDurations[fCurrent] = System.currentTimeMillis() - start;
 						}
 					} finally {
 						DebugPlugin.getDefault().removeDebugEventFilter(filter);
 					}
 				}
 
+				private void printStackTrace(CoreException exception, IJavaThread jt) {
+					if (fEvaluationDetail == DebugEvent.EVALUATION && exception.getStatus().getException() instanceof InvocationException) {
+						// print the stack trace for the exception if an
+						// *explicit* evaluation
+						InvocationException invocationException = (InvocationException) exception.getStatus().getException();
+						ObjectReference exObject = invocationException.exception();
+						IJavaObject modelObject = (IJavaObject) JDIValue.createValue((JDIDebugTarget) getDebugTarget(), exObject);
+						try {
+							modelObject.sendMessage("printStackTrace", "()V", null, jt, false); //$NON-NLS-1$ //$NON-NLS-2$
+						} catch (DebugException e) {
+							// unable to print stack trace
+						}
+					}
+				}
+
 				@Override
 				public void terminate() {
 					fTerminated = true;
-					interpreter.stop();
+					int current = fCurrent;
+					if (current < interpreters.length && interpreters[current] != null) {
+						interpreters[current].stop();
+					}
 				}
 
 				@Override
@@ -799,14 +881,10 @@ public class ASTEvaluationEngine implements IAstEvaluationEngine {
 				public boolean isTerminated() {
 					return false;
 				}
-
-				public CoreException getException() {
-					return fException;
-				}
 			}
 
 			EvaluationRunnable er = new EvaluationRunnable();
-			CoreException exception = null;
+			DebugException exception = null;
 			long start = System.currentTimeMillis();
 			try {
 				fThread.runEvaluation(er, null, fEvaluationDetail, fHitBreakpoints);
@@ -815,13 +893,75 @@ public class ASTEvaluationEngine implements IAstEvaluationEngine {
 			}
 			long end = System.currentTimeMillis();
 
-			IJavaValue value = interpreter.getResult();
+			// report once the thread is done evaluating, so that listeners
+			// can use it
+			for (int i = 0; i < interpreters.length; i++) {
+				if (interpreters[i] == null) {
+					reportErrors(expressions.get(i));
+				} else {
+					CoreException failure = exception != null ? exception : er.fExceptions[i];
+					long duration = interpreters.length == 1 || exception != null ? end - start : er.fDurations[i];
+					evaluationFinished(expressions.get(i), interpreters[i], failure, er.fTerminated, duration);
+					if (!fDisableGcOnResult) {
+						interpreters[i].releaseResult();
+					}
+				}
+			}
+		}
 
-			if (exception == null) {
-				exception = er.getException();
+		private void traceEvaluation(InstructionSequence expression) {
+			StringBuilder buf = new StringBuilder();
+			buf.append(JDIDebugOptions.FORMAT.format(Instant.now()));
+			buf.append(" : AST Evaluation"); //$NON-NLS-1$
+			buf.append("\n\tExpression: "); //$NON-NLS-1$
+			buf.append(expression.getSnippet());
+			buf.append("\n\tThread: "); //$NON-NLS-1$
+			try {
+				String name = fThread.getName();
+				buf.append('[');
+				buf.append(name);
+				buf.append("] "); //$NON-NLS-1$
+			} catch (DebugException e) {
+			}
+			buf.append(fThread.toString());
+			buf.append("\n\tDetail: "); //$NON-NLS-1$
+			if (fEvaluationDetail == DebugEvent.EVALUATION) {
+				buf.append("EVALUATION"); //$NON-NLS-1$
+			} else if (fEvaluationDetail == DebugEvent.EVALUATION_IMPLICIT) {
+				buf.append("EVALUATION_IMPLICIT"); //$NON-NLS-1$
+			} else {
+				buf.append(fEvaluationDetail);
 			}
+			buf.append(" Hit Breakpoints: "); //$NON-NLS-1$
+			buf.append(fHitBreakpoints);
+			JDIDebugOptions.trace(buf.toString());
+		}
 
-			result.setTerminated(er.fTerminated);
+		private void reportErrors(InstructionSequence expression) {
+			EvaluationResult result = new EvaluationResult(ASTEvaluationEngine.this, expression.getSnippet(), fThread);
+			String[] errors = expression.getErrorMessages();
+			for (String error : errors) {
+				result.addError(error);
+			}
+			evaluationFinished(result);
+			if (JDIDebugOptions.DEBUG_AST_EVAL) {
+				StringBuilder buf = new StringBuilder();
+				buf.append("\tErrors: "); //$NON-NLS-1$
+				for (int i = 0; i < errors.length; i++) {
+					if (i > 0) {
+						buf.append('\n');
+					}
+					buf.append("\t\t"); //$NON-NLS-1$
+					buf.append(errors[i]);
+				}
+				JDIDebugOptions.trace(buf.toString());
+			}
+		}
+
+		private void evaluationFinished(InstructionSequence expression, Interpreter interpreter, CoreException exception, boolean terminated, long duration) {
+			EvaluationResult result = new EvaluationResult(ASTEvaluationEngine.this, expression.getSnippet(), fThread);
+			IJavaValue value = interpreter.getResult();
+			result.setTerminated(terminated);
 			if (exception != null) {
 				if (JDIDebugOptions.DEBUG_AST_EVAL) {
 					StringBuilder buf = new StringBuilder();
@@ -851,7 +991,7 @@ public class ASTEvaluationEngine implements IAstEvaluationEngine {
 			if (JDIDebugOptions.DEBUG_AST_EVAL) {
 				StringBuilder buf = new StringBuilder();
 				buf.append("\tDuration: "); //$NON-NLS-1$
-				buf.append(end - start);
+				buf.append(duration);
 				buf.append("ms"); //$NON-NLS-1$
 				JDIDebugOptions.trace(buf.toString());
 			}
@@ -161,15 +161,59 @@ public class ASTInstructionCompiler extends ASTVisitor {
 
 	private final IJavaProject fJavaProject;
 
+	/**
+	 * Whether a snippet made of a single expression is evaluated in the target
+	 * by a class injected in it, rather than instruction by instruction.
+	 */
+	private final boolean fEvaluateInTarget;
+
+	/**
+	 * The number of message sends from which a condition is evaluated in the
+	 * target. Evaluating it there costs two method invocations, creating an
+	 * instance of the injected class and running it, besides setting the
+	 * variables and reading the result, so a condition with fewer message
+	 * sends is cheaper to interpret.
+	 */
+	private static final int IN_TARGET_MIN_MESSAGE_SENDS = 3;
+
+	/**
+	 * The block of the snippet, the body of the method generated around it.
+	 */
+	private Block fSnippetBlock;
+
+	/**
+	 * The return statement of a snippet evaluated in the target and the
+	 * instruction evaluating it there, followed by the instructions
+	 * interpreting it when the class cannot be injected.
+	 */
+	private ReturnStatement fInTargetReturn;
+
+	private RemoteOperator fInTargetOperator;
+
+	private int fInTargetOperatorEnd;
+
 	/**
 	 * Create a new AST instruction compiler
 	 */
 	public ASTInstructionCompiler(int startPosition, String snippet, IJavaProject javaProject) {
+		this(startPosition, snippet, javaProject, false);
+	}
+
+	/**
+	 * Create a new AST instruction compiler
+	 *
+	 * @param evaluateInTarget
+	 *            whether a snippet made of a single expression is compiled to
+	 *            a class injected in the target and evaluated there, when it
+	 *            can be
+	 */
+	public ASTInstructionCompiler(int startPosition, String snippet, IJavaProject javaProject, boolean evaluateInTarget) {
 		fStartPosition = startPosition;
 		fInstructions = new InstructionSequence(snippet);
 		fStack = new Stack<>();
 		fCompleteInstructions = new ArrayList<>();
 		fJavaProject = javaProject;
+		fEvaluateInTarget = evaluateInTarget;
 	}
 
 	/**
@@ -1262,6 +1306,10 @@ public class ASTInstructionCompiler extends ASTVisitor {
 		if (!isActive() || hasErrors()) {
 			return;
 		}
+		if (node == fInTargetReturn) {
+			// skip the interpreted expression when evaluated in the target
+			fInTargetOperator.setFallbackSize(fCounter - fInTargetOperatorEnd);
+		}
 		storeInstruction();
 	}
 
@@ -1892,6 +1940,9 @@ public class ASTInstructionCompiler extends ASTVisitor {
 		int start = node.getStartPosition();
 		if (start == fStartPosition || start == (fStartPosition + 1)) {
 			setActive(true);
+			if (fSnippetBlock == null) {
+				fSnippetBlock = node;
+			}
 		}
 		if (!isActive()) {
 			return true;
@@ -2587,6 +2638,11 @@ public class ASTInstructionCompiler extends ASTVisitor {
 			return false;
 		}
 
+		if (pushFoldedConstant(node)) {
+			storeInstruction();
+			return false;
+		}
+
 		String opToken = node.getOperator().toString();
 		int opTokenLength = opToken.length();
 		char char0 = opToken.charAt(0);
@@ -3538,6 +3594,10 @@ public class ASTInstructionCompiler extends ASTVisitor {
 			return false;
 		}
 
+		if (pushFoldedConstant(node)) {
+			return false;
+		}
+
 		Expression operand = node.getOperand();
 		int expressionTypeId = getTypeId(operand);
 
@@ -3769,9 +3829,149 @@ public class ASTInstructionCompiler extends ASTVisitor {
 			return false;
 		}
 		push(new ReturnInstruction(fCounter));
+		if (fEvaluateInTarget && isSnippetExpression(node) && isWorthEvaluatingInTarget(node.getExpression())) {
+			fInTargetOperator = compileInTarget(node.getExpression());
+			if (fInTargetOperator != null) {
+				fInTargetReturn = node;
+				fInTargetOperatorEnd = fCounter;
+			}
+		}
+		// the expression is also interpreted when evaluated in the target, if
+		// its class cannot be injected
 		return true;
 	}
 
+	/**
+	 * Returns whether the given return statement is the whole snippet, that
+	 * is the snippet is a single expression.
+	 */
+	private boolean isSnippetExpression(ReturnStatement node) {
+		return node.getExpression() != null && fSnippetBlock != null && node.getParent() == fSnippetBlock
+				&& fSnippetBlock.statements().size() == 1;
+	}
+
+	/**
+	 * Returns whether the given expression is evaluated in the target. It is
+	 * not when it assigns local variables, which the injected class only has
+	 * copies of, or when it sends fewer messages than
+	 * {@link #IN_TARGET_MIN_MESSAGE_SENDS}.
+	 */
+	private boolean isWorthEvaluatingInTarget(Expression expression) {
+		int[] messageSends = new int[1];
+		boolean[] assignsLocal = new boolean[1];
+		expression.accept(new ASTVisitor() {
+			@Override
+			public boolean visit(MethodInvocation node) {
+				messageSends[0]++;
+				return true;
+			}
+
+			@Override
+			public boolean visit(SuperMethodInvocation node) {
+				messageSends[0]++;
+				return true;
+			}
+
+			@Override
+			public boolean visit(ClassInstanceCreation node) {
+				messageSends[0]++;
+				return true;
+			}
+
+			@Override
+			public boolean visit(Assignment node) {
+				assignsLocal[0] |= isLocalVariable(node.getLeftHandSide());
+				return true;
+			}
+
+			@Override
+			public boolean visit(PrefixExpression node) {
+				PrefixExpression.Operator operator = node.getOperator();
+				if (operator == PrefixExpression.Operator.INCREMENT || operator == PrefixExpression.Operator.DECREMENT) {
+					assignsLocal[0] |= isLocalVariable(node.getOperand());
+				}
+				return true;
+			}
+
+			@Override
+			public boolean visit(PostfixExpression node) {
+				assignsLocal[0] |= isLocalVariable(node.getOperand());
+				return true;
+			}
+
+			@Override
+			public boolean visit(LambdaExpression node) {
+				// lambdas and anonymous types cannot assign the local
+				// variables of the frame
+				return false;
+			}
+
+			@Override
+			public boolean visit(AnonymousClassDeclaration node) {
+				return false;
+			}
+		});
+		if (assignsLocal[0]) {
+			verbose("Not evaluated in target: assigns local variables"); //$NON-NLS-1$
+			return false;
+		}
+		return messageSends[0] >= IN_TARGET_MIN_MESSAGE_SENDS;
+	}
+
+	private static boolean isLocalVariable(Expression expression) {
+		while (expression instanceof ParenthesizedExpression) {
+			expression = ((ParenthesizedExpression) expression).getExpression();
+		}
+		if (expression instanceof SimpleName) {
+			IBinding binding = ((SimpleName) expression).resolveBinding();
+			return binding instanceof IVariableBinding && !((IVariableBinding) binding).isField();
+		}
+		return false;
+	}
+
+	/**
+	 * Compiles the given expression to a class that evaluates it in the
+	 * target, with the instructions that push the variables it refers to.
+	 *
+	 * @return the instruction evaluating the expression in the target, or
+	 *         <code>null</code> if the expression could not be compiled,
+	 *         nothing being added to the instructions then
+	 */
+	private RemoteOperator compileInTarget(Expression expression) {
+		ITypeBinding enclosingClass = getEnclosingClass(expression);
+		if (enclosingClass == null) {
+			return null;
+		}
+		List<Instruction> bindings = new ArrayList<>();
+		RemoteEvaluatorBuilder builder = new RemoteEvaluatorBuilder(fJavaProject, new ExpressionBinder() {
+			@Override
+			public void bind(IVariableBinding variableBinding, String asVariableName) {
+				bindings.add(new PushLocalVariable(variableBinding.getName()));
+			}
+
+			@Override
+			public void bindThis(ITypeBinding typeBinding, String asVariableName) {
+				bindings.add(new PushThis(getEnclosingLevel(expression, typeBinding)));
+			}
+		}, enclosingClass, isStaticContext(expression), false);
+		RemoteEvaluator remoteEvaluator;
+		try {
+			builder.acceptExpression(expression);
+			remoteEvaluator = builder.build();
+		} catch (JavaModelException | DebugException e) {
+			verbose("Not evaluated in target: " + e.getMessage()); //$NON-NLS-1$
+			return null;
+		}
+		for (Instruction binding : bindings) {
+			push(binding);
+			storeInstruction();
+		}
+		RemoteOperator operator = new RemoteOperator(builder.getSnippet(), expression.getStartPosition(), remoteEvaluator);
+		push(operator);
+		storeInstruction();
+		return operator;
+	}
+
 	/**
 	 * @see ASTVisitor#visit(SimpleName)
 	 */
@@ -4508,6 +4708,90 @@ public class ASTInstructionCompiler extends ASTVisitor {
 
 	// --------------------------
 
+	/**
+	 * Pushes an instruction pushing the value of the given expression if it is
+	 * a constant expression made of literals only, such as
+	 * <code>60 * 1000</code> or <code>-1L</code>, so that the expression is
+	 * computed once when compiling rather than each time it is evaluated.
+	 *
+	 * @param expression
+	 *            an infix or prefix expression
+	 * @return whether an instruction was pushed
+	 */
+	private boolean pushFoldedConstant(Expression expression) {
+		if (!isLiteralConstant(expression)) {
+			return false;
+		}
+		Object value = expression.resolveConstantExpressionValue();
+		if (value == null) {
+			return false;
+		}
+		switch (getTypeId(expression)) {
+		case Instruction.T_boolean:
+			push(new PushBoolean(((Boolean) value).booleanValue()));
+			return true;
+		case Instruction.T_char:
+			push(new PushChar(((Character) value).charValue()));
+			return true;
+		case Instruction.T_byte:
+		case Instruction.T_short:
+		case Instruction.T_int:
+			push(new PushInt(((Number) value).intValue()));
+			return true;
+		case Instruction.T_long:
+			push(new PushLong(((Number) value).longValue()));
+			return true;
+		case Instruction.T_float:
+			push(new PushFloat(((Number) value).floatValue()));
+			return true;
+		case Instruction.T_double:
+			push(new PushDouble(((Number) value).doubleValue()));
+			return true;
+		case Instruction.T_String:
+			push(new PushString((String) value));
+			return true;
+		default:
+			return false;
+		}
+	}
+
+	/**
+	 * Returns whether the given expression only combines literals, so that
+	 * its value does not depend on the state of the target.
+	 */
+	private static boolean isLiteralConstant(Expression expression) {
+		switch (expression.getNodeType()) {
+		case ASTNode.BOOLEAN_LITERAL:
+		case ASTNode.CHARACTER_LITERAL:
+		case ASTNode.NUMBER_LITERAL:
+		case ASTNode.STRING_LITERAL:
+		case ASTNode.TEXT_BLOCK:
+			return true;
+		case ASTNode.PARENTHESIZED_EXPRESSION:
+			return isLiteralConstant(((ParenthesizedExpression) expression).getExpression());
+		case ASTNode.PREFIX_EXPRESSION:
+			PrefixExpression prefix = (PrefixExpression) expression;
+			PrefixExpression.Operator operator = prefix.getOperator();
+			if (operator == PrefixExpression.Operator.INCREMENT || operator == PrefixExpression.Operator.DECREMENT) {
+				return false;
+			}
+			return isLiteralConstant(prefix.getOperand());
+		case ASTNode.INFIX_EXPRESSION:
+			InfixExpression infix = (InfixExpression) expression;
+			if (!isLiteralConstant(infix.getLeftOperand()) || !isLiteralConstant(infix.getRightOperand())) {
+				return false;
+			}
+			for (Expression operand : infix.extendedOperands()) {
+				if (!isLiteralConstant(operand)) {
+					return false;
+				}
+			}
+			return true;
+		default:
+			return false;
+		}
+	}
+
 	private int getTypeId(Expression expression) {
 		ITypeBinding typeBinding = expression.resolveTypeBinding();
 		if (typeBinding == null) {
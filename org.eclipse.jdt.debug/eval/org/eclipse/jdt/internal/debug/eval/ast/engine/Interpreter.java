@@ -14,11 +14,11 @@
 package org.eclipse.jdt.internal.debug.eval.ast.engine;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EmptyStackException;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Stack;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IStatus;
@@ -30,16 +30,23 @@ import org.eclipse.jdt.debug.core.IJavaValue;
 import org.eclipse.jdt.debug.core.IJavaVariable;
 import org.eclipse.jdt.debug.core.JDIDebugModel;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
+import org.eclipse.jdt.internal.debug.core.model.JDIObjectValue;
 import org.eclipse.jdt.internal.debug.eval.ast.instructions.Instruction;
 import org.eclipse.jdt.internal.debug.eval.ast.instructions.InstructionSequence;
 
+import com.sun.jdi.ObjectCollectedException;
 import com.sun.jdi.VMDisconnectedException;
 
 public class Interpreter {
 	private final Instruction[] fInstructions;
 	private int fInstructionCounter;
 	private final IRuntimeContext fContext;
-	private Stack<Object> fStack;
+	/**
+	 * The operand stack, holding values and variables. Only accessed by the
+	 * thread executing the instructions, so not synchronized.
+	 */
+	private Object[] fStack;
+	private int fStackSize;
 	private IJavaValue fLastValue;
 
 	/**
@@ -52,6 +59,19 @@ public class Interpreter {
 	 */
 	private List<IJavaObject> fPermStorage = null;
 
+	/**
+	 * Interim objects pushed onto the stack for which GC has not been disabled
+	 * yet. GC is disabled for all of them at once before an instruction that
+	 * may let the target run or allocate objects.
+	 */
+	private List<IJavaObject> fPendingStorage = null;
+
+	/**
+	 * The result for which GC has been left disabled after the evaluation, or
+	 * <code>null</code> if none
+	 */
+	private IJavaObject fKeptResult = null;
+
 	private boolean fStopped = false;
 
 	public Interpreter(InstructionSequence instructions, IRuntimeContext context) {
@@ -61,13 +81,20 @@ public class Interpreter {
 	}
 
 	public void execute(boolean disableGcOnResult) throws CoreException {
+		Interpreter previous = Instruction.setInterpreter(this);
 		try {
 			reset();
 			while (fInstructionCounter < fInstructions.length && !fStopped) {
 				Instruction instruction = fInstructions[fInstructionCounter++];
-				instruction.setInterpreter(this);
-				instruction.execute();
-				instruction.setInterpreter(null);
+				if (instruction.mayRunTarget()) {
+					disableCollection();
+					instruction.execute();
+					// protect the objects the target just created before
+					// anything else can run in the target
+					disableCollection();
+				} else {
+					instruction.execute();
+				}
 			}
 		} catch (CoreException e) {
 			throw e;
@@ -75,6 +102,7 @@ public class Interpreter {
 			throw new CoreException(new Status(IStatus.ERROR,
 					JDIDebugModel.getPluginIdentifier(), e.getMessage(), e));
 		} finally {
+			Instruction.setInterpreter(previous);
 			releaseObjects(disableGcOnResult);
 		}
 	}
@@ -84,7 +112,8 @@ public class Interpreter {
 	}
 
 	private void reset() {
-		fStack = new Stack<>();
+		fStack = new Object[16];
+		fStackSize = 0;
 		fInstructionCounter = 0;
 	}
 
@@ -97,29 +126,39 @@ public class Interpreter {
 
 	/**
 	 * Pushes an object onto the stack. Disables garbage collection for any
-	 * interim object pushed onto the stack. Objects are released after the
-	 * evaluation completes.
+	 * interim object pushed onto the stack, before the next instruction that
+	 * may let the target run or allocate objects. Objects are released after
+	 * the evaluation completes.
 	 */
 	public void push(Object object) {
-		fStack.push(object);
+		if (fStackSize == fStack.length) {
+			fStack = Arrays.copyOf(fStack, fStackSize * 2);
+		}
+		fStack[fStackSize++] = object;
 		if (object instanceof IJavaObject) {
-			disableCollection((IJavaObject) object);
+			if (fPendingStorage == null) {
+				fPendingStorage = new ArrayList<>(5);
+			}
+			fPendingStorage.add((IJavaObject) object);
 		}
 	}
 
 	/**
-	 * Avoid garbage collecting interim results.
-	 *
-	 * @param value
-	 *            object to disable garbage collection for
+	 * Avoid garbage collecting interim results pushed onto the stack since the
+	 * last call, with a single round trip to the target.
 	 */
-	private void disableCollection(IJavaObject value) {
+	private void disableCollection() {
+		if (fPendingStorage == null || fPendingStorage.isEmpty()) {
+			return;
+		}
 		if (fPermStorage == null) {
 			fPermStorage = new ArrayList<>(5);
 		}
+		List<IJavaObject> objects = fPendingStorage;
+		fPendingStorage = null;
+		fPermStorage.addAll(objects);
 		try {
-			value.disableCollection();
-			fPermStorage.add(value);
+			JDIObjectValue.disableCollection(objects);
 		} catch (CoreException e) {
 			// don't worry about GC if the VM has terminated
 			if ((e.getStatus().getException() instanceof VMDisconnectedException)) {
@@ -133,20 +172,44 @@ public class Interpreter {
 	 * Re-enable garbage collection if interim results.
 	 */
 	private void releaseObjects(boolean disableGcOnResult) {
-		if (fPermStorage != null) {
-			IJavaValue result = getResult();
-			Iterator<IJavaObject> iterator = fPermStorage.iterator();
-			while (iterator.hasNext()) {
-				IJavaObject object = iterator.next();
+		IJavaValue result = null;
+		if (disableGcOnResult && (fPendingStorage != null || fPermStorage != null)) {
+			result = getResult();
+		}
+		fKeptResult = null;
+		if (result instanceof IJavaObject && fPermStorage != null && fPermStorage.contains(result)) {
+			fKeptResult = (IJavaObject) result;
+		}
+		if (fPendingStorage != null) {
+			// GC was never disabled for these objects, but for a result to be
+			// kept
+			if (result instanceof IJavaObject && fPendingStorage.contains(result) && fKeptResult == null) {
 				try {
-					if (!disableGcOnResult || object != result) {
-						object.enableCollection();
-					}
+					((IJavaObject) result).disableCollection();
+					fKeptResult = (IJavaObject) result;
 				} catch (CoreException e) {
 					// don't worry about GC if the VM has terminated
-					if ((e.getStatus().getException() instanceof VMDisconnectedException)) {
-						break;
+					if (!(e.getStatus().getException() instanceof VMDisconnectedException)) {
+						JDIDebugPlugin.log(e);
 					}
+				}
+			}
+			fPendingStorage = null;
+		}
+		if (fPermStorage != null) {
+			List<IJavaObject> objects = new ArrayList<>(fPermStorage.size());
+			for (IJavaObject object : fPermStorage) {
+				if (object != result) {
+					objects.add(object);
+				}
+			}
+			try {
+				JDIObjectValue.enableCollection(objects);
+			} catch (CoreException e) {
+				// don't worry about GC if the VM has terminated, or about
+				// objects collected before GC could be disabled
+				Throwable cause = e.getStatus().getException();
+				if (!(cause instanceof VMDisconnectedException) && !(cause instanceof ObjectCollectedException)) {
 					JDIDebugPlugin.log(e);
 				}
 			}
@@ -154,18 +217,47 @@ public class Interpreter {
 		}
 	}
 
+	/**
+	 * Re-enables garbage collection of the result, if it was left disabled by
+	 * executing with <code>disableGcOnResult</code>.
+	 */
+	public void releaseResult() {
+		IJavaObject result = fKeptResult;
+		if (result == null) {
+			return;
+		}
+		fKeptResult = null;
+		try {
+			result.enableCollection();
+		} catch (CoreException e) {
+			// don't worry about GC if the VM has terminated
+			Throwable cause = e.getStatus().getException();
+			if (!(cause instanceof VMDisconnectedException) && !(cause instanceof ObjectCollectedException)) {
+				JDIDebugPlugin.log(e);
+			}
+		}
+	}
+
 	/**
 	 * Peeks at the top object of the stack
 	 */
 	public Object peek() {
-		return fStack.peek();
+		if (fStackSize == 0) {
+			throw new EmptyStackException();
+		}
+		return fStack[fStackSize - 1];
 	}
 
 	/**
 	 * Pops an object off of the stack
 	 */
 	public Object pop() {
-		return fStack.pop();
+		if (fStackSize == 0) {
+			throw new EmptyStackException();
+		}
+		Object object = fStack[--fStackSize];
+		fStack[fStackSize] = null;
+		return object;
 	}
 
 	/**
@@ -176,13 +268,13 @@ public class Interpreter {
 	}
 
 	public IJavaValue getResult() {
-		if (fStack == null || fStack.isEmpty()) {
+		if (fStack == null || fStackSize == 0) {
 			if (fLastValue == null) {
 				return getContext().getVM().voidValue();
 			}
 			return fLastValue;
 		}
-		Object top = fStack.peek();
+		Object top = fStack[fStackSize - 1];
 		if (top instanceof IJavaVariable) {
 			try {
 				return (IJavaValue) ((IJavaVariable) top).getValue();
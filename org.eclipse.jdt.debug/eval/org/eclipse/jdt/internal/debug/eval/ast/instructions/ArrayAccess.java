@@ -52,6 +52,11 @@ public class ArrayAccess extends ArrayInstruction {
 		push(array.getVariable(index));
 	}
 
+	@Override
+	public boolean mayRunTarget() {
+		return false;
+	}
+
 	@Override
 	public String toString() {
 		return InstructionsEvaluationMessages.ArrayAccess_array_access_1;
@@ -252,4 +252,8 @@ public abstract class BinaryOperator extends CompoundInstruction {
 		return getBinaryPromotionType(fLeftTypeId, fRightTypeId);
 	}
 
+	@Override
+	public boolean mayRunTarget() {
+		return fResultTypeId != T_String;
+	}
 }
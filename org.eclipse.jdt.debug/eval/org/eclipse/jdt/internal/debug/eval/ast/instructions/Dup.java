@@ -40,6 +40,11 @@ public class Dup extends SimpleInstruction {
 		push(element);
 	}
 
+	@Override
+	public boolean mayRunTarget() {
+		return false;
+	}
+
 	@Override
 	public String toString() {
 		return "Dup"; //$NON-NLS-1$
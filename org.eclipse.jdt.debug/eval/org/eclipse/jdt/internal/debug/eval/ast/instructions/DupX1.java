@@ -43,4 +43,8 @@ public class DupX1 extends SimpleInstruction {
 		push(element1);
 	}
 
+	@Override
+	public boolean mayRunTarget() {
+		return false;
+	}
 }
@@ -36,20 +36,43 @@ import org.eclipse.osgi.util.NLS;
  */
 public abstract class Instruction {
 
-	private Interpreter fInterpreter;
+	/**
+	 * The interpreter executing instructions on each thread. Instructions do
+	 * not refer to an interpreter themselves, so that the same compiled
+	 * expression can be executed by several interpreters at once.
+	 */
+	private static final ThreadLocal<Interpreter> fgInterpreter = new ThreadLocal<>();
 
 	public abstract int getSize();
 
-	public void setInterpreter(Interpreter interpreter) {
-		fInterpreter = interpreter;
+	/**
+	 * Sets the interpreter executing instructions on the calling thread.
+	 *
+	 * @param interpreter
+	 *            the interpreter, or <code>null</code> if none
+	 * @return the interpreter that was executing instructions on the calling
+	 *         thread before, or <code>null</code> if none
+	 */
+	public static Interpreter setInterpreter(Interpreter interpreter) {
+		Interpreter previous = fgInterpreter.get();
+		if (interpreter == null) {
+			fgInterpreter.remove();
+		} else {
+			fgInterpreter.set(interpreter);
+		}
+		return previous;
+	}
+
+	private static Interpreter getInterpreter() {
+		return fgInterpreter.get();
 	}
 
 	public void setLastValue(IJavaValue value) {
-		fInterpreter.setLastValue(value);
+		getInterpreter().setLastValue(value);
 	}
 
 	public void stop() {
-		fInterpreter.stop();
+		getInterpreter().stop();
 	}
 
 	public static int getBinaryPromotionType(int left, int right) {
@@ -58,8 +81,21 @@ public abstract class Instruction {
 
 	public abstract void execute() throws CoreException;
 
+	/**
+	 * Returns whether executing this instruction may run code or allocate
+	 * objects in the target, either of which may garbage collect interim
+	 * objects of the evaluation. The interpreter disables garbage collection
+	 * of interim objects before and after such instructions only.
+	 *
+	 * @return whether this instruction may run code or allocate objects in the
+	 *         target, <code>true</code> unless overridden
+	 */
+	public boolean mayRunTarget() {
+		return true;
+	}
+
 	protected IRuntimeContext getContext() {
-		return fInterpreter.getContext();
+		return getInterpreter().getContext();
 	}
 
 	protected IJavaDebugTarget getVM() {
@@ -72,7 +108,7 @@ public abstract class Instruction {
 	 * @see Interpreter#getInternalVariable(String)
 	 */
 	protected IVariable getInternalVariable(String name) {
-		return fInterpreter.getInternalVariable(name);
+		return getInterpreter().getInternalVariable(name);
 	}
 
 	/**
@@ -82,7 +118,7 @@ public abstract class Instruction {
 	 */
 	protected IVariable createInternalVariable(String name,
 			IJavaType referencType) {
-		return fInterpreter.createInternalVariable(name, referencType);
+		return getInterpreter().createInternalVariable(name, referencType);
 	}
 
 	/**
@@ -96,19 +132,19 @@ public abstract class Instruction {
 	}
 
 	protected void jump(int offset) {
-		fInterpreter.jump(offset);
+		getInterpreter().jump(offset);
 	}
 
 	protected void push(Object object) {
-		fInterpreter.push(object);
+		getInterpreter().push(object);
 	}
 
 	protected Object pop() {
-		return fInterpreter.pop();
+		return getInterpreter().pop();
 	}
 
 	protected IJavaValue popValue() throws CoreException {
-		Object element = fInterpreter.pop();
+		Object element = getInterpreter().pop();
 		if (element instanceof IJavaVariable) {
 			return (IJavaValue) ((IJavaVariable) element).getValue();
 		}
@@ -116,7 +152,7 @@ public abstract class Instruction {
 	}
 
 	protected void pushNewValue(boolean value) {
-		fInterpreter.push(newValue(value));
+		getInterpreter().push(newValue(value));
 	}
 
 	protected IJavaValue newValue(boolean value) {
@@ -124,7 +160,7 @@ public abstract class Instruction {
 	}
 
 	protected void pushNewValue(byte value) {
-		fInterpreter.push(newValue(value));
+		getInterpreter().push(newValue(value));
 	}
 
 	protected IJavaValue newValue(byte value) {
@@ -132,7 +168,7 @@ public abstract class Instruction {
 	}
 
 	protected void pushNewValue(short value) {
-		fInterpreter.push(newValue(value));
+		getInterpreter().push(newValue(value));
 	}
 
 	protected IJavaValue newValue(short value) {
@@ -140,7 +176,7 @@ public abstract class Instruction {
 	}
 
 	protected void pushNewValue(int value) {
-		fInterpreter.push(newValue(value));
+		getInterpreter().push(newValue(value));
 	}
 
 	protected IJavaValue newValue(int value) {
@@ -148,7 +184,7 @@ public abstract class Instruction {
 	}
 
 	protected void pushNewValue(long value) {
-		fInterpreter.push(newValue(value));
+		getInterpreter().push(newValue(value));
 	}
 
 	protected IJavaValue newValue(long value) {
@@ -156,7 +192,7 @@ public abstract class Instruction {
 	}
 
 	protected void pushNewValue(char value) {
-		fInterpreter.push(newValue(value));
+		getInterpreter().push(newValue(value));
 	}
 
 	protected IJavaValue newValue(char value) {
@@ -164,7 +200,7 @@ public abstract class Instruction {
 	}
 
 	protected void pushNewValue(float value) {
-		fInterpreter.push(newValue(value));
+		getInterpreter().push(newValue(value));
 	}
 
 	protected IJavaValue newValue(float value) {
@@ -172,7 +208,7 @@ public abstract class Instruction {
 	}
 
 	protected void pushNewValue(double value) {
-		fInterpreter.push(newValue(value));
+		getInterpreter().push(newValue(value));
 	}
 
 	protected IJavaValue newValue(double value) {
@@ -180,7 +216,7 @@ public abstract class Instruction {
 	}
 
 	protected void pushNewValue(String value) {
-		fInterpreter.push(newValue(value));
+		getInterpreter().push(newValue(value));
 	}
 
 	protected IJavaValue newValue(String value) {
@@ -188,7 +224,7 @@ public abstract class Instruction {
 	}
 
 	protected void pushNullValue() {
-		fInterpreter.push(nullValue());
+		getInterpreter().push(nullValue());
 	}
 
 	protected IJavaValue nullValue() {
@@ -23,6 +23,11 @@ import org.eclipse.jdt.debug.eval.ICompiledExpression;
 public class InstructionSequence implements ICompiledExpression {
 
 	private final List<Instruction> fInstructions;
+	/**
+	 * The instructions as an array, shared by all executions of this sequence
+	 * and rebuilt when an instruction is added
+	 */
+	private volatile Instruction[] fInstructionArray;
 	/**
 	 * A collection of error messages (<code>String</code>) that occurred while
 	 * creating this expression
@@ -95,13 +100,14 @@ public class InstructionSequence implements ICompiledExpression {
 	}
 
 	/**
-	 * Answers the array of instructions, or an empty array.
+	 * Answers the array of instructions, or an empty array. The array is
+	 * shared and must not be modified.
 	 */
 	public Instruction[] getInstructions() {
-		int size = fInstructions.size();
-		Instruction[] instructions = new Instruction[size];
-		if (size > 0) {
-			fInstructions.toArray(instructions);
+		Instruction[] instructions = fInstructionArray;
+		if (instructions == null) {
+			instructions = fInstructions.toArray(new Instruction[fInstructions.size()]);
+			fInstructionArray = instructions;
 		}
 		return instructions;
 	}
@@ -118,6 +124,7 @@ public class InstructionSequence implements ICompiledExpression {
 	 */
 	public void add(Instruction instruction) {
 		fInstructions.add(instruction);
+		fInstructionArray = null;
 	}
 
 	public int indexOf(Instruction instruction) {
@@ -140,6 +147,7 @@ public class InstructionSequence implements ICompiledExpression {
 	 */
 	public void insert(Instruction instruction, int index) {
 		fInstructions.add(index, instruction);
+		fInstructionArray = null;
 	}
 
 	public Instruction get(int address) {
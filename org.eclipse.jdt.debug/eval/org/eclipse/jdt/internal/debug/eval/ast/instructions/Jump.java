@@ -30,6 +30,11 @@ public class Jump extends SimpleInstruction {
 		jump(fOffset);
 	}
 
+	@Override
+	public boolean mayRunTarget() {
+		return false;
+	}
+
 	/*
 	 * @see Object#toString()
 	 */
@@ -26,6 +26,11 @@ public class NoOp extends CompoundInstruction {
 	public void execute() {
 	}
 
+	@Override
+	public boolean mayRunTarget() {
+		return false;
+	}
+
 	/*
 	 * @see Object#toString()
 	 */
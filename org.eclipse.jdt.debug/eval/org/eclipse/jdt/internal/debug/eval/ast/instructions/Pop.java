@@ -29,6 +29,11 @@ public class Pop extends Instruction {
 		pop();
 	}
 
+	@Override
+	public boolean mayRunTarget() {
+		return false;
+	}
+
 	/*
 	 * @see Object#toString()
 	 */
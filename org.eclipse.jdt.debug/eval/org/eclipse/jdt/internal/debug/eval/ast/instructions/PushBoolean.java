@@ -28,6 +28,11 @@ public class PushBoolean extends SimpleInstruction {
 		pushNewValue(fValue);
 	}
 
+	@Override
+	public boolean mayRunTarget() {
+		return false;
+	}
+
 	@Override
 	public String toString() {
 		return InstructionsEvaluationMessages.PushBoolean_push__1 + fValue;
@@ -29,6 +29,11 @@ public class PushChar extends SimpleInstruction {
 		pushNewValue(fValue);
 	}
 
+	@Override
+	public boolean mayRunTarget() {
+		return false;
+	}
+
 	@Override
 	public String toString() {
 		return InstructionsEvaluationMessages.PushChar_push__1 + fValue;
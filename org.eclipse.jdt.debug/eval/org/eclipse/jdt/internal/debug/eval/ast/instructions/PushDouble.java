@@ -29,6 +29,11 @@ public class PushDouble extends SimpleInstruction {
 		pushNewValue(fValue);
 	}
 
+	@Override
+	public boolean mayRunTarget() {
+		return false;
+	}
+
 	@Override
 	public String toString() {
 		return InstructionsEvaluationMessages.PushDouble_push__1 + fValue;
@@ -96,6 +96,11 @@ public class PushFieldVariable extends CompoundInstruction {
 		push(field);
 	}
 
+	@Override
+	public boolean mayRunTarget() {
+		return false;
+	}
+
 	@Override
 	public String toString() {
 		return NLS.bind(InstructionsEvaluationMessages.PushFieldVariable_push_field__0__2,
@@ -29,6 +29,11 @@ public class PushFloat extends SimpleInstruction {
 		pushNewValue(fValue);
 	}
 
+	@Override
+	public boolean mayRunTarget() {
+		return false;
+	}
+
 	@Override
 	public String toString() {
 		return InstructionsEvaluationMessages.PushFloat_push__1 + fValue;
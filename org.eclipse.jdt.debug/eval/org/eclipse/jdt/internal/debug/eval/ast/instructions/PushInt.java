@@ -29,6 +29,11 @@ public class PushInt extends SimpleInstruction {
 		pushNewValue(fValue);
 	}
 
+	@Override
+	public boolean mayRunTarget() {
+		return false;
+	}
+
 	@Override
 	public String toString() {
 		return InstructionsEvaluationMessages.PushInt_push__1 + fValue;
@@ -95,6 +95,11 @@ public class PushLocalVariable extends SimpleInstruction {
 		return fName;
 	}
 
+	@Override
+	public boolean mayRunTarget() {
+		return false;
+	}
+
 	@Override
 	public String toString() {
 		return NLS.bind(
@@ -23,6 +23,11 @@ public class PushNull extends SimpleInstruction {
 		pushNullValue();
 	}
 
+	@Override
+	public boolean mayRunTarget() {
+		return false;
+	}
+
 	@Override
 	public String toString() {
 		return InstructionsEvaluationMessages.PushNull_push___null__1;
@@ -57,6 +57,11 @@ public class PushThis extends SimpleInstruction {
 		}
 	}
 
+	@Override
+	public boolean mayRunTarget() {
+		return false;
+	}
+
 	@Override
 	public String toString() {
 		return InstructionsEvaluationMessages.PushThis_push___this__1;
@@ -13,19 +13,43 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.debug.eval.ast.instructions;
 
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.jdt.debug.core.IJavaDebugTarget;
+import org.eclipse.jdt.debug.core.IJavaObject;
+import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.core.IJavaValue;
+import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
 import org.eclipse.jdt.internal.debug.eval.RemoteEvaluator;
 
 /**
  * Invokes a method on a object in a class injected into the debug target. The arguments are on the stack in reverse order, followed by the type.
  * Pushes the result onto the stack
+ * <p>
+ * The operator can be followed by instructions interpreting the same expression, which are skipped when the expression is evaluated in the target,
+ * and run instead when the class cannot be injected in it.
+ * </p>
  */
 public class RemoteOperator extends CompoundInstruction {
 
 	private final RemoteEvaluator fEvaluator;
 	private final String fSignature;
 
+	/**
+	 * The number of instructions interpreting the expression that follow this one, or <code>-1</code> if none.
+	 */
+	private int fFallbackSize = -1;
+
+	/**
+	 * The targets the class could not be injected in, the expression being interpreted in them since. The instruction is shared by the targets
+	 * evaluating the same compiled expression, so a failure in one target does not affect the others.
+	 */
+	private final Set<IJavaDebugTarget> fInjectionFailedTargets = new HashSet<>();
+
 	public RemoteOperator(String body, int start, RemoteEvaluator evaluator) {
 		super(start);
 		fSignature = body;
@@ -40,8 +64,64 @@ public class RemoteOperator extends CompoundInstruction {
 		for (int i = variableCount - 1; i >= 0; i--) {
 			args[i] = popValue();
 		}
-		IJavaValue result = fEvaluator.evaluate(this.getContext().getThread(), args);
-		push(result);
+		IJavaThread thread = getContext().getThread();
+		if (fFallbackSize < 0) {
+			push(fEvaluator.evaluate(thread, args));
+			return;
+		}
+		IJavaDebugTarget target = (IJavaDebugTarget) thread.getDebugTarget();
+		if (isInjectionFailed(target)) {
+			return;
+		}
+		IJavaObject snippet;
+		try {
+			snippet = fEvaluator.createSnippetInstance(thread, args);
+		} catch (DebugException e) {
+			if (thread.isTerminated()) {
+				throw e;
+			}
+			// interpret the expression from now on
+			synchronized (fInjectionFailedTargets) {
+				fInjectionFailedTargets.add(target);
+			}
+			JDIDebugPlugin.log(e);
+			return;
+		}
+		// exceptions thrown by the expression itself are reported as they are
+		push(fEvaluator.run(thread, snippet));
+		jump(fFallbackSize);
+	}
+
+	/**
+	 * Returns whether the class could not be injected in the given target, forgetting the targets that are no longer available.
+	 *
+	 * @param target
+	 *            the target of the evaluation
+	 * @return whether the expression is interpreted in the target
+	 */
+	private boolean isInjectionFailed(IJavaDebugTarget target) {
+		synchronized (fInjectionFailedTargets) {
+			if (fInjectionFailedTargets.isEmpty()) {
+				return false;
+			}
+			for (Iterator<IJavaDebugTarget> iterator = fInjectionFailedTargets.iterator(); iterator.hasNext();) {
+				IJavaDebugTarget failed = iterator.next();
+				if (failed.isTerminated() || failed.isDisconnected()) {
+					iterator.remove();
+				}
+			}
+			return fInjectionFailedTargets.contains(target);
+		}
+	}
+
+	/**
+	 * Sets the number of instructions interpreting the expression that follow this one, run when the class cannot be injected in the target.
+	 *
+	 * @param size
+	 *            the number of instructions
+	 */
+	public void setFallbackSize(int size) {
+		fFallbackSize = size;
 	}
 
 	@Override
@@ -20,4 +20,9 @@ public abstract class UnaryOperator extends CompoundInstruction {
 		super(start);
 		fExpressionTypeId = expressionTypeId;
 	}
+
+	@Override
+	public boolean mayRunTarget() {
+		return false;
+	}
 }
@@ -14,14 +14,18 @@
 package org.eclipse.jdi.internal;
 
 import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
+import org.eclipse.jdi.internal.jdwp.JdwpDataCursor;
 import org.eclipse.jdi.internal.jdwp.JdwpID;
 import org.eclipse.jdi.internal.jdwp.JdwpObjectID;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
@@ -44,6 +48,12 @@ public class ArrayReferenceImpl extends ObjectReferenceImpl implements
 	/** JDWP Tag. */
 	public static final byte tag = JdwpID.ARRAY_TAG;
 
+	/**
+	 * Maximum number of bytes set by a single ArrayReference.SetValues command
+	 * of {@link #setValues(int, byte[])}.
+	 */
+	public static final int SET_BYTES_CHUNK_SIZE = 32 * 1024;
+
 	private int fLength = -1;
 
 	/**
@@ -115,62 +125,9 @@ public class ArrayReferenceImpl extends ObjectReferenceImpl implements
 		// Note that this information should not be cached.
 		initJdwpRequest();
 		try {
-			ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
-			DataOutputStream outData = new DataOutputStream(outBytes);
-			write(this, outData); // arrayObject
-			writeInt(firstIndex, "firstIndex", outData); //$NON-NLS-1$
-			writeInt(length, "length", outData); //$NON-NLS-1$
-
 			JdwpReplyPacket replyPacket = requestVM(
-					JdwpCommandPacket.AR_GET_VALUES, outBytes);
-			switch (replyPacket.errorCode()) {
-			case JdwpReplyPacket.INVALID_INDEX:
-				throw new IndexOutOfBoundsException(
-						JDIMessages.ArrayReferenceImpl_Invalid_index_of_array_reference_given_1);
-			}
-			defaultReplyErrorHandler(replyPacket.errorCode());
-
-			DataInputStream replyData = replyPacket.dataInStream();
-
-			/*
-			 * NOTE: The JDWP documentation is not clear on this: it turns out
-			 * that the following is received from the VM: - type tag; - length
-			 * of array; - values of elements.
-			 */
-
-			int type = readByte("type", JdwpID.tagMap(), replyData); //$NON-NLS-1$
-			int readLength = readInt("length", replyData); //$NON-NLS-1$
-			// See also ValueImpl.
-			switch (type) {
-			// Multidimensional array.
-			case ArrayReferenceImpl.tag:
-				// Object references.
-			case ClassLoaderReferenceImpl.tag:
-			case ClassObjectReferenceImpl.tag:
-			case StringReferenceImpl.tag:
-			case ObjectReferenceImpl.tag:
-			case ThreadGroupReferenceImpl.tag:
-			case ThreadReferenceImpl.tag:
-				return readObjectSequence(readLength, replyData);
-
-				// Primitive type.
-			case BooleanValueImpl.tag:
-			case ByteValueImpl.tag:
-			case CharValueImpl.tag:
-			case DoubleValueImpl.tag:
-			case FloatValueImpl.tag:
-			case IntegerValueImpl.tag:
-			case LongValueImpl.tag:
-			case ShortValueImpl.tag:
-				return readPrimitiveSequence(readLength, type, replyData);
-
-			case VoidValueImpl.tag:
-			case 0:
-			default:
-				throw new InternalException(
-						JDIMessages.ArrayReferenceImpl_Invalid_ArrayReference_Value_tag_encountered___2
-								+ type);
-			}
+					JdwpCommandPacket.AR_GET_VALUES, writeGetValues(firstIndex, length));
+			return readGetValues(replyPacket);
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
 			return null;
@@ -179,6 +136,118 @@ public class ArrayReferenceImpl extends ObjectReferenceImpl implements
 		}
 	}
 
+	/**
+	 * Requests the values starting at firstIndex and ending at
+	 * firstIndex+length without waiting for the reply, such that the values
+	 * of a range can be requested ahead of their use.
+	 *
+	 * @param firstIndex
+	 *            the start
+	 * @param length
+	 *            the number of values to return
+	 * @return a future of the list of {@link Value}s
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is outside the bounds of the array
+	 * @see #getValues(int, int)
+	 */
+	public CompletableFuture<List<Value>> getValuesAsync(int firstIndex, int length)
+			throws IndexOutOfBoundsException {
+		int arrayLength = length();
+		if (firstIndex < 0 || firstIndex >= arrayLength) {
+			throw new IndexOutOfBoundsException(
+					JDIMessages.ArrayReferenceImpl_Invalid_index_1);
+		}
+		if (length < 0) {
+			throw new IndexOutOfBoundsException(
+					JDIMessages.ArrayReferenceImpl_Invalid_number_of_value_to_get_from_array_1);
+		} else if (firstIndex + length > arrayLength) {
+			throw new IndexOutOfBoundsException(
+					JDIMessages.ArrayReferenceImpl_Attempted_to_get_more_values_from_array_than_length_of_array_2);
+		}
+		try {
+			CompletableFuture<JdwpReplyPacket> reply = requestVMAsync(
+					JdwpCommandPacket.AR_GET_VALUES, writeGetValues(firstIndex, length));
+			return reply.thenApply(replyPacket -> {
+				try {
+					return readGetValues(replyPacket);
+				} catch (IOException e) {
+					defaultIOExceptionHandler(e);
+					return null;
+				}
+			});
+		} catch (IOException e) {
+			defaultIOExceptionHandler(e);
+			return null;
+		}
+	}
+
+	/**
+	 * @return Returns the data of a request for the values of the given range.
+	 */
+	private byte[] writeGetValues(int firstIndex, int length) throws IOException {
+		ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+		DataOutputStream outData = new DataOutputStream(outBytes);
+		write(this, outData); // arrayObject
+		writeInt(firstIndex, "firstIndex", outData); //$NON-NLS-1$
+		writeInt(length, "length", outData); //$NON-NLS-1$
+		return outBytes.toByteArray();
+	}
+
+	/**
+	 * @return Returns the values in the reply to a request for the values of a
+	 *         range.
+	 */
+	private List<Value> readGetValues(JdwpReplyPacket replyPacket) throws IOException {
+		switch (replyPacket.errorCode()) {
+		case JdwpReplyPacket.INVALID_INDEX:
+			throw new IndexOutOfBoundsException(
+					JDIMessages.ArrayReferenceImpl_Invalid_index_of_array_reference_given_1);
+		}
+		defaultReplyErrorHandler(replyPacket.errorCode());
+
+		JdwpDataCursor replyData = replyPacket.dataCursor();
+
+		/*
+		 * NOTE: The JDWP documentation is not clear on this: it turns out
+		 * that the following is received from the VM: - type tag; - length
+		 * of array; - values of elements.
+		 */
+
+		int type = readByte("type", JdwpID.tagMap(), replyData); //$NON-NLS-1$
+		int readLength = readInt("length", replyData); //$NON-NLS-1$
+		// See also ValueImpl.
+		switch (type) {
+		// Multidimensional array.
+		case ArrayReferenceImpl.tag:
+			// Object references.
+		case ClassLoaderReferenceImpl.tag:
+		case ClassObjectReferenceImpl.tag:
+		case StringReferenceImpl.tag:
+		case ObjectReferenceImpl.tag:
+		case ThreadGroupReferenceImpl.tag:
+		case ThreadReferenceImpl.tag:
+			return readObjectSequence(readLength, replyData);
+
+			// Primitive type.
+		case BooleanValueImpl.tag:
+		case ByteValueImpl.tag:
+		case CharValueImpl.tag:
+		case DoubleValueImpl.tag:
+		case FloatValueImpl.tag:
+		case IntegerValueImpl.tag:
+		case LongValueImpl.tag:
+		case ShortValueImpl.tag:
+			return readPrimitiveSequence(readLength, type, replyData);
+
+		case VoidValueImpl.tag:
+		case 0:
+		default:
+			throw new InternalException(
+					JDIMessages.ArrayReferenceImpl_Invalid_ArrayReference_Value_tag_encountered___2
+							+ type);
+		}
+	}
+
 	/**
 	 * Reads the given length of objects from the given stream
 	 * @param length the number of objects to read
@@ -187,7 +256,7 @@ public class ArrayReferenceImpl extends ObjectReferenceImpl implements
 	 * @throws IOException if the reading fails
 	 * @return Returns sequence of object reference values.
 	 */
-	private List<Value> readObjectSequence(int length, DataInputStream in)
+	private List<Value> readObjectSequence(int length, DataInput in)
 			throws IOException {
 		List<Value> elements = new ArrayList<>(length);
 		for (int i = 0; i < length; i++) {
@@ -209,7 +278,7 @@ public class ArrayReferenceImpl extends ObjectReferenceImpl implements
 	 * @throws IOException
 	 *             if reading from the stream encounters a problem
 	 */
-	private List<Value> readPrimitiveSequence(int length, int type, DataInputStream in)
+	private List<Value> readPrimitiveSequence(int length, int type, DataInput in)
 			throws IOException {
 		List<Value> elements = new ArrayList<>(length);
 		for (int i = 0; i < length; i++) {
@@ -380,6 +449,74 @@ public class ArrayReferenceImpl extends ObjectReferenceImpl implements
 		}
 	}
 
+	/**
+	 * Replaces the values of this byte array starting at the given index with
+	 * the given bytes. The bytes are written as they are, rather than as
+	 * mirrored values, by ArrayReference.SetValues commands of at most
+	 * {@link #SET_BYTES_CHUNK_SIZE} bytes that are all sent before any reply
+	 * is awaited.
+	 *
+	 * @param index
+	 *            the index of the first value to replace
+	 * @param values
+	 *            the replacement bytes
+	 * @throws InvalidTypeException
+	 *             if this array is not a byte array
+	 * @throws IndexOutOfBoundsException
+	 *             if the bytes do not fit in this array at the given index
+	 */
+	public void setValues(int index, byte[] values) throws InvalidTypeException {
+		if (values.length == 0) {
+			// trying to set nothing should do no work
+			return;
+		}
+		int arrayLength = length();
+		if (index < 0 || index >= arrayLength) {
+			throw new IndexOutOfBoundsException(
+					JDIMessages.ArrayReferenceImpl_Invalid_index_1);
+		}
+		if (index + values.length > arrayLength) {
+			throw new IndexOutOfBoundsException(
+					JDIMessages.ArrayReferenceImpl_Attempted_to_set_more_values_in_array_than_length_of_array_3);
+		}
+		if (!"[B".equals(referenceType().signature())) { //$NON-NLS-1$
+			throw new InvalidTypeException();
+		}
+		try {
+			List<JdwpCommandPacket> commands = new ArrayList<>();
+			for (int offset = 0; offset < values.length; offset += SET_BYTES_CHUNK_SIZE) {
+				int length = Math.min(SET_BYTES_CHUNK_SIZE, values.length - offset);
+				ByteArrayOutputStream outBytes = new ByteArrayOutputStream(length + 16);
+				DataOutputStream outData = new DataOutputStream(outBytes);
+				write(this, outData);
+				writeInt(index + offset, "index", outData); //$NON-NLS-1$
+				writeInt(length, "length", outData); //$NON-NLS-1$
+				outData.write(values, offset, length);
+				JdwpCommandPacket command = new JdwpCommandPacket(JdwpCommandPacket.AR_SET_VALUES);
+				command.setData(outBytes.toByteArray());
+				commands.add(command);
+			}
+			for (CompletableFuture<JdwpReplyPacket> reply : requestVMAsync(commands)) {
+				JdwpReplyPacket replyPacket;
+				try {
+					replyPacket = reply.join();
+				} catch (CompletionException e) {
+					if (e.getCause() instanceof RuntimeException) {
+						throw (RuntimeException) e.getCause();
+					}
+					throw e;
+				}
+				switch (replyPacket.errorCode()) {
+				case JdwpReplyPacket.TYPE_MISMATCH:
+					throw new InvalidTypeException();
+				}
+				defaultReplyErrorHandler(replyPacket.errorCode());
+			}
+		} catch (IOException e) {
+			defaultIOExceptionHandler(e);
+		}
+	}
+
 	/**
 	 * Check the type and the VM of the values. If the given type is a primitive
 	 * type, the values may be converted to match this type.
@@ -440,7 +577,7 @@ public class ArrayReferenceImpl extends ObjectReferenceImpl implements
 	 * @throws IOException
 	 *             if there is a problem reading from the stream
 	 */
-	public static ArrayReferenceImpl read(MirrorImpl target, DataInputStream in)
+	public static ArrayReferenceImpl read(MirrorImpl target, DataInput in)
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		JdwpObjectID ID = new JdwpObjectID(vmImpl);
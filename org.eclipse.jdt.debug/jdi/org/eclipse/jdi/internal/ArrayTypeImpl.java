@@ -14,6 +14,7 @@
 package org.eclipse.jdi.internal;
 
 import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
@@ -169,7 +170,7 @@ public class ArrayTypeImpl extends ReferenceTypeImpl implements ArrayType {
 	 * @return Reads JDWP representation and returns new instance.
 	 * @throws IOException if the reading fails
 	 */
-	public static ArrayTypeImpl read(MirrorImpl target, DataInputStream in)
+	public static ArrayTypeImpl read(MirrorImpl target, DataInput in)
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		JdwpArrayID ID = new JdwpArrayID(vmImpl);
@@ -252,7 +253,7 @@ public class ArrayTypeImpl extends ReferenceTypeImpl implements ArrayType {
 	 * @throws IOException if the read fails
 	 */
 	public static ArrayTypeImpl readWithSignature(MirrorImpl target,
-			boolean withGenericSignature, DataInputStream in)
+			boolean withGenericSignature, DataInput in)
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		JdwpArrayID ID = new JdwpArrayID(vmImpl);
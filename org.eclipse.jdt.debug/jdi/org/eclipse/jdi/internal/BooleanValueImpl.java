@@ -13,7 +13,7 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal;
 
-import java.io.DataInputStream;
+import java.io.DataInput;
 import java.io.DataOutputStream;
 import java.io.IOException;
 
@@ -70,7 +70,7 @@ public class BooleanValueImpl extends PrimitiveValueImpl implements
 	 * @return Reads and returns new instance.
 	 * @throws IOException if the read fails
 	 */
-	public static BooleanValueImpl read(MirrorImpl target, DataInputStream in)
+	public static BooleanValueImpl read(MirrorImpl target, DataInput in)
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		boolean value = target.readBoolean("booleanValue", in); //$NON-NLS-1$
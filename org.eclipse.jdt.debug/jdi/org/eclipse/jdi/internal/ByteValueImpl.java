@@ -13,7 +13,7 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal;
 
-import java.io.DataInputStream;
+import java.io.DataInput;
 import java.io.DataOutputStream;
 import java.io.IOException;
 
@@ -77,7 +77,7 @@ public class ByteValueImpl extends PrimitiveValueImpl implements ByteValue, Comp
 	 * @return Reads and returns new instance.
 	 * @throws IOException if the read fails
 	 */
-	public static ByteValueImpl read(MirrorImpl target, DataInputStream in)
+	public static ByteValueImpl read(MirrorImpl target, DataInput in)
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		byte value = target.readByte("byteValue", in); //$NON-NLS-1$
@@ -13,7 +13,7 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal;
 
-import java.io.DataInputStream;
+import java.io.DataInput;
 import java.io.DataOutputStream;
 import java.io.IOException;
 
@@ -72,7 +72,7 @@ public class CharValueImpl extends PrimitiveValueImpl implements CharValue, Comp
 	/**
 	 * @return Reads and returns new instance.
 	 */
-	public static CharValueImpl read(MirrorImpl target, DataInputStream in)
+	public static CharValueImpl read(MirrorImpl target, DataInput in)
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		char value = target.readChar("charValue", in); //$NON-NLS-1$
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal;
 
+import java.io.DataInput;
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -109,7 +110,7 @@ public class ClassLoaderReferenceImpl extends ObjectReferenceImpl implements Cla
 	 * @return Reads JDWP representation and returns new instance.
 	 */
 	public static ClassLoaderReferenceImpl read(MirrorImpl target,
-			DataInputStream in) throws IOException {
+			DataInput in) throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		JdwpClassLoaderID ID = new JdwpClassLoaderID(vmImpl);
 		ID.read(in);
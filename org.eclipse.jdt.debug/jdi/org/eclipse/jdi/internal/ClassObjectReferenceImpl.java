@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal;
 
+import java.io.DataInput;
 import java.io.DataInputStream;
 import java.io.IOException;
 
@@ -73,7 +74,7 @@ public class ClassObjectReferenceImpl extends ObjectReferenceImpl implements
 	 * @return Reads JDWP representation and returns new instance.
 	 */
 	public static ClassObjectReferenceImpl read(MirrorImpl target,
-			DataInputStream in) throws IOException {
+			DataInput in) throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		JdwpClassObjectID ID = new JdwpClassObjectID(vmImpl);
 		ID.read(in);
@@ -15,6 +15,7 @@
 package org.eclipse.jdi.internal;
 
 import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
@@ -94,9 +95,9 @@ public class ClassTypeImpl extends ReferenceTypeImpl implements ClassType {
 
 		// For all classes that have this class cached as superclass, this cache
 		// must be undone.
-		Iterator<Object> itr = virtualMachineImpl().allCachedRefTypes();
+		Iterator<ReferenceTypeImpl> itr = virtualMachineImpl().allCachedRefTypes();
 		while (itr.hasNext()) {
-			ReferenceTypeImpl refType = (ReferenceTypeImpl) itr.next();
+			ReferenceTypeImpl refType = itr.next();
 			if (refType instanceof ClassTypeImpl) {
 				ClassTypeImpl classType = (ClassTypeImpl) refType;
 				if (classType.fSuperclass != null && classType.fSuperclass.equals(this)) {
@@ -323,7 +324,7 @@ public class ClassTypeImpl extends ReferenceTypeImpl implements ClassType {
 	 * @return Reads ID and returns known ReferenceTypeImpl with that ID, or if
 	 * ID is unknown a newly created ReferenceTypeImpl.
 	 */
-	public static ClassTypeImpl read(MirrorImpl target, DataInputStream in)
+	public static ClassTypeImpl read(MirrorImpl target, DataInput in)
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		JdwpClassID ID = new JdwpClassID(vmImpl);
@@ -347,7 +348,7 @@ public class ClassTypeImpl extends ReferenceTypeImpl implements ClassType {
 	 * ID is unknown a newly created ReferenceTypeImpl.
 	 */
 	public static ClassTypeImpl readWithSignature(MirrorImpl target,
-			boolean withGenericSignature, DataInputStream in)
+			boolean withGenericSignature, DataInput in)
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		JdwpClassID ID = new JdwpClassID(vmImpl);
@@ -13,7 +13,7 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal;
 
-import java.io.DataInputStream;
+import java.io.DataInput;
 import java.io.DataOutputStream;
 import java.io.IOException;
 
@@ -72,7 +72,7 @@ public class DoubleValueImpl extends PrimitiveValueImpl implements DoubleValue,
 	/**
 	 * @return Reads and returns new instance.
 	 */
-	public static DoubleValueImpl read(MirrorImpl target, DataInputStream in)
+	public static DoubleValueImpl read(MirrorImpl target, DataInput in)
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		double value = target.readDouble("doubleValue", in); //$NON-NLS-1$
@@ -13,7 +13,7 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal;
 
-import java.io.DataInputStream;
+import java.io.DataInput;
 import java.io.DataOutputStream;
 import java.io.IOException;
 
@@ -168,7 +168,7 @@ public class FieldImpl extends TypeComponentImpl implements Field {
 	 * @return Reads JDWP representation and returns new instance.
 	 */
 	public static FieldImpl readWithReferenceTypeWithTag(MirrorImpl target,
-			DataInputStream in) throws IOException {
+			DataInput in) throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		// See Events FIELD_ACCESS and FIELD_MODIFICATION (refTypeTag + typeID +
 		// fieldID).
@@ -196,7 +196,7 @@ public class FieldImpl extends TypeComponentImpl implements Field {
 	 */
 	public static FieldImpl readWithNameSignatureModifiers(
 			ReferenceTypeImpl target, ReferenceTypeImpl referenceType,
-			boolean withGenericSignature, DataInputStream in)
+			boolean withGenericSignature, DataInput in)
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		JdwpFieldID ID = new JdwpFieldID(vmImpl);
@@ -13,7 +13,7 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal;
 
-import java.io.DataInputStream;
+import java.io.DataInput;
 import java.io.DataOutputStream;
 import java.io.IOException;
 
@@ -72,7 +72,7 @@ public class FloatValueImpl extends PrimitiveValueImpl implements FloatValue, Co
 	/**
 	 * @return Reads and returns new instance.
 	 */
-	public static FloatValueImpl read(MirrorImpl target, DataInputStream in)
+	public static FloatValueImpl read(MirrorImpl target, DataInput in)
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		float value = target.readFloat("floatValue", in); //$NON-NLS-1$
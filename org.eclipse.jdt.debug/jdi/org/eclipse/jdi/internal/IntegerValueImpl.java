@@ -13,7 +13,7 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal;
 
-import java.io.DataInputStream;
+import java.io.DataInput;
 import java.io.DataOutputStream;
 import java.io.IOException;
 
@@ -72,7 +72,7 @@ public class IntegerValueImpl extends PrimitiveValueImpl implements IntegerValue
 	/**
 	 * @return Reads and returns new instance.
 	 */
-	public static IntegerValueImpl read(MirrorImpl target, DataInputStream in)
+	public static IntegerValueImpl read(MirrorImpl target, DataInput in)
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		int value = target.readInt("integerValue", in); //$NON-NLS-1$
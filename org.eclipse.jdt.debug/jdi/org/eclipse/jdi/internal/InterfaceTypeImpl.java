@@ -14,7 +14,7 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal;
 
-import java.io.DataInputStream;
+import java.io.DataInput;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -89,9 +89,9 @@ public class InterfaceTypeImpl extends ReferenceTypeImpl implements
 
 		// For all reference types that have this interface cached, this cache must be
 		// undone.
-		Iterator<Object> itr = virtualMachineImpl().allCachedRefTypes();
+		Iterator<ReferenceTypeImpl> itr = virtualMachineImpl().allCachedRefTypes();
 		while (itr.hasNext()) {
-			ReferenceTypeImpl refType = (ReferenceTypeImpl) itr.next();
+			ReferenceTypeImpl refType = itr.next();
 			if (refType.fInterfaces != null
 					&& refType.fInterfaces.contains(this)) {
 				refType.flushStoredJdwpResults();
@@ -215,7 +215,7 @@ public class InterfaceTypeImpl extends ReferenceTypeImpl implements
 	 * @return Reads ID and returns known ReferenceTypeImpl with that ID, or if
 	 *         ID is unknown a newly created ReferenceTypeImpl.
 	 */
-	public static InterfaceTypeImpl read(MirrorImpl target, DataInputStream in)
+	public static InterfaceTypeImpl read(MirrorImpl target, DataInput in)
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		JdwpInterfaceID ID = new JdwpInterfaceID(vmImpl);
@@ -242,7 +242,7 @@ public class InterfaceTypeImpl extends ReferenceTypeImpl implements
 	 *         ID is unknown a newly created ReferenceTypeImpl.
 	 */
 	public static InterfaceTypeImpl readWithSignature(MirrorImpl target,
-			boolean withGenericSignature, DataInputStream in)
+			boolean withGenericSignature, DataInput in)
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		JdwpInterfaceID ID = new JdwpInterfaceID(vmImpl);
@@ -0,0 +1,226 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.sun.jdi.AbsentInformationException;
+import com.sun.jdi.Location;
+
+/**
+ * Index of the Java stratum line tables of all the methods of a type, sorted
+ * by line number. The entries are kept in primitive arrays, so finding the
+ * code indexes of a line is a binary search, whatever the number of methods of
+ * the type.
+ * <p>
+ * Each entry remembers the line of the entry that precedes it in the line
+ * table of its method. An entry starts a new range of code indexes for a set of
+ * lines unless the preceding entry belongs to the same set.
+ * </p>
+ */
+class LineTableIndex {
+
+	/** Line of the first entry of a method, which has no preceding entry. */
+	private static final int NO_LINE = Integer.MIN_VALUE;
+
+	private final MethodImpl[] fMethods;
+
+	/** Lines of the entries, sorted. */
+	private final int[] fLines;
+
+	/** Lines of the entries preceding the entries in their methods. */
+	private final int[] fPreviousLines;
+
+	/** Indexes of the methods of the entries in {@link #fMethods}. */
+	private final int[] fMethodIndexes;
+
+	private final long[] fCodeIndexes;
+
+	/**
+	 * Positions of the entries in the line tables, in the order of the
+	 * methods. Sorting on them restores the code index order within a method.
+	 */
+	private final int[] fOrdinals;
+
+	/**
+	 * The exception raised when no method of the type has line information, or
+	 * <code>null</code>.
+	 */
+	private final AbsentInformationException fAbsentInformation;
+
+	private LineTableIndex(Builder builder) {
+		fMethods = builder.fMethods.toArray(new MethodImpl[builder.fMethods.size()]);
+		int size = builder.fSize;
+		long[] keys = new long[size];
+		for (int i = 0; i < size; i++) {
+			keys[i] = ((long) builder.fLines[i] << 32) | i;
+		}
+		Arrays.sort(keys);
+		fLines = new int[size];
+		fPreviousLines = new int[size];
+		fMethodIndexes = new int[size];
+		fCodeIndexes = new long[size];
+		fOrdinals = new int[size];
+		for (int i = 0; i < size; i++) {
+			int ordinal = (int) keys[i];
+			fLines[i] = builder.fLines[ordinal];
+			fPreviousLines[i] = builder.fPreviousLines[ordinal];
+			fMethodIndexes[i] = builder.fMethodIndexes[ordinal];
+			fCodeIndexes[i] = builder.fCodeIndexes[ordinal];
+			fOrdinals[i] = ordinal;
+		}
+		fAbsentInformation = fMethods.length == 0 ? builder.fAbsentInformation : null;
+	}
+
+	/**
+	 * Returns a location for each disjoint range of code indexes that is
+	 * assigned to the given lines, ordered by method and code index.
+	 *
+	 * @param vm
+	 *            the VM to create the locations for
+	 * @param lines
+	 *            the lines, sorted and without duplicates
+	 * @throws AbsentInformationException
+	 *             if no method of the type has line information
+	 */
+	List<Location> locationsOfLines(VirtualMachineImpl vm, int[] lines) throws AbsentInformationException {
+		if (fAbsentInformation != null) {
+			throw fAbsentInformation;
+		}
+		int count = 0;
+		int[] positions = new int[8];
+		for (int line : lines) {
+			for (int i = firstEntry(line); i < fLines.length && fLines[i] == line; i++) {
+				if (Arrays.binarySearch(lines, fPreviousLines[i]) < 0) {
+					if (count == positions.length) {
+						positions = Arrays.copyOf(positions, count * 2);
+					}
+					positions[count++] = i;
+				}
+			}
+		}
+		if (count == 0) {
+			return Collections.EMPTY_LIST;
+		}
+		if (lines.length > 1) {
+			sortByOrdinal(positions, count);
+		}
+		List<Location> locations = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			int position = positions[i];
+			locations.add(new LocationImpl(vm, fMethods[fMethodIndexes[position]], fCodeIndexes[position]));
+		}
+		return locations;
+	}
+
+	/**
+	 * @return Returns the position of the first entry for the given line, or
+	 *         the position of the first entry of a greater line if there is
+	 *         none.
+	 */
+	private int firstEntry(int line) {
+		int low = 0;
+		int high = fLines.length;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (fLines[middle] < line) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	private void sortByOrdinal(int[] positions, int count) {
+		long[] keys = new long[count];
+		for (int i = 0; i < count; i++) {
+			keys[i] = ((long) fOrdinals[positions[i]] << 32) | positions[i];
+		}
+		Arrays.sort(keys);
+		for (int i = 0; i < count; i++) {
+			positions[i] = (int) keys[i];
+		}
+	}
+
+	/**
+	 * Collects the line tables of the methods of a type.
+	 */
+	static class Builder {
+
+		private final List<MethodImpl> fMethods = new ArrayList<>();
+
+		private int[] fLines = new int[64];
+
+		private int[] fPreviousLines = new int[64];
+
+		private int[] fMethodIndexes = new int[64];
+
+		private long[] fCodeIndexes = new long[64];
+
+		private int fSize;
+
+		private AbsentInformationException fAbsentInformation;
+
+		/**
+		 * Adds the line table of the given method.
+		 *
+		 * @param method
+		 *            the method
+		 * @param codeIndexes
+		 *            the code indexes of the line table, in ascending order
+		 * @param lines
+		 *            the lines of the line table
+		 */
+		void add(MethodImpl method, long[] codeIndexes, int[] lines) {
+			int methodIndex = fMethods.size();
+			fMethods.add(method);
+			ensureCapacity(fSize + lines.length);
+			int previousLine = NO_LINE;
+			for (int i = 0; i < lines.length; i++) {
+				fLines[fSize] = lines[i];
+				fPreviousLines[fSize] = previousLine;
+				fMethodIndexes[fSize] = methodIndex;
+				fCodeIndexes[fSize] = codeIndexes[i];
+				fSize++;
+				previousLine = lines[i];
+			}
+		}
+
+		/**
+		 * Records that a method has no line information. The exception is
+		 * raised by the index if no method has line information.
+		 */
+		void absent(AbsentInformationException e) {
+			fAbsentInformation = e;
+		}
+
+		LineTableIndex build() {
+			return new LineTableIndex(this);
+		}
+
+		private void ensureCapacity(int capacity) {
+			if (capacity > fLines.length) {
+				int length = Math.max(capacity, fLines.length * 2);
+				fLines = Arrays.copyOf(fLines, length);
+				fPreviousLines = Arrays.copyOf(fPreviousLines, length);
+				fMethodIndexes = Arrays.copyOf(fMethodIndexes, length);
+				fCodeIndexes = Arrays.copyOf(fCodeIndexes, length);
+			}
+		}
+	}
+}
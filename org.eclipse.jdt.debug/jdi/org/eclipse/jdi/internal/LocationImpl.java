@@ -13,7 +13,7 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal;
 
-import java.io.DataInputStream;
+import java.io.DataInput;
 import java.io.DataOutputStream;
 import java.io.IOException;
 
@@ -172,7 +172,7 @@ public class LocationImpl extends MirrorImpl implements Location {
 	/**
 	 * @return Reads JDWP representation and returns new instance.
 	 */
-	public static LocationImpl read(MirrorImpl target, DataInputStream in)
+	public static LocationImpl read(MirrorImpl target, DataInput in)
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		// Notice that Locations are not stored or cached because they don't
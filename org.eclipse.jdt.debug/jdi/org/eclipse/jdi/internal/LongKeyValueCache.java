@@ -0,0 +1,263 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Caches values under the raw 64-bit value of a JDWP ID. Values are only
+ * softly referenced, once a value is garbage collected its entry is purged
+ * through a reference queue on the next update of the cache.
+ * <p>
+ * Entries are kept in open addressing tables indexed by the key itself, so no
+ * key object is needed to look up a value. The tables are split into segments;
+ * lookups never lock, updates only lock the segment of their key.
+ * </p>
+ *
+ * @param <V>
+ *            the type of the cached values
+ */
+public class LongKeyValueCache<V> {
+
+	private static final int SEGMENT_COUNT = 16;
+
+	private static final int SEGMENT_SHIFT = 28;
+
+	private static final int INITIAL_CAPACITY = 32;
+
+	/**
+	 * Soft reference to a cached value that remembers the key of its entry.
+	 */
+	private static final class Entry<V> extends SoftReference<V> {
+		final long fKey;
+
+		Entry(long key, V value, ReferenceQueue<? super V> queue) {
+			super(value, queue);
+			fKey = key;
+		}
+	}
+
+	/**
+	 * Marks a removed entry so that probing continues past it.
+	 */
+	private static final Entry<Object> TOMBSTONE = new Entry<>(0, null, null);
+
+	/**
+	 * Part of the cache with its own open addressing table. The table is
+	 * replaced, never resized in place, so readers always see a consistent
+	 * table.
+	 */
+	private static final class Segment<V> {
+		volatile AtomicReferenceArray<Entry<V>> fTable = new AtomicReferenceArray<>(INITIAL_CAPACITY);
+		/** Number of slots that are not empty, including removed ones. */
+		int fUsed;
+		/** Number of live entries. */
+		int fSize;
+	}
+
+	private final Segment<V>[] fSegments;
+
+	private final ReferenceQueue<V> fQueue = new ReferenceQueue<>();
+
+	@SuppressWarnings("unchecked")
+	public LongKeyValueCache() {
+		fSegments = new Segment[SEGMENT_COUNT];
+		for (int i = 0; i < SEGMENT_COUNT; i++) {
+			fSegments[i] = new Segment<>();
+		}
+	}
+
+	private static int hash(long key) {
+		long h = key * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32));
+	}
+
+	private Segment<V> segmentFor(int hash) {
+		return fSegments[(hash >>> SEGMENT_SHIFT) & (SEGMENT_COUNT - 1)];
+	}
+
+	/**
+	 * @return Returns the value cached under the given key, or
+	 *         <code>null</code> if none has been cached or it has been garbage
+	 *         collected.
+	 */
+	public V get(long key) {
+		int hash = hash(key);
+		AtomicReferenceArray<Entry<V>> table = segmentFor(hash).fTable;
+		int mask = table.length() - 1;
+		for (int i = hash & mask;; i = (i + 1) & mask) {
+			Entry<V> entry = table.get(i);
+			if (entry == null) {
+				return null;
+			}
+			if (entry != TOMBSTONE && entry.fKey == key) {
+				return entry.get();
+			}
+		}
+	}
+
+	/**
+	 * Puts a new entry in the cache under the given key.
+	 */
+	public void put(long key, V value) {
+		purge();
+		int hash = hash(key);
+		Segment<V> segment = segmentFor(hash);
+		synchronized (segment) {
+			AtomicReferenceArray<Entry<V>> table = segment.fTable;
+			int mask = table.length() - 1;
+			int free = -1;
+			int i = hash & mask;
+			for (;; i = (i + 1) & mask) {
+				Entry<V> entry = table.get(i);
+				if (entry == null) {
+					break;
+				}
+				if (entry == TOMBSTONE) {
+					if (free < 0) {
+						free = i;
+					}
+				} else if (entry.fKey == key) {
+					table.set(i, new Entry<>(key, value, fQueue));
+					return;
+				}
+			}
+			if (free >= 0) {
+				i = free;
+			} else {
+				segment.fUsed++;
+			}
+			segment.fSize++;
+			table.set(i, new Entry<>(key, value, fQueue));
+			if (segment.fUsed * 2 > table.length()) {
+				rehash(segment);
+			}
+		}
+	}
+
+	/**
+	 * Removes the entry of the given key from the cache.
+	 *
+	 * @return Returns the value that was cached under the key, or
+	 *         <code>null</code> if there was none.
+	 */
+	public V remove(long key) {
+		purge();
+		int hash = hash(key);
+		Segment<V> segment = segmentFor(hash);
+		synchronized (segment) {
+			AtomicReferenceArray<Entry<V>> table = segment.fTable;
+			int mask = table.length() - 1;
+			for (int i = hash & mask;; i = (i + 1) & mask) {
+				Entry<V> entry = table.get(i);
+				if (entry == null) {
+					return null;
+				}
+				if (entry != TOMBSTONE && entry.fKey == key) {
+					removeAt(segment, table, i);
+					return entry.get();
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return Returns the values currently held by the cache.
+	 */
+	public List<V> values() {
+		purge();
+		List<V> values = new ArrayList<>();
+		for (Segment<V> segment : fSegments) {
+			AtomicReferenceArray<Entry<V>> table = segment.fTable;
+			for (int i = 0; i < table.length(); i++) {
+				Entry<V> entry = table.get(i);
+				if (entry != null && entry != TOMBSTONE) {
+					V value = entry.get();
+					if (value != null) {
+						values.add(value);
+					}
+				}
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Removes the entries whose values have been garbage collected.
+	 */
+	private void purge() {
+		Reference<? extends V> ref;
+		while ((ref = fQueue.poll()) != null) {
+			Entry<?> cleared = (Entry<?>) ref;
+			int hash = hash(cleared.fKey);
+			Segment<V> segment = segmentFor(hash);
+			synchronized (segment) {
+				AtomicReferenceArray<Entry<V>> table = segment.fTable;
+				int mask = table.length() - 1;
+				for (int i = hash & mask;; i = (i + 1) & mask) {
+					Entry<V> entry = table.get(i);
+					if (entry == null) {
+						// already replaced or removed
+						break;
+					}
+					if (entry == cleared) {
+						removeAt(segment, table, i);
+						break;
+					}
+				}
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void removeAt(Segment<V> segment, AtomicReferenceArray<Entry<V>> table, int index) {
+		table.set(index, (Entry<V>) TOMBSTONE);
+		segment.fSize--;
+	}
+
+	/**
+	 * Replaces the table of the segment by a new one without removed entries,
+	 * growing it if it is more than a quarter full.
+	 */
+	private void rehash(Segment<V> segment) {
+		AtomicReferenceArray<Entry<V>> oldTable = segment.fTable;
+		int capacity = oldTable.length();
+		if (segment.fSize * 4 > capacity) {
+			capacity *= 2;
+		}
+		AtomicReferenceArray<Entry<V>> newTable = new AtomicReferenceArray<>(capacity);
+		int mask = capacity - 1;
+		int size = 0;
+		for (int j = 0; j < oldTable.length(); j++) {
+			Entry<V> entry = oldTable.get(j);
+			if (entry == null || entry == TOMBSTONE || entry.get() == null) {
+				continue;
+			}
+			int i = hash(entry.fKey) & mask;
+			while (newTable.get(i) != null) {
+				i = (i + 1) & mask;
+			}
+			newTable.set(i, entry);
+			size++;
+		}
+		segment.fUsed = size;
+		segment.fSize = size;
+		segment.fTable = newTable;
+	}
+}
@@ -13,7 +13,7 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal;
 
-import java.io.DataInputStream;
+import java.io.DataInput;
 import java.io.DataOutputStream;
 import java.io.IOException;
 
@@ -72,7 +72,7 @@ public class LongValueImpl extends PrimitiveValueImpl implements LongValue {
 	/**
 	 * @return Reads and returns new instance.
 	 */
-	public static LongValueImpl read(MirrorImpl target, DataInputStream in)
+	public static LongValueImpl read(MirrorImpl target, DataInput in)
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		long value = target.readLong("longValue", in); //$NON-NLS-1$
@@ -15,6 +15,7 @@
 package org.eclipse.jdi.internal;
 
 import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
@@ -64,6 +65,7 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 	private long fHighestValidCodeIndex = -1;
 	private Map<Long, Integer> fCodeIndexToLine = null;
 	private Map<Integer, List<Long>> fLineToCodeIndexes = null;
+	private boolean fLineTableAbsent = false;
 	private Map<String, Map<String, List<Location>>> fStratumAllLineLocations = null;
 	private int fArgumentSlotsCount = -1;
 	private List<LocalVariable> fArguments = null;
@@ -97,6 +99,7 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 		fHighestValidCodeIndex = -1;
 		fCodeIndexToLine = null;
 		fLineToCodeIndexes = null;
+		fLineTableAbsent = false;
 		fStratumAllLineLocations = null;
 		fCodeIndexTable = null;
 		fJavaStratumLineNumberTable = null;
@@ -153,6 +156,10 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 			}
 			return;
 		}
+		if (fLineTableAbsent) {
+			throw new AbsentInformationException(
+					JDIMessages.MethodImpl_No_line_number_information_available_2);
+		}
 
 		initJdwpRequest();
 		try {
@@ -172,37 +179,7 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 			}
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
-			DataInputStream replyData = replyPacket.dataInStream();
-			fLowestValidCodeIndex = readLong("lowest index", replyData); //$NON-NLS-1$
-			fHighestValidCodeIndex = readLong("highest index", replyData); //$NON-NLS-1$
-			int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
-			fCodeIndexToLine = new HashMap<>();
-			fLineToCodeIndexes = new HashMap<>();
-			if (nrOfElements == 0) {
-				throw new AbsentInformationException(
-						JDIMessages.MethodImpl_Got_empty_line_number_table_for_this_method_3);
-			}
-			fCodeIndexTable = new long[nrOfElements];
-			fJavaStratumLineNumberTable = new int[nrOfElements];
-			for (int i = 0; i < nrOfElements; i++) {
-				long lineCodeIndex = readLong("code index", replyData); //$NON-NLS-1$
-				Long lineCodeIndexLong = Long.valueOf(lineCodeIndex);
-				int lineNr = readInt("line nr", replyData); //$NON-NLS-1$
-				Integer lineNrInt = Integer.valueOf(lineNr);
-
-				// Add entry to code-index to line mapping.
-				fCodeIndexToLine.put(lineCodeIndexLong, lineNrInt);
-
-				fCodeIndexTable[i] = lineCodeIndex;
-				fJavaStratumLineNumberTable[i] = lineNr;
-
-				List<Long> lineNrEntry = fLineToCodeIndexes.get(lineNrInt);
-				if (lineNrEntry == null) {
-					lineNrEntry = new ArrayList<>();
-					fLineToCodeIndexes.put(lineNrInt, lineNrEntry);
-				}
-				lineNrEntry.add(lineCodeIndexLong);
-			}
+			readLineTable(replyPacket.dataCursor());
 		} catch (IOException e) {
 			fCodeIndexToLine = null;
 			fLineToCodeIndexes = null;
@@ -212,6 +189,110 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 		}
 	}
 
+	/**
+	 * Reads the line table from the given reply data. The table is published
+	 * once it is complete, so that it can be read while another thread
+	 * retrieves it.
+	 */
+	private void readLineTable(DataInput replyData) throws IOException, AbsentInformationException {
+		fLowestValidCodeIndex = readLong("lowest index", replyData); //$NON-NLS-1$
+		fHighestValidCodeIndex = readLong("highest index", replyData); //$NON-NLS-1$
+		int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
+		Map<Long, Integer> codeIndexToLine = new HashMap<>();
+		Map<Integer, List<Long>> lineToCodeIndexes = new HashMap<>();
+		if (nrOfElements == 0) {
+			fLineToCodeIndexes = lineToCodeIndexes;
+			fCodeIndexToLine = codeIndexToLine;
+			throw new AbsentInformationException(
+					JDIMessages.MethodImpl_Got_empty_line_number_table_for_this_method_3);
+		}
+		long[] codeIndexTable = new long[nrOfElements];
+		int[] lineNumberTable = new int[nrOfElements];
+		for (int i = 0; i < nrOfElements; i++) {
+			long lineCodeIndex = readLong("code index", replyData); //$NON-NLS-1$
+			Long lineCodeIndexLong = Long.valueOf(lineCodeIndex);
+			int lineNr = readInt("line nr", replyData); //$NON-NLS-1$
+			Integer lineNrInt = Integer.valueOf(lineNr);
+
+			// Add entry to code-index to line mapping.
+			codeIndexToLine.put(lineCodeIndexLong, lineNrInt);
+
+			codeIndexTable[i] = lineCodeIndex;
+			lineNumberTable[i] = lineNr;
+
+			List<Long> lineNrEntry = lineToCodeIndexes.get(lineNrInt);
+			if (lineNrEntry == null) {
+				lineNrEntry = new ArrayList<>();
+				lineToCodeIndexes.put(lineNrInt, lineNrEntry);
+			}
+			lineNrEntry.add(lineCodeIndexLong);
+		}
+		fCodeIndexTable = codeIndexTable;
+		fJavaStratumLineNumberTable = lineNumberTable;
+		fLineToCodeIndexes = lineToCodeIndexes;
+		fCodeIndexToLine = codeIndexToLine;
+	}
+
+	/**
+	 * Adds the Java stratum line table of this method to the given index, or
+	 * records its absence.
+	 */
+	void addLineTable(LineTableIndex.Builder builder) {
+		try {
+			getLineTable();
+			long[] codeIndexTable = fCodeIndexTable;
+			int[] lineNumberTable = fJavaStratumLineNumberTable;
+			if (codeIndexTable != null && lineNumberTable != null) {
+				builder.add(this, codeIndexTable, lineNumberTable);
+			}
+		} catch (AbsentInformationException e) {
+			builder.absent(e);
+		}
+	}
+
+	/**
+	 * @return Returns the request that retrieves the line table of this
+	 *         method, or <code>null</code> if it is known already or there is
+	 *         none.
+	 * @see #preloaded(JdwpReplyPacket)
+	 */
+	JdwpCommandPacket lineTableRequest() throws IOException {
+		if (fCodeIndexToLine != null || fLineTableAbsent || isAbstract() || isNative() || isObsolete()) {
+			return null;
+		}
+		ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+		DataOutputStream outData = new DataOutputStream(outBytes);
+		writeWithReferenceType(this, outData);
+		JdwpCommandPacket commandPacket = new JdwpCommandPacket(JdwpCommandPacket.M_LINE_TABLE);
+		commandPacket.setData(outBytes.toByteArray());
+		return commandPacket;
+	}
+
+	/**
+	 * Stores the line table returned for {@link #lineTableRequest()}, unless it
+	 * has been retrieved in the meantime.
+	 */
+	void preloaded(JdwpReplyPacket reply) throws IOException {
+		switch (reply.errorCode()) {
+		case JdwpReplyPacket.NONE:
+			break;
+		case JdwpReplyPacket.ABSENT_INFORMATION:
+		case JdwpReplyPacket.NATIVE_METHOD:
+			fLineTableAbsent = true;
+			return;
+		default:
+			return;
+		}
+		if (fCodeIndexToLine != null) {
+			return;
+		}
+		try {
+			readLineTable(reply.dataCursor());
+		} catch (AbsentInformationException e) {
+			// the empty table is stored, and reported when it is used
+		}
+	}
+
 	/**
 	 * @return Returns the line number that corresponds to the given
 	 *         lineCodeIndex.
@@ -691,7 +772,7 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 	 * @return Reads JDWP representation and returns new instance.
 	 */
 	protected static MethodImpl readWithReferenceTypeWithTag(MirrorImpl target,
-			DataInputStream in) throws IOException {
+			DataInput in) throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		// See Location.
 		ReferenceTypeImpl referenceType = ReferenceTypeImpl.readWithTypeTag(
@@ -724,7 +805,7 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 	 */
 	protected static MethodImpl readWithNameSignatureModifiers(
 			ReferenceTypeImpl target, ReferenceTypeImpl referenceType,
-			boolean withGenericSignature, DataInputStream in)
+			boolean withGenericSignature, DataInput in)
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		JdwpMethodID ID = new JdwpMethodID(vmImpl);
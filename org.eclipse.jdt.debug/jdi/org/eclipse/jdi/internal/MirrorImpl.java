@@ -14,15 +14,19 @@
 package org.eclipse.jdi.internal;
 
 import java.io.ByteArrayOutputStream;
-import java.io.DataInputStream;
+import java.io.DataInput;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.jdi.Bootstrap;
 import org.eclipse.jdi.TimeoutException;
+import org.eclipse.jdi.internal.jdwp.JdwpCommandMetrics;
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
@@ -198,26 +202,26 @@ public class MirrorImpl implements Mirror {
 	public JdwpReplyPacket requestVM(int command, byte[] outData) {
 		JdwpCommandPacket commandPacket = new JdwpCommandPacket(command);
 		commandPacket.setData(outData);
+		JdwpCommandMetrics metrics = fVirtualMachineImpl.getCommandMetrics();
+		long start = metrics != null ? System.nanoTime() : 0;
 		long sent = System.currentTimeMillis();
 		fVirtualMachineImpl.packetSendManager().sendPacket(commandPacket);
 		fPendingJdwpRequest = true;
 		writeVerboseCommandPacketHeader(commandPacket);
 
-		JdwpReplyPacket reply = fVirtualMachineImpl.packetReceiveManager()
-				.getReply(commandPacket);
-		long recieved = System.currentTimeMillis();
-		if (JDIDebugOptions.DEBUG_JDI_REQUEST_TIMES) {
-			StringBuilder buf = new StringBuilder();
-			buf.append(JDIDebugOptions.FORMAT.format(Instant.ofEpochMilli(sent)));
-			buf.append(" JDI Request: "); //$NON-NLS-1$
-			buf.append(commandPacket.toString());
-			buf.append("\n\tResponse Time: "); //$NON-NLS-1$
-			buf.append(recieved - sent);
-			buf.append("ms"); //$NON-NLS-1$
-			buf.append(" length: "); //$NON-NLS-1$
-			buf.append(reply.getLength());
-			JDIDebugOptions.trace(buf.toString());
+		JdwpReplyPacket reply;
+		try {
+			reply = fVirtualMachineImpl.packetReceiveManager().getReply(commandPacket);
+		} catch (RuntimeException e) {
+			if (metrics != null) {
+				metrics.recordFailure(command, commandPacket.getLength());
+			}
+			throw e;
+		}
+		if (metrics != null) {
+			metrics.record(command, commandPacket.getLength(), reply.getLength(), System.nanoTime() - start);
 		}
+		traceRequestTime(commandPacket, sent, reply);
 		if (fVerboseWriter != null) {
 			fVerboseWriter.println();
 			fVerboseWriter.println("Received reply"); //$NON-NLS-1$
@@ -233,6 +237,106 @@ public class MirrorImpl implements Mirror {
 		return reply;
 	}
 
+	/**
+	 * Performs a VM request without waiting for the reply, so that several
+	 * requests can be in flight at the same time. The returned future completes
+	 * with the reply, or exceptionally with a {@link TimeoutException} or
+	 * {@link VMDisconnectedException}. Dependent stages are never run on the
+	 * packet receiver thread, so they may issue further (blocking) requests.
+	 * No verbose output is written for asynchronous requests.
+	 *
+	 * @return Returns a future of the reply data.
+	 */
+	public CompletableFuture<JdwpReplyPacket> requestVMAsync(int command, byte[] outData) {
+		JdwpCommandPacket commandPacket = new JdwpCommandPacket(command);
+		commandPacket.setData(outData);
+		JdwpCommandMetrics metrics = fVirtualMachineImpl.getCommandMetrics();
+		long start = metrics != null ? System.nanoTime() : 0;
+		long sent = System.currentTimeMillis();
+		fVirtualMachineImpl.packetSendManager().sendPacket(commandPacket);
+		CompletableFuture<JdwpReplyPacket> reply = fVirtualMachineImpl.packetReceiveManager().getReplyAsync(commandPacket);
+		if (metrics != null) {
+			reply = recordMetrics(metrics, commandPacket, start, reply);
+		}
+		if (JDIDebugOptions.DEBUG_JDI_REQUEST_TIMES) {
+			reply = reply.whenComplete((packet, t) -> {
+				if (packet != null) {
+					traceRequestTime(commandPacket, sent, packet);
+				}
+			});
+		}
+		return reply;
+	}
+
+	/**
+	 * Performs a VM request without waiting for the reply.
+	 *
+	 * @return Returns a future of the reply data.
+	 * @see #requestVMAsync(int, byte[])
+	 */
+	public CompletableFuture<JdwpReplyPacket> requestVMAsync(int command, ByteArrayOutputStream outData) {
+		return requestVMAsync(command, outData.toByteArray());
+	}
+
+	/**
+	 * Performs a batch of VM requests without waiting for the replies. The
+	 * command packets are queued at once, so that they are written to the VM
+	 * with a single flush.
+	 *
+	 * @return Returns futures of the reply data, in the order of the given
+	 *         command packets.
+	 * @see #requestVMAsync(int, byte[])
+	 */
+	public List<CompletableFuture<JdwpReplyPacket>> requestVMAsync(List<JdwpCommandPacket> commandPackets) {
+		JdwpCommandMetrics metrics = fVirtualMachineImpl.getCommandMetrics();
+		long start = metrics != null ? System.nanoTime() : 0;
+		fVirtualMachineImpl.packetSendManager().sendPackets(commandPackets);
+		List<CompletableFuture<JdwpReplyPacket>> replies = new ArrayList<>(commandPackets.size());
+		for (JdwpCommandPacket commandPacket : commandPackets) {
+			CompletableFuture<JdwpReplyPacket> reply = fVirtualMachineImpl.packetReceiveManager().getReplyAsync(commandPacket);
+			if (metrics != null) {
+				reply = recordMetrics(metrics, commandPacket, start, reply);
+			}
+			replies.add(reply);
+		}
+		return replies;
+	}
+
+	/**
+	 * Records the outcome of an asynchronous request in the given metrics.
+	 *
+	 * @return Returns a future of the reply that completes once the outcome is
+	 *         recorded.
+	 */
+	private static CompletableFuture<JdwpReplyPacket> recordMetrics(JdwpCommandMetrics metrics, JdwpCommandPacket commandPacket, long start, CompletableFuture<JdwpReplyPacket> reply) {
+		return reply.whenComplete((packet, t) -> {
+			if (packet != null) {
+				metrics.record(commandPacket.getCommand(), commandPacket.getLength(), packet.getLength(), System.nanoTime() - start);
+			} else {
+				metrics.recordFailure(commandPacket.getCommand(), commandPacket.getLength());
+			}
+		});
+	}
+
+	/**
+	 * Traces the round trip time of a request if request times are traced.
+	 */
+	private void traceRequestTime(JdwpCommandPacket commandPacket, long sent, JdwpReplyPacket reply) {
+		if (JDIDebugOptions.DEBUG_JDI_REQUEST_TIMES) {
+			long recieved = System.currentTimeMillis();
+			StringBuilder buf = new StringBuilder();
+			buf.append(JDIDebugOptions.FORMAT.format(Instant.ofEpochMilli(sent)));
+			buf.append(" JDI Request: "); //$NON-NLS-1$
+			buf.append(commandPacket.toString());
+			buf.append("\n\tResponse Time: "); //$NON-NLS-1$
+			buf.append(recieved - sent);
+			buf.append("ms"); //$NON-NLS-1$
+			buf.append(" length: "); //$NON-NLS-1$
+			buf.append(reply.getLength());
+			JDIDebugOptions.trace(buf.toString());
+		}
+	}
+
 	/**
 	 * Performs a VM request.
 	 *
@@ -365,7 +469,7 @@ public class MirrorImpl implements Mirror {
 	 *
 	 * @return Returns value that has been read.
 	 */
-	public byte readByte(String description, DataInputStream in)
+	public byte readByte(String description, DataInput in)
 			throws IOException {
 		byte result = in.readByte();
 		if (fVerboseWriter != null) {
@@ -379,7 +483,7 @@ public class MirrorImpl implements Mirror {
 	 *
 	 * @return Returns value that has been read.
 	 */
-	public short readShort(String description, DataInputStream in)
+	public short readShort(String description, DataInput in)
 			throws IOException {
 		short result = in.readShort();
 		if (fVerboseWriter != null) {
@@ -393,7 +497,7 @@ public class MirrorImpl implements Mirror {
 	 *
 	 * @return Returns value that has been read.
 	 */
-	public int readInt(String description, DataInputStream in)
+	public int readInt(String description, DataInput in)
 			throws IOException {
 		int result = in.readInt();
 		if (fVerboseWriter != null) {
@@ -407,7 +511,7 @@ public class MirrorImpl implements Mirror {
 	 *
 	 * @return Returns value that has been read.
 	 */
-	public long readLong(String description, DataInputStream in)
+	public long readLong(String description, DataInput in)
 			throws IOException {
 		long result = in.readLong();
 		if (fVerboseWriter != null) {
@@ -422,7 +526,7 @@ public class MirrorImpl implements Mirror {
 	 * @return Returns value that has been read.
 	 */
 	public byte readByte(String description, Map<Integer, String> valueToString,
-			DataInputStream in) throws IOException {
+			DataInput in) throws IOException {
 		byte result = in.readByte();
 		if (fVerboseWriter != null) {
 			fVerboseWriter.println(description, result, valueToString);
@@ -436,7 +540,7 @@ public class MirrorImpl implements Mirror {
 	 * @return Returns value that has been read.
 	 */
 	public short readShort(String description, Map<Integer, String> valueToString,
-			DataInputStream in) throws IOException {
+			DataInput in) throws IOException {
 		short result = in.readShort();
 		if (fVerboseWriter != null) {
 			fVerboseWriter.println(description, result, valueToString);
@@ -449,7 +553,7 @@ public class MirrorImpl implements Mirror {
 	 *
 	 * @return Returns value that has been read.
 	 */
-	public int readInt(String description, Map<Integer, String> valueToString, DataInputStream in)
+	public int readInt(String description, Map<Integer, String> valueToString, DataInput in)
 			throws IOException {
 		int result = in.readInt();
 		if (fVerboseWriter != null) {
@@ -463,7 +567,7 @@ public class MirrorImpl implements Mirror {
 	 *
 	 * @return Returns value that has been read.
 	 */
-	public String readString(String description, DataInputStream in)
+	public String readString(String description, DataInput in)
 			throws IOException {
 		String result = JdwpString.read(in);
 		if (fVerboseWriter != null) {
@@ -477,7 +581,7 @@ public class MirrorImpl implements Mirror {
 	 *
 	 * @return Returns value that has been read.
 	 */
-	public boolean readBoolean(String description, DataInputStream in)
+	public boolean readBoolean(String description, DataInput in)
 			throws IOException {
 		boolean result = in.readBoolean();
 		if (fVerboseWriter != null) {
@@ -491,7 +595,7 @@ public class MirrorImpl implements Mirror {
 	 *
 	 * @return Returns value that has been read.
 	 */
-	public char readChar(String description, DataInputStream in)
+	public char readChar(String description, DataInput in)
 			throws IOException {
 		char result = in.readChar();
 		if (fVerboseWriter != null) {
@@ -505,7 +609,7 @@ public class MirrorImpl implements Mirror {
 	 *
 	 * @return Returns value that has been read.
 	 */
-	public double readDouble(String description, DataInputStream in)
+	public double readDouble(String description, DataInput in)
 			throws IOException {
 		double result = in.readDouble();
 		if (fVerboseWriter != null) {
@@ -519,7 +623,7 @@ public class MirrorImpl implements Mirror {
 	 *
 	 * @return Returns value that has been read.
 	 */
-	public float readFloat(String description, DataInputStream in)
+	public float readFloat(String description, DataInput in)
 			throws IOException {
 		float result = in.readFloat();
 		if (fVerboseWriter != null) {
@@ -534,7 +638,7 @@ public class MirrorImpl implements Mirror {
 	 * @return Returns value that has been read.
 	 */
 	public byte[] readByteArray(int length, String description,
-			DataInputStream in) throws IOException {
+			DataInput in) throws IOException {
 		byte[] result = new byte[length];
 		in.readFully(result);
 		if (fVerboseWriter != null) {
@@ -703,7 +807,7 @@ public class MirrorImpl implements Mirror {
 	 * @return Returns value that has been read.
 	 */
 	public byte readByte(String description, String[] bitNames,
-			DataInputStream in) throws IOException {
+			DataInput in) throws IOException {
 		byte result = in.readByte();
 		if (fVerboseWriter != null) {
 			fVerboseWriter.println(description, result, bitNames);
@@ -717,7 +821,7 @@ public class MirrorImpl implements Mirror {
 	 * @return Returns value that has been read.
 	 */
 	public short readShort(String description, String[] bitNames,
-			DataInputStream in) throws IOException {
+			DataInput in) throws IOException {
 		short result = in.readShort();
 		if (fVerboseWriter != null) {
 			fVerboseWriter.println(description, result, bitNames);
@@ -730,7 +834,7 @@ public class MirrorImpl implements Mirror {
 	 *
 	 * @return Returns value that has been read.
 	 */
-	public int readInt(String description, String[] bitNames, DataInputStream in)
+	public int readInt(String description, String[] bitNames, DataInput in)
 			throws IOException {
 		int result = in.readInt();
 		if (fVerboseWriter != null) {
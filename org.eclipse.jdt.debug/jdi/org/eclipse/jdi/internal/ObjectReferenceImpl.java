@@ -14,6 +14,7 @@
 package org.eclipse.jdi.internal;
 
 import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
@@ -22,6 +23,8 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpID;
@@ -121,6 +124,80 @@ public class ObjectReferenceImpl extends ValueImpl implements ObjectReference {
 		}
 	}
 
+	/**
+	 * Prevents garbage collection for the given objects of the same VM. The
+	 * requests for all objects are sent before waiting for any reply.
+	 *
+	 * @param objects
+	 *            the objects
+	 * @see #disableCollection()
+	 */
+	public static void disableCollection(List<? extends ObjectReferenceImpl> objects) {
+		setCollection(objects, JdwpCommandPacket.OR_DISABLE_COLLECTION);
+	}
+
+	/**
+	 * Permits garbage collection for the given objects of the same VM. The
+	 * requests for all objects are sent before waiting for any reply.
+	 *
+	 * @param objects
+	 *            the objects
+	 * @see #enableCollection()
+	 */
+	public static void enableCollection(List<? extends ObjectReferenceImpl> objects) {
+		setCollection(objects, JdwpCommandPacket.OR_ENABLE_COLLECTION);
+	}
+
+	/**
+	 * Sends the given disable or enable collection command for each of the
+	 * given objects. All replies are awaited, a failure for one object does
+	 * not prevent the command from being applied to the others; the first
+	 * failure is thrown once all replies have been received.
+	 */
+	private static void setCollection(List<? extends ObjectReferenceImpl> objects, int command) {
+		if (objects.isEmpty()) {
+			return;
+		}
+		ObjectReferenceImpl first = objects.get(0);
+		List<JdwpCommandPacket> commands = new ArrayList<>(objects.size());
+		try {
+			for (ObjectReferenceImpl object : objects) {
+				first.checkVM(object);
+				ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+				DataOutputStream outData = new DataOutputStream(outBytes);
+				object.write(first, outData);
+				JdwpCommandPacket commandPacket = new JdwpCommandPacket(command);
+				commandPacket.setData(outBytes.toByteArray());
+				commands.add(commandPacket);
+			}
+		} catch (IOException e) {
+			first.defaultIOExceptionHandler(e);
+			return;
+		}
+		RuntimeException failure = null;
+		for (CompletableFuture<JdwpReplyPacket> reply : first.requestVMAsync(commands)) {
+			try {
+				JdwpReplyPacket replyPacket;
+				try {
+					replyPacket = reply.join();
+				} catch (CompletionException e) {
+					if (e.getCause() instanceof RuntimeException) {
+						throw (RuntimeException) e.getCause();
+					}
+					throw e;
+				}
+				first.defaultReplyErrorHandler(replyPacket.errorCode());
+			} catch (RuntimeException e) {
+				if (failure == null) {
+					failure = e;
+				}
+			}
+		}
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
 	/**
 	 * Inner class used to return monitor info.
 	 */
@@ -278,26 +355,13 @@ public class ObjectReferenceImpl extends ValueImpl implements ObjectReference {
 		// Note that this information should not be cached.
 		initJdwpRequest();
 		try {
-			ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
-			DataOutputStream outData = new DataOutputStream(outBytes);
-
 			/*
 			 * Distinguish static fields from non-static fields: For static
 			 * fields ReferenceTypeImpl.getValues() must be used.
 			 */
 			List<Field> staticFields = new ArrayList<>();
 			List<FieldImpl> nonStaticFields = new ArrayList<>();
-
-			// Separate static and non-static fields.
-			int allFieldsSize = allFields.size();
-			for (int i = 0; i < allFieldsSize; i++) {
-				FieldImpl field = (FieldImpl) allFields.get(i);
-				checkVM(field);
-				if (field.isStatic())
-					staticFields.add(field);
-				else
-					nonStaticFields.add(field);
-			}
+			separateFields(allFields, staticFields, nonStaticFields);
 
 			// First get values for the static fields.
 			Map<Field, Value> resultMap;
@@ -313,28 +377,9 @@ public class ObjectReferenceImpl extends ValueImpl implements ObjectReference {
 				return resultMap;
 			}
 			// Then get the values for the non-static fields.
-			int nonStaticFieldsSize = nonStaticFields.size();
-			write(this, outData);
-			writeInt(nonStaticFieldsSize, "size", outData); //$NON-NLS-1$
-			for (int i = 0; i < nonStaticFieldsSize; i++) {
-				FieldImpl field = nonStaticFields.get(i);
-				field.write(this, outData);
-			}
-
 			JdwpReplyPacket replyPacket = requestVM(
-					JdwpCommandPacket.OR_GET_VALUES, outBytes);
-			defaultReplyErrorHandler(replyPacket.errorCode());
-
-			DataInputStream replyData = replyPacket.dataInStream();
-			int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
-			if (nrOfElements != nonStaticFieldsSize)
-				throw new InternalError(
-						JDIMessages.ObjectReferenceImpl_Retrieved_a_different_number_of_values_from_the_VM_than_requested_1);
-
-			for (int i = 0; i < nrOfElements; i++) {
-				resultMap.put(nonStaticFields.get(i),
-						ValueImpl.readWithTag(this, replyData));
-			}
+					JdwpCommandPacket.OR_GET_VALUES, writeGetValues(nonStaticFields));
+			readGetValues(nonStaticFields, replyPacket, resultMap);
 			return resultMap;
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
@@ -344,6 +389,93 @@ public class ObjectReferenceImpl extends ValueImpl implements ObjectReference {
 		}
 	}
 
+	/**
+	 * Requests the values of multiple instance and/or static fields in this
+	 * object without waiting for the replies. Static and instance field values
+	 * are requested at the same time.
+	 *
+	 * @return Returns a future of the value of multiple instance and/or static
+	 *         fields in this object.
+	 * @see #getValues(List)
+	 */
+	public CompletableFuture<Map<Field, Value>> getValuesAsync(List<? extends Field> allFields) {
+		// if the field list is empty, nothing to do.
+		if (allFields.isEmpty()) {
+			return CompletableFuture.completedFuture(new HashMap<>());
+		}
+		List<Field> staticFields = new ArrayList<>();
+		List<FieldImpl> nonStaticFields = new ArrayList<>();
+		separateFields(allFields, staticFields, nonStaticFields);
+
+		CompletableFuture<Map<Field, Value>> staticValues;
+		if (staticFields.isEmpty()) {
+			staticValues = CompletableFuture.completedFuture(new HashMap<>());
+		} else {
+			staticValues = ((ReferenceTypeImpl) referenceType()).getValuesAsync(staticFields);
+		}
+		if (nonStaticFields.isEmpty()) {
+			return staticValues;
+		}
+		try {
+			CompletableFuture<JdwpReplyPacket> reply = requestVMAsync(
+					JdwpCommandPacket.OR_GET_VALUES, writeGetValues(nonStaticFields));
+			return staticValues.thenCombine(reply, (resultMap, replyPacket) -> {
+				try {
+					readGetValues(nonStaticFields, replyPacket, resultMap);
+				} catch (IOException e) {
+					defaultIOExceptionHandler(e);
+				}
+				return resultMap;
+			});
+		} catch (IOException e) {
+			defaultIOExceptionHandler(e);
+			return null;
+		}
+	}
+
+	/**
+	 * Separates the given fields into static and non-static fields.
+	 */
+	private void separateFields(List<? extends Field> allFields, List<Field> staticFields, List<FieldImpl> nonStaticFields) {
+		int allFieldsSize = allFields.size();
+		for (int i = 0; i < allFieldsSize; i++) {
+			FieldImpl field = (FieldImpl) allFields.get(i);
+			checkVM(field);
+			if (field.isStatic())
+				staticFields.add(field);
+			else
+				nonStaticFields.add(field);
+		}
+	}
+
+	private ByteArrayOutputStream writeGetValues(List<FieldImpl> nonStaticFields) throws IOException {
+		ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+		DataOutputStream outData = new DataOutputStream(outBytes);
+		int nonStaticFieldsSize = nonStaticFields.size();
+		write(this, outData);
+		writeInt(nonStaticFieldsSize, "size", outData); //$NON-NLS-1$
+		for (int i = 0; i < nonStaticFieldsSize; i++) {
+			FieldImpl field = nonStaticFields.get(i);
+			field.write(this, outData);
+		}
+		return outBytes;
+	}
+
+	private void readGetValues(List<FieldImpl> nonStaticFields, JdwpReplyPacket replyPacket, Map<Field, Value> resultMap) throws IOException {
+		defaultReplyErrorHandler(replyPacket.errorCode());
+
+		DataInputStream replyData = replyPacket.dataInStream();
+		int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
+		if (nrOfElements != nonStaticFields.size())
+			throw new InternalError(
+					JDIMessages.ObjectReferenceImpl_Retrieved_a_different_number_of_values_from_the_VM_than_requested_1);
+
+		for (int i = 0; i < nrOfElements; i++) {
+			resultMap.put(nonStaticFields.get(i),
+					ValueImpl.readWithTag(this, replyData));
+		}
+	}
+
 	/**
 	 * @return Returns the hash code value.
 	 */
@@ -624,7 +756,7 @@ public class ObjectReferenceImpl extends ValueImpl implements ObjectReference {
 	 * @return Reads JDWP representation and returns new instance.
 	 */
 	public static ObjectReferenceImpl readObjectRefWithoutTag(
-			MirrorImpl target, DataInputStream in) throws IOException {
+			MirrorImpl target, DataInput in) throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		JdwpObjectID ID = new JdwpObjectID(vmImpl);
 		ID.read(in);
@@ -642,7 +774,7 @@ public class ObjectReferenceImpl extends ValueImpl implements ObjectReference {
 	 * @return Reads JDWP representation and returns new instance.
 	 */
 	public static ObjectReferenceImpl readObjectRefWithTag(MirrorImpl target,
-			DataInputStream in) throws IOException {
+			DataInput in) throws IOException {
 		byte objectTag = target.readByte("object tag", JdwpID.tagMap(), in); //$NON-NLS-1$
 		switch (objectTag) {
 		case 0:
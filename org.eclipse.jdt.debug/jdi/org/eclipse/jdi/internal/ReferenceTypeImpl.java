@@ -16,6 +16,7 @@
 package org.eclipse.jdi.internal;
 
 import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.File;
@@ -30,8 +31,11 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
+import org.eclipse.jdi.internal.jdwp.JdwpDataCursor;
 import org.eclipse.jdi.internal.jdwp.JdwpFieldID;
 import org.eclipse.jdi.internal.jdwp.JdwpID;
 import org.eclipse.jdi.internal.jdwp.JdwpMethodID;
@@ -357,8 +361,16 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 	private List<Field> fVisibleFields = null;
 	private List<InterfaceType> fAllInterfaces = null;
 	private Map<String, Map<String, List<Location>>> fStratumAllLineLocations = null;
+	private LineTableIndex fLineTableIndex = null;
 	private String fSourceName = null;
 	private int fModifierBits = -1;
+
+	/**
+	 * Number of times the stored results have been flushed, so that preloaded
+	 * replies to requests sent before a flush are not stored.
+	 */
+	private int fFlushCount;
+
 	private ClassLoaderReferenceImpl fClassLoader = null;
 	private ClassObjectReferenceImpl fClassObject = null;
 
@@ -418,6 +430,10 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 	 * Flushes all stored Jdwp results.
 	 */
 	public void flushStoredJdwpResults() {
+		synchronized (this) {
+			// replies to requests sent before are not stored
+			fFlushCount++;
+		}
 		// Flush Methods.
 		if (fMethods != null) {
 			for (Method method : fMethods) {
@@ -442,6 +458,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 		fVisibleFields = null;
 		fAllInterfaces = null;
 		fStratumAllLineLocations = null;
+		fLineTableIndex = null;
 		fSourceName = null;
 		fModifierBits = -1;
 		fClassLoader = null;
@@ -524,9 +541,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 			JdwpReplyPacket replyPacket = requestVM(
 					JdwpCommandPacket.RT_MODIFIERS, this);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
-			fModifierBits = readInt(
-					"modifiers", AccessibleImpl.getModifierStrings(), replyData); //$NON-NLS-1$
+			fModifierBits = readModifiers(replyPacket.dataCursor());
 			return fModifierBits;
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
@@ -536,6 +551,10 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 		}
 	}
 
+	private int readModifiers(DataInput replyData) throws IOException {
+		return readInt("modifiers", AccessibleImpl.getModifierStrings(), replyData); //$NON-NLS-1$
+	}
+
 	/**
 	 * Add methods to a set of methods if they are not overridden, add new
 	 * names+signature combinations to set of names+signature combinations.
@@ -929,18 +948,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 					: JdwpCommandPacket.RT_FIELDS;
 			JdwpReplyPacket replyPacket = requestVM(jdwpCommand, this);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
-			List<Field> elements = new ArrayList<>();
-			int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
-			for (int i = 0; i < nrOfElements; i++) {
-				FieldImpl elt = FieldImpl.readWithNameSignatureModifiers(this,
-						this, withGenericSignature, replyData);
-				if (elt == null) {
-					continue;
-				}
-				elements.add(elt);
-			}
-			fFields = elements;
+			fFields = readFields(replyPacket.dataCursor(), withGenericSignature);
 			return fFields;
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
@@ -950,6 +958,20 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 		}
 	}
 
+	private List<Field> readFields(DataInput replyData, boolean withGenericSignature) throws IOException {
+		int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
+		List<Field> elements = new ArrayList<>(nrOfElements);
+		for (int i = 0; i < nrOfElements; i++) {
+			FieldImpl elt = FieldImpl.readWithNameSignatureModifiers(this,
+					this, withGenericSignature, replyData);
+			if (elt == null) {
+				continue;
+			}
+			elements.add(elt);
+		}
+		return elements;
+	}
+
 	/**
 	 * @return Returns FieldImpl of a field in the reference specified by a
 	 *         given fieldID, or null if not found.
@@ -1010,33 +1032,9 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 		// Note that this information should not be cached.
 		initJdwpRequest();
 		try {
-			ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
-			DataOutputStream outData = new DataOutputStream(outBytes);
-			int fieldsSize = fields.size();
-			write(this, outData);
-			writeInt(fieldsSize, "size", outData); //$NON-NLS-1$
-			for (int i = 0; i < fieldsSize; i++) {
-				FieldImpl field = (FieldImpl) fields.get(i);
-				checkVM(field);
-				field.getFieldID().write(outData);
-			}
-
 			JdwpReplyPacket replyPacket = requestVM(
-					JdwpCommandPacket.RT_GET_VALUES, outBytes);
-			defaultReplyErrorHandler(replyPacket.errorCode());
-
-			DataInputStream replyData = replyPacket.dataInStream();
-			HashMap<Field, Value> map = new HashMap<>();
-			int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
-			if (nrOfElements != fieldsSize) {
-				throw new InternalError(
-						JDIMessages.ReferenceTypeImpl_Retrieved_a_different_number_of_values_from_the_VM_than_requested_3);
-			}
-
-			for (int i = 0; i < nrOfElements; i++) {
-				map.put(fields.get(i), ValueImpl.readWithTag(this, replyData));
-			}
-			return map;
+					JdwpCommandPacket.RT_GET_VALUES, writeGetValues(fields));
+			return readGetValues(fields, replyPacket);
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
 			return null;
@@ -1045,6 +1043,65 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 		}
 	}
 
+	/**
+	 * Requests the values of the given static fields without waiting for the
+	 * reply.
+	 *
+	 * @return a future of the Map of the requested static Field objects with
+	 *         their Value.
+	 * @see #getValues(List)
+	 */
+	public CompletableFuture<Map<Field, Value>> getValuesAsync(List<? extends Field> fields) {
+		// if the field list is empty, nothing to do
+		if (fields.isEmpty()) {
+			return CompletableFuture.completedFuture(new HashMap<>());
+		}
+		try {
+			return requestVMAsync(JdwpCommandPacket.RT_GET_VALUES, writeGetValues(fields)).thenApply(replyPacket -> {
+				try {
+					return readGetValues(fields, replyPacket);
+				} catch (IOException e) {
+					defaultIOExceptionHandler(e);
+					return null;
+				}
+			});
+		} catch (IOException e) {
+			defaultIOExceptionHandler(e);
+			return null;
+		}
+	}
+
+	private ByteArrayOutputStream writeGetValues(List<? extends Field> fields) throws IOException {
+		ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+		DataOutputStream outData = new DataOutputStream(outBytes);
+		int fieldsSize = fields.size();
+		write(this, outData);
+		writeInt(fieldsSize, "size", outData); //$NON-NLS-1$
+		for (int i = 0; i < fieldsSize; i++) {
+			FieldImpl field = (FieldImpl) fields.get(i);
+			checkVM(field);
+			field.getFieldID().write(outData);
+		}
+		return outBytes;
+	}
+
+	private Map<Field, Value> readGetValues(List<? extends Field> fields, JdwpReplyPacket replyPacket) throws IOException {
+		defaultReplyErrorHandler(replyPacket.errorCode());
+
+		DataInputStream replyData = replyPacket.dataInStream();
+		HashMap<Field, Value> map = new HashMap<>();
+		int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
+		if (nrOfElements != fields.size()) {
+			throw new InternalError(
+					JDIMessages.ReferenceTypeImpl_Retrieved_a_different_number_of_values_from_the_VM_than_requested_3);
+		}
+
+		for (int i = 0; i < nrOfElements; i++) {
+			map.put(fields.get(i), ValueImpl.readWithTag(this, replyData));
+		}
+		return map;
+	}
+
 	/**
 	 * @return Returns the hash code value.
 	 */
@@ -1136,18 +1193,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 					: JdwpCommandPacket.RT_METHODS;
 			JdwpReplyPacket replyPacket = requestVM(jdwpCommand, this);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
-			List<Method> elements = new ArrayList<>();
-			int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
-			for (int i = 0; i < nrOfElements; i++) {
-				MethodImpl elt = MethodImpl.readWithNameSignatureModifiers(
-						this, this, withGenericSignature, replyData);
-				if (elt == null) {
-					continue;
-				}
-				elements.add(elt);
-			}
-			fMethods = elements;
+			fMethods = readMethods(replyPacket.dataCursor(), withGenericSignature);
 			return fMethods;
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
@@ -1157,6 +1203,153 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 		}
 	}
 
+	private List<Method> readMethods(DataInput replyData, boolean withGenericSignature) throws IOException {
+		int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
+		List<Method> elements = new ArrayList<>(nrOfElements);
+		for (int i = 0; i < nrOfElements; i++) {
+			MethodImpl elt = MethodImpl.readWithNameSignatureModifiers(
+					this, this, withGenericSignature, replyData);
+			if (elt == null) {
+				continue;
+			}
+			elements.add(elt);
+		}
+		return elements;
+	}
+
+	/**
+	 * @return Returns the methods of this type if they are known, or
+	 *         <code>null</code> if they have not been retrieved yet.
+	 */
+	List<Method> knownMethods() {
+		return fMethods;
+	}
+
+	/**
+	 * @return Returns the number of times the stored results have been
+	 *         flushed, to be given back to
+	 *         {@link #preloaded(JdwpCommandPacket, JdwpReplyPacket, int)}.
+	 */
+	synchronized int flushCount() {
+		return fFlushCount;
+	}
+
+	/**
+	 * @return Returns the requests that retrieve the modifiers, fields,
+	 *         methods and source name of this type, for those that are not
+	 *         known yet.
+	 * @see #preloaded(JdwpCommandPacket, JdwpReplyPacket, int)
+	 */
+	List<JdwpCommandPacket> preloadRequests() throws IOException {
+		boolean withGenericSignature = virtualMachineImpl()
+				.isJdwpVersionGreaterOrEqual(1, 5);
+		List<JdwpCommandPacket> requests = new ArrayList<>(5);
+		if (fModifierBits == -1) {
+			requests.add(newRequest(JdwpCommandPacket.RT_MODIFIERS));
+		}
+		if (fFields == null) {
+			requests.add(newRequest(withGenericSignature ? JdwpCommandPacket.RT_FIELDS_WITH_GENERIC
+					: JdwpCommandPacket.RT_FIELDS));
+		}
+		if (fMethods == null) {
+			requests.add(newRequest(withGenericSignature ? JdwpCommandPacket.RT_METHODS_WITH_GENERIC
+					: JdwpCommandPacket.RT_METHODS));
+		}
+		if (fSourceName == null) {
+			// the source name only comes from the class file if there is no
+			// source debug extension, so ask for both
+			if (fSmap == null && virtualMachine().canGetSourceDebugExtension()) {
+				requests.add(newRequest(JdwpCommandPacket.RT_SOURCE_DEBUG_EXTENSION));
+			}
+			requests.add(newRequest(JdwpCommandPacket.RT_SOURCE_FILE));
+		}
+		return requests;
+	}
+
+	private JdwpCommandPacket newRequest(int command) throws IOException {
+		ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+		DataOutputStream outData = new DataOutputStream(outBytes);
+		write(this, outData);
+		JdwpCommandPacket commandPacket = new JdwpCommandPacket(command);
+		commandPacket.setData(outBytes.toByteArray());
+		return commandPacket;
+	}
+
+	/**
+	 * Stores the result of a request returned by {@link #preloadRequests()},
+	 * unless it has been retrieved in the meantime or the stored results have
+	 * been flushed since the request was created. Replies with an error are
+	 * ignored, the information is then retrieved when it is first needed.
+	 *
+	 * @param flushCount
+	 *            the {@link #flushCount()} before the request was created
+	 */
+	void preloaded(JdwpCommandPacket request, JdwpReplyPacket reply, int flushCount) throws IOException {
+		int command = request.getCommand();
+		short errorCode = reply.errorCode();
+		if (command == JdwpCommandPacket.RT_SOURCE_DEBUG_EXTENSION) {
+			// some VMs answer with an empty map instead of ABSENT_INFORMATION,
+			// see getSourceDebugExtension(). The reply of RT_SOURCE_FILE is
+			// applied afterwards.
+			if (errorCode == JdwpReplyPacket.ABSENT_INFORMATION
+					|| (errorCode == JdwpReplyPacket.NONE && "".equals(readString(JDIMessages.ReferenceTypeImpl_32, reply.dataCursor())))) { //$NON-NLS-1$
+				synchronized (this) {
+					if (flushCount == fFlushCount) {
+						fSourceDebugExtensionAvailable = false;
+					}
+				}
+			}
+			return;
+		}
+		if (errorCode != JdwpReplyPacket.NONE) {
+			return;
+		}
+		JdwpDataCursor replyData = reply.dataCursor();
+		// the replies are read outside of the lock, and only stored if they
+		// are still current
+		switch (command) {
+		case JdwpCommandPacket.RT_MODIFIERS:
+			int modifiers = readModifiers(replyData);
+			synchronized (this) {
+				if (flushCount == fFlushCount && fModifierBits == -1) {
+					fModifierBits = modifiers;
+				}
+			}
+			break;
+		case JdwpCommandPacket.RT_FIELDS:
+		case JdwpCommandPacket.RT_FIELDS_WITH_GENERIC:
+			List<Field> fields = readFields(replyData, command == JdwpCommandPacket.RT_FIELDS_WITH_GENERIC);
+			synchronized (this) {
+				if (flushCount == fFlushCount && fFields == null) {
+					fFields = fields;
+				}
+			}
+			break;
+		case JdwpCommandPacket.RT_METHODS:
+		case JdwpCommandPacket.RT_METHODS_WITH_GENERIC:
+			List<Method> methods = readMethods(replyData, command == JdwpCommandPacket.RT_METHODS_WITH_GENERIC);
+			synchronized (this) {
+				if (flushCount == fFlushCount && fMethods == null) {
+					fMethods = methods;
+				}
+			}
+			break;
+		case JdwpCommandPacket.RT_SOURCE_FILE:
+			synchronized (this) {
+				if (flushCount != fFlushCount) {
+					break;
+				}
+				if (!virtualMachine().canGetSourceDebugExtension()) {
+					fSourceDebugExtensionAvailable = false;
+				}
+				if (!fSourceDebugExtensionAvailable && fSourceName == null) {
+					fSourceName = readString("source name", replyData); //$NON-NLS-1$
+				}
+			}
+			break;
+		}
+	}
+
 	/**
 	 * @return Returns a List containing each visible Method that has the given
 	 *         name.
@@ -1356,7 +1549,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 	 * @return Reads JDWP representation and returns new or cached instance.
 	 */
 	public static ReferenceTypeImpl readWithTypeTag(MirrorImpl target,
-			DataInputStream in) throws IOException {
+			DataInput in) throws IOException {
 		byte typeTag = target.readByte("type tag", JdwpID.typeTagMap(), in); //$NON-NLS-1$
 		switch (typeTag) {
 		case 0:
@@ -1385,7 +1578,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 	 * @return Reads JDWP representation and returns new or cached instance.
 	 */
 	public static ReferenceTypeImpl readWithTypeTagAndSignature(
-			MirrorImpl target, boolean withGenericSignature, DataInputStream in)
+			MirrorImpl target, boolean withGenericSignature, DataInput in)
 			throws IOException {
 		byte typeTag = target.readByte("type tag", JdwpID.typeTagMap(), in); //$NON-NLS-1$
 		switch (typeTag) {
@@ -1612,6 +1805,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 			allLineLocations = sourceNameAllLineLocations.get(sourceName);
 		}
 		if (allLineLocations == null) { // the line locations are not known, compute and store them
+			loadLineTables(methods());
 			allLineLocations = new ArrayList<>();
 			boolean hasLineInformation = false;
 			AbsentInformationException exception = null;
@@ -1640,29 +1834,58 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 	 */
 	@Override
 	public List<Location> locationsOfLine(String stratum, String sourceName, int lineNumber) throws AbsentInformationException {
-		Iterator<Method> allMethods = methods().iterator();
-		List<Location> locations = new ArrayList<>();
-		boolean hasLineInformation = false;
-		AbsentInformationException exception = null;
-		while (allMethods.hasNext()) {
-			MethodImpl method = (MethodImpl) allMethods.next();
-			if (method.isAbstract() || method.isNative()) {
-				continue;
+		boolean hasCode = false;
+		for (Method method : methods()) {
+			if (!method.isAbstract() && !method.isNative()) {
+				hasCode = true;
+				break;
 			}
-			// one line in the input source can be translate in multiple lines
-			// in different
-			// methods in the output source. We need all these locations.
-			try {
-				locations.addAll(locationsOfLine(stratum, sourceName, lineNumber, method));
-				hasLineInformation = true;
-			} catch (AbsentInformationException e) {
-				exception = e;
+		}
+		if (!hasCode) {
+			return Collections.EMPTY_LIST;
+		}
+		// one line in the input source can be translate in multiple lines
+		// in different
+		// methods in the output source. We need all these locations.
+		int[] javaLines = javaLinesOfLine(stratum, sourceName, lineNumber);
+		if (javaLines.length == 0) {
+			return Collections.EMPTY_LIST;
+		}
+		return lineTableIndex().locationsOfLines(virtualMachineImpl(), javaLines);
+	}
+
+	/**
+	 * @return Returns the index of the line tables of the methods of this
+	 *         type, which is built on first use.
+	 */
+	private LineTableIndex lineTableIndex() {
+		LineTableIndex index = fLineTableIndex;
+		if (index == null) {
+			List<Method> methods = methods();
+			loadLineTables(methods);
+			LineTableIndex.Builder builder = new LineTableIndex.Builder();
+			for (Method method : methods) {
+				if (!method.isAbstract() && !method.isNative()) {
+					((MethodImpl) method).addLineTable(builder);
+				}
 			}
+			index = builder.build();
+			fLineTableIndex = index;
 		}
-		if (!hasLineInformation && exception != null) {
-			throw exception;
+		return index;
+	}
+
+	/**
+	 * Retrieves the line tables of the given methods that are not known yet
+	 * with one batch of requests. Line tables that cannot be retrieved this
+	 * way are left to be requested when they are used.
+	 */
+	private void loadLineTables(List<Method> methods) {
+		try {
+			ReferenceTypePreloader.preloadLineTables(virtualMachineImpl(), methods);
+		} catch (VMDisconnectedException e) {
+			// reported when the line tables are used
 		}
-		return locations;
 	}
 
 	/* (non-Javadoc)
@@ -1998,8 +2221,27 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 	 *             if the specified sourceName is not valid.
 	 */
 	public List<Location> locationsOfLine(String stratumId, String sourceName, int lineNumber, MethodImpl method)	throws AbsentInformationException {
+		int[] lines = javaLinesOfLine(stratumId, sourceName, lineNumber);
+		List<Integer> javaLines = new ArrayList<>(lines.length);
+		for (int line : lines) {
+			javaLines.add(Integer.valueOf(line));
+		}
+		return method.javaStratumLocationsOfLines(javaLines);
+	}
+
+	/**
+	 * Returns the lines of the Java stratum which are part of the translation
+	 * of the given line, in the given stratum in the source file with the given
+	 * source name. If sourceName is <code>null</code>, the lines of all the
+	 * source files in the given stratum are returned.
+	 *
+	 * @return Returns the lines, sorted and without duplicates.
+	 * @throws AbsentInformationException
+	 *             if the specified sourceName is not valid.
+	 */
+	private int[] javaLinesOfLine(String stratumId, String sourceName, int lineNumber) throws AbsentInformationException {
 		Stratum stratum = getStratum(stratumId);
-		List<Integer> javaLines = new ArrayList<>();
+		Set<Integer> javaLines = new TreeSet<>();
 		if (stratum != null) {
 			boolean found = false;
 			for (Iterator<FileInfo> iter = stratum.fFileInfos.iterator(); iter.hasNext() && !found;) {
@@ -2012,9 +2254,14 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 				throw new AbsentInformationException(JDIMessages.ReferenceTypeImpl_34);
 			}
 		} else { // Java stratum
-			javaLines.add(Integer.valueOf(lineNumber));
+			return new int[] { lineNumber };
 		}
-		return method.javaStratumLocationsOfLines(javaLines);
+		int[] lines = new int[javaLines.size()];
+		int i = 0;
+		for (Integer line : javaLines) {
+			lines[i++] = line.intValue();
+		}
+		return lines;
 	}
 
 	/**
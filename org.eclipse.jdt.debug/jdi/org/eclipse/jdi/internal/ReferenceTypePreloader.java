@@ -0,0 +1,214 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
+import org.eclipse.jdt.internal.debug.core.JDIDebugOptions;
+
+import com.sun.jdi.Method;
+import com.sun.jdi.ReferenceType;
+import com.sun.jdi.VMDisconnectedException;
+
+/**
+ * Retrieves the metadata of the loaded types of a set of packages ahead of
+ * time. Instead of sending one request per type and kind of information when
+ * it is first needed, the requests for a batch of types are sent together and
+ * their replies are stored in the mirrors as they come in.
+ *
+ * @see VirtualMachineImpl#preloadReferenceTypes(Collection)
+ */
+class ReferenceTypePreloader {
+
+	/** Number of types whose requests are sent together. */
+	private static final int BATCH_SIZE = 100;
+
+	private final VirtualMachineImpl fVM;
+
+	private final String[] fPackagePrefixes;
+
+	/**
+	 * @param vm
+	 *            the VM to retrieve the types from
+	 * @param packageNames
+	 *            the names of the packages whose types are retrieved, including
+	 *            their subpackages
+	 */
+	ReferenceTypePreloader(VirtualMachineImpl vm, Collection<String> packageNames) {
+		fVM = vm;
+		fPackagePrefixes = new String[packageNames.size()];
+		int i = 0;
+		for (String packageName : packageNames) {
+			fPackagePrefixes[i++] = packageName + '.';
+		}
+	}
+
+	/**
+	 * Retrieves the metadata of the matching types. Returns when all of it has
+	 * been retrieved, when the VM disconnects, or when the given monitor is
+	 * canceled, which is checked between batches.
+	 *
+	 * @param monitor
+	 *            the monitor to report progress to, by type
+	 */
+	void run(IProgressMonitor monitor) {
+		if (fPackagePrefixes.length == 0) {
+			return;
+		}
+		List<ReferenceTypeImpl> types = new ArrayList<>();
+		for (ReferenceType type : fVM.allClasses()) {
+			if (matches(type.name())) {
+				types.add((ReferenceTypeImpl) type);
+			}
+		}
+		SubMonitor progress = SubMonitor.convert(monitor, types.size());
+		try {
+			for (int i = 0; i < types.size() && !fVM.isDisconnected(); i += BATCH_SIZE) {
+				if (progress.isCanceled()) {
+					return;
+				}
+				List<ReferenceTypeImpl> batch = types.subList(i, Math.min(i + BATCH_SIZE, types.size()));
+				preloadTypes(batch);
+				preloadTypeLineTables(batch);
+				progress.worked(batch.size());
+			}
+		} catch (VMDisconnectedException e) {
+			// nothing left to do
+		}
+	}
+
+	private boolean matches(String typeName) {
+		for (String prefix : fPackagePrefixes) {
+			if (typeName.startsWith(prefix)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Retrieves the modifiers, fields, methods and source names of the given
+	 * types.
+	 */
+	private void preloadTypes(List<ReferenceTypeImpl> types) {
+		List<ReferenceTypeImpl> owners = new ArrayList<>();
+		List<Integer> flushCounts = new ArrayList<>();
+		List<JdwpCommandPacket> requests = new ArrayList<>();
+		for (ReferenceTypeImpl type : types) {
+			try {
+				Integer flushCount = Integer.valueOf(type.flushCount());
+				for (JdwpCommandPacket request : type.preloadRequests()) {
+					owners.add(type);
+					flushCounts.add(flushCount);
+					requests.add(request);
+				}
+			} catch (IOException e) {
+				trace(type, e);
+			}
+		}
+		List<CompletableFuture<JdwpReplyPacket>> replies = fVM.requestVMAsync(requests);
+		for (int i = 0; i < requests.size(); i++) {
+			JdwpReplyPacket reply = awaitReply(replies.get(i));
+			if (reply != null) {
+				try {
+					owners.get(i).preloaded(requests.get(i), reply, flushCounts.get(i).intValue());
+				} catch (IOException e) {
+					trace(owners.get(i), e);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Retrieves the line tables of the methods of the given types.
+	 */
+	private void preloadTypeLineTables(List<ReferenceTypeImpl> types) {
+		List<Method> methods = new ArrayList<>();
+		for (ReferenceTypeImpl type : types) {
+			List<Method> typeMethods = type.knownMethods();
+			if (typeMethods != null) {
+				methods.addAll(typeMethods);
+			}
+		}
+		preloadLineTables(fVM, methods);
+	}
+
+	/**
+	 * Retrieves the line tables of the given methods that are not known yet.
+	 *
+	 * @throws VMDisconnectedException
+	 *             if the VM disconnected
+	 */
+	static void preloadLineTables(VirtualMachineImpl vm, List<Method> methods) {
+		List<MethodImpl> owners = new ArrayList<>();
+		List<JdwpCommandPacket> requests = new ArrayList<>();
+		for (Method method : methods) {
+			try {
+				JdwpCommandPacket request = ((MethodImpl) method).lineTableRequest();
+				if (request != null) {
+					owners.add((MethodImpl) method);
+					requests.add(request);
+				}
+			} catch (IOException e) {
+				trace(method.declaringType(), e);
+			}
+		}
+		if (requests.isEmpty()) {
+			return;
+		}
+		List<CompletableFuture<JdwpReplyPacket>> replies = vm.requestVMAsync(requests);
+		for (int i = 0; i < requests.size(); i++) {
+			JdwpReplyPacket reply = awaitReply(replies.get(i));
+			if (reply != null) {
+				try {
+					owners.get(i).preloaded(reply);
+				} catch (IOException e) {
+					trace(owners.get(i).declaringType(), e);
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return Returns the reply, or <code>null</code> if the request timed
+	 *         out.
+	 * @throws VMDisconnectedException
+	 *             if the VM disconnected
+	 */
+	private static JdwpReplyPacket awaitReply(CompletableFuture<JdwpReplyPacket> reply) {
+		try {
+			return reply.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof VMDisconnectedException disconnected) {
+				throw disconnected;
+			}
+			return null;
+		}
+	}
+
+	private static void trace(ReferenceType type, IOException e) {
+		if (JDIDebugOptions.DEBUG) {
+			JDIDebugOptions.trace(null, "Failed to preload " + type.name(), e); //$NON-NLS-1$
+		}
+	}
+}
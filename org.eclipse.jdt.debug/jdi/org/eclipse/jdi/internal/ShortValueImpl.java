@@ -13,7 +13,7 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal;
 
-import java.io.DataInputStream;
+import java.io.DataInput;
 import java.io.DataOutputStream;
 import java.io.IOException;
 
@@ -72,7 +72,7 @@ public class ShortValueImpl extends PrimitiveValueImpl implements ShortValue {
 	/**
 	 * @return Reads and returns new instance.
 	 */
-	public static ShortValueImpl read(MirrorImpl target, DataInputStream in)
+	public static ShortValueImpl read(MirrorImpl target, DataInput in)
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		short value = target.readShort("shortValue", in); //$NON-NLS-1$
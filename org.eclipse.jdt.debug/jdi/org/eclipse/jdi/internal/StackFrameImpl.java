@@ -14,6 +14,7 @@
 package org.eclipse.jdi.internal;
 
 import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
@@ -22,6 +23,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpFrameID;
@@ -94,25 +96,12 @@ public class StackFrameImpl extends MirrorImpl implements StackFrame, Locatable
 		 * Therefore, we remember the positions in the list of requests for
 		 * 'this'.
 		 */
-		int sizeAll = variables.size();
-		int sizeThis = 0;
-		boolean[] isThisValue = new boolean[sizeAll];
-		for (int i = 0; i < sizeAll; i++) {
-			LocalVariableImpl var = (LocalVariableImpl) variables.get(i);
-			isThisValue[i] = var.isThis();
-			if (isThisValue[i]) {
-				sizeThis++;
-			}
-		}
-		int sizeNotThis = sizeAll - sizeThis;
+		boolean[] isThisValue = new boolean[variables.size()];
+		int sizeThis = markThisValues(variables, isThisValue);
+		int sizeNotThis = variables.size() - sizeThis;
 
 		if (sizeThis > 0) {
-			Value thisValue = thisObject();
-			for (int i = 0; i < sizeAll; i++) {
-				if (isThisValue[i]) {
-					map.put(variables.get(i), thisValue);
-				}
-			}
+			putThisValue(variables, isThisValue, thisObject(), map);
 		}
 
 		// If only 'this' was requested, we're finished.
@@ -123,34 +112,9 @@ public class StackFrameImpl extends MirrorImpl implements StackFrame, Locatable
 		// Request values for local variables other than 'this'.
 		initJdwpRequest();
 		try {
-			ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
-			DataOutputStream outData = new DataOutputStream(outBytes);
-			writeWithThread(this, outData);
-			writeInt(sizeNotThis, "size", outData); //$NON-NLS-1$
-			for (int i = 0; i < sizeAll; i++) {
-				if (!isThisValue[i]) {
-					LocalVariableImpl var = (LocalVariableImpl) variables
-							.get(i);
-					checkVM(var);
-					writeInt(var.slot(), "slot", outData); //$NON-NLS-1$
-					writeByte(var.tag(), "tag", JdwpID.tagMap(), outData); //$NON-NLS-1$
-				}
-			}
 			JdwpReplyPacket replyPacket = requestVM(
-					JdwpCommandPacket.SF_GET_VALUES, outBytes);
-			defaultReplyErrorHandler(replyPacket.errorCode());
-
-			DataInputStream replyData = replyPacket.dataInStream();
-			int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
-			if (nrOfElements != sizeNotThis)
-				throw new InternalError(
-						JDIMessages.StackFrameImpl_Retrieved_a_different_number_of_values_from_the_VM_than_requested_1);
-
-			for (int i = 0, j = 0; i < sizeAll; i++) {
-				if (!isThisValue[i])
-					map.put(variables.get(j++),
-							ValueImpl.readWithTag(this, replyData));
-			}
+					JdwpCommandPacket.SF_GET_VALUES, writeGetValues(variables, isThisValue, sizeNotThis));
+			readGetValues(variables, isThisValue, sizeNotThis, replyPacket, map);
 			return map;
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
@@ -160,6 +124,116 @@ public class StackFrameImpl extends MirrorImpl implements StackFrame, Locatable
 		}
 	}
 
+	/**
+	 * Requests the values of the given local variables without waiting for the
+	 * reply. If 'this' is requested, it is requested at the same time.
+	 *
+	 * @return a future of the map of the given local variables with their
+	 *         values
+	 * @see #getValues(List)
+	 */
+	public CompletableFuture<Map<LocalVariable, Value>> getValuesAsync(List<? extends LocalVariable> variables)
+			throws IllegalArgumentException, InvalidStackFrameException, VMMismatchException {
+		Map<LocalVariable, Value> map = new HashMap<>(variables.size());
+		// if the variable list is empty, nothing to do
+		if (variables.isEmpty()) {
+			return CompletableFuture.completedFuture(map);
+		}
+		boolean[] isThisValue = new boolean[variables.size()];
+		int sizeThis = markThisValues(variables, isThisValue);
+		int sizeNotThis = variables.size() - sizeThis;
+		try {
+			CompletableFuture<Map<LocalVariable, Value>> result = CompletableFuture.completedFuture(map);
+			if (sizeThis > 0) {
+				CompletableFuture<JdwpReplyPacket> thisReply = requestVMAsync(
+						JdwpCommandPacket.SF_THIS_OBJECT, writeThisObject());
+				result = result.thenCombine(thisReply, (values, replyPacket) -> {
+					try {
+						putThisValue(variables, isThisValue, readThisObject(replyPacket), values);
+					} catch (IOException e) {
+						defaultIOExceptionHandler(e);
+					}
+					return values;
+				});
+			}
+			if (sizeNotThis > 0) {
+				CompletableFuture<JdwpReplyPacket> valuesReply = requestVMAsync(
+						JdwpCommandPacket.SF_GET_VALUES, writeGetValues(variables, isThisValue, sizeNotThis));
+				result = result.thenCombine(valuesReply, (values, replyPacket) -> {
+					try {
+						readGetValues(variables, isThisValue, sizeNotThis, replyPacket, values);
+					} catch (IOException e) {
+						defaultIOExceptionHandler(e);
+					}
+					return values;
+				});
+			}
+			return result;
+		} catch (IOException e) {
+			defaultIOExceptionHandler(e);
+			return null;
+		}
+	}
+
+	/**
+	 * Marks the positions of 'this' in the given list of variables.
+	 *
+	 * @return the number of 'this' variables
+	 */
+	private int markThisValues(List<? extends LocalVariable> variables, boolean[] isThisValue) {
+		int sizeThis = 0;
+		for (int i = 0; i < isThisValue.length; i++) {
+			LocalVariableImpl var = (LocalVariableImpl) variables.get(i);
+			isThisValue[i] = var.isThis();
+			if (isThisValue[i]) {
+				sizeThis++;
+			}
+		}
+		return sizeThis;
+	}
+
+	private void putThisValue(List<? extends LocalVariable> variables, boolean[] isThisValue, Value thisValue, Map<LocalVariable, Value> map) {
+		for (int i = 0; i < isThisValue.length; i++) {
+			if (isThisValue[i]) {
+				map.put(variables.get(i), thisValue);
+			}
+		}
+	}
+
+	private ByteArrayOutputStream writeGetValues(List<? extends LocalVariable> variables, boolean[] isThisValue, int sizeNotThis) throws IOException {
+		ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+		DataOutputStream outData = new DataOutputStream(outBytes);
+		writeWithThread(this, outData);
+		writeInt(sizeNotThis, "size", outData); //$NON-NLS-1$
+		for (int i = 0; i < isThisValue.length; i++) {
+			if (!isThisValue[i]) {
+				LocalVariableImpl var = (LocalVariableImpl) variables
+						.get(i);
+				checkVM(var);
+				writeInt(var.slot(), "slot", outData); //$NON-NLS-1$
+				writeByte(var.tag(), "tag", JdwpID.tagMap(), outData); //$NON-NLS-1$
+			}
+		}
+		return outBytes;
+	}
+
+	private void readGetValues(List<? extends LocalVariable> variables, boolean[] isThisValue, int sizeNotThis, JdwpReplyPacket replyPacket,
+			Map<LocalVariable, Value> map) throws IOException {
+		defaultReplyErrorHandler(replyPacket.errorCode());
+
+		DataInputStream replyData = replyPacket.dataInStream();
+		int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
+		if (nrOfElements != sizeNotThis)
+			throw new InternalError(
+					JDIMessages.StackFrameImpl_Retrieved_a_different_number_of_values_from_the_VM_than_requested_1);
+
+		for (int i = 0, j = 0; i < isThisValue.length; i++) {
+			if (!isThisValue[i])
+				map.put(variables.get(j++),
+						ValueImpl.readWithTag(this, replyData));
+		}
+	}
+
 	/* (non-Javadoc)
 	 * @see com.sun.jdi.StackFrame#getArgumentValues()
 	 */
@@ -244,18 +318,9 @@ public class StackFrameImpl extends MirrorImpl implements StackFrame, Locatable
 		// Note that this information should not be cached.
 		initJdwpRequest();
 		try {
-			ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
-			DataOutputStream outData = new DataOutputStream(outBytes);
-			writeWithThread(this, outData);
-
 			JdwpReplyPacket replyPacket = requestVM(
-					JdwpCommandPacket.SF_THIS_OBJECT, outBytes);
-			defaultReplyErrorHandler(replyPacket.errorCode());
-
-			DataInputStream replyData = replyPacket.dataInStream();
-			ObjectReference result = ObjectReferenceImpl.readObjectRefWithTag(
-					this, replyData);
-			return result;
+					JdwpCommandPacket.SF_THIS_OBJECT, writeThisObject());
+			return readThisObject(replyPacket);
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
 			return null;
@@ -264,6 +329,22 @@ public class StackFrameImpl extends MirrorImpl implements StackFrame, Locatable
 		}
 	}
 
+	private ByteArrayOutputStream writeThisObject() throws IOException {
+		ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+		DataOutputStream outData = new DataOutputStream(outBytes);
+		writeWithThread(this, outData);
+		return outBytes;
+	}
+
+	private ObjectReference readThisObject(JdwpReplyPacket replyPacket) throws IOException {
+		defaultReplyErrorHandler(replyPacket.errorCode());
+
+		DataInputStream replyData = replyPacket.dataInStream();
+		ObjectReference result = ObjectReferenceImpl.readObjectRefWithTag(
+				this, replyData);
+		return result;
+	}
+
 	/* (non-Javadoc)
 	 * @see com.sun.jdi.StackFrame#thread()
 	 */
@@ -351,7 +432,7 @@ public class StackFrameImpl extends MirrorImpl implements StackFrame, Locatable
 	 * @return Reads JDWP representation and returns new instance.
 	 */
 	public static StackFrameImpl readWithLocation(MirrorImpl target,
-			ThreadReferenceImpl thread, DataInputStream in) throws IOException {
+			ThreadReferenceImpl thread, DataInput in) throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		JdwpFrameID ID = new JdwpFrameID(vmImpl);
 		ID.read(in);
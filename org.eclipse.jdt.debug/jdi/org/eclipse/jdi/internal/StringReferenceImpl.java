@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal;
 
+import java.io.DataInput;
 import java.io.DataInputStream;
 import java.io.IOException;
 
@@ -74,7 +75,7 @@ public class StringReferenceImpl extends ObjectReferenceImpl implements
 	/**
 	 * @return Reads JDWP representation and returns new instance.
 	 */
-	public static StringReferenceImpl read(MirrorImpl target, DataInputStream in)
+	public static StringReferenceImpl read(MirrorImpl target, DataInput in)
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		JdwpStringID ID = new JdwpStringID(vmImpl);
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal;
 
+import java.io.DataInput;
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -225,7 +226,7 @@ public class ThreadGroupReferenceImpl extends ObjectReferenceImpl implements
 	 * @return Reads JDWP representation and returns new instance.
 	 */
 	public static ThreadGroupReferenceImpl read(MirrorImpl target,
-			DataInputStream in) throws IOException {
+			DataInput in) throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		JdwpThreadGroupID ID = new JdwpThreadGroupID(vmImpl);
 		ID.read(in);
@@ -15,6 +15,7 @@
 package org.eclipse.jdi.internal;
 
 import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
@@ -24,9 +25,12 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import org.eclipse.jdi.OpaqueFrameException;
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
+import org.eclipse.jdi.internal.jdwp.JdwpDataCursor;
 import org.eclipse.jdi.internal.jdwp.JdwpID;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpThreadID;
@@ -264,38 +268,9 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 		// Note that this information should not be cached.
 		initJdwpRequest();
 		try {
-			ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
-			DataOutputStream outData = new DataOutputStream(outBytes);
-			write(this, outData);
-			writeInt(start, "start", outData); //$NON-NLS-1$
-			writeInt(length, "length", outData); //$NON-NLS-1$
-
 			JdwpReplyPacket replyPacket = requestVM(
-					JdwpCommandPacket.TR_FRAMES, outBytes);
-			switch (replyPacket.errorCode()) {
-			case JdwpReplyPacket.INVALID_THREAD:
-				throw new ObjectCollectedException();
-			case JdwpReplyPacket.THREAD_NOT_SUSPENDED:
-				throw new IncompatibleThreadStateException(
-						JDIMessages.ThreadReferenceImpl_Thread_was_not_suspended_1);
-			case JdwpReplyPacket.INVALID_INDEX:
-				throw new IndexOutOfBoundsException(
-						JDIMessages.ThreadReferenceImpl_Invalid_index_of_stack_frames_given_4);
-			}
-			defaultReplyErrorHandler(replyPacket.errorCode());
-
-			DataInputStream replyData = replyPacket.dataInStream();
-			int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
-			List<StackFrame> frames = new ArrayList<>(nrOfElements);
-			for (int i = 0; i < nrOfElements; i++) {
-				StackFrameImpl frame = StackFrameImpl.readWithLocation(this,
-						this, replyData);
-				if (frame == null) {
-					continue;
-				}
-				frames.add(frame);
-			}
-			return frames;
+					JdwpCommandPacket.TR_FRAMES, writeFrames(start, length));
+			return readFrames(replyPacket);
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
 			return null;
@@ -304,6 +279,78 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 		}
 	}
 
+	/**
+	 * Requests all stack frames of this thread without waiting for the reply.
+	 *
+	 * @return a future of the list of stack frames
+	 * @see #frames()
+	 */
+	public CompletableFuture<List<StackFrame>> framesAsync() {
+		return framesAsync(0, -1);
+	}
+
+	/**
+	 * Requests a range of stack frames of this thread without waiting for the
+	 * reply. The future completes exceptionally with an
+	 * {@link IncompatibleThreadStateException} if the thread is not suspended.
+	 *
+	 * @return a future of the list of stack frames
+	 * @see #frames(int, int)
+	 */
+	public CompletableFuture<List<StackFrame>> framesAsync(int start, int length) {
+		try {
+			return requestVMAsync(JdwpCommandPacket.TR_FRAMES, writeFrames(start, length)).thenApply(replyPacket -> {
+				try {
+					return readFrames(replyPacket);
+				} catch (IncompatibleThreadStateException e) {
+					throw new CompletionException(e);
+				} catch (IOException e) {
+					defaultIOExceptionHandler(e);
+					return null;
+				}
+			});
+		} catch (IOException e) {
+			defaultIOExceptionHandler(e);
+			return null;
+		}
+	}
+
+	private ByteArrayOutputStream writeFrames(int start, int length) throws IOException {
+		ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+		DataOutputStream outData = new DataOutputStream(outBytes);
+		write(this, outData);
+		writeInt(start, "start", outData); //$NON-NLS-1$
+		writeInt(length, "length", outData); //$NON-NLS-1$
+		return outBytes;
+	}
+
+	private List<StackFrame> readFrames(JdwpReplyPacket replyPacket) throws IOException, IncompatibleThreadStateException {
+		switch (replyPacket.errorCode()) {
+		case JdwpReplyPacket.INVALID_THREAD:
+			throw new ObjectCollectedException();
+		case JdwpReplyPacket.THREAD_NOT_SUSPENDED:
+			throw new IncompatibleThreadStateException(
+					JDIMessages.ThreadReferenceImpl_Thread_was_not_suspended_1);
+		case JdwpReplyPacket.INVALID_INDEX:
+			throw new IndexOutOfBoundsException(
+					JDIMessages.ThreadReferenceImpl_Invalid_index_of_stack_frames_given_4);
+		}
+		defaultReplyErrorHandler(replyPacket.errorCode());
+
+		JdwpDataCursor replyData = replyPacket.dataCursor();
+		int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
+		List<StackFrame> frames = new ArrayList<>(nrOfElements);
+		for (int i = 0; i < nrOfElements; i++) {
+			StackFrameImpl frame = StackFrameImpl.readWithLocation(this,
+					this, replyData);
+			if (frame == null) {
+				continue;
+			}
+			frames.add(frame);
+		}
+		return frames;
+	}
+
 	/* (non-Javadoc)
 	 * @see com.sun.jdi.ThreadReference#interrupt()
 	 */
@@ -753,7 +800,7 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 	/**
 	 * @return Reads JDWP representation and returns new instance.
 	 */
-	public static ThreadReferenceImpl read(MirrorImpl target, DataInputStream in)
+	public static ThreadReferenceImpl read(MirrorImpl target, DataInput in)
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		JdwpThreadID ID = new JdwpThreadID(vmImpl);
@@ -13,7 +13,7 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal;
 
-import java.io.DataInputStream;
+import java.io.DataInput;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.text.MessageFormat;
@@ -62,7 +62,7 @@ public abstract class ValueImpl extends MirrorImpl implements Value {
 	/**
 	 * @return Reads JDWP representation and returns new instance.
 	 */
-	public static ValueImpl readWithTag(MirrorImpl target, DataInputStream in)
+	public static ValueImpl readWithTag(MirrorImpl target, DataInput in)
 			throws IOException {
 		byte tag = target.readByte("object tag", JdwpID.tagMap(), in); //$NON-NLS-1$
 		return readWithoutTag(target, tag, in);
@@ -72,7 +72,7 @@ public abstract class ValueImpl extends MirrorImpl implements Value {
 	 * @return Reads JDWP representation and returns new instance.
 	 */
 	public static ValueImpl readWithoutTag(MirrorImpl target, int type,
-			DataInputStream in) throws IOException {
+			DataInput in) throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		// See also ArrayReference Impl.
 		switch (type) {
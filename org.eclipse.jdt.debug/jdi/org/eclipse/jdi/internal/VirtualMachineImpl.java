@@ -20,21 +20,25 @@ import java.io.IOException;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.jdi.Bootstrap;
 import org.eclipse.jdi.internal.connect.PacketReceiveManager;
 import org.eclipse.jdi.internal.connect.PacketSendManager;
 import org.eclipse.jdi.internal.event.EventQueueImpl;
+import org.eclipse.jdi.internal.jdwp.JdwpCommandMetrics;
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpObjectID;
 import org.eclipse.jdi.internal.jdwp.JdwpReferenceTypeID;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
 import org.eclipse.jdi.internal.request.EventRequestManagerImpl;
+import org.eclipse.jdt.internal.debug.core.JDIDebugOptions;
 import org.eclipse.osgi.util.NLS;
 
 import com.sun.jdi.BooleanValue;
@@ -95,8 +99,8 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 	 * optional: their only purpose is to speed up the debugger by being able to
 	 * use the stored results of JDWP calls.
 	 */
-	private final ValueCache fCachedReftypes = new ValueCache();
-	private final ValueCache fCachedObjects = new ValueCache();
+	private final LongKeyValueCache<ReferenceTypeImpl> fCachedReftypes = new LongKeyValueCache<>();
+	private final LongKeyValueCache<ObjectReferenceImpl> fCachedObjects = new LongKeyValueCache<>();
 
 	/** The following are the stored results of JDWP calls. */
 	private String fVersionDescription = null; // Text information on the VM
@@ -161,6 +165,12 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 	private final PacketReceiveManager fPacketReceiveManager;
 	private final PacketSendManager fPacketSendManager;
 
+	/**
+	 * Metrics of the requests sent to this VM, or <code>null</code> if they
+	 * are not recorded.
+	 */
+	private volatile JdwpCommandMetrics fCommandMetrics;
+
 	/**
 	 * Creates a new Virtual Machine.
 	 */
@@ -170,6 +180,9 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 		fEventQueue = new EventQueueImpl(this);
 		fRequestTimeout = ((VirtualMachineManagerImpl) Bootstrap
 				.virtualMachineManager()).getGlobalRequestTimeout();
+		if (JDIDebugOptions.DEBUG_JDI_METRICS) {
+			fCommandMetrics = new JdwpCommandMetrics();
+		}
 
 		fPacketReceiveManager = new PacketReceiveManager(connection, this);
 		Thread receiveThread = new Thread(fPacketReceiveManager,
@@ -225,21 +238,21 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 	 * @return Returns cached mirror object, or null if method is not in cache.
 	 */
 	public ReferenceTypeImpl getCachedMirror(JdwpReferenceTypeID ID) {
-		return (ReferenceTypeImpl) fCachedReftypes.get(ID);
+		return fCachedReftypes.get(ID.value());
 	}
 
 	/**
 	 * @return Returns cached mirror object, or null if method is not in cache.
 	 */
 	public ObjectReferenceImpl getCachedMirror(JdwpObjectID ID) {
-		return (ObjectReferenceImpl) fCachedObjects.get(ID);
+		return fCachedObjects.get(ID.value());
 	}
 
 	/**
 	 * Adds mirror object to cache.
 	 */
 	public void addCachedMirror(ReferenceTypeImpl mirror) {
-		fCachedReftypes.put(mirror.getRefTypeID(), mirror);
+		fCachedReftypes.put(mirror.getRefTypeID().value(), mirror);
 		// TBD: It is now yet possible to only ask for unload events for
 		// classes that we know of due to a limitation in the J9 VM.
 		// eventRequestManagerImpl().enableInternalClasUnloadEvent(mirror);
@@ -249,7 +262,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 	 * Adds mirror object to cache.
 	 */
 	public void addCachedMirror(ObjectReferenceImpl mirror) {
-		fCachedObjects.put(mirror.getObjectID(), mirror);
+		fCachedObjects.put(mirror.getObjectID().value(), mirror);
 	}
 
 	/**
@@ -257,9 +270,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 	 */
 	public void flushStoredJdwpResults() {
 		// All known classes also become invalid.
-		Iterator<Object> iter = fCachedReftypes.values().iterator();
-		while (iter.hasNext()) {
-			ReferenceTypeImpl refType = (ReferenceTypeImpl) iter.next();
+		for (ReferenceTypeImpl refType : fCachedReftypes.values()) {
 			refType.flushStoredJdwpResults();
 		}
 
@@ -285,7 +296,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 		if (refTypeList.size() == 1) {
 			ReferenceTypeImpl refType = (ReferenceTypeImpl) refTypeList.get(0);
 			refType.flushStoredJdwpResults();
-			fCachedReftypes.remove(refType.getRefTypeID());
+			fCachedReftypes.remove(refType.getRefTypeID().value());
 			return;
 		}
 
@@ -303,7 +314,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 			if (!prepared) {
 				refType.flushStoredJdwpResults();
 				iter.remove();
-				fCachedReftypes.remove(refType.getRefTypeID());
+				fCachedReftypes.remove(refType.getRefTypeID().value());
 			}
 		}
 	}
@@ -399,6 +410,22 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 
 	}
 
+	/**
+	 * Retrieves the modifiers, fields, methods, source names and line tables
+	 * of the loaded types of the given packages and their subpackages, so
+	 * that they are known before they are first used. The requests are sent
+	 * in batches, without waiting for each reply. This method blocks until all
+	 * the information has been retrieved, or the given monitor is canceled.
+	 *
+	 * @param packageNames
+	 *            the names of the packages to retrieve the types of
+	 * @param monitor
+	 *            the monitor to report progress to, or <code>null</code>
+	 */
+	public void preloadReferenceTypes(Collection<String> packageNames, IProgressMonitor monitor) {
+		new ReferenceTypePreloader(this, packageNames).run(monitor);
+	}
+
 	/**
 	 * @return Returns an iterator over all loaded classes.
 	 */
@@ -409,7 +436,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 	/**
 	 * @return Returns an iterator over all cached classes.
 	 */
-	protected final Iterator<Object> allCachedRefTypes() {
+	protected final Iterator<ReferenceTypeImpl> allCachedRefTypes() {
 		return fCachedReftypes.values().iterator();
 	}
 
@@ -1241,6 +1268,27 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 		return fRequestTimeout;
 	}
 
+	/**
+	 * Starts or stops recording the number of requests, the bytes sent and
+	 * received and the round trip times of each JDWP command sent to this VM.
+	 * Starting discards the metrics recorded before.
+	 *
+	 * @param enabled
+	 *            whether to record metrics
+	 */
+	public void setCommandMetricsEnabled(boolean enabled) {
+		fCommandMetrics = enabled ? new JdwpCommandMetrics() : null;
+	}
+
+	/**
+	 * @return Returns the metrics of the JDWP commands sent to this VM, or
+	 *         <code>null</code> if they are not recorded.
+	 * @see #setCommandMetricsEnabled(boolean)
+	 */
+	public JdwpCommandMetrics getCommandMetrics() {
+		return fCommandMetrics;
+	}
+
 	/**
 	 * Returns whether the JDWP version is greater than or equal to the
 	 * specified major/minor version numbers.
@@ -1276,7 +1324,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 				for (byte b : bytes) {
 					writeByte(b, "classByte", outData); //$NON-NLS-1$
 				}
-				fCachedReftypes.remove(type.getRefTypeID()); // flush local
+				fCachedReftypes.remove(type.getRefTypeID().value()); // flush local
 																// cache of
 																// redefined
 																// types
@@ -1516,6 +1564,10 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 	 *            whether this VM is disconnected
 	 */
 	public synchronized void setDisconnected(boolean disconnected) {
+		JdwpCommandMetrics metrics = fCommandMetrics;
+		if (disconnected && !fIsDisconnected && metrics != null && JDIDebugOptions.DEBUG_JDI_METRICS) {
+			JDIDebugOptions.trace(JDIDebugOptions.DEBUG_JDI_METRICS_FLAG, metrics.toJson(), null);
+		}
 		fIsDisconnected = disconnected;
 	}
 
@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal.connect;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+
+/**
+ * A pool of direct byte buffers of a fixed size. Direct buffers are expensive
+ * to allocate and are released only when garbage collected, so channel based
+ * connections borrow them from a shared pool instead of allocating one per
+ * packet.
+ */
+public class ByteBufferPool {
+
+	/** Size of the buffers handed out by the shared pool. */
+	public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+	/** Number of idle buffers kept by the shared pool. */
+	private static final int DEFAULT_MAX_POOLED = 16;
+
+	private static final ByteBufferPool fgDefault = new ByteBufferPool(DEFAULT_BUFFER_SIZE, DEFAULT_MAX_POOLED);
+
+	private final int fBufferSize;
+
+	private final int fMaxPooled;
+
+	private final ArrayDeque<ByteBuffer> fBuffers = new ArrayDeque<>();
+
+	/**
+	 * Creates a new pool.
+	 *
+	 * @param bufferSize
+	 *            the capacity of the buffers of the pool
+	 * @param maxPooled
+	 *            the maximum number of idle buffers kept by the pool
+	 */
+	public ByteBufferPool(int bufferSize, int maxPooled) {
+		fBufferSize = bufferSize;
+		fMaxPooled = maxPooled;
+	}
+
+	/**
+	 * @return the pool shared by all connections
+	 */
+	public static ByteBufferPool getDefault() {
+		return fgDefault;
+	}
+
+	/**
+	 * @return the capacity of the buffers of this pool
+	 */
+	public int getBufferSize() {
+		return fBufferSize;
+	}
+
+	/**
+	 * Returns a cleared buffer from the pool, allocating a new one if the pool
+	 * is empty. The buffer must be given back with {@link #release(ByteBuffer)}
+	 * once it is no longer used.
+	 */
+	public ByteBuffer acquire() {
+		ByteBuffer buffer;
+		synchronized (fBuffers) {
+			buffer = fBuffers.poll();
+		}
+		if (buffer == null) {
+			return ByteBuffer.allocateDirect(fBufferSize);
+		}
+		buffer.clear();
+		return buffer;
+	}
+
+	/**
+	 * Gives a buffer obtained from {@link #acquire()} back to the pool.
+	 */
+	public void release(ByteBuffer buffer) {
+		if (buffer == null || buffer.capacity() != fBufferSize) {
+			return;
+		}
+		synchronized (fBuffers) {
+			if (fBuffers.size() < fMaxPooled) {
+				fBuffers.push(buffer);
+			}
+		}
+	}
+}
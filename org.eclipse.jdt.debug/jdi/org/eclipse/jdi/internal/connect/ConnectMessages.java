@@ -33,6 +33,8 @@ public class ConnectMessages extends NLS {
 	public static String SocketAttachingConnectorImpl_Connection_argument_is_not_of_the_right_type_6;
 	public static String SocketAttachingConnectorImpl_Necessary_connection_argument_is_null_7;
 	public static String SocketAttachingConnectorImpl_Connection_argument_is_not_a_number_8;
+	public static String SocketAttachingConnectorImpl_Transfer_packets_over_NIO_channel_9;
+	public static String SocketAttachingConnectorImpl_Use_NIO_channel_10;
 	public static String SocketLaunchingConnectorImpl_Home_directory_of_the_SDK_or_runtime_environment_used_to_launch_the_application_1;
 	public static String SocketLaunchingConnectorImpl_Home_2;
 	public static String SocketLaunchingConnectorImpl_Launched_VM_options_3;
@@ -64,6 +66,8 @@ public class ConnectMessages extends NLS {
 	public static String SocketListeningConnectorImpl_Limit_incoming_connections;
 
 	public static String SocketListeningConnectorImpl_ListeningConnector_Socket_Port;
+	public static String SocketListeningConnectorImpl_Transfer_packets_over_NIO_channel_9;
+	public static String SocketListeningConnectorImpl_Use_NIO_channel_10;
 	public static String SocketRawLaunchingConnectorImpl_Raw_command_to_start_the_debugged_application_VM_1;
 	public static String SocketRawLaunchingConnectorImpl_Command_2;
 	public static String SocketRawLaunchingConnectorImpl_Address_from_which_to_listen_for_a_connection_after_the_raw_command_is_run_3;
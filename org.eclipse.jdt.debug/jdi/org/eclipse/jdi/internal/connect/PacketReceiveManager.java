@@ -15,9 +15,12 @@ package org.eclipse.jdi.internal.connect;
 
 import java.io.IOException;
 import java.io.InterruptedIOException;
-import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.ListIterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdi.TimeoutException;
 import org.eclipse.jdi.internal.VirtualMachineImpl;
@@ -45,14 +48,14 @@ public class PacketReceiveManager extends PacketManager {
 	/** List of Command packets received from Virtual Machine. */
 	private final LinkedList<JdwpCommandPacket> fCommandPackets;
 
-	/** List of Reply packets received from Virtual Machine. */
-	private final LinkedList<JdwpReplyPacket> fReplyPackets;
-
 	/**
-	 * List of Packets that have timed out already. Maintained so that responses
-	 * can be discarded if/when they are received.
+	 * Reply slots keyed by packet id. A slot is created by whichever side comes
+	 * first: the requester waiting for the reply or this thread receiving it.
+	 * Each requester only waits on its own slot. A slot that is cancelled
+	 * because its requester timed out stays in the map until the late reply is
+	 * received, so that the reply can be discarded.
 	 */
-	private final ArrayList<Integer> fTimedOutPackets;
+	private final ConcurrentHashMap<Integer, CompletableFuture<JdwpReplyPacket>> fReplySlots;
 
 	private final VirtualMachineImpl fVM;
 
@@ -63,8 +66,7 @@ public class PacketReceiveManager extends PacketManager {
 		super(connection);
 		fVM = vmImpl;
 		fCommandPackets = new LinkedList<>();
-		fReplyPackets = new LinkedList<>();
-		fTimedOutPackets = new ArrayList<>();
+		fReplySlots = new ConcurrentHashMap<>();
 	}
 
 	@Override
@@ -73,9 +75,12 @@ public class PacketReceiveManager extends PacketManager {
 		synchronized (fCommandPackets) {
 			fCommandPackets.notifyAll();
 		}
-		synchronized (fReplyPackets) {
-			fReplyPackets.notifyAll();
+		VMDisconnectedException disconnected = new VMDisconnectedException(
+				ConnectMessages.PacketReceiveManager_Got_IOException_from_Virtual_Machine_2);
+		for (CompletableFuture<JdwpReplyPacket> slot : fReplySlots.values()) {
+			slot.completeExceptionally(disconnected);
 		}
+		fReplySlots.clear();
 	}
 
 	/**
@@ -147,38 +152,40 @@ public class PacketReceiveManager extends PacketManager {
 	 * @return Returns a specified Reply Packet from the Virtual Machine.
 	 */
 	public JdwpReplyPacket getReply(int id, long timeToWait) {
+		CompletableFuture<JdwpReplyPacket> slot = replySlot(id);
 		JdwpReplyPacket packet = null;
 		long remainingTime = timeToWait;
-		synchronized (fReplyPackets) {
-			final long timeBeforeWait = System.currentTimeMillis();
-			// Wait until reply is available.
-			while (!VMIsDisconnected() && remainingTime > 0) {
-				packet = removeReplyPacket(id);
-				if (packet != null) {
-					break;
-				}
-				try {
-					waitForPacketAvailable(remainingTime, fReplyPackets);
-				}
-				// if the remote VM is interrupted DO NOT drop the connection -
-				// see bug 171075
-				// just stop waiting for the reply and treat it as a timeout
-				catch (InterruptedException e) {
-					if (JDIDebugOptions.DEBUG) {
-						JDIDebugOptions.trace(null, "Interrupt observed while waiting for packet: " + id, e); //$NON-NLS-1$
-					}
-					// Do not stop waiting on interrupt, this causes
-					// sporadic TimeoutException's without timeout
-					// break;
+		final long timeBeforeWait = System.currentTimeMillis();
+		// Wait until reply is available.
+		while (packet == null && !VMIsDisconnected() && remainingTime > 0) {
+			try {
+				packet = slot.get(remainingTime, TimeUnit.MILLISECONDS);
+			} catch (java.util.concurrent.TimeoutException e) {
+				// checked again below
+			}
+			// if the remote VM is interrupted DO NOT drop the connection -
+			// see bug 171075
+			// just stop waiting for the reply and treat it as a timeout
+			catch (InterruptedException e) {
+				if (JDIDebugOptions.DEBUG) {
+					JDIDebugOptions.trace(null, "Interrupt observed while waiting for packet: " + id, e); //$NON-NLS-1$
 				}
-				long waitedTime = System.currentTimeMillis() - timeBeforeWait;
-				remainingTime = timeToWait - waitedTime;
+				// Do not stop waiting on interrupt, this causes
+				// sporadic TimeoutException's without timeout
+				// break;
+			} catch (ExecutionException e) {
+				// completed exceptionally on disconnect
+				break;
 			}
+			long waitedTime = System.currentTimeMillis() - timeBeforeWait;
+			remainingTime = timeToWait - waitedTime;
 		}
-		if (packet == null) {
-			synchronized (fReplyPackets) {
-				packet = removeReplyPacket(id);
-			}
+		if (packet == null && !slot.cancel(false) && !slot.isCompletedExceptionally()) {
+			// the reply arrived just in time
+			packet = slot.getNow(null);
+		}
+		if (packet != null) {
+			fReplySlots.remove(Integer.valueOf(id), slot);
 		}
 		// Check for an IO Exception.
 		if (VMIsDisconnected()) {
@@ -187,11 +194,9 @@ public class PacketReceiveManager extends PacketManager {
 					ConnectMessages.PacketReceiveManager_Got_IOException_from_Virtual_Machine_2);
 
 		}
-		// Check for a timeout.
+		// Check for a timeout. The cancelled slot is left behind so that a
+		// late reply is discarded when it arrives.
 		if (packet == null) {
-			synchronized (fTimedOutPackets) {
-				fTimedOutPackets.add(Integer.valueOf(id));
-			}
 			throw new TimeoutException(NLS.bind(
 					ConnectMessages.PacketReceiveManager_0, id + "")); //$NON-NLS-1$
 		}
@@ -205,6 +210,48 @@ public class PacketReceiveManager extends PacketManager {
 		return getReply(commandPacket.getId(), fVM.getRequestTimeout());
 	}
 
+	/**
+	 * Returns a future of a specified Reply Packet from the Virtual Machine.
+	 * The future completes exceptionally with a {@link TimeoutException} if
+	 * the reply does not arrive in time, or with a
+	 * {@link VMDisconnectedException} if the connection is closed. Dependent
+	 * stages are run asynchronously, never on the receiving thread.
+	 *
+	 * @return Returns a future of a specified Reply Packet.
+	 */
+	public CompletableFuture<JdwpReplyPacket> getReplyAsync(int id, long timeToWait) {
+		CompletableFuture<JdwpReplyPacket> slot = replySlot(id);
+		CompletableFuture<JdwpReplyPacket> reply = slot.handleAsync((packet, t) -> {
+			if (packet != null) {
+				fReplySlots.remove(Integer.valueOf(id), slot);
+				return packet;
+			}
+			if (slot.isCancelled()) {
+				throw new TimeoutException(NLS.bind(ConnectMessages.PacketReceiveManager_0, id + "")); //$NON-NLS-1$
+			}
+			throw new VMDisconnectedException(ConnectMessages.PacketReceiveManager_Got_IOException_from_Virtual_Machine_2);
+		});
+		if (VMIsDisconnected()) {
+			slot.completeExceptionally(new VMDisconnectedException(
+					ConnectMessages.PacketReceiveManager_Got_IOException_from_Virtual_Machine_2));
+		} else if (!slot.isDone()) {
+			// cancel the slot when timed out, leaving it behind so that a late
+			// reply is discarded when it arrives
+			CompletableFuture.delayedExecutor(Math.max(timeToWait, 0), TimeUnit.MILLISECONDS)
+					.execute(() -> slot.cancel(false));
+		}
+		return reply;
+	}
+
+	/**
+	 * @return Returns a future of a specified Reply Packet from the Virtual
+	 *         Machine.
+	 * @see #getReplyAsync(int, long)
+	 */
+	public CompletableFuture<JdwpReplyPacket> getReplyAsync(JdwpCommandPacket commandPacket) {
+		return getReplyAsync(commandPacket.getId(), fVM.getRequestTimeout());
+	}
+
 	/**
 	 * Wait for an available packet from the Virtual Machine.
 	 */
@@ -242,27 +289,17 @@ public class PacketReceiveManager extends PacketManager {
 	}
 
 	/**
-	 * @return Returns a specified reply packet from the reply packet list.
+	 * @return Returns the reply slot for the given packet id, creating it if
+	 *         the reply has not been requested or received yet.
 	 */
-	private JdwpReplyPacket removeReplyPacket(int id) {
-		ListIterator<JdwpReplyPacket> iter = fReplyPackets.listIterator();
-		while (iter.hasNext()) {
-			JdwpReplyPacket packet = iter.next();
-			if (packet.getId() == id) {
-				iter.remove();
-				return packet;
-			}
-		}
-		return null;
+	private CompletableFuture<JdwpReplyPacket> replySlot(int id) {
+		return fReplySlots.computeIfAbsent(Integer.valueOf(id), k -> new CompletableFuture<>());
 	}
 
 	/**
 	 * Add a command packet to the command packet list.
 	 */
 	private void addCommandPacket(JdwpCommandPacket packet) {
-		if (isTimedOut(packet)) {
-			return; // already timed out. No need to keep this one
-		}
 		synchronized (fCommandPackets) {
 			fCommandPackets.add(packet);
 			fCommandPackets.notifyAll();
@@ -270,32 +307,14 @@ public class PacketReceiveManager extends PacketManager {
 	}
 
 	/**
-	 * Returns whether the request for the given packet has already timed out.
-	 *
-	 * @param packet
-	 *            response packet
-	 * @return whether the request for the given packet has already timed out
-	 */
-	private boolean isTimedOut(JdwpPacket packet) {
-		synchronized (fTimedOutPackets) {
-			if (fTimedOutPackets.isEmpty()) {
-				return false;
-			}
-			Integer id = Integer.valueOf(packet.getId());
-			return fTimedOutPackets.remove(id);
-		}
-	}
-
-	/**
-	 * Add a reply packet to the reply packet list.
+	 * Completes the reply slot of the given packet, waking up only the thread
+	 * waiting for this particular reply.
 	 */
 	private void addReplyPacket(JdwpReplyPacket packet) {
-		if (isTimedOut(packet)) {
-			return; // already timed out. No need to keep this one
-		}
-		synchronized (fReplyPackets) {
-			fReplyPackets.add(packet);
-			fReplyPackets.notifyAll();
+		CompletableFuture<JdwpReplyPacket> slot = replySlot(packet.getId());
+		if (!slot.complete(packet)) {
+			// already timed out. No need to keep this one
+			fReplySlots.remove(Integer.valueOf(packet.getId()), slot);
 		}
 	}
 
@@ -305,8 +324,13 @@ public class PacketReceiveManager extends PacketManager {
 	 */
 	private void readAvailablePacket() throws IOException {
 		// Read a packet from the Input Stream.
-		byte[] bytes = getConnection().readPacket();
-		JdwpPacket packet = JdwpPacket.build(bytes);
+		Connection connection = getConnection();
+		JdwpPacket packet;
+		if (connection instanceof SocketChannelConnection channelConnection) {
+			packet = channelConnection.readJdwpPacket();
+		} else {
+			packet = JdwpPacket.build(connection.readPacket());
+		}
 		// Add packet to command or reply queue.
 		if (packet instanceof JdwpCommandPacket) {
 
@@ -15,7 +15,9 @@ package org.eclipse.jdi.internal.connect;
 
 import java.io.IOException;
 import java.io.InterruptedIOException;
+import java.util.ArrayList;
 import java.util.LinkedList;
+import java.util.List;
 
 import org.eclipse.jdi.internal.jdwp.JdwpPacket;
 import org.eclipse.osgi.util.NLS;
@@ -72,6 +74,34 @@ public class PacketSendManager extends PacketManager {
 	 * Add a packet to be sent to the Virtual Machine.
 	 */
 	public void sendPacket(JdwpPacket packet) {
+		checkConnected();
+
+		synchronized (fOutgoingPackets) {
+			// Add packet to list of packets to send.
+			fOutgoingPackets.add(packet);
+			// Notify PacketSendThread that data is available.
+			fOutgoingPackets.notifyAll();
+		}
+	}
+
+	/**
+	 * Add several packets to be sent to the Virtual Machine. The packets are
+	 * queued at once, so that they are put on the wire together.
+	 */
+	public void sendPackets(List<? extends JdwpPacket> packets) {
+		checkConnected();
+
+		synchronized (fOutgoingPackets) {
+			fOutgoingPackets.addAll(packets);
+			fOutgoingPackets.notifyAll();
+		}
+	}
+
+	/**
+	 * @exception VMDisconnectedException
+	 *                if the connection to the Virtual Machine has been closed
+	 */
+	private void checkConnected() {
 		if (VMIsDisconnected()) {
 			String message;
 			if (getDisconnectException() == null) {
@@ -89,36 +119,37 @@ public class PacketSendManager extends PacketManager {
 			}
 			throw new VMDisconnectedException(message);
 		}
-
-		synchronized (fOutgoingPackets) {
-			// Add packet to list of packets to send.
-			fOutgoingPackets.add(packet);
-			// Notify PacketSendThread that data is available.
-			fOutgoingPackets.notifyAll();
-		}
 	}
 
 	/**
-	 * Send available packets to the Virtual Machine.
+	 * Send available packets to the Virtual Machine. All packets queued at this
+	 * point are written together and flushed once.
 	 */
 	private void sendAvailablePackets() throws InterruptedException,
 			IOException {
-		LinkedList<JdwpPacket> packetsToSend = new LinkedList<>();
+		List<JdwpPacket> packetsToSend;
 		synchronized (fOutgoingPackets) {
 			while (fOutgoingPackets.isEmpty()) {
 				fOutgoingPackets.wait();
 			}
-			packetsToSend.addAll(fOutgoingPackets);
+			packetsToSend = new ArrayList<>(fOutgoingPackets);
 			fOutgoingPackets.clear();
 		}
 
 		// Put available packets on Output Stream.
-		while (packetsToSend.size() > 0) {
-			// Note that only JdwpPackets are added to the list, so a
-			// ClassCastException can't occur.
-			JdwpPacket packet = packetsToSend.removeFirst();
-			byte[] bytes = packet.getPacketAsBytes();
-			getConnection().writePacket(bytes);
+		Connection connection = getConnection();
+		if (connection instanceof SocketChannelConnection channelConnection) {
+			channelConnection.writePackets(packetsToSend);
+		} else if (connection instanceof SocketConnection socketConnection) {
+			List<byte[]> bytes = new ArrayList<>(packetsToSend.size());
+			for (JdwpPacket packet : packetsToSend) {
+				bytes.add(packet.getPacketAsBytes());
+			}
+			socketConnection.writePackets(bytes);
+		} else {
+			for (JdwpPacket packet : packetsToSend) {
+				connection.writePacket(packet.getPacketAsBytes());
+			}
 		}
 	}
 }
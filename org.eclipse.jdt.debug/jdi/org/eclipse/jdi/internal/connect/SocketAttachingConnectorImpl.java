@@ -34,6 +34,8 @@ public class SocketAttachingConnectorImpl extends ConnectorImpl implements
 	/** Port to which is attached. */
 	private int fPort;
 	private int fTimeout;
+	/** Whether packets are transferred over a socket channel. */
+	private boolean fUseChannel;
 
 	/**
 	 * Creates new SocketAttachingConnectorImpl.
@@ -52,7 +54,7 @@ public class SocketAttachingConnectorImpl extends ConnectorImpl implements
 	 */
 	@Override
 	public Map<String, Connector.Argument> defaultArguments() {
-		HashMap<String, Connector.Argument> arguments = new HashMap<>(2);
+		HashMap<String, Connector.Argument> arguments = new HashMap<>(4);
 
 		// Host name
 		StringArgumentImpl strArg = new StringArgumentImpl(
@@ -71,6 +73,12 @@ public class SocketAttachingConnectorImpl extends ConnectorImpl implements
 		timeoutArg.setValue(0); // by default wait forever
 		arguments.put(timeoutArg.name(), timeoutArg);
 
+		// NIO channel
+		BooleanArgumentImpl nioArg = new BooleanArgumentImpl(
+				"nio", ConnectMessages.SocketAttachingConnectorImpl_Transfer_packets_over_NIO_channel_9, ConnectMessages.SocketAttachingConnectorImpl_Use_NIO_channel_10, false); //$NON-NLS-1$
+		nioArg.setValue(false);
+		arguments.put(nioArg.name(), nioArg);
+
 		return arguments;
 	}
 
@@ -111,6 +119,9 @@ public class SocketAttachingConnectorImpl extends ConnectorImpl implements
 					fTimeout = timeoutArg.intValue();
 				}
 			}
+			attribute = "nio"; //$NON-NLS-1$
+			object = connectionArgs.get(attribute);
+			fUseChannel = object != null && ((Connector.BooleanArgument) object).booleanValue();
 		} catch (ClassCastException e) {
 			throw new IllegalConnectorArgumentsException(
 					ConnectMessages.SocketAttachingConnectorImpl_Connection_argument_is_not_of_the_right_type_6,
@@ -136,7 +147,7 @@ public class SocketAttachingConnectorImpl extends ConnectorImpl implements
 		Connection connection = null;
 		try {
 			connection = ((SocketTransportImpl) fTransport).attach(fHostname,
-					fPort, fTimeout, 0);
+					fPort, fTimeout, 0, fUseChannel);
 		} catch (IllegalArgumentException e) {
 			List<String> args = new ArrayList<>();
 			args.add("hostname"); //$NON-NLS-1$
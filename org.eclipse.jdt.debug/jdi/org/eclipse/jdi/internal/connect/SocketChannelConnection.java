@@ -0,0 +1,305 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal.connect;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.List;
+
+import org.eclipse.jdi.internal.jdwp.JdwpPacket;
+
+import com.sun.jdi.connect.spi.ClosedConnectionException;
+import com.sun.jdi.connect.spi.Connection;
+
+/**
+ * Connection that transfers JDWP packets over a blocking
+ * {@link SocketChannel}. Reads and writes go through direct buffers borrowed
+ * from a {@link ByteBufferPool}, so several packets are received with a single
+ * read and sent with a single write, and packets can be decoded without first
+ * being copied into an intermediate array.
+ */
+public class SocketChannelConnection extends Connection {
+
+	private final SocketChannel fChannel;
+
+	private final ByteBufferPool fPool;
+
+	/** Size of the arrays shared by the data of received packets. */
+	static final int READ_DATA_SIZE = 32 * 1024;
+
+	/**
+	 * Length above which the data of a received packet gets an array of its
+	 * own, so that large packets do not waste the shared array.
+	 */
+	static final int MAX_SHARED_DATA_LENGTH = 4 * 1024;
+
+	private final Object fReadLock = new Object();
+
+	private final Object fWriteLock = new Object();
+
+	/**
+	 * Buffer holding the bytes received but not consumed yet, kept in read
+	 * mode between reads. Guarded by {@link #fReadLock}.
+	 */
+	private ByteBuffer fReadBuffer;
+
+	/**
+	 * Array the data of received packets is carved out of, so that small
+	 * packets do not each allocate an array of their own. A full array is
+	 * replaced rather than reused, since packets still refer to it. Guarded by
+	 * {@link #fReadLock}.
+	 */
+	private byte[] fReadData;
+
+	/**
+	 * Index of the first free byte of {@link #fReadData}. Guarded by
+	 * {@link #fReadLock}.
+	 */
+	private int fReadDataPosition;
+
+	/** Header of the packet being read. Guarded by {@link #fReadLock}. */
+	private final byte[] fReadHeader = new byte[JdwpPacket.HEADER_LENGTH];
+
+	/** Header of the packet being written. Guarded by {@link #fWriteLock}. */
+	private final byte[] fWriteHeader = new byte[JdwpPacket.HEADER_LENGTH];
+
+	SocketChannelConnection(SocketChannel channel) {
+		this(channel, ByteBufferPool.getDefault());
+	}
+
+	SocketChannelConnection(SocketChannel channel, ByteBufferPool pool) {
+		fChannel = channel;
+		fPool = pool;
+		fReadBuffer = pool.acquire();
+		fReadBuffer.limit(0);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see com.sun.jdi.connect.spi.Connection#close()
+	 */
+	@Override
+	public void close() throws IOException {
+		// closing the channel unblocks a pending read, so the read lock can be
+		// acquired afterwards
+		fChannel.close();
+		synchronized (fReadLock) {
+			fPool.release(fReadBuffer);
+			fReadBuffer = null;
+			fReadData = null;
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see com.sun.jdi.connect.spi.Connection#isOpen()
+	 */
+	@Override
+	public boolean isOpen() {
+		return fChannel.isOpen();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see com.sun.jdi.connect.spi.Connection#readPacket()
+	 */
+	@Override
+	public byte[] readPacket() throws IOException {
+		synchronized (fReadLock) {
+			int packetLength = readHeader();
+			byte[] packet = new byte[packetLength];
+			System.arraycopy(fReadHeader, 0, packet, 0, fReadHeader.length);
+			readFully(packet, fReadHeader.length, packetLength - fReadHeader.length);
+			return packet;
+		}
+	}
+
+	/**
+	 * Reads the next packet from the Virtual Machine and builds it directly
+	 * from the received bytes, without copying the whole packet into an
+	 * intermediate array first. The data of small packets is copied from the
+	 * read buffer into a range of an array shared with the packets received
+	 * before and after it.
+	 *
+	 * @return the packet read
+	 * @throws IOException
+	 *             if an I/O error occurs
+	 */
+	public JdwpPacket readJdwpPacket() throws IOException {
+		synchronized (fReadLock) {
+			int dataLength = readHeader() - fReadHeader.length;
+			if (dataLength == 0) {
+				return JdwpPacket.build(fReadHeader, null);
+			}
+			if (dataLength > MAX_SHARED_DATA_LENGTH) {
+				byte[] data = new byte[dataLength];
+				readFully(data, 0, dataLength);
+				return JdwpPacket.build(fReadHeader, data);
+			}
+			if (fReadData == null || dataLength > fReadData.length - fReadDataPosition) {
+				fReadData = new byte[READ_DATA_SIZE];
+				fReadDataPosition = 0;
+			}
+			int offset = fReadDataPosition;
+			readFully(fReadData, offset, dataLength);
+			fReadDataPosition += dataLength;
+			return JdwpPacket.build(fReadHeader, fReadData, offset, dataLength);
+		}
+	}
+
+	/**
+	 * Reads the header of the next packet into {@link #fReadHeader}.
+	 *
+	 * @return the length of the packet
+	 */
+	private int readHeader() throws IOException {
+		try {
+			readFully(fReadHeader, 0, fReadHeader.length);
+		} catch (IOException e) {
+			throw new ClosedConnectionException();
+		}
+		int packetLength = getPacketLength(fReadHeader);
+		if (packetLength < JdwpPacket.HEADER_LENGTH) {
+			throw new IOException("JDWP Packet under 11 bytes"); //$NON-NLS-1$
+		}
+		return packetLength;
+	}
+
+	private void readFully(byte[] bytes, int offset, int length) throws IOException {
+		ByteBuffer buffer = fReadBuffer;
+		if (buffer == null) {
+			throw new ClosedConnectionException();
+		}
+		while (length > 0) {
+			if (!buffer.hasRemaining()) {
+				buffer.clear();
+				int read = fChannel.read(buffer);
+				buffer.flip();
+				if (read < 0) {
+					throw new ClosedConnectionException();
+				}
+			}
+			int count = Math.min(length, buffer.remaining());
+			buffer.get(bytes, offset, count);
+			offset += count;
+			length -= count;
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see com.sun.jdi.connect.spi.Connection#writePacket(byte[])
+	 */
+	@Override
+	public void writePacket(byte[] packet) throws IOException {
+		if (packet == null) {
+			throw new IllegalArgumentException(
+					"Invalid JDWP Packet, packet cannot be null"); //$NON-NLS-1$
+		}
+		int packetSize = getPacketLength(packet);
+		if (packetSize < JdwpPacket.HEADER_LENGTH) {
+			throw new IllegalArgumentException(
+					"Invalid JDWP Packet, must be at least 11 bytes. PacketSize:" + packetSize); //$NON-NLS-1$
+		}
+		if (packetSize > packet.length) {
+			throw new IllegalArgumentException(
+					"Invalid JDWP packet: Specified length is greater than actual length"); //$NON-NLS-1$
+		}
+		if (!isOpen()) {
+			throw new ClosedConnectionException();
+		}
+		synchronized (fWriteLock) {
+			ByteBuffer buffer = fPool.acquire();
+			try {
+				put(buffer, packet, 0, packetSize);
+				flush(buffer);
+			} finally {
+				fPool.release(buffer);
+			}
+		}
+	}
+
+	/**
+	 * Writes the given packets to the Virtual Machine. The headers and data of
+	 * the packets are copied straight into a pooled direct buffer, which is
+	 * written to the channel whenever it is full and once at the end.
+	 *
+	 * @param packets
+	 *            the packets to write
+	 * @throws IOException
+	 *             if an I/O error occurs
+	 */
+	public void writePackets(List<? extends JdwpPacket> packets) throws IOException {
+		if (!isOpen()) {
+			throw new ClosedConnectionException();
+		}
+		synchronized (fWriteLock) {
+			ByteBuffer buffer = fPool.acquire();
+			try {
+				for (JdwpPacket packet : packets) {
+					int headerLength = packet.writeHeader(fWriteHeader);
+					put(buffer, fWriteHeader, 0, headerLength);
+					byte[] data = packet.data();
+					if (data != null) {
+						put(buffer, data, 0, data.length);
+					}
+				}
+				flush(buffer);
+			} finally {
+				fPool.release(buffer);
+			}
+		}
+	}
+
+	/**
+	 * Copies the given bytes into the buffer, writing the buffer to the
+	 * channel each time it fills up.
+	 */
+	private void put(ByteBuffer buffer, byte[] bytes, int offset, int length) throws IOException {
+		while (length > 0) {
+			if (!buffer.hasRemaining()) {
+				flush(buffer);
+			}
+			int count = Math.min(length, buffer.remaining());
+			buffer.put(bytes, offset, count);
+			offset += count;
+			length -= count;
+		}
+	}
+
+	/**
+	 * Writes the content of the buffer to the channel and clears it.
+	 */
+	private void flush(ByteBuffer buffer) throws IOException {
+		buffer.flip();
+		while (buffer.hasRemaining()) {
+			fChannel.write(buffer);
+		}
+		buffer.clear();
+	}
+
+	private int getPacketLength(byte[] packet) {
+		int len = 0;
+		if (packet.length >= 4) {
+			len = (((packet[0] & 0xFF) << 24) + ((packet[1] & 0xFF) << 16)
+					+ ((packet[2] & 0xFF) << 8) + ((packet[3] & 0xFF) << 0));
+		}
+		return len;
+	}
+}
@@ -14,17 +14,25 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal.connect;
 
+import java.io.BufferedOutputStream;
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.Socket;
+import java.util.List;
 
 import com.sun.jdi.connect.spi.ClosedConnectionException;
 import com.sun.jdi.connect.spi.Connection;
 
 public class SocketConnection extends Connection {
 
+	/**
+	 * Size of the output buffer, used to put several small packets on the wire
+	 * with a single write.
+	 */
+	private static final int OUTPUT_BUFFER_SIZE = 8192;
+
 	// for attaching connector
 	private Socket fSocket;
 
@@ -35,7 +43,7 @@ public class SocketConnection extends Connection {
 	SocketConnection(Socket socket, InputStream in, OutputStream out) {
 		fSocket = socket;
 		fInput = in;
-		fOutput = out;
+		fOutput = new BufferedOutputStream(out, OUTPUT_BUFFER_SIZE);
 	}
 
 	/*
@@ -109,6 +117,57 @@ public class SocketConnection extends Connection {
 		if (!isOpen()) {
 			throw new ClosedConnectionException();
 		}
+		int packetSize = checkPacket(packet);
+
+		OutputStream stream = getOutputStream();
+		synchronized (stream) {
+			// packet.length can be > packetSize. Sending too much will cause
+			// errors on the other side
+			stream.write(packet, 0, packetSize);
+			stream.flush();
+		}
+	}
+
+	/**
+	 * Writes the given packets to the Virtual Machine, coalescing them into as
+	 * few socket writes as possible and flushing only once.
+	 *
+	 * @param packets
+	 *            the packets to write
+	 * @throws IOException
+	 *             if an I/O error occurs
+	 */
+	public void writePackets(List<byte[]> packets) throws IOException {
+		if (!isOpen()) {
+			throw new ClosedConnectionException();
+		}
+		int[] packetSizes = new int[packets.size()];
+		for (int i = 0; i < packetSizes.length; i++) {
+			packetSizes[i] = checkPacket(packets.get(i));
+		}
+
+		OutputStream stream = getOutputStream();
+		synchronized (stream) {
+			for (int i = 0; i < packetSizes.length; i++) {
+				stream.write(packets.get(i), 0, packetSizes[i]);
+			}
+			stream.flush();
+		}
+	}
+
+	private synchronized OutputStream getOutputStream() throws IOException {
+		if (!isOpen()) {
+			throw new ClosedConnectionException();
+		}
+		return fOutput;
+	}
+
+	/**
+	 * Validates the given packet.
+	 *
+	 * @return the number of bytes of the packet to send
+	 */
+	private int checkPacket(byte[] packet) {
 		if (packet == null) {
 			throw new IllegalArgumentException(
 					"Invalid JDWP Packet, packet cannot be null"); //$NON-NLS-1$
@@ -128,20 +187,7 @@ public class SocketConnection extends Connection {
 			throw new IllegalArgumentException(
 					"Invalid JDWP packet: Specified length is greater than actual length"); //$NON-NLS-1$
 		}
-
-		OutputStream stream = null;
-		synchronized (this) {
-			if (!isOpen()) {
-				throw new ClosedConnectionException();
-			}
-			stream = fOutput;
-		}
-
-		synchronized (stream) {
-			// packet.length can be > packetSize. Sending too much will cause
-			// errors on the other side
-			stream.write(packet, 0, packetSize);
-		}
+		return packetSize;
 	}
 
 	private int getPacketLength(byte[] packet) {
@@ -26,12 +26,15 @@ import com.sun.jdi.VirtualMachine;
 import com.sun.jdi.connect.Connector;
 import com.sun.jdi.connect.IllegalConnectorArgumentsException;
 import com.sun.jdi.connect.ListeningConnector;
+import com.sun.jdi.connect.spi.Connection;
 
 public class SocketListeningConnectorImpl extends ConnectorImpl implements ListeningConnector {
 	/** Port to which is attached. */
 	private int fPort;
 	/** Timeout before accept returns. */
 	private int fTimeout;
+	/** Whether packets are transferred over a socket channel. */
+	private boolean fUseChannel;
 
 	/**
 	 * Creates new SocketAttachingConnectorImpl.
@@ -68,6 +71,12 @@ public class SocketListeningConnectorImpl extends ConnectorImpl implements Liste
 		intArg.setValue(1);  // mimics previous behaviour, allowing a single connection
 		arguments.put(intArg.name(), intArg);
 
+		// NIO channel
+		BooleanArgumentImpl nioArg = new BooleanArgumentImpl(
+				"nio", ConnectMessages.SocketListeningConnectorImpl_Transfer_packets_over_NIO_channel_9, ConnectMessages.SocketListeningConnectorImpl_Use_NIO_channel_10, false); //$NON-NLS-1$
+		nioArg.setValue(false);
+		arguments.put(nioArg.name(), nioArg);
+
 		return arguments;
 	}
 
@@ -112,6 +121,9 @@ public class SocketListeningConnectorImpl extends ConnectorImpl implements Liste
 			} else {
 				fTimeout = 0;
 			}
+			attribute = "nio"; //$NON-NLS-1$
+			Connector.BooleanArgument nioArg = (Connector.BooleanArgument) connectionArgs.get(attribute);
+			fUseChannel = nioArg != null && nioArg.booleanValue();
 		} catch (ClassCastException e) {
 			throw new IllegalConnectorArgumentsException(
 					ConnectMessages.SocketListeningConnectorImpl_Connection_argument_is_not_of_the_right_type_6,
@@ -138,7 +150,7 @@ public class SocketListeningConnectorImpl extends ConnectorImpl implements Liste
 		getConnectionArguments(connectionArgs);
 		String result = null;
 		try {
-			result = ((SocketTransportImpl) fTransport).startListening(fPort);
+			result = ((SocketTransportImpl) fTransport).startListening(fPort, fUseChannel);
 		} catch (IllegalArgumentException e) {
 			throw new IllegalConnectorArgumentsException(
 					ConnectMessages.SocketListeningConnectorImpl_ListeningConnector_Socket_Port,
@@ -163,7 +175,7 @@ public class SocketListeningConnectorImpl extends ConnectorImpl implements Liste
 	@Override
 	public VirtualMachine accept(Map<String, ? extends Connector.Argument> connectionArgs) throws IOException, IllegalConnectorArgumentsException {
 		getConnectionArguments(connectionArgs);
-		SocketConnection connection = (SocketConnection) ((SocketTransportImpl) fTransport)
+		Connection connection = ((SocketTransportImpl) fTransport)
 				.accept(fTimeout, 0);
 		return establishedConnection(connection);
 	}
@@ -46,11 +46,20 @@ public class SocketTransportImpl implements Transport {
 
 	public Connection attach(String hostname, int port, long attachTimeout,
 			long handshakeTimeout) throws IOException {
-		return service.attach(hostname, port, attachTimeout, handshakeTimeout);
+		return attach(hostname, port, attachTimeout, handshakeTimeout, false);
+	}
+
+	public Connection attach(String hostname, int port, long attachTimeout,
+			long handshakeTimeout, boolean useChannel) throws IOException {
+		return service.attach(hostname, port, attachTimeout, handshakeTimeout, useChannel);
 	}
 
 	public String startListening(int port) throws IOException {
-		fListenKey = service.startListening(port + ""); //$NON-NLS-1$
+		return startListening(port, false);
+	}
+
+	public String startListening(int port, boolean useChannel) throws IOException {
+		fListenKey = service.startListening(port + "", useChannel); //$NON-NLS-1$
 		return fListenKey.address();
 	}
 
@@ -21,9 +21,12 @@ import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.net.InetSocketAddress;
 import java.net.ServerSocket;
 import java.net.Socket;
 import java.net.SocketTimeoutException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
 import java.util.Arrays;
 
 import org.eclipse.jdi.TimeoutException;
@@ -94,10 +97,25 @@ public class SocketTransportService extends TransportService {
 			timeoutException.initCause(e);
 			throw timeoutException;
 		}
+		// packets are coalesced by the sending thread, don't delay them any
+		// further
+		socket.setTcpNoDelay(true);
 		InputStream input = socket.getInputStream();
 		OutputStream output = socket.getOutputStream();
 		performHandshake(input, output, handshakeTimeout);
-		return new SocketConnection(socket, input, output);
+		return newConnection(socket, input, output);
+	}
+
+	/**
+	 * Creates the connection for a socket that completed the handshake. Sockets
+	 * backed by a channel get a {@link SocketChannelConnection}.
+	 */
+	private Connection newConnection(Socket socket, InputStream in, OutputStream out) {
+		SocketChannel channel = socket.getChannel();
+		if (channel != null) {
+			return new SocketChannelConnection(channel);
+		}
+		return new SocketConnection(socket, in, out);
 	}
 
 	@Override
@@ -118,6 +136,18 @@ public class SocketTransportService extends TransportService {
 
 	public Connection attach(final String host, final int port,
 			long attachTimeout, final long handshakeTimeout) throws IOException {
+		return attach(host, port, attachTimeout, handshakeTimeout, false);
+	}
+
+	/**
+	 * Attaches to the VM listening at the given host and port.
+	 *
+	 * @param useChannel
+	 *            whether packets are transferred over a
+	 *            {@link SocketChannel} instead of the socket streams
+	 */
+	public Connection attach(final String host, final int port,
+			long attachTimeout, final long handshakeTimeout, final boolean useChannel) throws IOException {
 		if (attachTimeout > 0) {
 			if (attachTimeout > Integer.MAX_VALUE) {
 				attachTimeout = Integer.MAX_VALUE; // approx 25 days!
@@ -125,16 +155,22 @@ public class SocketTransportService extends TransportService {
 		}
 
 		final IOException[] ex = new IOException[1];
-		final SocketConnection[] result = new SocketConnection[1];
+		final Connection[] result = new Connection[1];
 		Thread attachThread = new Thread(new Runnable() {
 			@Override
 			public void run() {
 				try {
-					Socket socket = new Socket(host, port);
+					Socket socket;
+					if (useChannel) {
+						socket = SocketChannel.open(new InetSocketAddress(host, port)).socket();
+					} else {
+						socket = new Socket(host, port);
+					}
+					socket.setTcpNoDelay(true);
 					InputStream input = socket.getInputStream();
 					OutputStream output = socket.getOutputStream();
 					performHandshake(input, output, handshakeTimeout);
-					result[0] = new SocketConnection(socket, input, output);
+					result[0] = newConnection(socket, input, output);
 					ex[0] = null;
 				} catch (IOException e) {
 					if (ex[0] != null) {
@@ -266,6 +302,17 @@ public class SocketTransportService extends TransportService {
 
 	@Override
 	public ListenKey startListening(String address) throws IOException {
+		return startListening(address, false);
+	}
+
+	/**
+	 * Starts listening for a VM at the given address.
+	 *
+	 * @param useChannel
+	 *            whether accepted connections transfer packets over a
+	 *            {@link SocketChannel} instead of the socket streams
+	 */
+	public ListenKey startListening(String address, boolean useChannel) throws IOException {
 		String host = null;
 		int port = -1;
 		if (address != null) {
@@ -287,7 +334,12 @@ public class SocketTransportService extends TransportService {
 			host = "localhost"; //$NON-NLS-1$
 		}
 
-		fServerSocket = new ServerSocket(port);
+		if (useChannel) {
+			fServerSocket = ServerSocketChannel.open().socket();
+			fServerSocket.bind(new InetSocketAddress(port));
+		} else {
+			fServerSocket = new ServerSocket(port);
+		}
 		port = fServerSocket.getLocalPort();
 		ListenKey listenKey = new SocketListenKey(host + ":" + port); //$NON-NLS-1$
 		return listenKey;
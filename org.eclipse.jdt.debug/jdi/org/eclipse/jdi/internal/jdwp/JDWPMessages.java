@@ -22,6 +22,7 @@ public class JDWPMessages extends NLS {
 	public static String JdwpString_Second_or_third_byte_input_does_not_mach_UTF_Specification_2;
 	public static String JdwpString_Input_does_not_match_UTF_Specification_3;
 	public static String JdwpString_str_is_null_4;
+	public static String JdwpString_Input_ends_within_a_character_5;
 
 	static {
 		// load message values from bundle file
@@ -0,0 +1,332 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal.jdwp;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Records the number of requests, the bytes sent and received and the round
+ * trip times of the JDWP commands sent to a VM. Recording a request allocates
+ * nothing once its command has been seen before, and takes no lock.
+ * <p>
+ * Round trip times are counted in a histogram of buckets whose width grows
+ * with their value, so that each bucket covers at most an eighth of its lower
+ * bound. Percentiles are reported as the lower bound of their bucket.
+ * </p>
+ */
+public class JdwpCommandMetrics {
+
+	/** Number of bits of a value that select a bucket within its power of 2. */
+	private static final int SUB_BUCKET_BITS = 3;
+
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+	private static final int BUCKET_COUNT = (63 - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+	private static final int COUNT = 0;
+	private static final int FAILURES = 1;
+	private static final int BYTES_OUT = 2;
+	private static final int BYTES_IN = 3;
+	private static final int TOTAL_NANOS = 4;
+	private static final int MAX_NANOS = 5;
+	private static final int COUNTER_COUNT = 6;
+
+	/**
+	 * Counters of a command.
+	 */
+	private static class Counters {
+
+		final AtomicLongArray fCounters = new AtomicLongArray(COUNTER_COUNT);
+
+		final AtomicLongArray fHistogram = new AtomicLongArray(BUCKET_COUNT);
+	}
+
+	/** Counters indexed by command set and command. */
+	private volatile AtomicReferenceArray<AtomicReferenceArray<Counters>> fCommandSets = newTable();
+
+	private static AtomicReferenceArray<AtomicReferenceArray<Counters>> newTable() {
+		return new AtomicReferenceArray<>(256);
+	}
+
+	/**
+	 * Records a request that was answered.
+	 *
+	 * @param command
+	 *            the command set and command of the request
+	 * @param bytesOut
+	 *            the length of the command packet
+	 * @param bytesIn
+	 *            the length of the reply packet
+	 * @param nanos
+	 *            the time between sending the request and receiving the reply
+	 */
+	public void record(int command, int bytesOut, int bytesIn, long nanos) {
+		Counters counters = counters(command);
+		AtomicLongArray values = counters.fCounters;
+		values.incrementAndGet(COUNT);
+		values.addAndGet(BYTES_OUT, bytesOut);
+		values.addAndGet(BYTES_IN, bytesIn);
+		if (nanos < 0) {
+			nanos = 0;
+		}
+		values.addAndGet(TOTAL_NANOS, nanos);
+		long max = values.get(MAX_NANOS);
+		while (nanos > max && !values.compareAndSet(MAX_NANOS, max, nanos)) {
+			max = values.get(MAX_NANOS);
+		}
+		counters.fHistogram.incrementAndGet(bucket(nanos));
+	}
+
+	/**
+	 * Records a request that was not answered, because it timed out or the VM
+	 * disconnected.
+	 *
+	 * @param command
+	 *            the command set and command of the request
+	 * @param bytesOut
+	 *            the length of the command packet
+	 */
+	public void recordFailure(int command, int bytesOut) {
+		AtomicLongArray values = counters(command).fCounters;
+		values.incrementAndGet(FAILURES);
+		values.addAndGet(BYTES_OUT, bytesOut);
+	}
+
+	/**
+	 * Discards everything recorded so far.
+	 */
+	public void reset() {
+		fCommandSets = newTable();
+	}
+
+	private Counters counters(int command) {
+		AtomicReferenceArray<AtomicReferenceArray<Counters>> commandSets = fCommandSets;
+		int set = (command >>> 8) & 0xFF;
+		AtomicReferenceArray<Counters> commands = commandSets.get(set);
+		if (commands == null) {
+			commandSets.compareAndSet(set, null, new AtomicReferenceArray<>(256));
+			commands = commandSets.get(set);
+		}
+		int index = command & 0xFF;
+		Counters counters = commands.get(index);
+		if (counters == null) {
+			commands.compareAndSet(index, null, new Counters());
+			counters = commands.get(index);
+		}
+		return counters;
+	}
+
+	/**
+	 * @return Returns the histogram bucket of the given value.
+	 */
+	static int bucket(long value) {
+		if (value < SUB_BUCKET_COUNT) {
+			return (int) value;
+		}
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+		return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+	}
+
+	/**
+	 * @return Returns the smallest value of the given histogram bucket.
+	 */
+	static long bucketLowerBound(int bucket) {
+		if (bucket < SUB_BUCKET_COUNT) {
+			return bucket;
+		}
+		int exponent = bucket / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+		long subBucket = bucket % SUB_BUCKET_COUNT;
+		return (SUB_BUCKET_COUNT + subBucket) << (exponent - SUB_BUCKET_BITS);
+	}
+
+	/**
+	 * @return Returns a snapshot of the statistics of each command that has
+	 *         been recorded, ordered by command set and command.
+	 */
+	public List<CommandStatistics> getStatistics() {
+		AtomicReferenceArray<AtomicReferenceArray<Counters>> commandSets = fCommandSets;
+		List<CommandStatistics> statistics = new ArrayList<>();
+		for (int set = 0; set < commandSets.length(); set++) {
+			AtomicReferenceArray<Counters> commands = commandSets.get(set);
+			if (commands == null) {
+				continue;
+			}
+			for (int command = 0; command < commands.length(); command++) {
+				Counters counters = commands.get(command);
+				if (counters != null) {
+					statistics.add(new CommandStatistics((set << 8) | command, counters));
+				}
+			}
+		}
+		return statistics;
+	}
+
+	/**
+	 * @return Returns the statistics of each command that has been recorded
+	 *         as a JSON document.
+	 */
+	public String toJson() {
+		StringBuilder json = new StringBuilder();
+		json.append("{\"commands\":["); //$NON-NLS-1$
+		boolean first = true;
+		for (CommandStatistics statistics : getStatistics()) {
+			if (!first) {
+				json.append(',');
+			}
+			first = false;
+			statistics.appendJson(json);
+		}
+		json.append("]}"); //$NON-NLS-1$
+		return json.toString();
+	}
+
+	/**
+	 * Snapshot of the statistics of a command.
+	 */
+	public static class CommandStatistics {
+
+		private final int fCommand;
+
+		private final long[] fCounters = new long[COUNTER_COUNT];
+
+		private final long[] fHistogram = new long[BUCKET_COUNT];
+
+		private long fHistogramCount;
+
+		CommandStatistics(int command, Counters counters) {
+			fCommand = command;
+			for (int i = 0; i < COUNTER_COUNT; i++) {
+				fCounters[i] = counters.fCounters.get(i);
+			}
+			for (int i = 0; i < BUCKET_COUNT; i++) {
+				fHistogram[i] = counters.fHistogram.get(i);
+				fHistogramCount += fHistogram[i];
+			}
+		}
+
+		/**
+		 * @return Returns the command set and command.
+		 */
+		public int getCommand() {
+			return fCommand;
+		}
+
+		/**
+		 * @return Returns the name of the command, as used in verbose output.
+		 */
+		public String getName() {
+			String name = JdwpCommandPacket.commandMap().get(Integer.valueOf(fCommand));
+			if (name == null) {
+				return (fCommand >>> 8) + " - " + (fCommand & 0xFF); //$NON-NLS-1$
+			}
+			return name;
+		}
+
+		/**
+		 * @return Returns the number of requests that were answered.
+		 */
+		public long getCount() {
+			return fCounters[COUNT];
+		}
+
+		/**
+		 * @return Returns the number of requests that were not answered.
+		 */
+		public long getFailures() {
+			return fCounters[FAILURES];
+		}
+
+		/**
+		 * @return Returns the number of bytes sent in command packets.
+		 */
+		public long getBytesOut() {
+			return fCounters[BYTES_OUT];
+		}
+
+		/**
+		 * @return Returns the number of bytes received in reply packets.
+		 */
+		public long getBytesIn() {
+			return fCounters[BYTES_IN];
+		}
+
+		/**
+		 * @return Returns the sum of the round trip times of the answered
+		 *         requests, in nanoseconds.
+		 */
+		public long getTotalNanos() {
+			return fCounters[TOTAL_NANOS];
+		}
+
+		/**
+		 * @return Returns the longest round trip time, in nanoseconds.
+		 */
+		public long getMaxNanos() {
+			return fCounters[MAX_NANOS];
+		}
+
+		/**
+		 * Returns the round trip time below which the given percentage of the
+		 * answered requests completed, in nanoseconds.
+		 *
+		 * @param percentile
+		 *            a percentage between 0 and 100
+		 * @return Returns the lower bound of the histogram bucket of the
+		 *         percentile, or 0 if no request was answered.
+		 */
+		public long getPercentileNanos(double percentile) {
+			if (fHistogramCount == 0) {
+				return 0;
+			}
+			long rank = Math.max(1, (long) Math.ceil(fHistogramCount * percentile / 100));
+			long seen = 0;
+			for (int i = 0; i < BUCKET_COUNT; i++) {
+				seen += fHistogram[i];
+				if (seen >= rank) {
+					return Math.min(bucketLowerBound(i), getMaxNanos());
+				}
+			}
+			return getMaxNanos();
+		}
+
+		void appendJson(StringBuilder json) {
+			json.append("{\"commandSet\":").append(fCommand >>> 8); //$NON-NLS-1$
+			json.append(",\"command\":").append(fCommand & 0xFF); //$NON-NLS-1$
+			json.append(",\"name\":\""); //$NON-NLS-1$
+			String name = getName();
+			for (int i = 0; i < name.length(); i++) {
+				char c = name.charAt(i);
+				if (c == '"' || c == '\\') {
+					json.append('\\');
+				}
+				json.append(c);
+			}
+			json.append('"');
+			json.append(",\"count\":").append(getCount()); //$NON-NLS-1$
+			json.append(",\"failures\":").append(getFailures()); //$NON-NLS-1$
+			json.append(",\"bytesOut\":").append(getBytesOut()); //$NON-NLS-1$
+			json.append(",\"bytesIn\":").append(getBytesIn()); //$NON-NLS-1$
+			json.append(",\"totalNanos\":").append(getTotalNanos()); //$NON-NLS-1$
+			json.append(",\"latencyNanos\":{\"p50\":").append(getPercentileNanos(50)); //$NON-NLS-1$
+			json.append(",\"p90\":").append(getPercentileNanos(90)); //$NON-NLS-1$
+			json.append(",\"p99\":").append(getPercentileNanos(99)); //$NON-NLS-1$
+			json.append(",\"max\":").append(getMaxNanos()); //$NON-NLS-1$
+			json.append("}}"); //$NON-NLS-1$
+		}
+	}
+}
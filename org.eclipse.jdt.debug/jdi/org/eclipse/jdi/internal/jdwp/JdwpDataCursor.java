@@ -0,0 +1,230 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal.jdwp;
+
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+
+/**
+ * Reads JDWP data directly from the data array of a packet. Unlike a
+ * {@link DataInputStream} over a {@link java.io.ByteArrayInputStream}, values
+ * are decoded in place without going through synchronized single byte reads,
+ * and strings are decoded without copying their bytes first.
+ * <p>
+ * A cursor is not thread safe; it is meant to be used by the thread that
+ * decodes a reply.
+ * </p>
+ */
+public class JdwpDataCursor implements DataInput {
+
+	private static final byte[] EMPTY = new byte[0];
+
+	private final byte[] fBytes;
+
+	private final int fStart;
+
+	private final int fLimit;
+
+	private int fPosition;
+
+	/**
+	 * Creates a cursor positioned at the start of the given data.
+	 *
+	 * @param bytes
+	 *            the data to read, or <code>null</code> if there is none
+	 */
+	public JdwpDataCursor(byte[] bytes) {
+		this(bytes == null ? EMPTY : bytes, 0, bytes == null ? 0 : bytes.length);
+	}
+
+	/**
+	 * Creates a cursor over the given range of an array, positioned at the
+	 * start of the range.
+	 *
+	 * @param bytes
+	 *            the array holding the data to read
+	 * @param offset
+	 *            the index of the first byte of the data
+	 * @param length
+	 *            the number of bytes of the data
+	 */
+	public JdwpDataCursor(byte[] bytes, int offset, int length) {
+		fBytes = bytes;
+		fStart = offset;
+		fPosition = offset;
+		fLimit = offset + length;
+	}
+
+	/**
+	 * @return Returns the position of the next byte to read within the data.
+	 */
+	public int position() {
+		return fPosition - fStart;
+	}
+
+	/**
+	 * @return Returns the number of bytes left to read.
+	 */
+	public int remaining() {
+		return fLimit - fPosition;
+	}
+
+	/**
+	 * Advances the cursor by the given number of bytes.
+	 *
+	 * @return Returns the index at which the bytes start.
+	 */
+	private int advance(int count) throws EOFException {
+		int position = fPosition;
+		if (count > fLimit - position) {
+			throw new EOFException();
+		}
+		fPosition = position + count;
+		return position;
+	}
+
+	@Override
+	public void readFully(byte[] b) throws IOException {
+		readFully(b, 0, b.length);
+	}
+
+	@Override
+	public void readFully(byte[] b, int off, int len) throws IOException {
+		System.arraycopy(fBytes, advance(len), b, off, len);
+	}
+
+	@Override
+	public int skipBytes(int n) {
+		int count = Math.max(0, Math.min(n, remaining()));
+		fPosition += count;
+		return count;
+	}
+
+	@Override
+	public boolean readBoolean() throws IOException {
+		return fBytes[advance(1)] != 0;
+	}
+
+	@Override
+	public byte readByte() throws IOException {
+		return fBytes[advance(1)];
+	}
+
+	@Override
+	public int readUnsignedByte() throws IOException {
+		return fBytes[advance(1)] & 0xff;
+	}
+
+	@Override
+	public short readShort() throws IOException {
+		return (short) readUnsignedShort();
+	}
+
+	@Override
+	public int readUnsignedShort() throws IOException {
+		int i = advance(2);
+		return ((fBytes[i] & 0xff) << 8) | (fBytes[i + 1] & 0xff);
+	}
+
+	@Override
+	public char readChar() throws IOException {
+		return (char) readUnsignedShort();
+	}
+
+	@Override
+	public int readInt() throws IOException {
+		int i = advance(4);
+		return ((fBytes[i] & 0xff) << 24) | ((fBytes[i + 1] & 0xff) << 16)
+				| ((fBytes[i + 2] & 0xff) << 8) | (fBytes[i + 3] & 0xff);
+	}
+
+	@Override
+	public long readLong() throws IOException {
+		return readUnsigned(8);
+	}
+
+	@Override
+	public float readFloat() throws IOException {
+		return Float.intBitsToFloat(readInt());
+	}
+
+	@Override
+	public double readDouble() throws IOException {
+		return Double.longBitsToDouble(readLong());
+	}
+
+	/**
+	 * Reads an unsigned big-endian value of the given size, as used for JDWP
+	 * IDs.
+	 *
+	 * @param size
+	 *            the number of bytes of the value, at most 8
+	 */
+	public long readUnsigned(int size) throws IOException {
+		int i = advance(size);
+		long value = 0;
+		for (int end = i + size; i < end; i++) {
+			value = value << 8 | (fBytes[i] & 0xff);
+		}
+		return value;
+	}
+
+	/**
+	 * Reads a JDWP string, decoding it straight from the packet data.
+	 *
+	 * @see JdwpString#read(DataInput)
+	 */
+	public String readString() throws IOException {
+		int utfSize = readInt();
+		if (utfSize < 0) {
+			throw new EOFException();
+		}
+		return JdwpString.decode(fBytes, advance(utfSize), utfSize);
+	}
+
+	@Override
+	public String readUTF() throws IOException {
+		return DataInputStream.readUTF(this);
+	}
+
+	/**
+	 * Reads bytes as characters up to the next line terminator, like
+	 * {@link DataInputStream#readLine()}.
+	 */
+	@Override
+	public String readLine() {
+		int start = fPosition;
+		if (start == fLimit) {
+			return null;
+		}
+		int i = start;
+		while (i < fLimit && fBytes[i] != '\n' && fBytes[i] != '\r') {
+			i++;
+		}
+		char[] chars = new char[i - start];
+		for (int j = 0; j < chars.length; j++) {
+			chars[j] = (char) (fBytes[start + j] & 0xff);
+		}
+		if (i < fLimit) {
+			if (fBytes[i] == '\r' && i + 1 < fLimit && fBytes[i + 1] == '\n') {
+				i++;
+			}
+			i++;
+		}
+		fPosition = i;
+		return new String(chars);
+	}
+}
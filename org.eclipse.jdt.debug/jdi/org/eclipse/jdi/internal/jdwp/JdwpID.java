@@ -13,7 +13,7 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal.jdwp;
 
-import java.io.DataInputStream;
+import java.io.DataInput;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.lang.reflect.Field;
@@ -132,9 +132,13 @@ public abstract class JdwpID {
 	/**
 	 * Reads ID.
 	 */
-	public void read(DataInputStream inStream) throws IOException {
-		fValue = 0;
+	public void read(DataInput inStream) throws IOException {
 		int size = getSize();
+		if (inStream instanceof JdwpDataCursor cursor) {
+			fValue = cursor.readUnsigned(size);
+			return;
+		}
+		fValue = 0;
 		for (int i = 0; i < size; i++) {
 			int b = inStream.readUnsignedByte(); // Note that the byte must be
 													// treated as unsigned.
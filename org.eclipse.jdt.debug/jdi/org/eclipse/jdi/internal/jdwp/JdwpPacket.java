@@ -18,6 +18,7 @@ import java.io.DataInputStream;
 import java.io.IOException;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.util.Arrays;
 
 /**
  * This class implements the corresponding Java Debug Wire Protocol (JDWP)
@@ -26,7 +27,9 @@ import java.lang.reflect.Modifier;
 public abstract class JdwpPacket {
 	/** General JDWP constants. */
 	public static final byte FLAG_REPLY_PACKET = (byte) 0x80;
-	protected static final int MIN_PACKET_LENGTH = 11;
+	/** Length of the packet header, i.e. of a packet without data. */
+	public static final int HEADER_LENGTH = 11;
+	protected static final int MIN_PACKET_LENGTH = HEADER_LENGTH;
 
 	/** Map with Strings for flag bits. */
 	private static String[] fgFlagStrings = null;
@@ -35,6 +38,12 @@ public abstract class JdwpPacket {
 	protected int fId = 0;
 	protected byte fFlags = 0;
 	protected byte[] fDataBuf = null;
+	/**
+	 * Range of {@link #fDataBuf} holding the data. Packets read from a
+	 * channel share their array with other packets.
+	 */
+	private int fDataOffset = 0;
+	private int fDataLength = 0;
 
 	/**
 	 * Set Id.
@@ -75,13 +84,18 @@ public abstract class JdwpPacket {
 	 * @return Returns length of data in packet.
 	 */
 	public int getDataLength() {
-		return fDataBuf == null ? 0 : fDataBuf.length;
+		return fDataLength;
 	}
 
 	/**
-	 * @return Returns data of packet.
+	 * @return Returns data of packet. The data of a packet sharing its array
+	 *         with other packets is returned as a copy; use
+	 *         {@link #dataCursor()} to decode it without copying.
 	 */
 	public byte[] data() {
+		if (fDataBuf != null && (fDataOffset != 0 || fDataLength != fDataBuf.length)) {
+			return Arrays.copyOfRange(fDataBuf, fDataOffset, fDataOffset + fDataLength);
+		}
 		return fDataBuf;
 	}
 
@@ -91,17 +105,38 @@ public abstract class JdwpPacket {
 	 */
 	public DataInputStream dataInStream() {
 		if (fDataBuf != null) {
-			return new DataInputStream(new ByteArrayInputStream(fDataBuf));
+			return new DataInputStream(new ByteArrayInputStream(fDataBuf, fDataOffset, fDataLength));
 		}
 
 		return new DataInputStream(new ByteArrayInputStream(new byte[0]));
 	}
 
+	/**
+	 * @return Returns a cursor over the data of the packet, which decodes the
+	 *         data without copying it.
+	 */
+	public JdwpDataCursor dataCursor() {
+		if (fDataBuf == null) {
+			return new JdwpDataCursor(null);
+		}
+		return new JdwpDataCursor(fDataBuf, fDataOffset, fDataLength);
+	}
+
 	/**
 	 * Assigns data to packet.
 	 */
 	public void setData(byte[] data) {
+		setData(data, 0, data == null ? 0 : data.length);
+	}
+
+	/**
+	 * Assigns a range of an array as the data of the packet. The range is not
+	 * copied, so it must not be changed afterwards.
+	 */
+	private void setData(byte[] data, int offset, int length) {
 		fDataBuf = data;
+		fDataOffset = offset;
+		fDataLength = length;
 	}
 
 	/**
@@ -120,19 +155,62 @@ public abstract class JdwpPacket {
 	 * Constructs a JdwpPacket from a byte[].
 	 */
 	public static JdwpPacket build(byte[] bytes) throws IOException {
-		// length (int)
-		int a = (bytes[0] & 0xff) << 24;
-		int b = (bytes[1] & 0xff) << 16;
-		int c = (bytes[2] & 0xff) << 8;
-		int d = (bytes[3] & 0xff) << 0;
-		int packetLength = a + b + c + d;
+		int packetLength = readInt(bytes, 0);
+		JdwpPacket packet = buildFromHeader(bytes);
+
+		// Read data.
+		int index = MIN_PACKET_LENGTH;
+		if (packetLength - MIN_PACKET_LENGTH > 0) {
+			byte[] data = new byte[packetLength - MIN_PACKET_LENGTH];
+			System.arraycopy(bytes, index, data, 0, data.length);
+			packet.setData(data);
+		}
 
+		return packet;
+	}
+
+	/**
+	 * Constructs a JdwpPacket from its header and its data. The data array is
+	 * not copied but becomes the data of the packet.
+	 *
+	 * @param header
+	 *            the {@link #HEADER_LENGTH} header bytes of the packet
+	 * @param data
+	 *            the data of the packet, or <code>null</code> if there is none
+	 */
+	public static JdwpPacket build(byte[] header, byte[] data) throws IOException {
+		JdwpPacket packet = buildFromHeader(header);
+		packet.setData(data);
+		return packet;
+	}
+
+	/**
+	 * Constructs a JdwpPacket from its header and a range of an array holding
+	 * its data. The range is not copied but becomes the data of the packet, so
+	 * it must not be changed afterwards; the rest of the array may hold the
+	 * data of other packets.
+	 *
+	 * @param header
+	 *            the {@link #HEADER_LENGTH} header bytes of the packet
+	 * @param data
+	 *            the array holding the data of the packet
+	 * @param offset
+	 *            the index of the first byte of the data
+	 * @param length
+	 *            the length of the data
+	 */
+	public static JdwpPacket build(byte[] header, byte[] data, int offset, int length) throws IOException {
+		JdwpPacket packet = buildFromHeader(header);
+		packet.setData(data, offset, length);
+		return packet;
+	}
+
+	/**
+	 * Constructs a JdwpPacket without data from the given header bytes.
+	 */
+	private static JdwpPacket buildFromHeader(byte[] bytes) throws IOException {
 		// id (int)
-		a = (bytes[4] & 0xff) << 24;
-		b = (bytes[5] & 0xff) << 16;
-		c = (bytes[6] & 0xff) << 8;
-		d = (bytes[7] & 0xff) << 0;
-		int id = a + b + c + d;
+		int id = readInt(bytes, 4);
 
 		// flags (byte)
 		byte flags = bytes[8];
@@ -148,22 +226,40 @@ public abstract class JdwpPacket {
 		packet.setId(id);
 		packet.setFlags(flags);
 
-		// Read specific header fields and data.
-		int index = 9;
-		index += packet.readSpecificHeaderFields(bytes, 9);
-		if (packetLength - MIN_PACKET_LENGTH > 0) {
-			packet.fDataBuf = new byte[packetLength - MIN_PACKET_LENGTH];
-			System.arraycopy(bytes, index, packet.fDataBuf, 0,
-					packet.fDataBuf.length);
-		}
-
+		// Read specific header fields.
+		packet.readSpecificHeaderFields(bytes, 9);
 		return packet;
 	}
 
+	private static int readInt(byte[] bytes, int index) {
+		int a = (bytes[index] & 0xff) << 24;
+		int b = (bytes[index + 1] & 0xff) << 16;
+		int c = (bytes[index + 2] & 0xff) << 8;
+		int d = (bytes[index + 3] & 0xff) << 0;
+		return a + b + c + d;
+	}
+
 	public byte[] getPacketAsBytes() throws IOException {
 		int len = getLength();
 		byte[] bytes = new byte[len];
 
+		int index = writeHeader(bytes);
+		if (index < len && fDataBuf != null) {
+			// copy data
+			System.arraycopy(fDataBuf, fDataOffset, bytes, index, fDataLength);
+		}
+		return bytes;
+	}
+
+	/**
+	 * Writes the header of this packet to the start of the given array, which
+	 * must have room for at least {@link #HEADER_LENGTH} bytes.
+	 *
+	 * @return the number of bytes written
+	 */
+	public int writeHeader(byte[] bytes) throws IOException {
+		int len = getLength();
+
 		// convert len to bytes
 		bytes[0] = (byte) (len >>> 24);
 		bytes[1] = (byte) (len >>> 16);
@@ -183,12 +279,7 @@ public abstract class JdwpPacket {
 		// convert specific header fields
 		int index = 9;
 		index += writeSpecificHeaderFields(bytes, index);
-
-		if (index < len && fDataBuf != null) {
-			// copy data
-			System.arraycopy(fDataBuf, 0, bytes, index, fDataBuf.length);
-		}
-		return bytes;
+		return index;
 	}
 
 	/**
@@ -13,7 +13,7 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal.jdwp;
 
-import java.io.DataInputStream;
+import java.io.DataInput;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.UTFDataFormatException;
@@ -27,35 +27,55 @@ public class JdwpString {
 	 * Reads String from Jdwp stream. Read a UTF where length has 4 bytes, and
 	 * not just 2. This code was based on the OTI Retysin source for readUTF.
 	 */
-	public static String read(DataInputStream in) throws IOException {
+	public static String read(DataInput in) throws IOException {
+		if (in instanceof JdwpDataCursor cursor) {
+			return cursor.readString();
+		}
 		int utfSize = in.readInt();
 		byte utfBytes[] = new byte[utfSize];
 		in.readFully(utfBytes);
-		/* Guess at buffer size */
-		StringBuilder strBuffer = new StringBuilder(utfSize / 3 * 2);
-		for (int i = 0; i < utfSize;) {
+		return decode(utfBytes, 0, utfSize);
+	}
+
+	/**
+	 * Decodes the given number of UTF bytes starting at the given offset.
+	 */
+	static String decode(byte[] utfBytes, int offset, int utfSize) throws IOException {
+		/* There are never more chars than bytes */
+		char[] chars = new char[utfSize];
+		int count = 0;
+		int end = offset + utfSize;
+		for (int i = offset; i < end;) {
 			int a = utfBytes[i] & 0xFF;
 			if ((a >> 4) < 12) {
-				strBuffer.append((char) a);
+				chars[count++] = (char) a;
 				i++;
 			} else {
+				if (i + 1 >= end) {
+					throw new UTFDataFormatException(
+							JDWPMessages.JdwpString_Input_ends_within_a_character_5);
+				}
 				int b = utfBytes[i + 1] & 0xFF;
 				if ((a >> 4) < 14) {
 					if ((b & 0xBF) == 0) {
 						throw new UTFDataFormatException(
 								JDWPMessages.JdwpString_Second_byte_input_does_not_match_UTF_Specification_1);
 					}
-					strBuffer.append((char) (((a & 0x1F) << 6) | (b & 0x3F)));
+					chars[count++] = (char) (((a & 0x1F) << 6) | (b & 0x3F));
 					i += 2;
 				} else {
+					if (i + 2 >= end) {
+						throw new UTFDataFormatException(
+								JDWPMessages.JdwpString_Input_ends_within_a_character_5);
+					}
 					int c = utfBytes[i + 2] & 0xFF;
 					if ((a & 0xEF) > 0) {
 						if (((b & 0xBF) == 0) || ((c & 0xBF) == 0)) {
 							throw new UTFDataFormatException(
 									JDWPMessages.JdwpString_Second_or_third_byte_input_does_not_mach_UTF_Specification_2);
 						}
-						strBuffer.append((char) (((a & 0x0F) << 12)
-								| ((b & 0x3F) << 6) | (c & 0x3F)));
+						chars[count++] = (char) (((a & 0x0F) << 12)
+								| ((b & 0x3F) << 6) | (c & 0x3F));
 						i += 3;
 					} else {
 						throw new UTFDataFormatException(
@@ -64,7 +84,7 @@ public class JdwpString {
 				}
 			}
 		}
-		return strBuffer.toString();
+		return new String(chars, 0, count);
 	}
 
 	/**
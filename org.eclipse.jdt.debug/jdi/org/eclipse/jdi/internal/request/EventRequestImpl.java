@@ -21,7 +21,10 @@ import java.io.IOException;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import org.eclipse.jdi.internal.FieldImpl;
 import org.eclipse.jdi.internal.LocationImpl;
@@ -39,6 +42,7 @@ import com.sun.jdi.ObjectCollectedException;
 import com.sun.jdi.ObjectReference;
 import com.sun.jdi.ReferenceType;
 import com.sun.jdi.ThreadReference;
+import com.sun.jdi.VMDisconnectedException;
 import com.sun.jdi.VMMismatchException;
 import com.sun.jdi.request.EventRequest;
 import com.sun.jdi.request.InvalidRequestStateException;
@@ -99,6 +103,12 @@ public abstract class EventRequestImpl extends MirrorImpl implements
 	 */
 	private boolean fGeneratedInside = false;
 
+	/**
+	 * Flag that indicates the request was deleted by the event request
+	 * manager, after which it must not be enabled.
+	 */
+	private boolean fDeleted = false;
+
 	/** User property map. */
 	private HashMap<Object, Object> fPropertyMap;
 
@@ -221,6 +231,21 @@ public abstract class EventRequestImpl extends MirrorImpl implements
 		return fGeneratedInside;
 	}
 
+	/**
+	 * Marks this request as deleted. Done before it is disabled, so that a
+	 * batch enabling it concurrently either skips it or disables it again.
+	 */
+	synchronized void setDeleted() {
+		fDeleted = true;
+	}
+
+	/**
+	 * @return Returns whether this request was deleted.
+	 */
+	public synchronized final boolean isDeleted() {
+		return fDeleted;
+	}
+
 	/**
 	 * Disables event request.
 	 */
@@ -258,27 +283,23 @@ public abstract class EventRequestImpl extends MirrorImpl implements
 
 	/**
 	 * Enables event request.
+	 *
+	 * @exception InvalidRequestStateException
+	 *                is thrown if this request was deleted.
 	 */
 	@Override
 	public synchronized void enable() {
+		if (fDeleted) {
+			throw new InvalidRequestStateException();
+		}
 		if (isEnabled()) {
 			return;
 		}
 
 		initJdwpRequest();
 		try {
-			ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
-			DataOutputStream outData = new DataOutputStream(outBytes);
-			writeByte(eventKind(),
-					"event kind", EventImpl.eventKindMap(), outData); //$NON-NLS-1$
-			writeByte(
-					suspendPolicyJDWP(),
-					"suspend policy", EventRequestImpl.suspendPolicyMap(), outData); //$NON-NLS-1$
-			writeInt(modifierCount(), "modifiers", outData); //$NON-NLS-1$
-			writeModifiers(outData);
-
 			JdwpReplyPacket replyPacket = requestVM(JdwpCommandPacket.ER_SET,
-					outBytes);
+					writeSetData());
 			defaultReplyErrorHandler(replyPacket.errorCode());
 			DataInputStream replyData = replyPacket.dataInStream();
 			fRequestID = RequestID.read(this, replyData);
@@ -290,6 +311,84 @@ public abstract class EventRequestImpl extends MirrorImpl implements
 		}
 	}
 
+	/**
+	 * @return Returns the data of the EventRequest.Set command that enables
+	 *         this request.
+	 */
+	private byte[] writeSetData() throws IOException {
+		ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+		DataOutputStream outData = new DataOutputStream(outBytes);
+		writeByte(eventKind(),
+				"event kind", EventImpl.eventKindMap(), outData); //$NON-NLS-1$
+		writeByte(
+				suspendPolicyJDWP(),
+				"suspend policy", EventRequestImpl.suspendPolicyMap(), outData); //$NON-NLS-1$
+		writeInt(modifierCount(), "modifiers", outData); //$NON-NLS-1$
+		writeModifiers(outData);
+		return outBytes.toByteArray();
+	}
+
+	/**
+	 * Enables the given requests with one batch of EventRequest.Set commands,
+	 * which are all written to the VM before any reply is awaited. Requests
+	 * that are enabled already or deleted are skipped, and requests that
+	 * cannot be enabled this way are left disabled, so that enabling them one
+	 * by one reports why.
+	 *
+	 * @throws VMDisconnectedException
+	 *             if the VM disconnected
+	 */
+	static void enable(VirtualMachineImpl vm, List<EventRequestImpl> requests) {
+		List<EventRequestImpl> owners = new ArrayList<>(requests.size());
+		List<JdwpCommandPacket> commands = new ArrayList<>(requests.size());
+		for (EventRequestImpl request : requests) {
+			if (request.isEnabled() || request.isDeleted()) {
+				continue;
+			}
+			try {
+				JdwpCommandPacket command = new JdwpCommandPacket(JdwpCommandPacket.ER_SET);
+				command.setData(request.writeSetData());
+				owners.add(request);
+				commands.add(command);
+			} catch (IOException e) {
+				// left to be reported when enabled alone
+			}
+		}
+		if (commands.isEmpty()) {
+			return;
+		}
+		List<CompletableFuture<JdwpReplyPacket>> replies = vm.requestVMAsync(commands);
+		for (int i = 0; i < commands.size(); i++) {
+			try {
+				owners.get(i).enabled(replies.get(i).join());
+			} catch (CompletionException e) {
+				if (e.getCause() instanceof VMDisconnectedException disconnected) {
+					throw disconnected;
+				}
+			} catch (IOException e) {
+				// left disabled
+			}
+		}
+	}
+
+	/**
+	 * Takes the request ID of this request from the reply to the
+	 * EventRequest.Set command that enabled it, unless the VM reported an
+	 * error. A request deleted while the command was pending is disabled
+	 * again.
+	 */
+	private synchronized void enabled(JdwpReplyPacket replyPacket) throws IOException {
+		if (replyPacket.errorCode() != JdwpReplyPacket.NONE || isEnabled()) {
+			return;
+		}
+		fRequestID = RequestID.read(this, replyPacket.dataInStream());
+		if (fDeleted) {
+			disable();
+			return;
+		}
+		virtualMachineImpl().eventRequestManagerImpl().addRequestIDMapping(this);
+	}
+
 	/**
 	 * Clear all breakpoints (used by EventRequestManager).
 	 */
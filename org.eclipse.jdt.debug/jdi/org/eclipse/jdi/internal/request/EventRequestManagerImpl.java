@@ -384,6 +384,11 @@ public class EventRequestManagerImpl extends MirrorImpl implements EventRequestM
 	 */
 	@Override
 	public void deleteEventRequest(EventRequest req) {
+		// Mark the request deleted first, so that a pending batch does not enable it.
+		if (req instanceof EventRequestImpl) {
+			checkVM(req);
+			((EventRequestImpl) req).setDeleted();
+		}
 		// Disable request, note that this also causes the event request to be removed from fEnabledRequests.
 		try {
 			req.disable();
@@ -437,6 +442,27 @@ public class EventRequestManagerImpl extends MirrorImpl implements EventRequestM
 		}
 	}
 
+	/**
+	 * Enables the given requests, writing the commands that enable them to the
+	 * VM as one batch before awaiting the replies. This saves a round trip to
+	 * the VM per request compared to {@link EventRequest#enable()}. Requests
+	 * that could not be enabled are left disabled: enabling them one by one
+	 * reports the reason.
+	 *
+	 * @param requests
+	 *            the requests to enable, in the order to enable them
+	 * @throws VMMismatchException
+	 *             if a request belongs to another VM
+	 */
+	public void enableEventRequests(List<? extends EventRequest> requests) throws VMMismatchException {
+		List<EventRequestImpl> impls = new ArrayList<>(requests.size());
+		for (EventRequest request : requests) {
+			checkVM(request);
+			impls.add((EventRequestImpl) request);
+		}
+		EventRequestImpl.enable(virtualMachineImpl(), impls);
+	}
+
 	/* (non-Javadoc)
 	 * @see com.sun.jdi.request.EventRequestManager#accessWatchpointRequests()
 	 */
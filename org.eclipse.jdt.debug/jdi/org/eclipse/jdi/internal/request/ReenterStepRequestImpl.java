@@ -23,6 +23,8 @@ import org.eclipse.jdi.internal.event.EventImpl;
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
 
+import com.sun.jdi.request.InvalidRequestStateException;
+
 /**
  * this class implements the corresponding interfaces declared by the OTI Hot
  * Code Replacement extentions of the JDI specification.
@@ -50,6 +52,8 @@ public class ReenterStepRequestImpl extends StepRequestImpl implements
 	 */
 	@Override
 	public void enable() {
+		if (isDeleted())
+			throw new InvalidRequestStateException();
 		if (isEnabled())
 			return;
 
@@ -0,0 +1,290 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal.spy;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.ByteBuffer;
+import java.text.MessageFormat;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.eclipse.jdi.internal.spy.JdwpSessionReader.Record;
+
+/**
+ * Stands in for the VM of a recorded JDWP session. It listens on a local
+ * socket, and answers each command of the debugger that connects with the
+ * reply that was recorded for the same command and data. The events sent by
+ * the VM are sent again once as many commands have been answered as had been
+ * before them in the recording. This makes it possible to measure the
+ * debugger side of a session, such as stepping or installing breakpoints,
+ * without a live target.
+ * <p>
+ * Commands that were sent more often than recorded get the last recorded
+ * reply again. Commands that were not recorded at all are answered with the
+ * error code {@link JdwpReplyPacket#NOT_IMPLEMENTED}, and counted by
+ * {@link #getUnmatchedCommands()}.
+ * </p>
+ */
+public class JdwpReplayVM extends Thread {
+
+	private static final byte[] handshakeBytes = "JDWP-Handshake".getBytes(); //$NON-NLS-1$
+
+	/**
+	 * A recorded command with its reply.
+	 */
+	private static class Exchange {
+
+		final JdwpReplyPacket fReply;
+
+		final long fLatency;
+
+		Exchange(JdwpReplyPacket reply, long latency) {
+			fReply = reply;
+			fLatency = latency;
+		}
+	}
+
+	/**
+	 * A recorded event, with the number of commands sent before it.
+	 */
+	private static class Event {
+
+		final JdwpCommandPacket fPacket;
+
+		final int fCommandsBefore;
+
+		Event(JdwpCommandPacket packet, int commandsBefore) {
+			fPacket = packet;
+			fCommandsBefore = commandsBefore;
+		}
+	}
+
+	/** Recorded exchanges by command and data, in recording order. */
+	private final Map<ByteBuffer, ArrayDeque<Exchange>> fExchanges = new HashMap<>();
+
+	/** The last exchange served for each command and data. */
+	private final Map<ByteBuffer, Exchange> fServed = new HashMap<>();
+
+	private final ArrayDeque<Event> fEvents = new ArrayDeque<>();
+
+	private final boolean fRealTime;
+
+	private ServerSocket fServerSocket;
+
+	private int fAnsweredCommands;
+
+	private volatile int fUnmatchedCommands;
+
+	/**
+	 * Creates a VM that replays the given capture.
+	 *
+	 * @param reader
+	 *            the capture
+	 * @param realTime
+	 *            whether replies are delayed by the time the VM took to send
+	 *            them in the recording
+	 * @throws IOException
+	 *             if the capture cannot be read
+	 */
+	public JdwpReplayVM(JdwpSessionReader reader, boolean realTime) throws IOException {
+		super("JDWP Replay VM"); //$NON-NLS-1$
+		fRealTime = realTime;
+		setDaemon(true);
+		Map<Integer, JdwpCommandPacket> pending = new HashMap<>();
+		Map<Integer, Long> sent = new HashMap<>();
+		int commands = 0;
+		Record record;
+		while ((record = reader.read()) != null) {
+			JdwpPacket packet = record.getPacket();
+			Integer id = Integer.valueOf(packet.getId());
+			if (!record.isFromVM()) {
+				if (packet instanceof JdwpCommandPacket) {
+					pending.put(id, (JdwpCommandPacket) packet);
+					sent.put(id, Long.valueOf(record.getTime()));
+					commands++;
+				}
+			} else if (packet instanceof JdwpReplyPacket) {
+				JdwpCommandPacket command = pending.remove(id);
+				if (command != null) {
+					long latency = record.getTime() - sent.remove(id).longValue();
+					fExchanges.computeIfAbsent(key(command), k -> new ArrayDeque<>()).add(new Exchange((JdwpReplyPacket) packet, latency));
+				}
+			} else {
+				fEvents.add(new Event((JdwpCommandPacket) packet, commands));
+			}
+		}
+	}
+
+	/**
+	 * @return Returns the key of the recorded replies of the given command.
+	 */
+	private static ByteBuffer key(JdwpCommandPacket command) {
+		int length = command.getDataLength();
+		ByteBuffer key = ByteBuffer.allocate(4 + length);
+		key.putInt(command.getCommand());
+		if (length > 0) {
+			key.put(command.data());
+		}
+		key.flip();
+		return key;
+	}
+
+	/**
+	 * Starts listening for the debugger.
+	 *
+	 * @param port
+	 *            the port to listen on, or 0 for any free port
+	 * @return Returns the port listened on.
+	 * @throws IOException
+	 *             if the port cannot be listened on
+	 */
+	public int startListening(int port) throws IOException {
+		fServerSocket = new ServerSocket(port, 1, InetAddress.getLoopbackAddress());
+		start();
+		return fServerSocket.getLocalPort();
+	}
+
+	/**
+	 * Stops listening, and disconnects the debugger if it is connected.
+	 */
+	public void stopListening() {
+		try {
+			if (fServerSocket != null) {
+				fServerSocket.close();
+			}
+		} catch (IOException e) {
+			// already closed
+		}
+		interrupt();
+	}
+
+	/**
+	 * @return Returns the number of commands of the debugger that had not been
+	 *         recorded.
+	 */
+	public int getUnmatchedCommands() {
+		return fUnmatchedCommands;
+	}
+
+	@Override
+	public void run() {
+		try (ServerSocket serverSocket = fServerSocket; Socket socket = serverSocket.accept()) {
+			DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+			byte[] handshake = new byte[handshakeBytes.length];
+			in.readFully(handshake);
+			out.write(handshakeBytes);
+			sendEvents(out);
+			out.flush();
+			while (!isInterrupted()) {
+				JdwpPacket packet = JdwpPacket.read(in);
+				if (packet instanceof JdwpCommandPacket) {
+					reply((JdwpCommandPacket) packet, out);
+					fAnsweredCommands++;
+					sendEvents(out);
+					out.flush();
+				}
+			}
+		} catch (EOFException e) {
+		} catch (SocketException e) {
+		} catch (IOException e) {
+			System.err.println(MessageFormat.format("Caught exception: {0}", new Object[] { e.toString() })); //$NON-NLS-1$
+		} catch (InterruptedException e) {
+		}
+	}
+
+	private void reply(JdwpCommandPacket command, DataOutputStream out) throws IOException, InterruptedException {
+		ByteBuffer key = key(command);
+		ArrayDeque<Exchange> exchanges = fExchanges.get(key);
+		Exchange exchange = exchanges != null ? exchanges.poll() : null;
+		if (exchange != null) {
+			fServed.put(key, exchange);
+		} else {
+			exchange = fServed.get(key);
+		}
+		JdwpReplyPacket reply;
+		if (exchange == null) {
+			fUnmatchedCommands++;
+			reply = new JdwpReplyPacket();
+			reply.setErrorCode(JdwpReplyPacket.NOT_IMPLEMENTED);
+		} else {
+			reply = exchange.fReply;
+			if (fRealTime && exchange.fLatency > 0) {
+				out.flush();
+				Thread.sleep(exchange.fLatency / 1000000, (int) (exchange.fLatency % 1000000));
+			}
+		}
+		reply.setId(command.getId());
+		reply.setFlags(JdwpPacket.FLAG_REPLY_PACKET);
+		reply.write(out);
+	}
+
+	/**
+	 * Sends the events that were recorded after as many commands as have been
+	 * answered.
+	 */
+	private void sendEvents(DataOutputStream out) throws IOException {
+		for (Iterator<Event> iter = fEvents.iterator(); iter.hasNext();) {
+			Event event = iter.next();
+			if (event.fCommandsBefore > fAnsweredCommands) {
+				return;
+			}
+			event.fPacket.write(out);
+			iter.remove();
+		}
+	}
+
+	/**
+	 * Replays a capture to the debugger that attaches to the given port.
+	 * Arguments: 1) The capture file; 2) The port on which to wait for the
+	 * debugger; 3) Optionally <code>-realtime</code>, to delay replies as
+	 * recorded.
+	 */
+	public static void main(String[] args) {
+		File file = null;
+		int port = 0;
+		boolean realTime = false;
+		try {
+			file = new File(args[0]);
+			port = Integer.parseInt(args[1]);
+			realTime = args.length > 2 && "-realtime".equals(args[2]); //$NON-NLS-1$
+		} catch (Exception e) {
+			System.out.println("usage: JdwpReplayVM <capture file> <port> [-realtime]"); //$NON-NLS-1$
+			System.exit(-1);
+		}
+		try (JdwpSessionReader reader = new JdwpSessionReader(new FileInputStream(file))) {
+			JdwpReplayVM vm = new JdwpReplayVM(reader, realTime);
+			int listening = vm.startListening(port);
+			System.out.println(MessageFormat.format("Replaying {0} on port {1}", new Object[] { file.getAbsolutePath(), Integer.toString(listening) })); //$NON-NLS-1$
+			vm.join();
+			System.out.println(MessageFormat.format("Commands without recorded reply: {0}", new Object[] { Integer.toString(vm.getUnmatchedCommands()) })); //$NON-NLS-1$
+		} catch (IOException e) {
+			System.out.println(e);
+		} catch (InterruptedException e) {
+		}
+	}
+}
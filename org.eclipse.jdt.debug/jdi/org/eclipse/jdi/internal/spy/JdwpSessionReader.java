@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal.spy;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.text.MessageFormat;
+
+/**
+ * Reads the packets of a capture written by a {@link JdwpSessionRecorder}.
+ */
+public class JdwpSessionReader implements Closeable {
+
+	/**
+	 * A packet of a capture.
+	 */
+	public static class Record {
+
+		private final boolean fFromVM;
+
+		private final long fTime;
+
+		private final JdwpPacket fPacket;
+
+		Record(boolean fromVM, long time, JdwpPacket packet) {
+			fFromVM = fromVM;
+			fTime = time;
+			fPacket = packet;
+		}
+
+		/**
+		 * @return Returns whether the packet was sent by the VM.
+		 */
+		public boolean isFromVM() {
+			return fFromVM;
+		}
+
+		/**
+		 * @return Returns the time of the packet, in nanoseconds since the
+		 *         start of the recording.
+		 */
+		public long getTime() {
+			return fTime;
+		}
+
+		/**
+		 * @return Returns the packet.
+		 */
+		public JdwpPacket getPacket() {
+			return fPacket;
+		}
+	}
+
+	private final DataInputStream fIn;
+
+	/**
+	 * Creates a reader of the given capture.
+	 *
+	 * @param in
+	 *            the stream to read the capture from, closed by
+	 *            {@link #close()}
+	 * @throws IOException
+	 *             if the stream does not start with a capture header of a
+	 *             supported version
+	 */
+	public JdwpSessionReader(InputStream in) throws IOException {
+		fIn = new DataInputStream(new BufferedInputStream(in));
+		if (fIn.readInt() != JdwpSessionRecorder.MAGIC) {
+			throw new IOException("Not a JDWP session capture"); //$NON-NLS-1$
+		}
+		short version = fIn.readShort();
+		if (version != JdwpSessionRecorder.VERSION) {
+			throw new IOException(MessageFormat.format("Unsupported capture version {0}", new Object[] { Short.valueOf(version) })); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * @return Returns the next packet of the capture, or <code>null</code> at
+	 *         the end of the capture.
+	 * @throws IOException
+	 *             if the capture cannot be read
+	 */
+	public Record read() throws IOException {
+		int sender = fIn.read();
+		if (sender < 0) {
+			return null;
+		}
+		try {
+			long time = fIn.readLong();
+			JdwpPacket packet = JdwpPacket.read(fIn);
+			return new Record(sender == JdwpSessionRecorder.FROM_VM, time, packet);
+		} catch (EOFException e) {
+			// the recording was interrupted in the middle of a packet
+			return null;
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		fIn.close();
+	}
+}
@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal.spy;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes the packets of a JDWP session to a binary capture, which can be read
+ * back with a {@link JdwpSessionReader} and served to a debugger by a
+ * {@link JdwpReplayVM}.
+ * <p>
+ * A capture starts with the magic number {@link #MAGIC} and the format
+ * {@link #VERSION}. It is followed by one record per packet, made of the
+ * sender ({@link #FROM_DEBUGGER} or {@link #FROM_VM}), the time of the packet
+ * in nanoseconds since the start of the recording, and the packet exactly as
+ * it was sent over the wire.
+ * </p>
+ */
+public class JdwpSessionRecorder implements Closeable {
+
+	/** Magic number at the start of a capture ("JDWR"). */
+	public static final int MAGIC = 0x4A445752;
+
+	/** Version of the capture format. */
+	public static final short VERSION = 1;
+
+	/** Sender of a packet sent by the debugger. */
+	public static final byte FROM_DEBUGGER = 0;
+
+	/** Sender of a packet sent by the VM. */
+	public static final byte FROM_VM = 1;
+
+	private final DataOutputStream fOut;
+
+	private final long fStart;
+
+	/**
+	 * Creates a recorder that writes to the given stream.
+	 *
+	 * @param out
+	 *            the stream to write the capture to, closed by
+	 *            {@link #close()}
+	 * @throws IOException
+	 *             if the header cannot be written
+	 */
+	public JdwpSessionRecorder(OutputStream out) throws IOException {
+		fOut = new DataOutputStream(new BufferedOutputStream(out));
+		fOut.writeInt(MAGIC);
+		fOut.writeShort(VERSION);
+		fStart = System.nanoTime();
+	}
+
+	/**
+	 * Records a packet. Packets sent in both directions can be recorded
+	 * concurrently.
+	 *
+	 * @param fromVM
+	 *            whether the packet was sent by the VM
+	 * @param packet
+	 *            the packet
+	 * @throws IOException
+	 *             if the packet cannot be written
+	 */
+	public synchronized void record(boolean fromVM, JdwpPacket packet) throws IOException {
+		fOut.writeByte(fromVM ? FROM_VM : FROM_DEBUGGER);
+		fOut.writeLong(System.nanoTime() - fStart);
+		packet.write(fOut);
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		fOut.close();
+	}
+}
@@ -39,7 +39,9 @@ import java.util.Map;
  * parameters are: 1) The port number to which the debugger application
  * connects; 2) The name of the host on which the VM or proxy waits for a JDWP
  * connection; 3) The port number on which the VM or proxy waits for a JDWP
- * connection; 4) The file where the trace is written to.
+ * connection; 4) The file where the trace is written to; 5) The file where a
+ * binary capture of the session is written to, which can be replayed by a
+ * {@link JdwpReplayVM}.
  *
  * Note that if this program is used for tracing JDWP activity of Leapfrog, the
  * 'debug remote program' option must be used, and the J9 proxy must first be
@@ -55,6 +57,7 @@ public class TcpipSpy extends Thread {
 
 	private static VerbosePacketStream out = new VerbosePacketStream(System.out);
 	private static Map<Integer, JdwpConversation> fPackets = new HashMap<>();
+	private static JdwpSessionRecorder fRecorder;
 
 	private static int fFieldIDSize;
 	private static int fMethodIDSize;
@@ -75,6 +78,7 @@ public class TcpipSpy extends Thread {
 		String serverHost = null;
 		int outPort = 0;
 		String outputFile = null;
+		String captureFile = null;
 		try {
 			inPort = Integer.parseInt(args[0]);
 			serverHost = args[1];
@@ -82,8 +86,11 @@ public class TcpipSpy extends Thread {
 			if (args.length > 3) {
 				outputFile = args[3];
 			}
+			if (args.length > 4) {
+				captureFile = args[4];
+			}
 		} catch (Exception e) {
-			out.println("usage: TcpipSpy <client port> <server host> <server port> [<output file>]"); //$NON-NLS-1$
+			out.println("usage: TcpipSpy <client port> <server host> <server port> [<output file> [<capture file>]]"); //$NON-NLS-1$
 			System.exit(-1);
 		}
 
@@ -99,17 +106,40 @@ public class TcpipSpy extends Thread {
 						.format("Could not open {0}.  Using stdout instead", new Object[] { file.getAbsolutePath() })); //$NON-NLS-1$
 			}
 		}
+		if (captureFile != null) {
+			File file = new File(captureFile);
+			out.println(MessageFormat
+					.format("Writing capture to {0}", new Object[] { file.getAbsolutePath() })); //$NON-NLS-1$
+			try {
+				fRecorder = new JdwpSessionRecorder(new FileOutputStream(file));
+			} catch (IOException e) {
+				out.println(MessageFormat
+						.format("Could not open {0}.  No capture is written", new Object[] { file.getAbsolutePath() })); //$NON-NLS-1$
+			}
+		}
 		out.println();
 		try (ServerSocket serverSock = new ServerSocket(inPort);
 			Socket inSock = serverSock.accept();
 			Socket outSock = new Socket(InetAddress.getByName(serverHost),
 					outPort);){
-			new TcpipSpy(false, inSock.getInputStream(),
-					outSock.getOutputStream()).start();
-			new TcpipSpy(true, outSock.getInputStream(),
-					inSock.getOutputStream()).start();
+			TcpipSpy toVM = new TcpipSpy(false, inSock.getInputStream(),
+					outSock.getOutputStream());
+			TcpipSpy toDebugger = new TcpipSpy(true, outSock.getInputStream(),
+					inSock.getOutputStream());
+			toVM.start();
+			toDebugger.start();
+			toVM.join();
+			toDebugger.join();
 		} catch (Exception e) {
 			out.println(e);
+		} finally {
+			if (fRecorder != null) {
+				try {
+					fRecorder.close();
+				} catch (IOException e) {
+					out.println(e);
+				}
+			}
 		}
 	}
 
@@ -135,6 +165,9 @@ public class TcpipSpy extends Thread {
 				if (!(fVMtoDebugger && (p.getFlags() & JdwpPacket.FLAG_REPLY_PACKET) == 0)) {
 					store(p);
 				}
+				if (fRecorder != null) {
+					fRecorder.record(fVMtoDebugger, p);
+				}
 				out.print(p, fVMtoDebugger);
 				out.flush();
 				p.write(fDataOut);
@@ -41,6 +41,34 @@ public interface IJavaArray extends IJavaObject, IIndexedValue {
 	 */
 	public IJavaValue[] getValues() throws DebugException;
 
+	/**
+	 * Returns the values in the given range of this array. Implementations
+	 * retrieve the range from the target at once.
+	 *
+	 * @param offset
+	 *            the index of the first value to return
+	 * @param length
+	 *            the number of values to return
+	 * @return the values in the given range
+	 * @exception DebugException
+	 *                if this method fails. Reasons include:
+	 *                <ul>
+	 *                <li>Failure communicating with the VM. The
+	 *                DebugException's status code contains the underlying
+	 *                exception responsible for the failure.</li>
+	 *                </ul>
+	 * @exception java.lang.IndexOutOfBoundsException
+	 *                if the range is not within the bounds of this array.
+	 * @since 3.25
+	 */
+	public default IJavaValue[] getValues(int offset, int length) throws DebugException {
+		IJavaValue[] values = new IJavaValue[length];
+		for (int i = 0; i < length; i++) {
+			values[i] = getValue(offset + i);
+		}
+		return values;
+	}
+
 	/**
 	 * Returns the value at the given index in this array.
 	 *
@@ -129,4 +157,30 @@ public interface IJavaArray extends IJavaObject, IIndexedValue {
 	public void setValues(int offset, int length, IJavaValue[] values,
 			int startOffset) throws DebugException;
 
+	/**
+	 * Replaces a range of values in this byte array with the given bytes,
+	 * starting at the given offset. Implementations may transfer the bytes
+	 * to the target without creating a value for each of them.
+	 *
+	 * @param offset
+	 *            offset in this array to start replacing values at
+	 * @param values
+	 *            replacement bytes
+	 * @exception DebugException
+	 *                if an exception occurs replacing values or if this is not
+	 *                a byte array
+	 * @exception java.lang.IndexOutOfBoundsException
+	 *                if the given bytes do not fit in this array at the given
+	 *                offset
+	 * @since 3.25
+	 */
+	public default void setValues(int offset, byte[] values) throws DebugException {
+		IJavaDebugTarget target = (IJavaDebugTarget) getDebugTarget();
+		IJavaValue[] mirrors = new IJavaValue[values.length];
+		for (int i = 0; i < values.length; i++) {
+			mirrors[i] = target.newValue(values[i]);
+		}
+		setValues(offset, values.length, mirrors, 0);
+	}
+
 }
@@ -18,10 +18,17 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.debug.core.DebugEvent;
@@ -29,15 +36,22 @@ import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.jdi.internal.event.ExceptionEventImpl;
 import org.eclipse.jdt.debug.core.IJavaLineBreakpoint;
+import org.eclipse.jdt.debug.core.JDIDebugModel;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugModelMessages;
 import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.jdt.internal.debug.core.model.JDIThread;
 
+import com.sun.jdi.ThreadReference;
 import com.sun.jdi.VMDisconnectedException;
 import com.sun.jdi.VirtualMachine;
+import com.sun.jdi.event.ClassPrepareEvent;
 import com.sun.jdi.event.Event;
 import com.sun.jdi.event.EventIterator;
 import com.sun.jdi.event.EventQueue;
 import com.sun.jdi.event.EventSet;
+import com.sun.jdi.event.LocatableEvent;
 import com.sun.jdi.event.ThreadDeathEvent;
+import com.sun.jdi.event.ThreadStartEvent;
 import com.sun.jdi.event.VMDeathEvent;
 import com.sun.jdi.event.VMDisconnectEvent;
 import com.sun.jdi.event.VMStartEvent;
@@ -60,6 +74,16 @@ import com.sun.jdi.request.EventRequest;
  * only resumed in if all event handlers agree that the thread should be
  * resumed.
  * </p>
+ * <p>
+ * When {@link JDIDebugPlugin#PREF_PARALLEL_EVENT_DISPATCH} is on, event sets
+ * of a single thread are dispatched in parallel with those of other threads,
+ * in the order they were received for each thread. Class prepare and VM events
+ * are always dispatched by the event dispatcher thread as they are received,
+ * VM death and disconnection once the event sets received before them have
+ * been dispatched. The event sets of a thread that is evaluating are also
+ * dispatched by the event dispatcher thread, after those of the thread that
+ * are still waiting.
+ * </p>
  */
 
 public class EventDispatcher implements Runnable {
@@ -75,7 +99,28 @@ public class EventDispatcher implements Runnable {
 	 * Table of event listeners. Table is a mapping of <code>EventRequest</code>
 	 * to <code>IJDIEventListener</code>.
 	 */
-	private final HashMap<EventRequest, IJDIEventListener> fEventHandlers;
+	private final Map<EventRequest, IJDIEventListener> fEventHandlers;
+
+	/**
+	 * Executes the dispatch of event sets of single threads, or
+	 * <code>null</code> if all event sets are dispatched by the event
+	 * dispatcher thread.
+	 */
+	private final ExecutorService fExecutor;
+
+	/**
+	 * Dispatches the event sets of each thread in the order they were
+	 * received, or <code>null</code> if all event sets are dispatched by the
+	 * event dispatcher thread.
+	 */
+	private final ThreadOrderedExecutor<ThreadReference> fThreadExecutor;
+
+	/**
+	 * The maximum time to wait for the event sets of threads to be
+	 * dispatched before dispatching the death or disconnection of the VM, in
+	 * milliseconds.
+	 */
+	private static final long VM_END_TIMEOUT = 5000;
 
 	/**
 	 * Queue of debug model events to fire, created when processing events on
@@ -91,9 +136,43 @@ public class EventDispatcher implements Runnable {
 	 *            the target this event dispatcher belongs to
 	 */
 	public EventDispatcher(JDIDebugTarget target) {
-		fEventHandlers = new HashMap<>(10);
+		fEventHandlers = new ConcurrentHashMap<>(10);
 		fTarget = target;
 		fShutdown = false;
+		boolean parallel = Platform.getPreferencesService().getBoolean(
+				JDIDebugPlugin.getUniqueIdentifier(),
+				JDIDebugPlugin.PREF_PARALLEL_EVENT_DISPATCH, false, null);
+		fExecutor = parallel ? createExecutor() : null;
+		fThreadExecutor = parallel ? new ThreadOrderedExecutor<>(fExecutor) : null;
+	}
+
+	/**
+	 * Creates the executor of the dispatch of event sets of single threads,
+	 * running each task on a virtual thread when they are available.
+	 */
+	private static ExecutorService createExecutor() {
+		try {
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null); //$NON-NLS-1$
+		} catch (ReflectiveOperationException e) {
+			// virtual threads are not available before Java 21
+		}
+		int threads = Math.max(4, Runtime.getRuntime().availableProcessors());
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 10, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+			Thread thread = new Thread(runnable, JDIDebugModel.getPluginIdentifier()
+					+ JDIDebugModelMessages.JDIDebugTarget_JDI_Event_Dispatcher);
+			thread.setDaemon(true);
+			return thread;
+		});
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	/**
+	 * Returns the listener registered for the request of the given event.
+	 */
+	private IJDIEventListener getListener(Event event) {
+		EventRequest request = event.request();
+		return request == null ? null : fEventHandlers.get(request);
 	}
 
 	/**
@@ -124,87 +203,98 @@ public class EventDispatcher implements Runnable {
 		boolean resume = true;
 		int index = -1;
 		List<Event> deferredEvents = null;
-		while (iter.hasNext()) {
-			index++;
-			if (isShutdown()) {
-				return;
-			}
-			Event event = iter.nextEvent();
-			if (event == null) {
-				continue;
-			}
-			// Dispatch events to registered listeners, if any
-			IJDIEventListener listener = fEventHandlers.get(event.request());
-			listeners[index] = listener;
-			if (listener != null) {
-				if (listener instanceof IJavaLineBreakpoint) {
-					// Event dispatch to conditional breakpoints is deferred
-					// until after
-					// other listeners vote.
-					try {
-						if (((IJavaLineBreakpoint) listener).isConditionEnabled()) {
-							if (deferredEvents == null) {
-								deferredEvents = new ArrayList<>(5);
-							}
-							deferredEvents.add(event);
-							continue;
-						}
-					} catch (CoreException exception) {
-						JDIDebugPlugin.log(exception);
-					}
-				}
-				vote = true;
-				try {
-					try {
-						resume = listener.handleEvent(event, fTarget, !resume, eventSet) && resume;
-					} finally {
-						enableGCForExceptionEvent(event);
-					}
-				} catch (Throwable t) {
-					logHandleEventError(listener, event, t);
-				}
-				continue;
-			}
-
-			// Dispatch VM start/end events
-			if (event instanceof VMDeathEvent) {
-				fTarget.handleVMDeath((VMDeathEvent) event);
-				shutdown(); // stop listening for events
-			} else if (event instanceof VMDisconnectEvent) {
-				fTarget.handleVMDisconnect((VMDisconnectEvent) event);
-				shutdown(); // stop listening for events
-			} else if (event instanceof VMStartEvent) {
-				fTarget.handleVMStart((VMStartEvent) event);
-			} else {
-				// not handled
-			}
+		// breakpoints installed in prepared types are enabled together, before
+		// the thread that prepared them may be resumed
+		boolean batchRequests = containsClassPrepareEvent(eventSet);
+		if (batchRequests) {
+			fTarget.beginRequestBatch();
 		}
-
-		// process deferred conditional breakpoint events
-		if (deferredEvents != null) {
-			Iterator<Event> deferredIter = deferredEvents.iterator();
-			while (deferredIter.hasNext()) {
+		try {
+			while (iter.hasNext()) {
+				index++;
 				if (isShutdown()) {
 					return;
 				}
-				Event event = deferredIter.next();
+				Event event = iter.nextEvent();
 				if (event == null) {
 					continue;
 				}
 				// Dispatch events to registered listeners, if any
-				IJDIEventListener listener = fEventHandlers
-						.get(event.request());
+				IJDIEventListener listener = getListener(event);
+				listeners[index] = listener;
 				if (listener != null) {
+					if (listener instanceof IJavaLineBreakpoint) {
+						// Event dispatch to conditional breakpoints is deferred
+						// until after
+						// other listeners vote.
+						try {
+							if (((IJavaLineBreakpoint) listener).isConditionEnabled()) {
+								if (deferredEvents == null) {
+									deferredEvents = new ArrayList<>(5);
+								}
+								deferredEvents.add(event);
+								continue;
+							}
+						} catch (CoreException exception) {
+							JDIDebugPlugin.log(exception);
+						}
+					}
 					vote = true;
 					try {
-						resume = listener.handleEvent(event, fTarget, !resume, eventSet) && resume;
+						try {
+							resume = listener.handleEvent(event, fTarget, !resume, eventSet) && resume;
+						} finally {
+							enableGCForExceptionEvent(event);
+						}
 					} catch (Throwable t) {
 						logHandleEventError(listener, event, t);
-					} finally {
-						enableGCForExceptionEvent(event);
 					}
 					continue;
 				}
+
+				// Dispatch VM start/end events
+				if (event instanceof VMDeathEvent) {
+					fTarget.handleVMDeath((VMDeathEvent) event);
+					shutdown(); // stop listening for events
+				} else if (event instanceof VMDisconnectEvent) {
+					fTarget.handleVMDisconnect((VMDisconnectEvent) event);
+					shutdown(); // stop listening for events
+				} else if (event instanceof VMStartEvent) {
+					fTarget.handleVMStart((VMStartEvent) event);
+				} else {
+					// not handled
+				}
+			}
+
+			// process deferred conditional breakpoint events
+			if (deferredEvents != null) {
+				Iterator<Event> deferredIter = deferredEvents.iterator();
+				while (deferredIter.hasNext()) {
+					if (isShutdown()) {
+						return;
+					}
+					Event event = deferredIter.next();
+					if (event == null) {
+						continue;
+					}
+					// Dispatch events to registered listeners, if any
+					IJDIEventListener listener = getListener(event);
+					if (listener != null) {
+						vote = true;
+						try {
+							resume = listener.handleEvent(event, fTarget, !resume, eventSet) && resume;
+						} catch (Throwable t) {
+							logHandleEventError(listener, event, t);
+						} finally {
+							enableGCForExceptionEvent(event);
+						}
+						continue;
+					}
+				}
+			}
+		} finally {
+			if (batchRequests) {
+				fTarget.endRequestBatch();
 			}
 		}
 
@@ -249,6 +339,16 @@ public class EventDispatcher implements Runnable {
 		}
 	}
 
+	private static boolean containsClassPrepareEvent(EventSet eventSet) {
+		EventIterator iter = eventSet.eventIterator();
+		while (iter.hasNext()) {
+			if (iter.nextEvent() instanceof ClassPrepareEvent) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	private boolean requiresExpressionEvaluation(EventSet eventSet) {
 		EventIterator iter = eventSet.eventIterator();
 		while (iter.hasNext()) {
@@ -256,7 +356,7 @@ public class EventDispatcher implements Runnable {
 			if (event == null) {
 				continue;
 			}
-			IJDIEventListener listener = fEventHandlers.get(event.request());
+			IJDIEventListener listener = getListener(event);
 			if (listener instanceof IJavaLineBreakpoint) {
 				try {
 					if (((IJavaLineBreakpoint) listener).isConditionEnabled()) {
@@ -317,7 +417,11 @@ public class EventDispatcher implements Runnable {
 
 					if (eventSet != null) {
 						if (!requiresExpressionEvaluation(eventSet)) {
-							dispatch(eventSet);
+							if (fThreadExecutor != null) {
+								dispatchInThreadOrder(eventSet);
+							} else {
+								dispatch(eventSet);
+							}
 						} else {
 							// 269231 always evaluate expressions in a separate job to avoid deadlocks
 							Job job = new AbstractDispatchJob("JDI Expression Evaluation Event Dispatch") { //$NON-NLS-1$
@@ -338,6 +442,90 @@ public class EventDispatcher implements Runnable {
 		}
 	}
 
+	/**
+	 * Dispatches the given event set after the event sets of its thread that
+	 * were received before it, on a thread of the executor. The events of a
+	 * thread that is performing an evaluation or invoking a method must be
+	 * handled for the evaluation to complete: they are dispatched right away
+	 * by the event dispatcher thread, once it has dispatched the event sets of
+	 * the thread that are still waiting. Other event sets are dispatched by
+	 * the event dispatcher thread, the death and disconnection of the VM once
+	 * the event sets of all threads have been dispatched.
+	 *
+	 * @throws InterruptedException
+	 *             if interrupted while waiting for event sets to be
+	 *             dispatched
+	 */
+	private void dispatchInThreadOrder(EventSet eventSet) throws InterruptedException {
+		ThreadReference thread = getEventThread(eventSet);
+		if (thread == null) {
+			if (containsVMEndEvent(eventSet)) {
+				fThreadExecutor.awaitIdle(VM_END_TIMEOUT);
+			}
+			dispatch(eventSet);
+			return;
+		}
+		JDIThread jdiThread = fTarget.findThread(thread);
+		if (jdiThread != null && (jdiThread.isPerformingEvaluation() || jdiThread.isInvokingMethod())) {
+			fThreadExecutor.runNow(thread, () -> dispatch(eventSet));
+		} else {
+			fThreadExecutor.execute(thread, () -> dispatchInThread(eventSet));
+		}
+	}
+
+	private static boolean containsVMEndEvent(EventSet eventSet) {
+		EventIterator iter = eventSet.eventIterator();
+		while (iter.hasNext()) {
+			Event event = iter.nextEvent();
+			if (event instanceof VMDeathEvent || event instanceof VMDisconnectEvent) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the thread all events of the given event set occurred in. Class
+	 * prepare and VM events are never dispatched in thread order, so that
+	 * they keep their order relative to all other events.
+	 *
+	 * @return the thread of the events of the set, or <code>null</code> if
+	 *         the set is not dispatched in thread order
+	 */
+	private static ThreadReference getEventThread(EventSet eventSet) {
+		ThreadReference thread = null;
+		EventIterator iter = eventSet.eventIterator();
+		while (iter.hasNext()) {
+			Event event = iter.nextEvent();
+			ThreadReference eventThread;
+			if (event instanceof LocatableEvent) {
+				eventThread = ((LocatableEvent) event).thread();
+			} else if (event instanceof ThreadStartEvent) {
+				eventThread = ((ThreadStartEvent) event).thread();
+			} else if (event instanceof ThreadDeathEvent) {
+				eventThread = ((ThreadDeathEvent) event).thread();
+			} else {
+				return null;
+			}
+			if (eventThread == null || (thread != null && !thread.equals(eventThread))) {
+				return null;
+			}
+			thread = eventThread;
+		}
+		return thread;
+	}
+
+	/**
+	 * Dispatches the given event set on a thread of the executor, after the
+	 * event sets of its thread that were received before it.
+	 */
+	private void dispatchInThread(EventSet eventSet) {
+		try {
+			dispatch(eventSet);
+		} catch (VMDisconnectedException e) {
+		}
+	}
+
 	/**
 	 * Shutdown this event dispatcher - i.e. causes this event dispatcher to
 	 * stop reading and dispatching events from the event queue. The thread
@@ -346,6 +534,9 @@ public class EventDispatcher implements Runnable {
 	public void shutdown() {
 		fShutdown = true;
 		Job.getJobManager().cancel(this);
+		if (fExecutor != null) {
+			fExecutor.shutdown();
+		}
 	}
 
 	/**
@@ -384,7 +575,9 @@ public class EventDispatcher implements Runnable {
 	 *            the event request to de-register
 	 */
 	public void removeJDIEventListener(IJDIEventListener listener, EventRequest request) {
-		fEventHandlers.remove(request);
+		if (request != null) {
+			fEventHandlers.remove(request);
+		}
 	}
 
 	/**
@@ -47,6 +47,7 @@ import org.eclipse.jdt.debug.core.IJavaType;
 import org.eclipse.jdt.debug.core.JDIDebugModel;
 import org.eclipse.jdt.debug.eval.IAstEvaluationEngine;
 import org.eclipse.jdt.internal.debug.core.breakpoints.BreakpointListenerManager;
+import org.eclipse.jdt.internal.debug.core.breakpoints.CompiledConditionCache;
 import org.eclipse.jdt.internal.debug.core.hcr.JavaHotCodeReplaceManager;
 import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
 import org.eclipse.jdt.internal.debug.core.model.JDIThread;
@@ -121,6 +122,75 @@ public class JDIDebugPlugin extends Plugin implements IEclipsePreferences.IPrefe
 	public static final String PREF_ENABLE_ADVANCED_SOURCELOOKUP = JDIDebugPlugin
 			.getUniqueIdentifier() + ".enable_advanced_sourcelookup"; //$NON-NLS-1$
 
+	/**
+	 * Comma separated list of package names whose loaded types have their
+	 * fields, methods, source names and line tables retrieved in the
+	 * background when a debug target is created. Empty to disable.
+	 */
+	public static final String PREF_PRELOAD_TYPE_PACKAGES = JDIDebugPlugin
+			.getUniqueIdentifier() + ".preload_type_packages"; //$NON-NLS-1$
+
+	/**
+	 * Boolean preference controlling whether conditions of breakpoints made of
+	 * a single expression sending several messages are compiled to a class
+	 * injected in the target, and evaluated there in a single method
+	 * invocation. Other conditions, conditions assigning local variables and
+	 * conditions whose class cannot be injected are interpreted as usual.
+	 */
+	public static final String PREF_EVALUATE_CONDITIONS_IN_TARGET = JDIDebugPlugin
+			.getUniqueIdentifier() + ".evaluate_conditions_in_target"; //$NON-NLS-1$
+
+	/**
+	 * Boolean preference controlling whether event sets of different threads
+	 * are dispatched in parallel, each thread having its event sets
+	 * dispatched in order. Off by default: event listeners contributed
+	 * outside this plug-in may not expect to be called concurrently.
+	 * <p>
+	 * Some event sets are still dispatched as soon as they are received, so
+	 * they may be handled while older event sets of their thread are:
+	 * </p>
+	 * <ul>
+	 * <li>class prepare and VM start events, and sets with events of several
+	 * threads,</li>
+	 * <li>sets of a thread that is evaluating or invoking a method, which
+	 * are dispatched after the queued sets of the thread but do not wait for
+	 * the one being dispatched, as it may be waiting for the evaluation,</li>
+	 * <li>sets requiring a breakpoint condition to be evaluated, which are
+	 * dispatched in a job as when this preference is off.</li>
+	 * </ul>
+	 * <p>
+	 * VM death and disconnection are dispatched once the sets of all threads
+	 * have been, or after waiting five seconds for them.
+	 * </p>
+	 */
+	public static final String PREF_PARALLEL_EVENT_DISPATCH = JDIDebugPlugin
+			.getUniqueIdentifier() + ".parallel_event_dispatch"; //$NON-NLS-1$
+
+	/**
+	 * Boolean preference controlling whether thread start events are only
+	 * requested for platform threads. Virtual threads are then only shown once
+	 * they report an event, such as hitting a breakpoint, which avoids
+	 * mirroring every virtual thread of applications that start many of them.
+	 */
+	public static final String PREF_TRACK_VIRTUAL_THREADS_ON_DEMAND = JDIDebugPlugin
+			.getUniqueIdentifier() + ".track_virtual_threads_on_demand"; //$NON-NLS-1$
+
+	/**
+	 * Boolean preference controlling whether expanding a stack frame or an
+	 * object also retrieves the field values of the objects its variables
+	 * refer to, one level deep, in a single round trip to the target.
+	 */
+	public static final String PREF_PREFETCH_CHILD_VALUES = JDIDebugPlugin
+			.getUniqueIdentifier() + ".prefetch_child_values"; //$NON-NLS-1$
+
+	/**
+	 * Boolean preference controlling whether the logical structures of common
+	 * collections and maps of <code>java.util</code> are decoded from their
+	 * fields, instead of evaluated with method invocations in the target.
+	 */
+	public static final String PREF_NATIVE_LOGICAL_STRUCTURES = JDIDebugPlugin
+			.getUniqueIdentifier() + ".native_logical_structures"; //$NON-NLS-1$
+
 	/**
 	 * Extension point for java logical structures.
 	 *
@@ -372,6 +442,7 @@ public class JDIDebugPlugin extends Plugin implements IEclipsePreferences.IPrefe
 				node.removePreferenceChangeListener(this);
 			}
 			JavaHotCodeReplaceManager.getDefault().shutdown();
+			CompiledConditionCache.getDefault().shutdown();
 			ILaunchManager launchManager = DebugPlugin.getDefault()
 					.getLaunchManager();
 			IDebugTarget[] targets = launchManager.getDebugTargets();
@@ -51,5 +51,11 @@ public class JDIDebugPluginPreferenceInitializer extends
 		node.putInt(JDIDebugModel.PREF_SHOW_STEP_TIMEOUT, JDIDebugModel.DEF_SHOW_STEP_TIMEOUT);
 		node.putBoolean(JDIDebugPlugin.PREF_ENABLE_ADVANCED_SOURCELOOKUP, true);
 		node.putBoolean(JDIDebugModel.PREF_CREATE_EXCEPTION_BREAKPOINTS_ON_CLICK, true);
+		node.put(JDIDebugPlugin.PREF_PRELOAD_TYPE_PACKAGES, ""); //$NON-NLS-1$
+		node.putBoolean(JDIDebugPlugin.PREF_EVALUATE_CONDITIONS_IN_TARGET, false);
+		node.putBoolean(JDIDebugPlugin.PREF_PARALLEL_EVENT_DISPATCH, false);
+		node.putBoolean(JDIDebugPlugin.PREF_TRACK_VIRTUAL_THREADS_ON_DEMAND, false);
+		node.putBoolean(JDIDebugPlugin.PREF_PREFETCH_CHILD_VALUES, false);
+		node.putBoolean(JDIDebugPlugin.PREF_NATIVE_LOGICAL_STRUCTURES, true);
 	}
 }
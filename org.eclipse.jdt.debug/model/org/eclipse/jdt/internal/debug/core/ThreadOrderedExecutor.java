@@ -0,0 +1,165 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.core;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Runs tasks with an executor, in the order they were submitted for each key
+ * and in parallel with the tasks of other keys. The event dispatcher uses the
+ * thread an event set occurred in as key.
+ *
+ * @param <K>
+ *            the type of the keys
+ */
+public class ThreadOrderedExecutor<K> {
+
+	private final Executor fExecutor;
+
+	/**
+	 * Tasks waiting to be run, by key. A key has a queue while a task of the
+	 * executor runs its tasks, in the order they were submitted.
+	 */
+	private final Map<K, ArrayDeque<Runnable>> fQueues = new HashMap<>();
+
+	/**
+	 * Constructs an executor running the tasks of each key with the given
+	 * executor.
+	 *
+	 * @param executor
+	 *            the executor running the tasks
+	 */
+	public ThreadOrderedExecutor(Executor executor) {
+		fExecutor = executor;
+	}
+
+	/**
+	 * Runs the given task after the tasks submitted before it for the same
+	 * key. The task is dropped if the executor is shut down.
+	 *
+	 * @param key
+	 *            the key the task is ordered with
+	 * @param task
+	 *            the task to run
+	 */
+	public void execute(K key, Runnable task) {
+		synchronized (fQueues) {
+			ArrayDeque<Runnable> queue = fQueues.get(key);
+			if (queue != null) {
+				queue.add(task);
+				return;
+			}
+			queue = new ArrayDeque<>();
+			queue.add(task);
+			fQueues.put(key, queue);
+		}
+		try {
+			fExecutor.execute(() -> runQueue(key));
+		} catch (RejectedExecutionException e) {
+			// shut down
+			synchronized (fQueues) {
+				fQueues.remove(key);
+				fQueues.notifyAll();
+			}
+		}
+	}
+
+	/**
+	 * Runs the given task in the calling thread, right after the tasks of the
+	 * same key that are waiting to be run, which the calling thread runs
+	 * first. A task of the key that is already running is not waited for, so
+	 * it may still be running along with the given task.
+	 *
+	 * @param key
+	 *            the key the task is ordered with
+	 * @param task
+	 *            the task to run
+	 */
+	public void runNow(K key, Runnable task) {
+		List<Runnable> waiting = null;
+		synchronized (fQueues) {
+			ArrayDeque<Runnable> queue = fQueues.get(key);
+			if (queue != null && !queue.isEmpty()) {
+				waiting = new ArrayList<>(queue);
+				// the task running the queue stops once it is empty
+				queue.clear();
+			}
+		}
+		if (waiting != null) {
+			for (Runnable runnable : waiting) {
+				run(runnable);
+			}
+		}
+		task.run();
+	}
+
+	/**
+	 * Waits until no task is waiting or running, at most the given time.
+	 *
+	 * @param timeout
+	 *            the maximum time to wait, in milliseconds
+	 * @return whether all tasks were run
+	 * @throws InterruptedException
+	 *             if the calling thread is interrupted while waiting
+	 */
+	public boolean awaitIdle(long timeout) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + timeout;
+		synchronized (fQueues) {
+			while (!fQueues.isEmpty()) {
+				long remaining = deadline - System.currentTimeMillis();
+				if (remaining <= 0) {
+					return false;
+				}
+				fQueues.wait(remaining);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Runs the queued tasks of the given key until there are none left.
+	 */
+	private void runQueue(K key) {
+		while (true) {
+			Runnable task;
+			synchronized (fQueues) {
+				ArrayDeque<Runnable> queue = fQueues.get(key);
+				task = queue.poll();
+				if (task == null) {
+					fQueues.remove(key);
+					fQueues.notifyAll();
+					return;
+				}
+			}
+			run(task);
+		}
+	}
+
+	/**
+	 * Runs the given task, logging what it throws.
+	 */
+	private static void run(Runnable task) {
+		try {
+			task.run();
+		} catch (RuntimeException e) {
+			JDIDebugPlugin.log(e);
+		}
+	}
+}
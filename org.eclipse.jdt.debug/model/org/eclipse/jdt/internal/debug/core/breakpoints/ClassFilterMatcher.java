@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.core.breakpoints;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * The class filters of an exception breakpoint, compiled once to match the
+ * names of the types exceptions are thrown in.
+ * <p>
+ * A filter matches a type whose name contains it, where a <code>*</code>
+ * stands for any sequence of characters. Filters with wildcards only at their
+ * ends are matched as plain substrings, all others are combined in a single
+ * regular expression.
+ * </p>
+ */
+final class ClassFilterMatcher {
+
+	/**
+	 * Matcher of an empty set of filters, which matches no type.
+	 */
+	static final ClassFilterMatcher EMPTY = new ClassFilterMatcher(new String[0], null);
+
+	/**
+	 * Characters that make a filter a regular expression rather than a
+	 * substring, besides inner wildcards.
+	 */
+	private static final String REGEX_CHARACTERS = "\\^$|?+()[]{}"; //$NON-NLS-1$
+
+	/**
+	 * Filters matched as substrings, without their leading and trailing
+	 * wildcards.
+	 */
+	private final String[] fSubstrings;
+
+	/**
+	 * The other filters, or <code>null</code> if there are none.
+	 */
+	private final Pattern fPattern;
+
+	private ClassFilterMatcher(String[] substrings, Pattern pattern) {
+		fSubstrings = substrings;
+		fPattern = pattern;
+	}
+
+	/**
+	 * Compiles the given filters.
+	 *
+	 * @param filters
+	 *            class filters, the empty string standing for the default
+	 *            package
+	 * @return a matcher of the filters
+	 */
+	static ClassFilterMatcher compile(String[] filters) {
+		if (filters.length == 0) {
+			return EMPTY;
+		}
+		List<String> substrings = new ArrayList<>(filters.length);
+		StringBuilder regex = new StringBuilder();
+		for (String filter : filters) {
+			String stripped = stripWildcards(filter);
+			if (stripped.indexOf('*') == -1 && !containsRegexCharacter(stripped)) {
+				substrings.add(stripped);
+				continue;
+			}
+			if (regex.length() > 0) {
+				regex.append('|');
+			}
+			regex.append("(?:"); //$NON-NLS-1$
+			regex.append(filter.replace(".", "\\.").replace("*", ".*")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+			regex.append(')');
+		}
+		Pattern pattern = regex.length() > 0 ? Pattern.compile(regex.toString()) : null;
+		return new ClassFilterMatcher(substrings.toArray(new String[substrings.size()]), pattern);
+	}
+
+	/**
+	 * @param typeName
+	 *            fully qualified name of a type
+	 * @return whether one of the filters matches the given type
+	 */
+	boolean matches(String typeName) {
+		for (String substring : fSubstrings) {
+			if (typeName.contains(substring)) {
+				return true;
+			}
+		}
+		return fPattern != null && fPattern.matcher(typeName).find();
+	}
+
+	/**
+	 * @return whether there are no filters
+	 */
+	boolean isEmpty() {
+		return this == EMPTY;
+	}
+
+	/**
+	 * Returns whether the given filter can be passed to the VM as a class
+	 * pattern of an event request. The VM only supports a wildcard at the
+	 * start or at the end of a pattern, and matches the whole name of the
+	 * type, so it matches a subset of the types the filter matches here.
+	 *
+	 * @param filter
+	 *            a class filter
+	 * @return whether the filter is a valid class pattern
+	 */
+	static boolean isClassPattern(String filter) {
+		if (filter.isEmpty() || containsRegexCharacter(filter)) {
+			return false;
+		}
+		int wildcard = filter.indexOf('*');
+		if (wildcard == -1) {
+			return true;
+		}
+		if (wildcard != filter.lastIndexOf('*') || filter.length() == 1) {
+			return false;
+		}
+		return wildcard == 0 || wildcard == filter.length() - 1;
+	}
+
+	private static String stripWildcards(String filter) {
+		int start = 0;
+		int end = filter.length();
+		while (start < end && filter.charAt(start) == '*') {
+			start++;
+		}
+		while (end > start && filter.charAt(end - 1) == '*') {
+			end--;
+		}
+		return filter.substring(start, end);
+	}
+
+	private static boolean containsRegexCharacter(String filter) {
+		for (int i = 0; i < filter.length(); i++) {
+			if (REGEX_CHARACTERS.indexOf(filter.charAt(i)) != -1) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,218 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.core.breakpoints;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.debug.core.IJavaDebugTarget;
+import org.eclipse.jdt.debug.core.IJavaObject;
+import org.eclipse.jdt.debug.core.IJavaStackFrame;
+import org.eclipse.jdt.debug.core.IJavaVariable;
+import org.eclipse.jdt.debug.eval.IAstEvaluationEngine;
+import org.eclipse.jdt.debug.eval.ICompiledExpression;
+import org.eclipse.jdt.internal.debug.core.model.LambdaUtils;
+import org.eclipse.jdt.internal.debug.eval.ast.engine.ASTEvaluationEngine;
+
+/**
+ * Compiled conditions of conditional breakpoints, shared by the threads of all
+ * debug targets. A condition is compiled once per project and frame shape: the
+ * declaring type, method and line of the frame, its visible local variables,
+ * the type of its receiver and the version of its VM. Frames of lambda
+ * expressions also see the variables of the frames enclosing them, and their
+ * conditions are not shared.
+ * <p>
+ * Conditions sending several messages can also be compiled to a class
+ * injected in the target, that evaluates the whole condition there in a single
+ * method invocation, instead of instructions interpreted one by one with
+ * requests to the target.
+ * </p>
+ * <p>
+ * The shape of a frame is read from data the frame already holds, except for
+ * the type of its receiver, which is retrieved once per object. Compiling the
+ * condition again reads the same data, and the values of the fields of the
+ * receiver, before parsing and compiling the condition.
+ * </p>
+ * <p>
+ * A compiled condition refers to the types it uses by name and to their
+ * members by signature, in any project on the classpath of its project. All
+ * compiled conditions are thus discarded when class files change, which
+ * includes hot code replace, and when the classpath of a project changes or
+ * a project is opened, closed, added or removed. The compilations of the old
+ * and new condition of a breakpoint are discarded when it is edited.
+ * </p>
+ */
+public final class CompiledConditionCache implements IElementChangedListener {
+
+	/**
+	 * Changes of a Java project that can change how conditions compile
+	 */
+	private static final int PROJECT_CHANGES = IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED
+			| IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED;
+
+	/**
+	 * Maximum number of compiled conditions kept, the least recently used
+	 * being discarded first.
+	 */
+	private static final int MAX_SIZE = 256;
+
+	private static final CompiledConditionCache fgDefault = new CompiledConditionCache();
+
+	/**
+	 * The shape of a frame a condition is compiled for.
+	 */
+	private record Key(String condition, boolean inTarget, IJavaProject project, String declaringType, String method, String signature, int line, String locals, String receivingType, String version) {
+	}
+
+	private final Map<Key, ICompiledExpression> fExpressions = new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Entry<Key, ICompiledExpression> eldest) {
+			return size() > MAX_SIZE;
+		}
+	};
+
+	/**
+	 * Whether this cache listens to changes of Java projects
+	 */
+	private boolean fListening;
+
+	private CompiledConditionCache() {
+	}
+
+	/**
+	 * @return the cache shared by all debug targets
+	 */
+	public static CompiledConditionCache getDefault() {
+		return fgDefault;
+	}
+
+	/**
+	 * Returns the given condition compiled for the given frame, compiling it
+	 * with the given engine if it has not been compiled for a frame of the
+	 * same shape before.
+	 *
+	 * @param condition
+	 *            the condition
+	 * @param frame
+	 *            the frame the condition is evaluated in
+	 * @param engine
+	 *            the engine to compile the condition with
+	 * @param inTarget
+	 *            whether the condition should be compiled to a class
+	 *            evaluating it in the target, when it can be
+	 * @return the compiled condition
+	 * @throws DebugException
+	 *             if the shape of the frame cannot be retrieved
+	 */
+	public ICompiledExpression getCompiledExpression(String condition, IJavaStackFrame frame, IAstEvaluationEngine engine, boolean inTarget) throws DebugException {
+		if (LambdaUtils.isLambdaFrame(frame)) {
+			return compile(condition, frame, engine, inTarget);
+		}
+		Key key = createKey(condition, inTarget, frame, engine.getJavaProject());
+		ICompiledExpression expression;
+		synchronized (fExpressions) {
+			expression = fExpressions.get(key);
+		}
+		if (expression == null) {
+			// compile outside of the lock, a concurrent compilation of the same
+			// condition only does redundant work
+			expression = compile(condition, frame, engine, inTarget);
+			synchronized (fExpressions) {
+				fExpressions.put(key, expression);
+				if (!fListening) {
+					JavaCore.addElementChangedListener(this, ElementChangedEvent.POST_CHANGE);
+					fListening = true;
+				}
+			}
+		}
+		return expression;
+	}
+
+	private static ICompiledExpression compile(String condition, IJavaStackFrame frame, IAstEvaluationEngine engine, boolean inTarget) throws DebugException {
+		// classes cannot be injected in the boot class loader
+		if (inTarget && engine instanceof ASTEvaluationEngine && frame.getReferenceType().getClassLoaderObject() != null) {
+			return ((ASTEvaluationEngine) engine).getCompiledExpressionInTarget(condition, frame);
+		}
+		return engine.getCompiledExpression(condition, frame);
+	}
+
+	private static Key createKey(String condition, boolean inTarget, IJavaStackFrame frame, IJavaProject project) throws DebugException {
+		StringBuilder locals = new StringBuilder();
+		for (IJavaVariable local : frame.getLocalVariables()) {
+			locals.append(local.getName()).append(' ').append(local.getSignature()).append(';');
+		}
+		IJavaObject receiver = frame.getThis();
+		String receivingType = receiver == null ? null : receiver.getJavaType().getName();
+		String version = ((IJavaDebugTarget) frame.getDebugTarget()).getVersion();
+		return new Key(condition, inTarget, project, frame.getDeclaringTypeName(), frame.getMethodName(), frame.getSignature(), frame.getLineNumber(), locals.toString(), receivingType, version);
+	}
+
+	/**
+	 * Discards the compilations of the old and new condition of an edited
+	 * breakpoint, so that editing a condition always compiles it again.
+	 *
+	 * @param oldCondition
+	 *            the condition before the edit, or <code>null</code>
+	 * @param newCondition
+	 *            the condition after the edit, or <code>null</code>
+	 */
+	public void conditionChanged(String oldCondition, String newCondition) {
+		synchronized (fExpressions) {
+			fExpressions.keySet().removeIf(key -> key.condition().equals(oldCondition) || key.condition().equals(newCondition));
+		}
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		for (IJavaElementDelta delta : event.getDelta().getAffectedChildren()) {
+			if (delta.getElement() instanceof IJavaProject
+					&& (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & PROJECT_CHANGES) != 0)) {
+				clear();
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Discards all compiled conditions.
+	 */
+	public void clear() {
+		synchronized (fExpressions) {
+			fExpressions.clear();
+		}
+	}
+
+	/**
+	 * Discards all compiled conditions and stops listening to changes of Java
+	 * projects. Called when the JDI debug model plug-in shuts down.
+	 */
+	public void shutdown() {
+		synchronized (fExpressions) {
+			fExpressions.clear();
+			if (fListening) {
+				JavaCore.removeElementChangedListener(this);
+				fListening = false;
+			}
+		}
+	}
+}
@@ -20,6 +20,7 @@ import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.DebugException;
@@ -244,12 +245,12 @@ public class ConditionalBreakpointHandler implements IJavaBreakpointListener {
 					// If no engine is available, suspend
 					return SUSPEND;
 				}
-				ICompiledExpression expression = lineBreakpoint
-						.getExpression(thread);
-				if (expression == null) {
-					expression = engine.getCompiledExpression(condition, frame);
-					lineBreakpoint.setExpression(thread, expression);
-				}
+				boolean inTarget = Platform.getPreferencesService().getBoolean(
+						JDIDebugPlugin.getUniqueIdentifier(),
+						JDIDebugPlugin.PREF_EVALUATE_CONDITIONS_IN_TARGET,
+						false, null);
+				ICompiledExpression expression = CompiledConditionCache
+						.getDefault().getCompiledExpression(condition, frame, engine, inTarget);
 				if (expression.hasErrors()) {
 					fireConditionHasErrors(lineBreakpoint,
 							getMessages(expression));
@@ -119,7 +119,8 @@ public abstract class JavaBreakpoint extends Breakpoint implements IJavaBreakpoi
 	/**
 	 * Stores the collection of requests that this breakpoint has installed in
 	 * debug targets. key: a debug target value: the requests this breakpoint
-	 * has installed in that target
+	 * has installed in that target. Access is synchronized on the map, since
+	 * events of different threads may be dispatched concurrently.
 	 */
 	protected HashMap<JDIDebugTarget, List<EventRequest>> fRequestsByTarget;
 
@@ -230,11 +231,14 @@ public abstract class JavaBreakpoint extends Breakpoint implements IJavaBreakpoi
 		if (request == null) {
 			return;
 		}
-		List<EventRequest> reqs = getRequests(target);
-		if (reqs.isEmpty()) {
-			fRequestsByTarget.put(target, reqs);
+		synchronized (fRequestsByTarget) {
+			List<EventRequest> reqs = fRequestsByTarget.get(target);
+			if (reqs == null) {
+				reqs = new ArrayList<>(2);
+				fRequestsByTarget.put(target, reqs);
+			}
+			reqs.add(request);
 		}
-		reqs.add(request);
 		target.addJDIEventListener(this, request);
 		// update the install attribute on the breakpoint
 		if (!(request instanceof ClassPrepareRequest)) {
@@ -262,15 +266,17 @@ public abstract class JavaBreakpoint extends Breakpoint implements IJavaBreakpoi
 	}
 
 	/**
-	 * Returns the requests that this breakpoint has installed in the given
-	 * target.
+	 * Returns a copy of the requests that this breakpoint has installed in the
+	 * given target.
 	 */
 	protected ArrayList<EventRequest> getRequests(JDIDebugTarget target) {
-		ArrayList<EventRequest> list = (ArrayList<EventRequest>) fRequestsByTarget.get(target);
-		if (list == null) {
-			list = new ArrayList<>(2);
+		synchronized (fRequestsByTarget) {
+			List<EventRequest> list = fRequestsByTarget.get(target);
+			if (list == null) {
+				return new ArrayList<>(2);
+			}
+			return new ArrayList<>(list);
 		}
-		return list;
 	}
 
 	/**
@@ -307,10 +313,7 @@ public abstract class JavaBreakpoint extends Breakpoint implements IJavaBreakpoi
 					suspendVote);
 		}
 		ThreadReference threadRef = ((LocatableEvent) event).thread();
-		JDIThread thread = target.findThread(threadRef);
-		if (thread == null) {
-			thread = target.findThread(threadRef);
-		}
+		JDIThread thread = target.findOrCreateThread(threadRef);
 		if (thread == null || thread.isIgnoringBreakpoints()) {
 			return true;
 		}
@@ -781,7 +784,7 @@ public abstract class JavaBreakpoint extends Breakpoint implements IJavaBreakpoi
 		// removing was previously done is a workspace runnable, but that is
 		// not possible since it can be a resource callback (marker deletion)
 		// that causes a breakpoint to be removed
-		ArrayList<EventRequest> requests = new ArrayList<>(getRequests(target));
+		ArrayList<EventRequest> requests = getRequests(target);
 		// Iterate over a copy of the requests since this list of requests
 		// can be changed in other threads which would cause an
 		// ConcurrentModificationException
@@ -807,7 +810,9 @@ public abstract class JavaBreakpoint extends Breakpoint implements IJavaBreakpoi
 				deregisterRequest(req, target);
 			}
 		}
-		fRequestsByTarget.remove(target);
+		synchronized (fRequestsByTarget) {
+			fRequestsByTarget.remove(target);
+		}
 	}
 
 	/**
@@ -832,7 +837,11 @@ public abstract class JavaBreakpoint extends Breakpoint implements IJavaBreakpoi
 				// if the request has expired, do not disable.
 				// BreakpointRequests that have expired cannot be deleted.
 				if (!isExpired(request)) {
-					request.setEnabled(enabled);
+					// requests created while a type is prepared are enabled
+					// together once all breakpoints in the type are handled
+					if (!enabled || !target.deferEnable(request)) {
+						request.setEnabled(enabled);
+					}
 				}
 			} catch (VMDisconnectedException e) {
 			} catch (RuntimeException e) {
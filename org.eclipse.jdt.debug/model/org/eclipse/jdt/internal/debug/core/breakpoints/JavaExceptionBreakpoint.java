@@ -19,7 +19,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.StringTokenizer;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IWorkspaceRunnable;
@@ -34,6 +34,7 @@ import org.eclipse.debug.core.model.IBreakpoint;
 import org.eclipse.jdt.debug.core.IJavaDebugTarget;
 import org.eclipse.jdt.debug.core.IJavaExceptionBreakpoint;
 import org.eclipse.jdt.debug.core.IJavaObject;
+import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.core.JDIDebugModel;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
 import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
@@ -133,8 +134,30 @@ public class JavaExceptionBreakpoint extends JavaBreakpoint implements
 	 */
 	protected String[] fExclusionClassFilters = null;
 
-	private ObjectReference fLastException;
-	private JDIDebugTarget fLastTarget;
+	/**
+	 * The inclusion class filters compiled, or <code>null</code> if they have
+	 * not been compiled since they last changed.
+	 */
+	private ClassFilterMatcher fInclusionMatcher;
+
+	/**
+	 * The exclusion class filters compiled, or <code>null</code> if they have
+	 * not been compiled since they last changed.
+	 */
+	private ClassFilterMatcher fExclusionMatcher;
+
+	/**
+	 * The last exception encountered by this breakpoint in each thread. Events
+	 * of different threads may be handled concurrently, so that each thread
+	 * must only see the exception it threw.
+	 */
+	private final Map<JDIThread, ObjectReference> fLastExceptions = new ConcurrentHashMap<>();
+
+	/**
+	 * The thread of the last exception encountered by this breakpoint, or
+	 * <code>null</code>
+	 */
+	private volatile JDIThread fLastThread;
 
 	public JavaExceptionBreakpoint() {
 	}
@@ -378,8 +401,10 @@ public class JavaExceptionBreakpoint extends JavaBreakpoint implements
 	private boolean handleBreakpointEventInternal(Event event, JDIThread thread, boolean suspendVote) {
 		if (event instanceof ExceptionEvent) {
 			ObjectReference ex = ((ExceptionEvent) event).exception();
-			fLastTarget = thread.getJavaDebugTarget();
-			fLastException = ex;
+			if (fLastExceptions.put(thread, ex) == null) {
+				fLastExceptions.keySet().removeIf(JDIThread::isTerminated);
+			}
+			fLastThread = thread;
 			String name = null;
 			try {
 				name = ex.type().name();
@@ -411,27 +436,17 @@ public class JavaExceptionBreakpoint extends JavaBreakpoint implements
 						//This Java Exception breakpoint is the  breakpoint created for catching compilation and Uncaught exception in JavaDebugOptionsManagaer initialization
 						// This does not have scope defined
 						if (jExceptionBreakpoint.getTypeName().equals(name)) {
-							if (jExceptionBreakpoint.getExclusionClassFilters().length >= 1
-						|| jExceptionBreakpoint.getInclusionClassFilters().length >= 1
-						|| filtersIncludeDefaultPackage(jExceptionBreakpoint.fInclusionClassFilters)
-						|| filtersIncludeDefaultPackage(jExceptionBreakpoint.fExclusionClassFilters)) {
-							Location location = ((ExceptionEvent) event).location();
-							String typeName = location.declaringType().name();
-							boolean defaultPackage = typeName.indexOf('.') == -1;
-							boolean included = true;
-							String[] filters = jExceptionBreakpoint.getInclusionClassFilters();
-							if (filters.length > 0) {
-								included = matchesFilters(filters, typeName, defaultPackage);
-							}
-							boolean excluded = false;
-							filters = jExceptionBreakpoint.getExclusionClassFilters();
-							if (filters.length > 0) {
-								excluded = matchesFilters(filters, typeName, defaultPackage);
-							}
-							if (included && !excluded) {
-								return !suspend(thread, suspendVote);
-							}
-							return true;
+							ClassFilterMatcher inclusions = jExceptionBreakpoint.getInclusionMatcher();
+							ClassFilterMatcher exclusions = jExceptionBreakpoint.getExclusionMatcher();
+							if (!inclusions.isEmpty() || !exclusions.isEmpty()) {
+								Location location = ((ExceptionEvent) event).location();
+								String typeName = location.declaringType().name();
+								boolean included = inclusions.isEmpty() || inclusions.matches(typeName);
+								boolean excluded = exclusions.matches(typeName);
+								if (included && !excluded) {
+									return !suspend(thread, suspendVote);
+								}
+								return true;
 							}
 						}
 					}
@@ -476,8 +491,8 @@ public class JavaExceptionBreakpoint extends JavaBreakpoint implements
 	 */
 	@Override
 	protected void setInstalledIn(IJavaDebugTarget target, boolean installed) {
-		fLastException = null;
-		fLastTarget = null;
+		fLastExceptions.clear();
+		fLastThread = null;
 		super.setInstalledIn(target, installed);
 	}
 
@@ -512,20 +527,31 @@ public class JavaExceptionBreakpoint extends JavaBreakpoint implements
 	 */
 	protected boolean matchesFilters(String[] filters, String typeName,
 			boolean defaultPackage) {
-		for (String filter2 : filters) {
-			String filter = filter2;
-			if (defaultPackage && filter.length() == 0) {
-				return true;
-			}
+		return ClassFilterMatcher.compile(filters).matches(typeName);
+	}
 
-			filter = filter.replaceAll("\\.", "\\\\."); //$NON-NLS-1$//$NON-NLS-2$
-			filter = filter.replaceAll("\\*", "\\.\\*"); //$NON-NLS-1$//$NON-NLS-2$
-			Pattern pattern = Pattern.compile(filter);
-			if (pattern.matcher(typeName).find()) {
-				return true;
-			}
+	/**
+	 * @return the inclusion class filters, compiled once until they change
+	 */
+	private ClassFilterMatcher getInclusionMatcher() {
+		ClassFilterMatcher matcher = fInclusionMatcher;
+		if (matcher == null) {
+			matcher = ClassFilterMatcher.compile(getInclusionClassFilters());
+			fInclusionMatcher = matcher;
 		}
-		return false;
+		return matcher;
+	}
+
+	/**
+	 * @return the exclusion class filters, compiled once until they change
+	 */
+	private ClassFilterMatcher getExclusionMatcher() {
+		ClassFilterMatcher matcher = fExclusionMatcher;
+		if (matcher == null) {
+			matcher = ClassFilterMatcher.compile(getExclusionClassFilters());
+			fExclusionMatcher = matcher;
+		}
+		return matcher;
 	}
 
 	/**
@@ -596,13 +622,22 @@ public class JavaExceptionBreakpoint extends JavaBreakpoint implements
 
 		ExceptionRequest request = (ExceptionRequest) eRequest;
 
+		// let the VM filter out what it can, the filters are checked again
+		// when an exception is reported. The VM matches whole names while the
+		// filters match any name containing them, so the VM must only drop
+		// exceptions that the filters reject. An excluded pattern matches a
+		// subset of what the exclusion filter rejects, so every exclusion can
+		// be passed. An included pattern rejects types whose name merely
+		// contains the filter, such as nested types, so as before a single
+		// inclusion filter is only passed when there are no exclusions.
 		if (iFilters.length == 1) {
 			if (eFilters.length == 0) {
 				request.addClassFilter(iFilters[0]);
 			}
-		} else if (eFilters.length == 1) {
-			if (iFilters.length == 0) {
-				request.addClassExclusionFilter(eFilters[0]);
+		}
+		for (String filter : eFilters) {
+			if (ClassFilterMatcher.isClassPattern(filter)) {
+				request.addClassExclusionFilter(filter);
 			}
 		}
 
@@ -678,6 +713,7 @@ public class JavaExceptionBreakpoint extends JavaBreakpoint implements
 
 	protected void setInclusionClassFilters(String[] filters) {
 		fInclusionClassFilters = filters;
+		fInclusionMatcher = null;
 	}
 
 	protected String[] getExclusionClassFilters() {
@@ -694,6 +730,7 @@ public class JavaExceptionBreakpoint extends JavaBreakpoint implements
 
 	protected void setExclusionClassFilters(String[] filters) {
 		fExclusionClassFilters = filters;
+		fExclusionMatcher = null;
 	}
 
 	/**
@@ -787,9 +824,22 @@ public class JavaExceptionBreakpoint extends JavaBreakpoint implements
 	 * TODO: make API in future release.
 	 */
 	public IJavaObject getLastException() {
-		if (fLastException != null) {
-			return (IJavaObject) JDIValue.createValue(fLastTarget,
-					fLastException);
+		JDIThread thread = fLastThread;
+		if (thread != null) {
+			return getLastException(thread);
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the last exception object that was encountered by this exception
+	 * breakpoint in the given thread
+	 */
+	public IJavaObject getLastException(IJavaThread thread) {
+		ObjectReference exception = fLastExceptions.get(thread);
+		if (exception != null) {
+			return (IJavaObject) JDIValue.createValue((JDIDebugTarget) thread.getDebugTarget(),
+					exception);
 		}
 		return null;
 	}
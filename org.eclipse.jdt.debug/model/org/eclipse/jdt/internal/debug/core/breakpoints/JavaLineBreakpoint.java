@@ -22,6 +22,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IResource;
@@ -96,16 +97,10 @@ public class JavaLineBreakpoint extends JavaBreakpoint implements
 	public static final String JAVA_LINE_BREAKPOINT = "org.eclipse.jdt.debug.javaLineBreakpointMarker"; //$NON-NLS-1$
 
 	/**
-	 * Maps suspended threads to the suspend event that suspended them
+	 * Maps suspended threads to the suspend event that suspended them. Events
+	 * of different threads may be handled concurrently.
 	 */
-	private final Map<IJavaThread, ICompiledExpression> fSuspendEvents = new HashMap<>();
-	/**
-	 * The map of cached compiled expressions (ICompiledExpression) for this
-	 * breakpoint, keyed by thread. This value must be cleared every time the
-	 * breakpoint is added to a target.
-	 */
-	private final Map<IJavaThread, ICompiledExpression> fCompiledExpressions = new HashMap<>();
-
+	private final Map<IJavaThread, ICompiledExpression> fSuspendEvents = new ConcurrentHashMap<>();
 	/**
 	 * Cache of projects for stack frames to avoid repetitive project resolution
 	 * on conditional breakpoints.
@@ -114,9 +109,10 @@ public class JavaLineBreakpoint extends JavaBreakpoint implements
 
 	/**
 	 * The map of the result value of the condition (IValue) for this
-	 * breakpoint, keyed by debug target.
+	 * breakpoint, keyed by debug target. Events of different threads may be
+	 * handled concurrently.
 	 */
-	private final Map<IDebugTarget, IValue> fConditionValues = new HashMap<>();
+	private final Map<IDebugTarget, IValue> fConditionValues = new ConcurrentHashMap<>();
 
 	/**
 	 * Status code indicating that a request to create a breakpoint in a type
@@ -214,12 +210,10 @@ public class JavaLineBreakpoint extends JavaBreakpoint implements
 	}
 
 	/**
-	 * Removes all compiled expressions which are currently being cached for
-	 * threads in the given target.
+	 * Removes all projects which are currently being cached for stack frames
+	 * in the given target.
 	 */
 	protected void clearCachedExpressionFor(JDIDebugTarget target) {
-		removeCachedThreads(fCompiledExpressions, target);
-
 		// clean up cached projects for stack frames
 		synchronized (fProjectsByFrame) {
 			Set<IJavaStackFrame> frames = fProjectsByFrame.keySet();
@@ -525,13 +519,13 @@ public class JavaLineBreakpoint extends JavaBreakpoint implements
 	 */
 	@Override
 	public void setCondition(String condition) throws CoreException {
-		// Clear the cached compiled expressions
-		fCompiledExpressions.clear();
 		fConditionValues.clear();
 		fSuspendEvents.clear();
 		if (condition != null && condition.trim().length() == 0) {
 			condition = null;
 		}
+		// Clear the cached compiled expressions
+		CompiledConditionCache.getDefault().conditionChanged(getCondition(), condition);
 		setAttributes(new String[] { CONDITION }, new Object[] { condition });
 		recreate();
 	}
@@ -589,7 +583,6 @@ public class JavaLineBreakpoint extends JavaBreakpoint implements
 	@Override
 	protected void cleanupForThreadTermination(JDIThread thread) {
 		fSuspendEvents.remove(thread);
-		fCompiledExpressions.remove(thread);
 		super.cleanupForThreadTermination(thread);
 	}
 
@@ -637,31 +630,6 @@ public class JavaLineBreakpoint extends JavaBreakpoint implements
 		}
 	}
 
-	/**
-	 * Returns existing compiled expression for the given thread or
-	 * <code>null</code>.
-	 *
-	 * @param thread
-	 *            thread the breakpoint was hit in
-	 * @return compiled expression or <code>null</code>
-	 */
-	protected ICompiledExpression getExpression(IJavaThread thread) {
-		return fCompiledExpressions.get(thread);
-	}
-
-	/**
-	 * Sets the compiled expression for a thread.
-	 *
-	 * @param thread
-	 *            thread the breakpoint was hit in
-	 * @param expression
-	 *            associated compiled expression
-	 */
-	protected void setExpression(IJavaThread thread,
-			ICompiledExpression expression) {
-		fCompiledExpressions.put(thread, expression);
-	}
-
 	/**
 	 * Sets the current result value of the conditional expression evaluation
 	 * for this breakpoint in the given target, and returns the previous value
@@ -674,9 +642,10 @@ public class JavaLineBreakpoint extends JavaBreakpoint implements
 	 * @return previous value or <code>null</code>
 	 */
 	protected IValue setCurrentConditionValue(IDebugTarget target, IValue value) {
-		IValue prev = fConditionValues.get(target);
-		fConditionValues.put(target, value);
-		return prev;
+		if (value == null) {
+			return fConditionValues.remove(target);
+		}
+		return fConditionValues.put(target, value);
 	}
 
 }
@@ -73,6 +73,7 @@ import org.eclipse.jdt.debug.core.JDIDebugModel;
 import org.eclipse.jdt.internal.core.util.Util;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
 import org.eclipse.jdt.internal.debug.core.JavaDebugUtils;
+import org.eclipse.jdt.internal.debug.core.breakpoints.CompiledConditionCache;
 import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
 import org.eclipse.jdt.internal.debug.core.model.JDIStackFrame;
 import org.eclipse.jdt.internal.debug.core.model.JDIThread;
@@ -241,6 +242,8 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 			List<IResource> resources = visitor.getChangedClassFiles();
 			List<String> names = visitor.getQualifiedNamesList();
 			if (!resources.isEmpty()) {
+				// compiled conditions can refer to any of the changed types
+				CompiledConditionCache.getDefault().clear();
 				notifyTargets(resources, names);
 			}
 		}
@@ -1416,6 +1419,9 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 				}
 			}
 		}
+		// class file changes are not tracked without targets, so compiled
+		// conditions could become stale
+		CompiledConditionCache.getDefault().clear();
 	}
 
 	/**
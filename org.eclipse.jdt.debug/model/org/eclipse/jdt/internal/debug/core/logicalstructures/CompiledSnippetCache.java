@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.core.logicalstructures;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.debug.core.IJavaDebugTarget;
+import org.eclipse.jdt.debug.core.IJavaReferenceType;
+import org.eclipse.jdt.debug.eval.IAstEvaluationEngine;
+import org.eclipse.jdt.debug.eval.ICompiledExpression;
+import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+
+/**
+ * Snippets of Java logical structures compiled for the types they are
+ * evaluated on, so that expanding many values of the same type compiles the
+ * snippets of their structure once. A snippet is compiled once per structure,
+ * type, project and debug target.
+ * <p>
+ * Compiled snippets are discarded when classes of their debug target are
+ * redefined, and when the user defined logical structures change.
+ * </p>
+ */
+@SuppressWarnings("restriction")
+public final class CompiledSnippetCache {
+
+	/**
+	 * Maximum number of compiled snippets kept, the least recently used being
+	 * discarded first.
+	 */
+	private static final int MAX_SIZE = 512;
+
+	private static final Map<String, String> COMPILE_OPTIONS = Collections.singletonMap(CompilerOptions.OPTION_JdtDebugCompileMode, JavaCore.ENABLED);
+
+	/**
+	 * What a snippet is compiled for.
+	 */
+	private record Key(JavaLogicalStructure structure, String snippet, IJavaReferenceType type, IJavaProject project, IJavaDebugTarget target) {
+	}
+
+	private final Map<Key, ICompiledExpression> fExpressions = new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Entry<Key, ICompiledExpression> eldest) {
+			return size() > MAX_SIZE;
+		}
+	};
+
+	private final LongAdder fHits = new LongAdder();
+
+	private final LongAdder fMisses = new LongAdder();
+
+	CompiledSnippetCache() {
+	}
+
+	/**
+	 * Returns the given snippet of the given structure compiled for the given
+	 * type, compiling it with the given engine if it has not been compiled
+	 * before.
+	 *
+	 * @param structure
+	 *            the logical structure the snippet belongs to
+	 * @param snippet
+	 *            the snippet
+	 * @param type
+	 *            the type the snippet is evaluated on
+	 * @param engine
+	 *            the engine to compile the snippet with
+	 * @return the compiled snippet
+	 * @throws DebugException
+	 *             if the snippet cannot be compiled
+	 */
+	public ICompiledExpression getCompiledExpression(JavaLogicalStructure structure, String snippet, IJavaReferenceType type, IAstEvaluationEngine engine) throws DebugException {
+		Key key = new Key(structure, snippet, type, engine.getJavaProject(), engine.getDebugTarget());
+		ICompiledExpression expression;
+		synchronized (fExpressions) {
+			expression = fExpressions.get(key);
+		}
+		if (expression != null) {
+			fHits.increment();
+			return expression;
+		}
+		fMisses.increment();
+		// compile outside of the lock, a concurrent compilation of the same
+		// snippet only does redundant work
+		expression = engine.getCompiledExpression(snippet, type, COMPILE_OPTIONS);
+		synchronized (fExpressions) {
+			fExpressions.keySet().removeIf(k -> k.target().isTerminated() || k.target().isDisconnected());
+			fExpressions.put(key, expression);
+		}
+		return expression;
+	}
+
+	/**
+	 * @return the number of snippets that were served from this cache
+	 */
+	public long getHitCount() {
+		return fHits.sum();
+	}
+
+	/**
+	 * @return the number of snippets that had to be compiled
+	 */
+	public long getMissCount() {
+		return fMisses.sum();
+	}
+
+	/**
+	 * @return the number of compiled snippets kept
+	 */
+	public int size() {
+		synchronized (fExpressions) {
+			return fExpressions.size();
+		}
+	}
+
+	/**
+	 * Discards the snippets compiled for the given debug target.
+	 *
+	 * @param target
+	 *            a debug target whose classes were redefined
+	 */
+	void targetChanged(IJavaDebugTarget target) {
+		synchronized (fExpressions) {
+			fExpressions.keySet().removeIf(key -> key.target().equals(target));
+		}
+	}
+
+	/**
+	 * Discards all compiled snippets.
+	 */
+	public void clear() {
+		synchronized (fExpressions) {
+			fExpressions.clear();
+		}
+	}
+}
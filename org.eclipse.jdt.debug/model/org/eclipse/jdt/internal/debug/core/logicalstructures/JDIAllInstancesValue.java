@@ -15,6 +15,7 @@
 package org.eclipse.jdt.internal.debug.core.logicalstructures;
 
 import java.text.MessageFormat;
+import java.util.Arrays;
 
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.model.IVariable;
@@ -141,6 +142,22 @@ public class JDIAllInstancesValue extends JDIArrayValue {
 		return getInstances();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * org.eclipse.jdt.internal.debug.core.model.JDIArrayValue#getValues(int,
+	 * int)
+	 */
+	@Override
+	public IJavaValue[] getValues(int offset, int length) throws DebugException {
+		IJavaObject[] instances = getInstances();
+		if (offset < 0 || length < 0 || offset + length > instances.length) {
+			throw new IndexOutOfBoundsException(Integer.toString(offset + length - 1));
+		}
+		return Arrays.copyOfRange(instances, offset, offset + length, IJavaValue[].class);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
@@ -0,0 +1,285 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.core.logicalstructures;
+
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.debug.core.model.IVariable;
+import org.eclipse.jdt.debug.core.IJavaArrayType;
+import org.eclipse.jdt.debug.core.IJavaObject;
+import org.eclipse.jdt.debug.core.IJavaThread;
+import org.eclipse.jdt.debug.core.IJavaType;
+import org.eclipse.jdt.debug.core.IJavaValue;
+import org.eclipse.jdt.internal.debug.core.model.JDIArrayValue;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.jdt.internal.debug.core.model.JDIValue;
+
+import com.sun.jdi.ArrayReference;
+import com.sun.jdi.Value;
+
+/**
+ * Java value containing the elements of a collection, or the entries of a
+ * map, as an array of objects. The elements are decoded from the fields of
+ * the collection rather than copied to an array in the target, so this array
+ * only exists in the model and cannot be changed.
+ * <p>
+ * The elements of collections backed by an array are read from ranges of that
+ * array when they are asked for, like the elements of an array value.
+ * </p>
+ */
+public class JDICollectionElementsValue extends JDIArrayValue {
+
+	/**
+	 * A range of the array backing a collection, holding some of its elements.
+	 */
+	record ArrayRange(ArrayReference array, int offset, int length) {
+	}
+
+	/**
+	 * The elements, or <code>null</code> if they are read from ranges
+	 */
+	private final IJavaValue[] fElements;
+	private final ArrayRange[] fRanges;
+	private final int fLength;
+	private final IJavaArrayType fType;
+
+	/**
+	 * Constructor
+	 *
+	 * @param target
+	 *            the target VM
+	 * @param type
+	 *            the type of the array, <code>java.lang.Object[]</code>
+	 * @param elements
+	 *            the elements of the collection
+	 */
+	public JDICollectionElementsValue(JDIDebugTarget target, IJavaArrayType type, IJavaValue[] elements) {
+		super(target, null);
+		fType = type;
+		fElements = elements;
+		fRanges = null;
+		fLength = elements.length;
+	}
+
+	/**
+	 * Constructs a value whose elements are read from the given ranges of the
+	 * arrays backing a collection, in order.
+	 *
+	 * @param target
+	 *            the target VM
+	 * @param type
+	 *            the type of the array, <code>java.lang.Object[]</code>
+	 * @param ranges
+	 *            the ranges holding the elements of the collection
+	 */
+	JDICollectionElementsValue(JDIDebugTarget target, IJavaArrayType type, ArrayRange... ranges) {
+		super(target, null);
+		fType = type;
+		fElements = null;
+		fRanges = ranges;
+		int length = 0;
+		for (ArrayRange range : ranges) {
+			length += range.length();
+		}
+		fLength = length;
+	}
+
+	@Override
+	public synchronized int getLength() throws DebugException {
+		return fLength;
+	}
+
+	@Override
+	public int getSize() throws DebugException {
+		return fLength;
+	}
+
+	@Override
+	public IJavaValue getValue(int index) throws DebugException {
+		if (index > fLength - 1 || index < 0) {
+			internalError(LogicalStructuresMessages.JDICollectionElementsValue_0);
+		}
+		if (fElements != null) {
+			return fElements[index];
+		}
+		return getValues(index, 1)[0];
+	}
+
+	@Override
+	public IJavaValue[] getValues() throws DebugException {
+		return getValues(0, fLength);
+	}
+
+	@Override
+	public IJavaValue[] getValues(int offset, int length) throws DebugException {
+		if (offset < 0 || length < 0 || offset + length > fLength) {
+			throw new IndexOutOfBoundsException(Integer.toString(offset + length - 1));
+		}
+		if (fElements != null) {
+			return Arrays.copyOfRange(fElements, offset, offset + length);
+		}
+		IJavaValue[] values = new IJavaValue[length];
+		JDIDebugTarget target = getJavaDebugTarget();
+		int count = 0;
+		int start = offset;
+		for (ArrayRange range : fRanges) {
+			if (count == length) {
+				break;
+			}
+			if (start >= range.length()) {
+				start -= range.length();
+				continue;
+			}
+			int rangeCount = Math.min(range.length() - start, length - count);
+			List<Value> list = null;
+			try {
+				list = range.array().getValues(range.offset() + start, rangeCount);
+			} catch (RuntimeException e) {
+				targetRequestFailed(MessageFormat.format(LogicalStructuresMessages.JDICollectionElementsValue_2, e.toString()), e);
+			}
+			for (Value value : list) {
+				values[count++] = JDIValue.createValue(target, value);
+			}
+			start = 0;
+		}
+		return values;
+	}
+
+	@Override
+	public IVariable getVariable(int offset) throws DebugException {
+		if (offset > fLength - 1 || offset < 0) {
+			internalError(LogicalStructuresMessages.JDICollectionElementsValue_0);
+		}
+		return new JDIPlaceholderVariable(MessageFormat.format(LogicalStructuresMessages.JDICollectionElementsValue_1,
+				Integer.toString(offset)), getValue(offset));
+	}
+
+	@Override
+	public IVariable[] getVariables(int offset, int length) throws DebugException {
+		if (length == 0) {
+			return new IVariable[0];
+		}
+		if (offset > fLength - 1 || offset < 0 || length < 0 || offset + length > fLength) {
+			internalError(LogicalStructuresMessages.JDICollectionElementsValue_0);
+		}
+		// read the whole range at once
+		IJavaValue[] values = getValues(offset, length);
+		IVariable[] vars = new IVariable[length];
+		for (int i = 0; i < length; i++) {
+			vars[i] = new JDIPlaceholderVariable(MessageFormat.format(LogicalStructuresMessages.JDICollectionElementsValue_1,
+					Integer.toString(i + offset)), values[i]);
+		}
+		return vars;
+	}
+
+	@Override
+	public IVariable[] getVariables() throws DebugException {
+		return getVariables(0, fLength);
+	}
+
+	@Override
+	public boolean hasVariables() throws DebugException {
+		return fLength > 0;
+	}
+
+	@Override
+	public int getInitialOffset() {
+		return 0;
+	}
+
+	@Override
+	public void setValue(int index, IJavaValue value) throws DebugException {
+		notSupported(LogicalStructuresMessages.JDICollectionElementsValue_3);
+	}
+
+	@Override
+	public void setValues(int offset, int length, IJavaValue[] values, int startOffset) throws DebugException {
+		notSupported(LogicalStructuresMessages.JDICollectionElementsValue_3);
+	}
+
+	@Override
+	public void setValues(int offset, byte[] values) throws DebugException {
+		notSupported(LogicalStructuresMessages.JDICollectionElementsValue_3);
+	}
+
+	@Override
+	public void setValues(IJavaValue[] values) throws DebugException {
+		notSupported(LogicalStructuresMessages.JDICollectionElementsValue_3);
+	}
+
+	@Override
+	public IJavaValue sendMessage(String selector, String signature, IJavaValue[] args, IJavaThread thread, boolean superSend) throws DebugException {
+		notSupported(LogicalStructuresMessages.JDICollectionElementsValue_4);
+		return null;
+	}
+
+	@Override
+	public IJavaValue sendMessage(String selector, String signature, IJavaValue[] args, IJavaThread thread, String typeSignature) throws DebugException {
+		notSupported(LogicalStructuresMessages.JDICollectionElementsValue_4);
+		return null;
+	}
+
+	@Override
+	public IJavaThread[] getWaitingThreads() throws DebugException {
+		return new IJavaThread[0];
+	}
+
+	@Override
+	public IJavaThread getOwningThread() throws DebugException {
+		return null;
+	}
+
+	@Override
+	public IJavaObject[] getReferringObjects(long max) throws DebugException {
+		return new IJavaObject[0];
+	}
+
+	@Override
+	public boolean isAllocated() throws DebugException {
+		return getJavaDebugTarget().isAvailable();
+	}
+
+	@Override
+	public IJavaType getJavaType() throws DebugException {
+		return fType;
+	}
+
+	@Override
+	public String getSignature() throws DebugException {
+		return fType.getSignature();
+	}
+
+	@Override
+	public String getReferenceTypeName() throws DebugException {
+		return fType.getName();
+	}
+
+	@Override
+	public String getValueString() throws DebugException {
+		return ""; //$NON-NLS-1$
+	}
+
+	@Override
+	public void disableCollection() throws DebugException {
+		// the elements are referenced by the collection
+	}
+
+	@Override
+	public void enableCollection() throws DebugException {
+		// the elements are referenced by the collection
+	}
+}
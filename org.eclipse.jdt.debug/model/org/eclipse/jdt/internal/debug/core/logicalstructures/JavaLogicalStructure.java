@@ -16,8 +16,6 @@ package org.eclipse.jdt.internal.debug.core.logicalstructures;
 
 import java.text.MessageFormat;
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.eclipse.core.runtime.CoreException;
@@ -34,7 +32,6 @@ import org.eclipse.debug.core.model.ILogicalStructureTypeDelegate3;
 import org.eclipse.debug.core.model.IThread;
 import org.eclipse.debug.core.model.IValue;
 import org.eclipse.jdt.core.IJavaProject;
-import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.debug.core.IJavaClassType;
 import org.eclipse.jdt.debug.core.IJavaDebugTarget;
 import org.eclipse.jdt.debug.core.IJavaInterfaceType;
@@ -48,7 +45,6 @@ import org.eclipse.jdt.debug.eval.IAstEvaluationEngine;
 import org.eclipse.jdt.debug.eval.ICompiledExpression;
 import org.eclipse.jdt.debug.eval.IEvaluationListener;
 import org.eclipse.jdt.debug.eval.IEvaluationResult;
-import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
 import org.eclipse.jdt.internal.debug.core.JavaDebugUtils;
 import org.eclipse.jdt.internal.debug.core.model.JDIValue;
@@ -56,7 +52,6 @@ import org.eclipse.jdt.internal.debug.core.model.JDIValue;
 import com.sun.jdi.VMDisconnectedException;
 
 
-@SuppressWarnings("restriction")
 public class JavaLogicalStructure implements ILogicalStructureType, ILogicalStructureTypeDelegate3 {
 
 	private static IStatusHandler fgStackFrameProvider;
@@ -134,10 +129,8 @@ public class JavaLogicalStructure implements ILogicalStructureType, ILogicalStru
 		 * @return the <code>IJavaValue</code> from the evaluation
 		 */
 		public IJavaValue evaluate(String snippet) throws DebugException {
-			Map<String, String> compileOptions =
-					Collections.singletonMap(CompilerOptions.OPTION_JdtDebugCompileMode, JavaCore.ENABLED);
-			ICompiledExpression compiledExpression = fEvaluationEngine
-					.getCompiledExpression(snippet, fEvaluationType, compileOptions);
+			ICompiledExpression compiledExpression = JavaLogicalStructures.getCompiledSnippetCache()
+					.getCompiledExpression(JavaLogicalStructure.this, snippet, fEvaluationType, fEvaluationEngine);
 			if (compiledExpression.hasErrors()) {
 				String[] errorMessages = compiledExpression.getErrorMessages();
 				log(errorMessages);
@@ -287,6 +280,15 @@ public class JavaLogicalStructure implements ILogicalStructureType, ILogicalStru
 			if (type == null) {
 				return value;
 			}
+			if (isBuiltIn() && NativeLogicalStructures.isEnabled()) {
+				IJavaValue nativeValue = NativeLogicalStructures.getLogicalStructure(fType, javaValue);
+				if (nativeValue != null) {
+					if (nativeValue instanceof JDIValue) {
+						((JDIValue) nativeValue).setLogicalParent(javaValue);
+					}
+					return nativeValue;
+				}
+			}
 			IJavaStackFrame stackFrame = getStackFrame(javaValue);
 			if (stackFrame == null) {
 				return value;
@@ -534,6 +536,15 @@ public class JavaLogicalStructure implements ILogicalStructureType, ILogicalStru
 		return fContributingPluginId != null;
 	}
 
+	/**
+	 * Returns if this logical structure was contributed by this plug-in.
+	 *
+	 * @return if this logical structure was contributed by this plug-in.
+	 */
+	private boolean isBuiltIn() {
+		return JDIDebugPlugin.getUniqueIdentifier().equals(fContributingPluginId);
+	}
+
 	/**
 	 * Returns the plugin identifier of the plugin which contributed this
 	 * logical structure or <code>null</code> if this structure was defined by
@@ -36,6 +36,8 @@ import org.eclipse.debug.core.ILogicalStructureProvider;
 import org.eclipse.debug.core.ILogicalStructureType;
 import org.eclipse.debug.core.model.IValue;
 import org.eclipse.jdt.debug.core.IJavaClassType;
+import org.eclipse.jdt.debug.core.IJavaDebugTarget;
+import org.eclipse.jdt.debug.core.IJavaHotCodeReplaceListener;
 import org.eclipse.jdt.debug.core.IJavaInterfaceType;
 import org.eclipse.jdt.debug.core.IJavaObject;
 import org.eclipse.jdt.debug.core.IJavaType;
@@ -69,6 +71,12 @@ public class JavaLogicalStructures implements ILogicalStructureProvider {
 	 */
 	private static Set<IJavaStructuresListener> fListeners = new HashSet<>();
 
+	/**
+	 * The snippets of the logical structures compiled for the types they were
+	 * evaluated on.
+	 */
+	private static final CompiledSnippetCache fgCompiledSnippets = new CompiledSnippetCache();
+
 	/**
 	 * Preference key for the list of user defined Java logical structures
 	 *
@@ -87,6 +95,7 @@ public class JavaLogicalStructures implements ILogicalStructureProvider {
 		@Override
 		public void preferenceChange(PreferenceChangeEvent event) {
 			if (PREF_JAVA_LOGICAL_STRUCTURES.equals(event.getKey())) {
+				fgCompiledSnippets.clear();
 				initUserDefinedJavaLogicalStructures();
 				initJavaLogicalStructureMap();
 				Iterator<IJavaStructuresListener> iter = fListeners.iterator();
@@ -97,6 +106,26 @@ public class JavaLogicalStructures implements ILogicalStructureProvider {
 		}
 	}
 
+	/**
+	 * Discards the snippets compiled for a target whose classes were redefined
+	 */
+	static class HotCodeReplaceListener implements IJavaHotCodeReplaceListener {
+		@Override
+		public void hotCodeReplaceFailed(IJavaDebugTarget target, DebugException exception) {
+			// some classes may have been redefined before the failure
+			fgCompiledSnippets.targetChanged(target);
+		}
+
+		@Override
+		public void hotCodeReplaceSucceeded(IJavaDebugTarget target) {
+			fgCompiledSnippets.targetChanged(target);
+		}
+
+		@Override
+		public void obsoleteMethods(IJavaDebugTarget target) {
+		}
+	}
+
 	/**
 	 * Get the logical structure from the extension point and the preference
 	 * store, and initialize the map.
@@ -109,6 +138,7 @@ public class JavaLogicalStructures implements ILogicalStructureProvider {
 		if(prefs != null) {
 			prefs.addPreferenceChangeListener(new PreferenceListener());
 		}
+		JDIDebugModel.addHotCodeReplaceListener(new HotCodeReplaceListener());
 	}
 
 	private static void initJavaLogicalStructureMap() {
@@ -257,6 +287,16 @@ public class JavaLogicalStructures implements ILogicalStructureProvider {
 		saveUserDefinedJavaLogicalStructures();
 	}
 
+	/**
+	 * Returns the snippets of the logical structures compiled for the types
+	 * they were evaluated on.
+	 *
+	 * @return the compiled snippet cache
+	 */
+	public static CompiledSnippetCache getCompiledSnippetCache() {
+		return fgCompiledSnippets;
+	}
+
 	public static void addStructuresListener(IJavaStructuresListener listener) {
 		fListeners.add(listener);
 	}
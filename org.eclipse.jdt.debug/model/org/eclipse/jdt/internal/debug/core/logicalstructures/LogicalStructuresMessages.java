@@ -33,6 +33,12 @@ public class LogicalStructuresMessages extends NLS {
 	public static String JDIAllInstancesValue_12;
 	public static String JDIAllInstancesValue_13;
 
+	public static String JDICollectionElementsValue_0;
+	public static String JDICollectionElementsValue_1;
+	public static String JDICollectionElementsValue_2;
+	public static String JDICollectionElementsValue_3;
+	public static String JDICollectionElementsValue_4;
+
 	public static String JavaLogicalStructures_0;
 	public static String JavaLogicalStructures_1;
 	public static String JavaLogicalStructures_2;
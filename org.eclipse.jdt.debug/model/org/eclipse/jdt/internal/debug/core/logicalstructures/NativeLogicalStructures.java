@@ -0,0 +1,594 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.core.logicalstructures;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.jdi.internal.ArrayReferenceImpl;
+import org.eclipse.jdi.internal.ObjectReferenceImpl;
+import org.eclipse.jdt.debug.core.IJavaArrayType;
+import org.eclipse.jdt.debug.core.IJavaObject;
+import org.eclipse.jdt.debug.core.IJavaType;
+import org.eclipse.jdt.debug.core.IJavaValue;
+import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
+import org.eclipse.jdt.internal.debug.core.logicalstructures.JDICollectionElementsValue.ArrayRange;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.jdt.internal.debug.core.model.JDIObjectValue;
+import org.eclipse.jdt.internal.debug.core.model.JDIValue;
+
+import com.sun.jdi.ArrayReference;
+import com.sun.jdi.ClassType;
+import com.sun.jdi.Field;
+import com.sun.jdi.IntegerValue;
+import com.sun.jdi.ObjectReference;
+import com.sun.jdi.ReferenceType;
+import com.sun.jdi.Value;
+
+/**
+ * Decodes the built-in logical structures of common collections and maps of
+ * <code>java.util</code> from their fields, instead of evaluating their
+ * snippets with method invocations in the target. Decoding does not resume
+ * the thread the structure is computed for, so it has no side effects and is
+ * not serialized with the evaluations of the thread.
+ * <p>
+ * Only the exact JDK classes are decoded, as subclasses may change what their
+ * methods return. The fields of all nodes of a hash table at the same depth of
+ * their buckets are requested at once, and tables are read by pages. The
+ * elements of collections backed by an array are only read from it when they
+ * are displayed, so their size is not limited like the size of maps. Values
+ * that cannot be decoded, because their fields are not the expected ones or
+ * changed while they were read, have their structure evaluated.
+ * </p>
+ */
+final class NativeLogicalStructures {
+
+	/**
+	 * Number of elements read from an array by a single request.
+	 */
+	private static final int PAGE_SIZE = 4096;
+
+	/**
+	 * Maximum number of entries of a hash table that are decoded, as decoding
+	 * takes a request per entry. The structure of larger maps is evaluated.
+	 */
+	private static final int MAX_HASH_ENTRIES = 50000;
+
+	private static final String COLLECTION = "java.util.Collection"; //$NON-NLS-1$
+	private static final String MAP = "java.util.Map"; //$NON-NLS-1$
+	private static final String MAP_ENTRY = "java.util.Map$Entry"; //$NON-NLS-1$
+
+	private static final String ARRAY_LIST = "java.util.ArrayList"; //$NON-NLS-1$
+	private static final String ARRAY_DEQUE = "java.util.ArrayDeque"; //$NON-NLS-1$
+	private static final String HASH_SET = "java.util.HashSet"; //$NON-NLS-1$
+	private static final String LINKED_HASH_SET = "java.util.LinkedHashSet"; //$NON-NLS-1$
+	private static final String HASH_MAP = "java.util.HashMap"; //$NON-NLS-1$
+	private static final String HASH_MAP_NODE = "java.util.HashMap$Node"; //$NON-NLS-1$
+	private static final String LINKED_HASH_MAP = "java.util.LinkedHashMap"; //$NON-NLS-1$
+	private static final String LINKED_HASH_MAP_ENTRY = "java.util.LinkedHashMap$Entry"; //$NON-NLS-1$
+	private static final String CONCURRENT_HASH_MAP = "java.util.concurrent.ConcurrentHashMap"; //$NON-NLS-1$
+	private static final String CONCURRENT_HASH_MAP_NODE = "java.util.concurrent.ConcurrentHashMap$Node"; //$NON-NLS-1$
+	private static final String CONCURRENT_HASH_MAP_TREE_BIN = "java.util.concurrent.ConcurrentHashMap$TreeBin"; //$NON-NLS-1$
+
+	/**
+	 * The map entry classes that are decoded, with the class declaring their
+	 * key and value fields and the names of these fields.
+	 */
+	private static final Map<String, String[]> ENTRY_FIELDS = new HashMap<>();
+
+	static {
+		String[] hashMapNode = { HASH_MAP_NODE, "key", "value" }; //$NON-NLS-1$ //$NON-NLS-2$
+		ENTRY_FIELDS.put(HASH_MAP_NODE, hashMapNode);
+		ENTRY_FIELDS.put("java.util.HashMap$TreeNode", hashMapNode); //$NON-NLS-1$
+		ENTRY_FIELDS.put(LINKED_HASH_MAP_ENTRY, hashMapNode);
+		String[] concurrentHashMapNode = { CONCURRENT_HASH_MAP_NODE, "key", "val" }; //$NON-NLS-1$ //$NON-NLS-2$
+		ENTRY_FIELDS.put(CONCURRENT_HASH_MAP_NODE, concurrentHashMapNode);
+		ENTRY_FIELDS.put("java.util.concurrent.ConcurrentHashMap$TreeNode", concurrentHashMapNode); //$NON-NLS-1$
+		String mapEntry = "java.util.concurrent.ConcurrentHashMap$MapEntry"; //$NON-NLS-1$
+		ENTRY_FIELDS.put(mapEntry, new String[] { mapEntry, "key", "val" }); //$NON-NLS-1$ //$NON-NLS-2$
+		for (String entry : new String[] { "java.util.AbstractMap$SimpleEntry", "java.util.AbstractMap$SimpleImmutableEntry", "java.util.TreeMap$Entry" }) { //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			ENTRY_FIELDS.put(entry, new String[] { entry, "key", "value" }); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	/**
+	 * A node of a linked list with the values of its fields.
+	 */
+	private record Node(ObjectReference node, Map<Field, Value> values) {
+	}
+
+	private NativeLogicalStructures() {
+	}
+
+	/**
+	 * @return whether the logical structures of common collections are
+	 *         decoded from their fields
+	 */
+	static boolean isEnabled() {
+		return Platform.getPreferencesService().getBoolean(
+				JDIDebugPlugin.getUniqueIdentifier(),
+				JDIDebugPlugin.PREF_NATIVE_LOGICAL_STRUCTURES,
+				true,
+				null);
+	}
+
+	/**
+	 * Decodes the logical structure of the given value, for the built-in
+	 * logical structure of the given type.
+	 *
+	 * @param structureType
+	 *            the type of the built-in logical structure
+	 * @param value
+	 *            the value
+	 * @return the logical structure of the value, or <code>null</code> if it
+	 *         cannot be decoded
+	 */
+	static IJavaValue getLogicalStructure(String structureType, IJavaObject value) {
+		if (!(value instanceof JDIObjectValue)) {
+			return null;
+		}
+		ObjectReference object = ((JDIObjectValue) value).getUnderlyingObject();
+		if (object == null) {
+			return null;
+		}
+		JDIDebugTarget target = ((JDIObjectValue) value).getJavaDebugTarget();
+		try {
+			switch (structureType) {
+				case COLLECTION:
+					return decodeCollection(target, object);
+				case MAP:
+					return toArray(target, decodeMap(object, false));
+				case MAP_ENTRY:
+					return decodeEntry(target, value, object);
+				default:
+					return null;
+			}
+		} catch (DebugException | RuntimeException e) {
+			// the structure is evaluated
+			return null;
+		}
+	}
+
+	private static IJavaValue toArray(JDIDebugTarget target, List<Value> elements) throws DebugException {
+		if (elements == null) {
+			return null;
+		}
+		IJavaArrayType type = getObjectArrayType(target);
+		if (type == null) {
+			return null;
+		}
+		IJavaValue[] values = new IJavaValue[elements.size()];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = JDIValue.createValue(target, elements.get(i));
+		}
+		return new JDICollectionElementsValue(target, type, values);
+	}
+
+	/**
+	 * Returns an array whose elements are read from the given ranges when they
+	 * are asked for, so that large collections are not read at once.
+	 */
+	private static IJavaValue toArray(JDIDebugTarget target, ArrayRange... ranges) throws DebugException {
+		for (ArrayRange range : ranges) {
+			if (range == null) {
+				return null;
+			}
+		}
+		IJavaArrayType type = getObjectArrayType(target);
+		if (type == null) {
+			return null;
+		}
+		return new JDICollectionElementsValue(target, type, ranges);
+	}
+
+	private static IJavaArrayType getObjectArrayType(JDIDebugTarget target) throws DebugException {
+		IJavaType[] types = target.getJavaTypes("java.lang.Object[]"); //$NON-NLS-1$
+		if (types == null || types.length == 0) {
+			return null;
+		}
+		return (IJavaArrayType) types[0];
+	}
+
+	private static IJavaValue decodeCollection(JDIDebugTarget target, ObjectReference collection) throws DebugException {
+		ReferenceType type = collection.referenceType();
+		switch (type.name()) {
+			case ARRAY_LIST: {
+				Field elementData = getField(type, ARRAY_LIST, "elementData"); //$NON-NLS-1$
+				Field size = getField(type, ARRAY_LIST, "size"); //$NON-NLS-1$
+				Map<Field, Value> values = getValues(collection, elementData, size);
+				if (values == null) {
+					return null;
+				}
+				return toArray(target, getRange((ArrayReference) values.get(elementData), 0, ((IntegerValue) values.get(size)).value()));
+			}
+			case ARRAY_DEQUE: {
+				Field elements = getField(type, ARRAY_DEQUE, "elements"); //$NON-NLS-1$
+				Field head = getField(type, ARRAY_DEQUE, "head"); //$NON-NLS-1$
+				Field tail = getField(type, ARRAY_DEQUE, "tail"); //$NON-NLS-1$
+				Map<Field, Value> values = getValues(collection, elements, head, tail);
+				if (values == null) {
+					return null;
+				}
+				ArrayReference array = (ArrayReference) values.get(elements);
+				int first = ((IntegerValue) values.get(head)).value();
+				int last = ((IntegerValue) values.get(tail)).value();
+				if (first <= last) {
+					return toArray(target, getRange(array, first, last - first));
+				}
+				// the elements wrap around the end of the array
+				return toArray(target, getRange(array, first, array.length() - first), getRange(array, 0, last));
+			}
+			case HASH_SET:
+			case LINKED_HASH_SET: {
+				Field map = getField(type, HASH_SET, "map"); //$NON-NLS-1$
+				Map<Field, Value> values = getValues(collection, map);
+				if (values == null || !(values.get(map) instanceof ObjectReference)) {
+					return null;
+				}
+				return toArray(target, decodeMap((ObjectReference) values.get(map), true));
+			}
+			default:
+				return null;
+		}
+	}
+
+	/**
+	 * Returns the entries of the given map, or its keys.
+	 */
+	private static List<Value> decodeMap(ObjectReference map, boolean keys) {
+		switch (map.referenceType().name()) {
+			case HASH_MAP:
+				return decodeHashMap(map, keys, false);
+			case LINKED_HASH_MAP:
+				return decodeHashMap(map, keys, true);
+			case CONCURRENT_HASH_MAP:
+				return keys ? null : decodeConcurrentHashMap(map);
+			default:
+				return null;
+		}
+	}
+
+	private static List<Value> decodeHashMap(ObjectReference map, boolean keys, boolean linked) {
+		ReferenceType type = map.referenceType();
+		Field table = getField(type, HASH_MAP, "table"); //$NON-NLS-1$
+		Field size = getField(type, HASH_MAP, "size"); //$NON-NLS-1$
+		Field head = linked ? getField(type, LINKED_HASH_MAP, "head") : null; //$NON-NLS-1$
+		Map<Field, Value> values = linked ? getValues(map, table, size, head) : getValues(map, table, size);
+		if (values == null) {
+			return null;
+		}
+		int count = ((IntegerValue) values.get(size)).value();
+		ArrayReference tableArray = (ArrayReference) values.get(table);
+		if (count == 0 || tableArray == null) {
+			return count == 0 ? new ArrayList<>() : null;
+		}
+		if (count > MAX_HASH_ENTRIES) {
+			return null;
+		}
+		List<ObjectReference> heads = getNonNull(readElements(tableArray, 0, tableArray.length()));
+		if (heads == null || heads.isEmpty()) {
+			return null;
+		}
+		ReferenceType nodeType = heads.get(0).referenceType();
+		Field next = getField(nodeType, HASH_MAP_NODE, "next"); //$NON-NLS-1$
+		Field key = getField(nodeType, HASH_MAP_NODE, "key"); //$NON-NLS-1$
+		Field after = linked ? getField(nodeType, LINKED_HASH_MAP_ENTRY, "after") : null; //$NON-NLS-1$
+		if (next == null || key == null || (linked && after == null)) {
+			return null;
+		}
+		List<Field> fields = new ArrayList<>(Arrays.asList(next, key));
+		if (linked) {
+			fields.add(after);
+		}
+		List<Node> nodes = walkLists(heads, next, fields);
+		if (nodes == null || nodes.size() != count) {
+			// the map changed while it was read
+			return null;
+		}
+		if (linked) {
+			nodes = orderByLinks(nodes, (ObjectReference) values.get(head), after);
+			if (nodes == null) {
+				return null;
+			}
+		}
+		List<Value> result = new ArrayList<>(nodes.size());
+		for (Node node : nodes) {
+			result.add(keys ? node.values().get(key) : node.node());
+		}
+		return result;
+	}
+
+	private static List<Value> decodeConcurrentHashMap(ObjectReference map) {
+		ReferenceType type = map.referenceType();
+		Field table = getField(type, CONCURRENT_HASH_MAP, "table"); //$NON-NLS-1$
+		Map<Field, Value> values = getValues(map, table);
+		if (values == null) {
+			return null;
+		}
+		ArrayReference tableArray = (ArrayReference) values.get(table);
+		if (tableArray == null) {
+			return new ArrayList<>();
+		}
+		List<ObjectReference> bins = getNonNull(readElements(tableArray, 0, tableArray.length()));
+		if (bins == null) {
+			return null;
+		}
+		if (bins.isEmpty()) {
+			return new ArrayList<>();
+		}
+		// the nodes of tree bins are listed from their first node, bins being
+		// moved by a resize are not decoded
+		List<ObjectReference> heads = new ArrayList<>(bins.size());
+		List<Integer> treeBins = new ArrayList<>();
+		for (ObjectReference bin : bins) {
+			String name = bin.referenceType().name();
+			if (name.equals(CONCURRENT_HASH_MAP_TREE_BIN)) {
+				treeBins.add(Integer.valueOf(heads.size()));
+			} else if (!name.equals(CONCURRENT_HASH_MAP_NODE)) {
+				return null;
+			}
+			heads.add(bin);
+		}
+		if (!treeBins.isEmpty()) {
+			Field first = getField(heads.get(treeBins.get(0).intValue()).referenceType(), CONCURRENT_HASH_MAP_TREE_BIN, "first"); //$NON-NLS-1$
+			if (first == null) {
+				return null;
+			}
+			List<ObjectReference> treeBinObjects = new ArrayList<>(treeBins.size());
+			for (Integer index : treeBins) {
+				treeBinObjects.add(heads.get(index.intValue()));
+			}
+			List<Map<Field, Value>> firstNodes = getValues(treeBinObjects, Collections.singletonList(first));
+			if (firstNodes == null) {
+				return null;
+			}
+			for (int i = 0; i < treeBins.size(); i++) {
+				heads.set(treeBins.get(i).intValue(), (ObjectReference) firstNodes.get(i).get(first));
+			}
+			heads = getNonNull(new ArrayList<>(heads));
+			if (heads == null || heads.isEmpty()) {
+				return new ArrayList<>();
+			}
+		}
+		Field next = getField(heads.get(0).referenceType(), CONCURRENT_HASH_MAP_NODE, "next"); //$NON-NLS-1$
+		if (next == null) {
+			return null;
+		}
+		List<Node> nodes = walkLists(heads, next, Collections.singletonList(next));
+		if (nodes == null) {
+			return null;
+		}
+		List<Value> result = new ArrayList<>(nodes.size());
+		for (Node node : nodes) {
+			result.add(node.node());
+		}
+		return result;
+	}
+
+	private static IJavaValue decodeEntry(JDIDebugTarget target, IJavaObject value, ObjectReference entry) {
+		ReferenceType type = entry.referenceType();
+		String[] entryFields = ENTRY_FIELDS.get(type.name());
+		if (entryFields == null) {
+			return null;
+		}
+		Field key = getField(type, entryFields[0], entryFields[1]);
+		Field entryValue = getField(type, entryFields[0], entryFields[2]);
+		Map<Field, Value> values = getValues(entry, key, entryValue);
+		if (values == null) {
+			return null;
+		}
+		JDIPlaceholderVariable[] variables = new JDIPlaceholderVariable[] {
+				new JDIPlaceholderVariable("key", JDIValue.createValue(target, values.get(key)), value), //$NON-NLS-1$
+				new JDIPlaceholderVariable("value", JDIValue.createValue(target, values.get(entryValue)), value) //$NON-NLS-1$
+		};
+		return new LogicalObjectStructureValue(value, variables);
+	}
+
+	/**
+	 * Walks the linked lists of nodes starting at the given heads. The nodes at
+	 * the same position of all lists are read at once.
+	 *
+	 * @param heads
+	 *            the first nodes of the lists
+	 * @param next
+	 *            the field linking a node to the next one
+	 * @param fields
+	 *            the fields to read from each node, including the link
+	 * @return the nodes of all lists, list by list, or <code>null</code> if
+	 *         there are more than {@link #MAX_HASH_ENTRIES}
+	 */
+	private static List<Node> walkLists(List<ObjectReference> heads, Field next, List<Field> fields) {
+		List<List<Node>> lists = new ArrayList<>(heads.size());
+		List<ObjectReference> nodes = heads;
+		List<List<Node>> owners = new ArrayList<>(heads.size());
+		for (int i = 0; i < heads.size(); i++) {
+			List<Node> list = new ArrayList<>(1);
+			lists.add(list);
+			owners.add(list);
+		}
+		int count = 0;
+		while (!nodes.isEmpty()) {
+			List<Map<Field, Value>> values = getValues(nodes, fields);
+			if (values == null) {
+				return null;
+			}
+			List<ObjectReference> nextNodes = new ArrayList<>();
+			List<List<Node>> nextOwners = new ArrayList<>();
+			for (int i = 0; i < nodes.size(); i++) {
+				if (++count > MAX_HASH_ENTRIES) {
+					// too large, or a cycle through a concurrent change
+					return null;
+				}
+				List<Node> owner = owners.get(i);
+				owner.add(new Node(nodes.get(i), values.get(i)));
+				Value nextNode = values.get(i).get(next);
+				if (nextNode != null) {
+					nextNodes.add((ObjectReference) nextNode);
+					nextOwners.add(owner);
+				}
+			}
+			nodes = nextNodes;
+			owners = nextOwners;
+		}
+		List<Node> result = new ArrayList<>(count);
+		for (List<Node> list : lists) {
+			result.addAll(list);
+		}
+		return result;
+	}
+
+	/**
+	 * Orders the given nodes by following the given link from the given first
+	 * node.
+	 *
+	 * @return the ordered nodes, or <code>null</code> if the links do not go
+	 *         through all nodes
+	 */
+	private static List<Node> orderByLinks(List<Node> nodes, ObjectReference first, Field link) {
+		Map<ObjectReference, Node> byReference = new HashMap<>(nodes.size() * 2);
+		for (Node node : nodes) {
+			byReference.put(node.node(), node);
+		}
+		List<Node> result = new ArrayList<>(nodes.size());
+		ObjectReference current = first;
+		while (current != null) {
+			Node node = byReference.remove(current);
+			if (node == null) {
+				return null;
+			}
+			result.add(node);
+			current = (ObjectReference) node.values().get(link);
+		}
+		return byReference.isEmpty() ? result : null;
+	}
+
+	/**
+	 * @return the given range of the given array, or <code>null</code> if the
+	 *         range is not in the array
+	 */
+	private static ArrayRange getRange(ArrayReference array, int first, int length) {
+		if (array == null || first < 0 || length < 0 || first + length > array.length()) {
+			return null;
+		}
+		return new ArrayRange(array, first, length);
+	}
+
+	/**
+	 * Reads a range of elements of the given array, by pages whose requests
+	 * are all sent before waiting for any reply.
+	 *
+	 * @return the elements, or <code>null</code> if the range is not in the
+	 *         array
+	 */
+	private static List<Value> readElements(ArrayReference array, int first, int length) {
+		if (array == null || first < 0 || length < 0 || first + length > array.length()) {
+			return null;
+		}
+		List<Value> result = new ArrayList<>(length);
+		int end = first + length;
+		if (array instanceof ArrayReferenceImpl) {
+			List<CompletableFuture<List<Value>>> pages = new ArrayList<>();
+			for (int index = first; index < end; index += PAGE_SIZE) {
+				pages.add(((ArrayReferenceImpl) array).getValuesAsync(index, Math.min(PAGE_SIZE, end - index)));
+			}
+			for (CompletableFuture<List<Value>> page : pages) {
+				result.addAll(page.join());
+			}
+		} else {
+			for (int index = first; index < end; index += PAGE_SIZE) {
+				result.addAll(array.getValues(index, Math.min(PAGE_SIZE, end - index)));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @return the objects among the given values, or <code>null</code> if
+	 *         there are values that are not objects
+	 */
+	private static List<ObjectReference> getNonNull(List<Value> values) {
+		if (values == null) {
+			return null;
+		}
+		List<ObjectReference> objects = new ArrayList<>();
+		for (Value value : values) {
+			if (value instanceof ObjectReference) {
+				objects.add((ObjectReference) value);
+			} else if (value != null) {
+				return null;
+			}
+		}
+		return objects;
+	}
+
+	/**
+	 * Returns the field with the given name declared by the given class, which
+	 * is the given type or one of its super classes. The private fields of
+	 * super classes are not visible from their subclasses, so they are looked
+	 * up in the class declaring them.
+	 *
+	 * @return the field, or <code>null</code> if there is none
+	 */
+	private static Field getField(ReferenceType type, String declaringType, String name) {
+		ReferenceType current = type;
+		while (current != null && !current.name().equals(declaringType)) {
+			current = current instanceof ClassType ? ((ClassType) current).superclass() : null;
+		}
+		return current == null ? null : current.fieldByName(name);
+	}
+
+	/**
+	 * @return the values of the given fields of the given object, or
+	 *         <code>null</code> if one of the fields does not exist
+	 */
+	private static Map<Field, Value> getValues(ObjectReference object, Field... fields) {
+		for (Field field : fields) {
+			if (field == null) {
+				return null;
+			}
+		}
+		return object.getValues(Arrays.asList(fields));
+	}
+
+	/**
+	 * Returns the values of the given fields of each of the given objects. The
+	 * requests for all objects are sent before waiting for any reply.
+	 */
+	private static List<Map<Field, Value>> getValues(List<ObjectReference> objects, List<Field> fields) {
+		List<CompletableFuture<Map<Field, Value>>> requests = new ArrayList<>(objects.size());
+		for (ObjectReference object : objects) {
+			if (object instanceof ObjectReferenceImpl) {
+				CompletableFuture<Map<Field, Value>> request = ((ObjectReferenceImpl) object).getValuesAsync(fields);
+				if (request == null) {
+					return null;
+				}
+				requests.add(request);
+			} else {
+				requests.add(CompletableFuture.completedFuture(object.getValues(fields)));
+			}
+		}
+		List<Map<Field, Value>> values = new ArrayList<>(requests.size());
+		for (CompletableFuture<Map<Field, Value>> request : requests) {
+			values.add(request.join());
+		}
+		return values;
+	}
+}
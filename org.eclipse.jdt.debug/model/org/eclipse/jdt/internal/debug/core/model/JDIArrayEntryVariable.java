@@ -36,6 +36,12 @@ import com.sun.jdi.Value;
 
 public class JDIArrayEntryVariable extends JDIModificationVariable {
 
+	/**
+	 * The key of the value of an entry of an array.
+	 */
+	private record ValueKey(ArrayReference array, int index) {
+	}
+
 	/**
 	 * The index of the variable entry
 	 */
@@ -93,6 +99,11 @@ public class JDIArrayEntryVariable extends JDIModificationVariable {
 		return null;
 	}
 
+	@Override
+	protected Object getValueKey() {
+		return new ValueKey(getArrayReference(), getIndex());
+	}
+
 	/**
 	 * @see IVariable#getName()
 	 */
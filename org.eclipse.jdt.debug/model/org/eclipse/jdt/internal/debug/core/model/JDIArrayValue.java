@@ -16,11 +16,18 @@ package org.eclipse.jdt.internal.debug.core.model;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.model.IIndexedValue;
 import org.eclipse.debug.core.model.IVariable;
+import org.eclipse.jdi.internal.ArrayReferenceImpl;
 import org.eclipse.jdt.debug.core.IJavaArray;
 import org.eclipse.jdt.debug.core.IJavaValue;
 
@@ -32,8 +39,37 @@ import com.sun.jdi.Value;
 public class JDIArrayValue extends JDIObjectValue implements IJavaArray,
 		IIndexedValue {
 
+	/**
+	 * Number of values read from the target at once, by a single request.
+	 */
+	private static final int CHUNK_SIZE = 500;
+
+	/**
+	 * Maximum number of chunks of values kept per array, the least recently
+	 * used being discarded first.
+	 */
+	private static final int MAX_CHUNKS = 16;
+
 	private int fLength = -1;
 
+	/**
+	 * Chunks of values of this array read in the current suspend epoch, or
+	 * being read ahead of their use, by index of the chunk.
+	 */
+	private final Map<Integer, CompletableFuture<List<Value>>> fChunks = new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Entry<Integer, CompletableFuture<List<Value>>> eldest) {
+			return size() > MAX_CHUNKS;
+		}
+	};
+
+	/**
+	 * The epoch of the value cache of the debug target the chunks were read in.
+	 */
+	private int fChunksEpoch = -1;
+
 	/**
 	 * Constructs a value which is a reference to an array.
 	 *
@@ -63,6 +99,20 @@ public class JDIArrayValue extends JDIObjectValue implements IJavaArray,
 		return values;
 	}
 
+	/**
+	 * @see IJavaArray#getValues(int, int)
+	 */
+	@Override
+	public IJavaValue[] getValues(int offset, int length) throws DebugException {
+		List<Value> list = getUnderlyingValues(offset, length);
+		IJavaValue[] values = new IJavaValue[length];
+		JDIDebugTarget target = getJavaDebugTarget();
+		for (int i = 0; i < length; i++) {
+			values[i] = JDIValue.createValue(target, list.get(i));
+		}
+		return values;
+	}
+
 	/**
 	 * @see IJavaArray#getValue(int)
 	 */
@@ -98,6 +148,7 @@ public class JDIArrayValue extends JDIObjectValue implements IJavaArray,
 		try {
 			getArrayReference().setValue(index,
 					((JDIValue) value).getUnderlyingValue());
+			getJavaDebugTarget().getValueCache().invalidate();
 		} catch (IndexOutOfBoundsException e) {
 			throw e;
 		} catch (InvalidTypeException e) {
@@ -187,6 +238,176 @@ public class JDIArrayValue extends JDIObjectValue implements IJavaArray,
 		return null;
 	}
 
+	/**
+	 * Returns the underlying values of the given range from the underlying
+	 * array reference. Ranges that fit in the chunk cache are read by chunks,
+	 * the chunks that were not read yet in the current suspend epoch being
+	 * read with a single request.
+	 *
+	 * @param offset
+	 *            the index of the first value
+	 * @param length
+	 *            the number of values
+	 * @return list of values
+	 * @exception DebugException
+	 *                if this method fails. Reasons include:
+	 *                <ul>
+	 *                <li>Failure communicating with the VM. The
+	 *                DebugException's status code contains the underlying
+	 *                exception responsible for the failure.</li>
+	 *                </ul>
+	 * @exception java.lang.IndexOutOfBoundsException
+	 *                if the range is not within the bounds of this array.
+	 */
+	protected List<Value> getUnderlyingValues(int offset, int length) throws DebugException {
+		if (offset < 0 || length < 0 || offset + length > getLength()) {
+			throw new IndexOutOfBoundsException(Integer.toString(offset + length - 1));
+		}
+		if (length == 0) {
+			return Collections.EMPTY_LIST;
+		}
+		int first = offset / CHUNK_SIZE;
+		int last = (offset + length - 1) / CHUNK_SIZE;
+		try {
+			if (last - first >= MAX_CHUNKS) {
+				// too large to be cached
+				return getArrayReference().getValues(offset, length);
+			}
+			List<CompletableFuture<List<Value>>> chunks = getChunks(first, last);
+			List<Value> values = new ArrayList<>(length);
+			for (int chunk = first; chunk <= last; chunk++) {
+				List<Value> chunkValues = chunks.get(chunk - first).join();
+				int chunkOffset = chunk * CHUNK_SIZE;
+				int from = Math.max(offset, chunkOffset) - chunkOffset;
+				int to = Math.min(offset + length, chunkOffset + chunkValues.size()) - chunkOffset;
+				values.addAll(chunkValues.subList(from, to));
+			}
+			return values;
+		} catch (IndexOutOfBoundsException e) {
+			throw e;
+		} catch (CompletionException | CancellationException e) {
+			discardChunks();
+			Throwable cause = e.getCause() != null ? e.getCause() : e;
+			targetRequestFailed(
+					MessageFormat.format(
+							JDIDebugModelMessages.JDIArrayValue_exception_while_retrieving_values_from_array,
+							cause.toString()), cause);
+		} catch (RuntimeException e) {
+			discardChunks();
+			targetRequestFailed(
+					MessageFormat.format(
+							JDIDebugModelMessages.JDIArrayValue_exception_while_retrieving_values_from_array,
+							e.toString()), e);
+		}
+		// execution will not reach this line as
+		// an exception will be thrown
+		return null;
+	}
+
+	/**
+	 * Returns the given chunks of values, requesting the chunks that were not
+	 * read yet in the current suspend epoch.
+	 */
+	private List<CompletableFuture<List<Value>>> getChunks(int first, int last) throws DebugException {
+		List<CompletableFuture<List<Value>>> chunks = new ArrayList<>(last - first + 1);
+		synchronized (fChunks) {
+			discardStaleChunks();
+			int firstMissing = -1;
+			int lastMissing = -1;
+			for (int chunk = first; chunk <= last; chunk++) {
+				CompletableFuture<List<Value>> values = fChunks.get(Integer.valueOf(chunk));
+				if (values == null || values.isCompletedExceptionally()) {
+					if (firstMissing == -1) {
+						firstMissing = chunk;
+					}
+					lastMissing = chunk;
+				}
+			}
+			if (firstMissing != -1) {
+				readChunks(firstMissing, lastMissing, false);
+			}
+			for (int chunk = first; chunk <= last; chunk++) {
+				chunks.add(fChunks.get(Integer.valueOf(chunk)));
+			}
+		}
+		return chunks;
+	}
+
+	/**
+	 * Reads the given chunks with a single request, without waiting for the
+	 * reply if the underlying array supports it. The caller must hold the
+	 * lock of the chunks.
+	 *
+	 * @param first
+	 *            the index of the first chunk
+	 * @param last
+	 *            the index of the last chunk
+	 * @param ahead
+	 *            whether the chunks are read ahead of their use, in which
+	 *            case they are only read if that does not wait for the reply
+	 */
+	private void readChunks(int first, int last, boolean ahead) throws DebugException {
+		ArrayReference array = getArrayReference();
+		int offset = first * CHUNK_SIZE;
+		int length = Math.min((last + 1) * CHUNK_SIZE, getLength()) - offset;
+		CompletableFuture<List<Value>> values;
+		if (array instanceof ArrayReferenceImpl) {
+			values = ((ArrayReferenceImpl) array).getValuesAsync(offset, length);
+			if (values == null) {
+				return;
+			}
+		} else if (ahead) {
+			return;
+		} else {
+			values = CompletableFuture.completedFuture(array.getValues(offset, length));
+		}
+		for (int chunk = first; chunk <= last; chunk++) {
+			int from = (chunk - first) * CHUNK_SIZE;
+			int to = Math.min(from + CHUNK_SIZE, length);
+			fChunks.put(Integer.valueOf(chunk), values.thenApply(list -> list.subList(from, to)));
+		}
+	}
+
+	/**
+	 * Requests the chunk following the given range, if it was not read yet in
+	 * the current suspend epoch, such that it is available when the next
+	 * range is shown.
+	 */
+	private void readAhead(int offset, int length) throws DebugException {
+		int next = (offset + length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+		if (next * CHUNK_SIZE >= getLength()) {
+			return;
+		}
+		synchronized (fChunks) {
+			discardStaleChunks();
+			if (!fChunks.containsKey(Integer.valueOf(next))) {
+				try {
+					readChunks(next, next, true);
+				} catch (RuntimeException e) {
+					// the chunk is read when it is used
+				}
+			}
+		}
+	}
+
+	/**
+	 * Discards the chunks read in a previous suspend epoch. The caller must
+	 * hold the lock of the chunks.
+	 */
+	private void discardStaleChunks() {
+		int epoch = getJavaDebugTarget().getValueCache().getEpoch();
+		if (epoch != fChunksEpoch) {
+			fChunks.clear();
+			fChunksEpoch = epoch;
+		}
+	}
+
+	private void discardChunks() {
+		synchronized (fChunks) {
+			fChunks.clear();
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
@@ -225,6 +446,7 @@ public class JDIArrayValue extends JDIObjectValue implements IJavaArray,
 		if ((offset + length - 1) >= getLength()) {
 			requestFailed(JDIDebugModelMessages.JDIArrayValue_8, new IndexOutOfBoundsException(Integer.toString(offset + length - 1)));
 		}
+		int epoch = getJavaDebugTarget().getValueCache().getEpoch();
 		IVariable[] variables = new IVariable[length];
 		int index = offset;
 		for (int i = 0; i < length; i++) {
@@ -232,6 +454,17 @@ public class JDIArrayValue extends JDIObjectValue implements IJavaArray,
 					getArrayReference(), index, fLogicalParent);
 			index++;
 		}
+		try {
+			// read the values of the range at once rather than per entry, and
+			// the next range while this one is shown
+			List<Value> values = getUnderlyingValues(offset, length);
+			for (int i = 0; i < length; i++) {
+				((JDIArrayEntryVariable) variables[i]).setPrefetchedValue(values.get(i), epoch);
+			}
+			readAhead(offset, length);
+		} catch (DebugException | IndexOutOfBoundsException e) {
+			// the entries read their values one by one
+		}
 		return variables;
 	}
 
@@ -270,6 +503,7 @@ public class JDIArrayValue extends JDIObjectValue implements IJavaArray,
 				list.add(((JDIValue) value).getUnderlyingValue());
 			}
 			getArrayReference().setValues(offset, list, startOffset, length);
+			getJavaDebugTarget().getValueCache().invalidate();
 		} catch (IndexOutOfBoundsException e) {
 			throw e;
 		} catch (InvalidTypeException e) {
@@ -291,6 +525,31 @@ public class JDIArrayValue extends JDIObjectValue implements IJavaArray,
 
 	}
 
+	@Override
+	public void setValues(int offset, byte[] values) throws DebugException {
+		ArrayReference array = getArrayReference();
+		if (!(array instanceof ArrayReferenceImpl)) {
+			IJavaArray.super.setValues(offset, values);
+			return;
+		}
+		try {
+			((ArrayReferenceImpl) array).setValues(offset, values);
+			getJavaDebugTarget().getValueCache().invalidate();
+		} catch (IndexOutOfBoundsException e) {
+			throw e;
+		} catch (InvalidTypeException e) {
+			targetRequestFailed(
+					MessageFormat.format(
+							JDIDebugModelMessages.JDIArrayValue_exception_while_setting_value_in_array,
+							e.toString()), e);
+		} catch (RuntimeException e) {
+			targetRequestFailed(
+					MessageFormat.format(
+							JDIDebugModelMessages.JDIArrayValue_exception_while_setting_value_in_array,
+							e.toString()), e);
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
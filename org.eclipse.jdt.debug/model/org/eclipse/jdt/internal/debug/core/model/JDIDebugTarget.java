@@ -68,6 +68,9 @@ import org.eclipse.debug.core.model.IThread;
 import org.eclipse.jdi.TimeoutException;
 import org.eclipse.jdi.internal.VirtualMachineImpl;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
+import org.eclipse.jdi.internal.request.EventRequestImpl;
+import org.eclipse.jdi.internal.request.EventRequestManagerImpl;
+import org.eclipse.jdi.internal.request.ThreadLifecycleRequestImpl;
 import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
@@ -131,12 +134,21 @@ public class JDIDebugTarget extends JDIDebugElement implements
 
 	/**
 	 * Threads contained in this debug target. When a thread starts it is added
-	 * to the list. When a thread ends it is removed from the list.
+	 * to the registry. When a thread ends it is removed from the registry.
 	 *
-	 * TODO investigate making this a synchronized collection, to remove all this copying
 	 * @see #getThreadIterator()
 	 */
-	private final List<JDIThread> fThreads;
+	private final ThreadRegistry fThreads;
+
+	/**
+	 * Whether threads that were not reported by a thread start event, which
+	 * is not requested for virtual threads when
+	 * {@link JDIDebugPlugin#PREF_TRACK_VIRTUAL_THREADS_ON_DEMAND} is on, are
+	 * added when they report an event.
+	 *
+	 * @see #findOrCreateThread(ThreadReference)
+	 */
+	private volatile boolean fTrackThreadsOnDemand;
 
 	/**
 	 * List of thread groups in this target.
@@ -241,6 +253,11 @@ public class JDIDebugTarget extends JDIDebugElement implements
 	 */
 	private final AtomicInteger fSuspendCount = new AtomicInteger(0);
 
+	/**
+	 * Values of fields and array entries read in the current suspend epoch
+	 */
+	private final ValueCache fValueCache = new ValueCache();
+
 	/** Number of extra VM.resume operations needed due SUSPEND_VM breakpoints */
 	private final AtomicInteger extraResumeCount = new AtomicInteger(0);
 
@@ -334,6 +351,15 @@ public class JDIDebugTarget extends JDIDebugElement implements
 	 */
 	private final Map<String, Boolean> fKnownTypes = new ConcurrentHashMap<>();
 
+	/**
+	 * Event requests to enable with one batch of commands, collected while the
+	 * class prepare events of an event set are handled by the dispatching
+	 * thread, or <code>null</code> when no batch is open on that thread.
+	 *
+	 * @see #beginRequestBatch()
+	 */
+	private final ThreadLocal<Set<EventRequest>> fRequestsToEnable = new ThreadLocal<>();
+
 	/**
 	 * Labels given by the user is stored in this map, where the key is the unique ID of the object.
 	 */
@@ -399,7 +425,7 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		setName(name);
 		fScope = prepareBreakpointsSearchScope();
 		fBreakpoints = Collections.synchronizedList(new ArrayList<>(5));
-		fThreads = Collections.synchronizedList(new ArrayList<>());
+		fThreads = new ThreadRegistry();
 		fGroups = Collections.synchronizedList(new ArrayList<>(5));
 		fOutOfSynchTypes = Collections.synchronizedSet(new HashSet<>());
 		setHCROccurred(false);
@@ -476,18 +502,13 @@ public class JDIDebugTarget extends JDIDebugElement implements
 
 	/**
 	 * Returns an iterator over the collection of threads. The returned iterator
-	 * is made on a copy of the thread list so that it is thread safe. This
-	 * method should always be used instead of getThreadList().iterator()
+	 * is thread safe without copying the collection: it does not fail when
+	 * threads are added or removed while iterating.
 	 *
 	 * @return an iterator over the collection of threads
 	 */
 	private Iterator<JDIThread> getThreadIterator() {
-		List<JDIThread> threadList;
-		synchronized (fThreads) {
-			//TODO investigate making fThreads be a synchronized collection, to remove all this copying
-			threadList = new ArrayList<>(fThreads);
-		}
-		return threadList.iterator();
+		return fThreads.iterator();
 	}
 
 	/**
@@ -557,6 +578,7 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		initializeRequests();
 		initializeState();
 		initializeBreakpoints();
+		preloadTypes();
 		getLaunch().addDebugTarget(this);
 		DebugPlugin plugin = DebugPlugin.getDefault();
 		plugin.addDebugEventListener(this);
@@ -576,6 +598,29 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		});
 	}
 
+	/**
+	 * Retrieves the metadata of the loaded types of the packages configured
+	 * by {@link JDIDebugPlugin#PREF_PRELOAD_TYPE_PACKAGES} in the background,
+	 * so that it is known before breakpoints and stack frames first need it.
+	 */
+	protected void preloadTypes() {
+		String packages = Platform.getPreferencesService().getString(
+				JDIDebugPlugin.getUniqueIdentifier(),
+				JDIDebugPlugin.PREF_PRELOAD_TYPE_PACKAGES, "", //$NON-NLS-1$
+				null);
+		if (packages.isBlank() || !(getVM() instanceof VirtualMachineImpl)) {
+			return;
+		}
+		List<String> packageNames = new ArrayList<>();
+		for (String packageName : packages.split(",")) { //$NON-NLS-1$
+			packageName = packageName.trim();
+			if (!packageName.isEmpty()) {
+				packageNames.add(packageName);
+			}
+		}
+		new PreloadTypesJob(packageNames).schedule();
+	}
+
 	/**
 	 * Adds all of the pre-existing threads to this debug target.
 	 */
@@ -652,8 +697,10 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		if (isDisconnected()) {
 			return null;
 		}
-		synchronized (fThreads) {
-			fThreads.add(jdiThread);
+		JDIThread registered = fThreads.add(jdiThread);
+		if (registered != jdiThread) {
+			// created concurrently
+			return registered;
 		}
 		jdiThread.fireCreationEvent();
 		return jdiThread;
@@ -679,23 +726,17 @@ public class JDIDebugTarget extends JDIDebugElement implements
 
 	@Override
 	public IThread[] getThreads() {
-		synchronized (fThreads) {
-			IThread[] threads = new IThread[fThreads.size()];
-			int index = 0;
-			for (JDIThread thread : fThreads) {
-				if (!thread.isSystemThread()) {
-					threads[index] = thread;
-					++index;
-				}
-			}
-			for (JDIThread thread : fThreads) {
-				if (thread.isSystemThread()) {
-					threads[index] = thread;
-					++index;
-				}
+		List<IThread> threads = new ArrayList<>(fThreads.size());
+		List<IThread> systemThreads = new ArrayList<>();
+		for (JDIThread thread : fThreads) {
+			if (thread.isSystemThread()) {
+				systemThreads.add(thread);
+			} else {
+				threads.add(thread);
 			}
-			return threads;
 		}
+		threads.addAll(systemThreads);
+		return threads.toArray(new IThread[threads.size()]);
 	}
 
 	@Override
@@ -1012,14 +1053,26 @@ public class JDIDebugTarget extends JDIDebugElement implements
 	 * @return the associated model thread
 	 */
 	public JDIThread findThread(ThreadReference tr) {
-		Iterator<JDIThread> iter = getThreadIterator();
-		while (iter.hasNext()) {
-			JDIThread thread = iter.next();
-			if (thread.getUnderlyingThread().equals(tr)) {
-				return thread;
-			}
+		return fThreads.find(tr);
+	}
+
+	/**
+	 * Finds and returns the JDI thread for the associated thread reference.
+	 * If there is none and threads are tracked on demand, because thread
+	 * start events are not requested for virtual threads, the thread is
+	 * created.
+	 *
+	 * @param tr
+	 *            the underlying thread reference
+	 * @return the associated model thread, or <code>null</code> if there is
+	 *         none
+	 */
+	public JDIThread findOrCreateThread(ThreadReference tr) {
+		JDIThread thread = findThread(tr);
+		if (thread == null && fTrackThreadsOnDemand && isAvailable()) {
+			thread = createThread(tr);
 		}
-		return null;
+		return thread;
 	}
 
 	@Override
@@ -1268,6 +1321,83 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		return req;
 	}
 
+	/**
+	 * Opens a batch of event requests to enable on the calling thread. Until
+	 * the batch is closed by {@link #endRequestBatch()}, requests passed to
+	 * {@link #deferEnable(EventRequest)} on this thread are only enabled when
+	 * the batch is closed, all with one round trip to the VM. Used to install
+	 * the breakpoints of a type while the thread that prepared the type is
+	 * suspended.
+	 */
+	public void beginRequestBatch() {
+		if (fRequestsToEnable.get() == null) {
+			fRequestsToEnable.set(new LinkedHashSet<>());
+		}
+	}
+
+	/**
+	 * Defers enabling the given request to the end of the batch open on the
+	 * calling thread, if any.
+	 *
+	 * @param request
+	 *            the configured request to enable
+	 * @return whether the request will be enabled when the batch is closed,
+	 *         <code>false</code> if no batch is open and the request must be
+	 *         enabled by the caller
+	 */
+	public boolean deferEnable(EventRequest request) {
+		Set<EventRequest> requests = fRequestsToEnable.get();
+		if (requests == null) {
+			return false;
+		}
+		requests.add(request);
+		return true;
+	}
+
+	/**
+	 * Closes the batch open on the calling thread and enables its requests.
+	 * The commands enabling them are written to the VM before any reply is
+	 * awaited. Requests that cannot be enabled that way are enabled one by
+	 * one, to report failures as when they are not batched. Requests deleted
+	 * while the batch was open, such as those of a removed breakpoint, are
+	 * not enabled.
+	 */
+	public void endRequestBatch() {
+		Set<EventRequest> requests = fRequestsToEnable.get();
+		if (requests == null) {
+			return;
+		}
+		fRequestsToEnable.remove();
+		if (requests.isEmpty()) {
+			return;
+		}
+		try {
+			EventRequestManager manager = getEventRequestManager();
+			if (requests.size() > 1 && manager instanceof EventRequestManagerImpl) {
+				((EventRequestManagerImpl) manager).enableEventRequests(new ArrayList<>(requests));
+			}
+		} catch (VMDisconnectedException e) {
+			return;
+		} catch (RuntimeException e) {
+			// the requests are enabled one by one
+		}
+		for (EventRequest request : requests) {
+			if (request instanceof EventRequestImpl && ((EventRequestImpl) request).isDeleted()) {
+				// removed while the batch was open
+				continue;
+			}
+			try {
+				if (!request.isEnabled()) {
+					request.enable();
+				}
+			} catch (VMDisconnectedException e) {
+				return;
+			} catch (RuntimeException e) {
+				internalError(e);
+			}
+		}
+	}
+
 	@Override
 	public void resume() throws DebugException {
 		// if a client calls resume, then we should resume on a VMStart event in
@@ -1861,9 +1991,7 @@ public class JDIDebugTarget extends JDIDebugElement implements
 			JDIThread child = itr.next();
 			child.terminated();
 		}
-		synchronized (fThreads) {
-			fThreads.clear();
-		}
+		fThreads.clear();
 	}
 
 	/**
@@ -2216,6 +2344,15 @@ public class JDIDebugTarget extends JDIDebugElement implements
 				try {
 					EventRequest req = manager.createThreadStartRequest();
 					req.setSuspendPolicy(EventRequest.SUSPEND_NONE);
+					if (req instanceof ThreadLifecycleRequestImpl && Platform.getPreferencesService().getBoolean(
+							JDIDebugPlugin.getUniqueIdentifier(),
+							JDIDebugPlugin.PREF_TRACK_VIRTUAL_THREADS_ON_DEMAND,
+							false,
+							null)) {
+						// virtual threads are added when they report an event
+						((ThreadLifecycleRequestImpl) req).addPlatformThreadsOnlyFilter();
+						fTrackThreadsOnDemand = true;
+					}
 					req.enable();
 					addJDIEventListener(this, req);
 					setRequest(req);
@@ -2362,9 +2499,7 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		public void eventSetComplete(Event event, JDIDebugTarget target, boolean suspendVote, EventSet eventSet) {
 			JDIThread thread = toRemove.remove(event);
 			if (thread != null) {
-				synchronized (fThreads) {
-					fThreads.remove(thread);
-				}
+				fThreads.remove(thread);
 			}
 		}
 
@@ -2535,6 +2670,46 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		}
 	}
 
+	class PreloadTypesJob extends Job {
+
+		private final List<String> fPackageNames;
+
+		/**
+		 * Constructs a job to retrieve the metadata of the types of the given
+		 * packages.
+		 */
+		public PreloadTypesJob(List<String> packageNames) {
+			super(JDIDebugModelMessages.JDIDebugTarget_PreloadTypes);
+			fPackageNames = packageNames;
+			setSystem(true);
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			VirtualMachine vm = getVM();
+			if (vm instanceof VirtualMachineImpl) {
+				try {
+					((VirtualMachineImpl) vm).preloadReferenceTypes(fPackageNames, monitor);
+				} catch (VMDisconnectedException e) {
+					// the target went away
+				} catch (RuntimeException e) {
+					JDIDebugPlugin.log(e);
+				}
+			}
+			return monitor.isCanceled() ? Status.CANCEL_STATUS : Status.OK_STATUS;
+		}
+
+		@Override
+		public boolean shouldRun() {
+			return isAvailable();
+		}
+
+		@Override
+		public boolean belongsTo(Object family) {
+			return family == JDIDebugTarget.this;
+		}
+	}
+
 	class CleanUpJob extends Job {
 
 		/**
@@ -2763,7 +2938,7 @@ public class JDIDebugTarget extends JDIDebugElement implements
 
 	@Override
 	public boolean hasThreads() {
-		return fThreads.size() > 0;
+		return !fThreads.isEmpty();
 	}
 
 	@Override
@@ -2771,6 +2946,17 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		return fLaunch;
 	}
 
+	/**
+	 * Returns the cache of the values of fields and array entries read in the
+	 * current suspend epoch. The epoch ends whenever a thread of this target
+	 * resumes or suspends, and after hot code replace.
+	 *
+	 * @return the value cache of this target
+	 */
+	public ValueCache getValueCache() {
+		return fValueCache;
+	}
+
 	/**
 	 * Returns the number of suspend events that have occurred in this target.
 	 *
@@ -2830,6 +3016,11 @@ public class JDIDebugTarget extends JDIDebugElement implements
 	 */
 	public void setIsPerformingHotCodeReplace(boolean isPerformingHotCodeReplace) {
 		fIsPerformingHotCodeReplace = isPerformingHotCodeReplace;
+		// the redefined types may have changed the values read so far
+		fValueCache.invalidate();
+		for (JDIThread thread : fThreads) {
+			thread.getValueCache().invalidate();
+		}
 	}
 
 	@Override
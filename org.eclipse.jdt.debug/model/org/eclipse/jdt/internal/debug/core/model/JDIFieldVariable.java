@@ -41,6 +41,12 @@ import com.sun.jdi.Value;
  */
 public class JDIFieldVariable extends JDIModificationVariable implements
 		IJavaFieldVariable {
+	/**
+	 * The key of the value of an instance field of an object.
+	 */
+	private record ValueKey(ObjectReference object, Field field) {
+	}
+
 	/**
 	 * The underlying field
 	 */
@@ -98,6 +104,14 @@ public class JDIFieldVariable extends JDIModificationVariable implements
 		return getObjectReference().getValue(getField());
 	}
 
+	@Override
+	protected Object getValueKey() {
+		if (getField().isStatic()) {
+			return getField();
+		}
+		return new ValueKey(getObjectReference(), getField());
+	}
+
 	/**
 	 * @see IJavaFieldVariable#getDeclaringType()
 	 */
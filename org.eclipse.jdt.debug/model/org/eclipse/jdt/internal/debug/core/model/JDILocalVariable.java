@@ -33,6 +33,12 @@ import com.sun.jdi.Value;
  */
 
 public class JDILocalVariable extends JDIModificationVariable {
+	/**
+	 * The key of the value of a local variable in a frame.
+	 */
+	private record ValueKey(JDIStackFrame frame, LocalVariable local) {
+	}
+
 	/**
 	 * The underlying local variable
 	 */
@@ -69,6 +75,20 @@ public class JDILocalVariable extends JDIModificationVariable {
 		return getLastKnownValue();
 	}
 
+	/**
+	 * Local variables read their values through the cache of the thread of
+	 * their frame, as only that thread changes them.
+	 */
+	@Override
+	protected ValueCache getValueCache() {
+		return ((JDIThread) fStackFrame.getThread()).getValueCache();
+	}
+
+	@Override
+	protected Object getValueKey() {
+		return new ValueKey(fStackFrame, fLocal);
+	}
+
 	/**
 	 * @see IVariable#getName()
 	 */
@@ -204,6 +204,7 @@ public abstract class JDIModificationVariable extends JDIVariable {
 	public final void setValue(String expression) throws DebugException {
 		Value value = generateVMValue(expression);
 		setJDIValue(value);
+		valueModified();
 	}
 
 	/*
@@ -218,6 +219,7 @@ public abstract class JDIModificationVariable extends JDIVariable {
 		if (v instanceof JDIValue) {
 			JDIValue value = (JDIValue) v;
 			setJDIValue(value.getUnderlyingValue());
+			valueModified();
 		}
 	}
 
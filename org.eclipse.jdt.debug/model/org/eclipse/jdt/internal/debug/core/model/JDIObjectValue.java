@@ -19,11 +19,15 @@ import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.model.IValue;
 import org.eclipse.jdi.internal.InterfaceTypeImpl;
+import org.eclipse.jdi.internal.ObjectReferenceImpl;
 import org.eclipse.jdt.debug.core.IJavaFieldVariable;
 import org.eclipse.jdt.debug.core.IJavaObject;
 import org.eclipse.jdt.debug.core.IJavaThread;
@@ -643,4 +647,84 @@ public class JDIObjectValue extends JDIValue implements IJavaObject {
 			}
 		}
 	}
+
+	/**
+	 * Prevents garbage collection for the given objects. The requests for the
+	 * objects of one debug target are sent before waiting for any reply.
+	 *
+	 * @param objects
+	 *            the objects
+	 * @throws DebugException
+	 *             if garbage collection could not be disabled for one of the
+	 *             objects, once it has been disabled for the others
+	 * @see #disableCollection()
+	 */
+	public static void disableCollection(List<? extends IJavaObject> objects) throws DebugException {
+		setCollection(objects, false);
+	}
+
+	/**
+	 * Permits garbage collection for the given objects. The requests for the
+	 * objects of one debug target are sent before waiting for any reply.
+	 *
+	 * @param objects
+	 *            the objects
+	 * @throws DebugException
+	 *             if garbage collection could not be enabled for one of the
+	 *             objects, once it has been enabled for the others
+	 * @see #enableCollection()
+	 */
+	public static void enableCollection(List<? extends IJavaObject> objects) throws DebugException {
+		setCollection(objects, true);
+	}
+
+	private static void setCollection(List<? extends IJavaObject> objects, boolean enable) throws DebugException {
+		Map<JDIDebugTarget, List<ObjectReferenceImpl>> batches = new LinkedHashMap<>();
+		DebugException failure = null;
+		for (IJavaObject object : objects) {
+			if (object instanceof JDIObjectValue && ((JDIObjectValue) object).getUnderlyingObject() instanceof ObjectReferenceImpl) {
+				JDIObjectValue value = (JDIObjectValue) object;
+				if (value.getJavaDebugTarget().supportsSelectiveGarbageCollection()) {
+					batches.computeIfAbsent(value.getJavaDebugTarget(), target -> new ArrayList<>()).add((ObjectReferenceImpl) value.getUnderlyingObject());
+				}
+				continue;
+			}
+			try {
+				if (enable) {
+					object.enableCollection();
+				} else {
+					object.disableCollection();
+				}
+			} catch (DebugException e) {
+				if (failure == null) {
+					failure = e;
+				}
+			}
+		}
+		for (Entry<JDIDebugTarget, List<ObjectReferenceImpl>> batch : batches.entrySet()) {
+			JDIDebugTarget target = batch.getKey();
+			try {
+				if (enable) {
+					ObjectReferenceImpl.enableCollection(batch.getValue());
+				} else {
+					ObjectReferenceImpl.disableCollection(batch.getValue());
+				}
+			} catch (UnsupportedOperationException e) {
+				// The VM does not support enable/disable GC - update target
+				// capabilities and ignore (bug 246577)
+				target.setSupportsSelectiveGarbageCollection(false);
+			} catch (RuntimeException e) {
+				try {
+					target.targetRequestFailed(enable ? JDIDebugModelMessages.JDIObjectValue_14 : JDIDebugModelMessages.JDIObjectValue_13, e);
+				} catch (DebugException de) {
+					if (failure == null) {
+						failure = de;
+					}
+				}
+			}
+		}
+		if (failure != null) {
+			throw failure;
+		}
+	}
 }
\ No newline at end of file
@@ -266,21 +266,19 @@ public class JDIStackFrame extends JDIDebugElement implements IJavaStackFrame {
 			if (!exists() || isObsolete() || !getThread().canStepReturn()) {
 				return false;
 			}
-			List<IJavaStackFrame> frames = ((JDIThread) getThread())
-					.computeStackFrames();
-			if (frames != null && !frames.isEmpty()) {
-				boolean bottomFrame = this
-						.equals(frames.get(frames.size() - 1));
-				boolean aboveObsoleteFrame = false;
-				if (!bottomFrame) {
-					int index = frames.indexOf(this);
-					if (index < frames.size() - 1
-							&& ((JDIStackFrame) frames.get(index + 1))
-									.isObsolete()) {
-						aboveObsoleteFrame = true;
-					}
+			// only retrieve this frame and the one below it
+			List<IJavaStackFrame> frames;
+			synchronized (fThread) {
+				int index = fThread.computeStackFrameCount() - 1 - fDepth;
+				if (fDepth <= 0) {
+					// bottom frame
+					return false;
 				}
-				return !bottomFrame && !aboveObsoleteFrame;
+				frames = fThread.computeStackFrames(index, 2);
+			}
+			if (frames.size() == 2 && this.equals(frames.get(0))) {
+				boolean aboveObsoleteFrame = ((JDIStackFrame) frames.get(1)).isObsolete();
+				return !aboveObsoleteFrame;
 			}
 		} catch (DebugException e) {
 			logError(e);
@@ -288,6 +286,30 @@ public class JDIStackFrame extends JDIDebugElement implements IJavaStackFrame {
 		return false;
 	}
 
+	/**
+	 * Returns the frames around this frame, only retrieving their page of
+	 * frames rather than the whole stack. The frame at the position of this
+	 * frame is not this frame if this frame is no longer on the stack.
+	 *
+	 * @param offset
+	 *            the position of the first frame relative to this frame, 0
+	 *            for this frame and -1 for the frame above it
+	 * @param length
+	 *            the maximum number of frames
+	 * @return the frames in the range, or an empty list if this frame is
+	 *         invalid, the range starts above the top of the stack or the
+	 *         thread is not suspended
+	 */
+	private List<IJavaStackFrame> computeStackFramesFromThis(int offset, int length) throws DebugException {
+		synchronized (fThread) {
+			int count = fThread.computeStackFrameCount();
+			if (fDepth < 0) {
+				return Collections.emptyList();
+			}
+			return fThread.computeStackFrames(count - 1 - fDepth + offset, length);
+		}
+	}
+
 	/**
 	 * Returns the underlying method associated with this stack frame,
 	 * retrieving the method is necessary.
@@ -303,7 +325,15 @@ public class JDIStackFrame extends JDIDebugElement implements IJavaStackFrame {
 	 */
 	@Override
 	public IVariable[] getVariables() throws DebugException {
-		List<IJavaVariable> list = getVariables0();
+		List<IJavaVariable> list;
+		synchronized (fThread) {
+			list = new ArrayList<>(getVariables0());
+			ValuePrefetcher.prefetchFrameValues(this, list);
+		}
+		if (ValuePrefetcher.isPrefetchChildValues()) {
+			// outside of the thread lock, as the values of the children are locked
+			ValuePrefetcher.prefetchChildValues(list, getJavaDebugTarget().getValueCache());
+		}
 		return list.toArray(new IVariable[list.size()]);
 	}
 
@@ -372,10 +402,9 @@ public class JDIStackFrame extends JDIDebugElement implements IJavaStackFrame {
 					}
 				}
 				if (LambdaUtils.isLambdaFrame(this)) {
-					List<IJavaStackFrame> frames = fThread.computeStackFrames();
-					int previousIndex = frames.indexOf(this) + 1;
-					if (previousIndex > 0 && previousIndex < frames.size()) {
-						IJavaStackFrame previousFrame = frames.get(previousIndex);
+					List<IJavaStackFrame> frames = computeStackFramesFromThis(0, 2);
+					if (frames.size() == 2 && this.equals(frames.get(0))) {
+						IJavaStackFrame previousFrame = frames.get(1);
 						ObjectReference underlyingThisObject = ((JDIStackFrame) previousFrame).getUnderlyingThisObject();
 						IJavaValue closureValue = JDIValue.createValue((JDIDebugTarget) getDebugTarget(), underlyingThisObject);
 						tryToResolveLambdaVariableNames(closureValue, underlyingThisObject);
@@ -685,11 +714,9 @@ public class JDIStackFrame extends JDIDebugElement implements IJavaStackFrame {
 		if (isTopStackFrame()) {
 			getThread().stepReturn();
 		} else {
-			List<IJavaStackFrame> frames = ((JDIThread) getThread())
-					.computeStackFrames();
-			int index = frames.indexOf(this);
-			if (index >= 0 && index < frames.size() - 1) {
-				IStackFrame nextFrame = frames.get(index + 1);
+			List<IJavaStackFrame> frames = computeStackFramesFromThis(0, 2);
+			if (frames.size() == 2 && this.equals(frames.get(0))) {
+				IStackFrame nextFrame = frames.get(1);
 				((JDIThread) getThread()).stepToFrame(nextFrame);
 			}
 		}
@@ -844,7 +871,16 @@ public class JDIStackFrame extends JDIDebugElement implements IJavaStackFrame {
 			if (jdkSupport || j9Support) {
 				// Also ensure that this frame and no frames above this
 				// frame are native. Unable to pop native stack frames.
-				List<IJavaStackFrame> frames = thread.computeStackFrames();
+				// Only the frames down to the one below this frame are
+				// needed.
+				List<IJavaStackFrame> frames;
+				synchronized (fThread) {
+					int count = thread.computeStackFrameCount();
+					if (fDepth < 0) {
+						return false;
+					}
+					frames = thread.computeStackFrames(0, count - fDepth + 1);
+				}
 				if (jdkSupport) {
 					// JDK 1.4 VMs are currently unable to pop the bottom
 					// stack frame.
@@ -1362,10 +1398,10 @@ public class JDIStackFrame extends JDIDebugElement implements IJavaStackFrame {
 				}
 				if (fThread.isSuspended()) {
 					// re-index stack frames - See Bug 47198
-					fThread.computeStackFrames();
+					computeStackFramesFromThis(0, 1);
 					if (fDepth == -1) {
 						// try it once more before throwing error
-						fThread.computeStackFrames();
+						computeStackFramesFromThis(0, 1);
 						if (fDepth == -1) {
 						// If depth is -1, then this is an invalid frame
 							throw new DebugException(new Status(IStatus.ERROR, JDIDebugPlugin.getUniqueIdentifier(), IJavaStackFrame.ERR_INVALID_STACK_FRAME, JDIDebugModelMessages.JDIStackFrame_25, new IllegalStateException()));
@@ -1681,11 +1717,9 @@ public class JDIStackFrame extends JDIDebugElement implements IJavaStackFrame {
 					if (isTopStackFrame()) {
 						return true;
 					}
-					List<IJavaStackFrame> frames = fThread.computeStackFrames();
-					int index = frames.indexOf(this);
-					if (index > 0) {
-						JDIStackFrame prev = (JDIStackFrame) frames
-								.get(index - 1);
+					List<IJavaStackFrame> frames = computeStackFramesFromThis(-1, 2);
+					if (frames.size() == 2 && this.equals(frames.get(1))) {
+						JDIStackFrame prev = (JDIStackFrame) frames.get(0);
 						return prev.canDropToFrame();
 					}
 				}
@@ -1718,10 +1752,9 @@ public class JDIStackFrame extends JDIDebugElement implements IJavaStackFrame {
 			} catch (ClassNotLoadedException e) {
 				targetRequestFailed(JDIDebugModelMessages.JDIThread_48, e);
 			}
-			List<IJavaStackFrame> frames = fThread.computeStackFrames();
-			int index = frames.indexOf(this);
-			if (index > 0) {
-				JDIStackFrame prev = (JDIStackFrame) frames.get(index - 1);
+			List<IJavaStackFrame> frames = computeStackFramesFromThis(-1, 2);
+			if (frames.size() == 2 && this.equals(frames.get(1))) {
+				JDIStackFrame prev = (JDIStackFrame) frames.get(0);
 				fThread.popFrame(prev);
 				fThread.forceReturn(value);
 			}
@@ -17,6 +17,8 @@
 package org.eclipse.jdt.internal.debug.core.model;
 
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -135,10 +137,24 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 	 * Cache of previous name, used in case thread is garbage collected.
 	 */
 	private String fPreviousName;
+	/**
+	 * Number of stack frames retrieved at once. After a suspend only the
+	 * pages of frames that are asked for are retrieved.
+	 *
+	 * @noreference public for test purposes
+	 */
+	public static final int STACK_FRAME_PAGE_SIZE = 64;
 	/**
 	 * Collection of stack frames
 	 */
 	private volatile List<IJavaStackFrame> fStackFrames;
+	/**
+	 * Positions in {@link #fStackFrames} of the frames that are not bound to
+	 * the underlying frames of the current suspend yet. These positions hold
+	 * <code>null</code> or a frame preserved from the previous suspend, which
+	 * is re-bound when its page is retrieved.
+	 */
+	private final BitSet fUnboundStackFrames = new BitSet();
 	/**
 	 * Underlying thread group, cached on first access.
 	 */
@@ -161,6 +177,11 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 	 * Whether running.
 	 */
 	private volatile boolean fRunning;
+	/**
+	 * Values of the local variables of this thread read in the current suspend
+	 * epoch.
+	 */
+	private final ValueCache fValueCache = new ValueCache();
 	/**
 	 * Whether terminated.
 	 */
@@ -635,54 +656,145 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 	 */
 	protected synchronized List<IJavaStackFrame> computeStackFrames(boolean refreshChildren)
 			throws DebugException {
-		if (isSuspended()) {
-			if (isTerminated()) {
-				fStackFrames.clear();
-			} else if (refreshChildren) {
-				List<StackFrame> frames = getUnderlyingFrames();
-				int oldSize = fStackFrames.size();
-				if (oldSize > 0) {
-					((JDIStackFrame) fStackFrames.get(0)).setIsTop(false);
-				}
-				int newSize = frames.size();
-				int discard = oldSize - newSize; // number of old frames to
-													// discard, if any
-				for (int i = 0; i < discard; i++) {
-					JDIStackFrame invalid = (JDIStackFrame) fStackFrames
-							.remove(0);
-					invalid.bind(null, -1);
-				}
-				int newFrames = newSize - oldSize; // number of frames to
-													// create, if any
-				int depth = oldSize;
-				for (int i = newFrames - 1; i >= 0; i--) {
-					fStackFrames.add(0, newJDIStackFrame(frames.get(i), depth));
-					depth++;
-				}
-				int numToRebind = Math.min(newSize, oldSize); // number of
-																// frames to
-																// attempt to
-																// re-bind
-				int offset = newSize - 1;
-				for (depth = 0; depth < numToRebind; depth++) {
-					JDIStackFrame oldFrame = (JDIStackFrame) fStackFrames
-							.get(offset);
-					StackFrame frame = frames.get(offset);
-					JDIStackFrame newFrame = oldFrame.bind(frame, depth);
-					if (newFrame != oldFrame) {
-						fStackFrames.set(offset, newFrame);
+		if (!updateStackFrames(refreshChildren)) {
+			return Collections.EMPTY_LIST;
+		}
+		bindStackFrames(0, fStackFrames.size());
+		return fStackFrames;
+	}
+
+	/**
+	 * Returns the stack frames of this thread in the given range, counted from
+	 * the top of the stack. Only the pages of frames that are not known since
+	 * the last suspend are retrieved from the VM, so the cost does not depend
+	 * on the depth of the stack. Returns an empty list if this thread is not
+	 * suspended.
+	 *
+	 * @param start
+	 *            the index of the first frame
+	 * @param length
+	 *            the maximum number of frames
+	 * @return a copy of the frames in the range, which is shorter than the
+	 *         given length at the bottom of the stack
+	 * @throws DebugException
+	 *             if an exception occurs retrieving frames
+	 * @see #computeStackFrames()
+	 */
+	public synchronized List<IJavaStackFrame> computeStackFrames(int start, int length) throws DebugException {
+		if (!updateStackFrames(fRefreshChildren)) {
+			return Collections.EMPTY_LIST;
+		}
+		int end = (int) Math.min(fStackFrames.size(), (long) start + length);
+		if (start < 0 || start >= end) {
+			return Collections.EMPTY_LIST;
+		}
+		bindStackFrames(start, end);
+		return new ArrayList<>(fStackFrames.subList(start, end));
+	}
+
+	/**
+	 * Returns the number of stack frames of this thread that are not bound to
+	 * the frames of the current suspend yet, without retrieving any frame.
+	 *
+	 * @return the number of frames still to retrieve
+	 * @noreference public for test purposes
+	 */
+	public synchronized int getUnboundStackFrameCount() {
+		return fUnboundStackFrames.cardinality();
+	}
+
+	/**
+	 * Returns the number of stack frames of this thread, without retrieving
+	 * the frames below the top page.
+	 *
+	 * @return the number of frames, or 0 if this thread is not suspended
+	 * @throws DebugException
+	 *             if an exception occurs retrieving the frame count
+	 */
+	protected synchronized int computeStackFrameCount() throws DebugException {
+		if (!updateStackFrames(fRefreshChildren)) {
+			return 0;
+		}
+		return fStackFrames.size();
+	}
+
+	/**
+	 * Resizes the stack frames to the current depth of the stack if they need
+	 * to be refreshed, and binds the top page of frames. Frames are matched
+	 * with the frames of the previous suspend by their depth from the bottom
+	 * of the stack.
+	 *
+	 * @return whether this thread is suspended
+	 */
+	private boolean updateStackFrames(boolean refreshChildren) throws DebugException {
+		if (!isSuspended()) {
+			return false;
+		}
+		if (isTerminated()) {
+			fStackFrames.clear();
+			fUnboundStackFrames.clear();
+		} else if (refreshChildren) {
+			int newSize = getUnderlyingFrameCount();
+			int oldSize = fStackFrames.size();
+			if (oldSize > 0 && fStackFrames.get(0) != null) {
+				((JDIStackFrame) fStackFrames.get(0)).setIsTop(false);
+			}
+			int discard = oldSize - newSize; // number of old frames to
+												// discard, if any
+			if (discard > 0) {
+				List<IJavaStackFrame> discarded = fStackFrames.subList(0, discard);
+				for (IJavaStackFrame invalid : discarded) {
+					if (invalid != null) {
+						((JDIStackFrame) invalid).bind(null, -1);
 					}
-					offset--;
-				}
-				if (newSize > 0) {
-					((JDIStackFrame) fStackFrames.get(0)).setIsTop(true);
 				}
+				discarded.clear();
 			}
-			fRefreshChildren = false;
-		} else {
-			return Collections.EMPTY_LIST;
+			int newFrames = newSize - oldSize; // number of frames to
+												// create, if any
+			if (newFrames > 0) {
+				fStackFrames.addAll(0, Collections.nCopies(newFrames, null));
+			}
+			fUnboundStackFrames.clear();
+			fUnboundStackFrames.set(0, newSize);
+			bindStackFrames(0, Math.min(STACK_FRAME_PAGE_SIZE, newSize));
+		}
+		fRefreshChildren = false;
+		return true;
+	}
+
+	/**
+	 * Binds the stack frames in the given range to the underlying frames of
+	 * the current suspend. The underlying frames are retrieved in whole pages,
+	 * skipping the frames that are bound already.
+	 */
+	private void bindStackFrames(int start, int end) throws DebugException {
+		int first = fUnboundStackFrames.nextSetBit(start);
+		if (first < 0 || first >= end) {
+			return;
+		}
+		int last = fUnboundStackFrames.previousSetBit(end - 1);
+		int size = fStackFrames.size();
+		int from = fUnboundStackFrames.nextSetBit(first - first % STACK_FRAME_PAGE_SIZE);
+		int to = fUnboundStackFrames.previousSetBit(Math.min(size, (last / STACK_FRAME_PAGE_SIZE + 1) * STACK_FRAME_PAGE_SIZE) - 1) + 1;
+		List<StackFrame> frames = getUnderlyingFrames(from, to - from);
+		to = Math.min(to, from + frames.size());
+		for (int i = from; i < to; i++) {
+			if (!fUnboundStackFrames.get(i)) {
+				continue;
+			}
+			StackFrame frame = frames.get(i - from);
+			int depth = size - 1 - i;
+			JDIStackFrame oldFrame = (JDIStackFrame) fStackFrames.get(i);
+			JDIStackFrame newFrame = oldFrame == null ? newJDIStackFrame(frame, depth) : oldFrame.bind(frame, depth);
+			if (newFrame != oldFrame) {
+				fStackFrames.set(i, newFrame);
+			}
+		}
+		fUnboundStackFrames.clear(from, to);
+		if (from == 0 && to > 0) {
+			((JDIStackFrame) fStackFrames.get(0)).setIsTop(true);
 		}
-		return fStackFrames;
 	}
 
 	/**
@@ -746,7 +858,7 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 		return computeStackFrames(true);
 	}
 
-	private List<StackFrame> getUnderlyingFrames() throws DebugException {
+	private List<StackFrame> getUnderlyingFrames(int start, int length) throws DebugException {
 		if (!isSuspended()) {
 			// Checking isSuspended here eliminates a race condition in resume
 			// between the time stack frames are preserved and the time the
@@ -756,7 +868,7 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 					null, IJavaThread.ERR_THREAD_NOT_SUSPENDED);
 		}
 		try {
-			return fThread.frames();
+			return fThread.frames(start, length);
 		} catch (IncompatibleThreadStateException e) {
 			requestFailed(
 					JDIDebugModelMessages.JDIThread_Unable_to_retrieve_stack_frame___thread_not_suspended__1,
@@ -1295,9 +1407,9 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 		setInvokingMethod(false);
 		setRunning(false);
 		setRequestTimeout(restoreTimeout);
-		// update preserved stack frames
+		// update preserved stack frames, only binding the top page
 		try {
-			computeStackFrames();
+			computeStackFrameCount();
 		} catch (DebugException e) {
 			logError(e);
 		}
@@ -1370,7 +1482,7 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 
 	@Override
 	public synchronized IStackFrame getTopStackFrame() throws DebugException {
-		List<IJavaStackFrame> c = computeStackFrames();
+		List<IJavaStackFrame> c = computeStackFrames(0, 1);
 		if (c.isEmpty()) {
 			return null;
 		}
@@ -1540,7 +1652,7 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 		if (breakpoint instanceof JavaExceptionBreakpoint) {
 			JavaExceptionBreakpoint exceptionBreakpoint = (JavaExceptionBreakpoint) breakpoint;
 			try {
-				IJavaObject lastException = exceptionBreakpoint.getLastException();
+				IJavaObject lastException = exceptionBreakpoint.getLastException(this);
 				IJavaObject previousException = fPreviousException;
 				if (previousException != null && previousException.equals(lastException)) {
 					return exceptionBreakpoint.getSuspendOnRecurrenceStrategy();
@@ -1669,10 +1781,13 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 	@Override
 	public synchronized boolean isOutOfSynch() throws DebugException {
 		if (isSuspended() && ((JDIDebugTarget) getDebugTarget()).hasHCRFailed()) {
-			List<IJavaStackFrame> frames = computeStackFrames();
-			for(IJavaStackFrame frame : frames) {
-				if(((JDIStackFrame)frame).isOutOfSynch()) {
-					return true;
+			// retrieve the frames page by page, until one is out of synch
+			int count = computeStackFrameCount();
+			for (int start = 0; start < count; start += STACK_FRAME_PAGE_SIZE) {
+				for (IJavaStackFrame frame : computeStackFrames(start, STACK_FRAME_PAGE_SIZE)) {
+					if (((JDIStackFrame) frame).isOutOfSynch()) {
+						return true;
+					}
 				}
 			}
 			return false;
@@ -1747,13 +1862,18 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 
 	/**
 	 * Sets whether this thread is currently executing. When set to
-	 * <code>true</code>, this thread's current breakpoints are cleared.
+	 * <code>true</code>, this thread's current breakpoints are cleared. The
+	 * suspend epochs of this thread and of its debug target end.
 	 *
 	 * @param running
 	 *            whether this thread is executing
 	 */
 	protected void setRunning(boolean running) {
 		fRunning = running;
+		// code run by this thread may change any value, and the values read
+		// while it ran are not those it suspended with
+		fValueCache.invalidate();
+		getJavaDebugTarget().getValueCache().invalidate();
 		if (running) {
 			synchronized (breakpointAcessLock) {
 				fCurrentBreakpoints.clear();
@@ -1761,6 +1881,17 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 		}
 	}
 
+	/**
+	 * Returns the cache of the values of the local variables of this thread
+	 * read in the current suspend epoch. The epoch ends whenever this thread
+	 * resumes or suspends, including to invoke a method for an evaluation.
+	 *
+	 * @return the value cache of this thread
+	 */
+	public ValueCache getValueCache() {
+		return fValueCache;
+	}
+
 	private void clearMethodResult() {
 		setMethodResult(null);
 	}
@@ -1776,7 +1907,9 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 	protected synchronized void preserveStackFrames() {
 		fRefreshChildren = true;
 		for(IJavaStackFrame frame : fStackFrames) {
-			((JDIStackFrame)frame).setUnderlyingStackFrame(null);
+			if (frame != null) {
+				((JDIStackFrame)frame).setUnderlyingStackFrame(null);
+			}
 		}
 	}
 
@@ -1789,6 +1922,7 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 	 */
 	protected synchronized void disposeStackFrames() {
 		fStackFrames.clear();
+		fUnboundStackFrames.clear();
 		fRefreshChildren = true;
 	}
 
@@ -2183,7 +2317,7 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 					preserveStackFrames();
 					fThread.popFrames(jdiFrame);
 					lastSize = size;
-					size = computeStackFrames().size();
+					size = computeStackFrameCount();
 				}
 			} catch (IncompatibleThreadStateException exception) {
 				targetRequestFailed(MessageFormat.format(
@@ -2453,7 +2587,7 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 				}
 				Location location = frame.location();
 				setOriginalStepLocation(location);
-				setOriginalStepStackDepth(computeStackFrames().size());
+				setOriginalStepStackDepth(computeStackFrameCount());
 				setStepRequest(createStepRequest());
 				setPendingStepHandler(this);
 				addJDIEventListener(this, getStepRequest());
@@ -2567,11 +2701,11 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 					}
 					fStepResultCandidate = null;
 					fStepResultTimeoutTriggered.set(false);
-					List<IJavaStackFrame> frames = computeStackFrames();
+					List<IJavaStackFrame> frames = computeStackFrames(0, 1);
 					int frameCount = 0;
 					StackFrame currentFrame = null;
 					if (!frames.isEmpty()) {
-						frameCount = frames.size();
+						frameCount = computeStackFrameCount();
 						currentFrame = ((JDIStackFrame) frames.get(0)).getUnderlyingStackFrame();
 					} else {
 						// can happen, e.g. when step filters are active.
@@ -3181,8 +3315,10 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 		 *                </ul>
 		 */
 		protected StepToFrameHandler(IStackFrame frame) throws DebugException {
-			List<IJavaStackFrame> frames = computeStackFrames();
-			setRemainingFrames(frames.size() - frames.indexOf(frame));
+			synchronized (JDIThread.this) {
+				int count = computeStackFrameCount();
+				setRemainingFrames(count - fStackFrames.indexOf(frame));
+			}
 		}
 
 		/**
@@ -3262,8 +3398,10 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 		 *                </ul>
 		 */
 		protected DropToFrameHandler(IStackFrame frame) throws DebugException {
-			List<IJavaStackFrame> frames = computeStackFrames();
-			setFramesToDrop(frames.indexOf(frame));
+			synchronized (JDIThread.this) {
+				computeStackFrameCount();
+				setFramesToDrop(fStackFrames.indexOf(frame));
+			}
 		}
 
 		/**
@@ -229,6 +229,13 @@ public class JDIValue extends JDIDebugElement implements IJavaValue {
 	@Override
 	public IVariable[] getVariables() throws DebugException {
 		List<IJavaVariable> list = getVariablesList();
+		if (fValue instanceof ObjectReference && !isArray()) {
+			ValueCache cache = getJavaDebugTarget().getValueCache();
+			ValuePrefetcher.prefetchFieldValues((ObjectReference) fValue, list, cache);
+			if (ValuePrefetcher.isPrefetchChildValues()) {
+				ValuePrefetcher.prefetchChildValues(list, cache);
+			}
+		}
 		return list.toArray(new IVariable[list.size()]);
 	}
 
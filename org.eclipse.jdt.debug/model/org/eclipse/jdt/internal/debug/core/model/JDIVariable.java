@@ -44,7 +44,7 @@ public abstract class JDIVariable extends JDIDebugElement implements
 	private int fLastChangeIndex = -1;
 
 	/**
-	 * This variable contains the suspend count when this variable is read from the debugged process. If the suspend count hasn't increased since
+	 * This variable contains the epoch of the value cache when this variable is read from the debugged process. If the epoch hasn't changed since
 	 * that, it can be assumed, that the value hasn't changed.
 	 */
 	private int lastRead = -1;
@@ -93,6 +93,29 @@ public abstract class JDIVariable extends JDIDebugElement implements
 	 */
 	protected abstract Value retrieveValue() throws DebugException;
 
+	/**
+	 * Returns the cache of the values read in the current suspend epoch this
+	 * variable reads its value through. By default, this is the cache of the
+	 * debug target.
+	 *
+	 * @return the value cache of this variable
+	 */
+	protected ValueCache getValueCache() {
+		return getJavaDebugTarget().getValueCache();
+	}
+
+	/**
+	 * Returns the key of the value of this variable in its value cache, equal
+	 * to the keys of the other variables that read the same value. By default,
+	 * values are not shared.
+	 *
+	 * @return the key of the value of this variable, or <code>null</code> if
+	 *         the value is not shared with other variables
+	 */
+	protected Object getValueKey() {
+		return null;
+	}
+
 	/**
 	 * Returns the current value of this variable. The value is cached, but on
 	 * each access we see if the value has changed and update if required.
@@ -101,13 +124,67 @@ public abstract class JDIVariable extends JDIDebugElement implements
 	 */
 	@Override
 	public IValue getValue() throws DebugException {
-		final var javaDebugTarget = getJavaDebugTarget();
-		var currentSuspendCount = javaDebugTarget.getSuspendCount();
-		if (currentSuspendCount == lastRead) {
+		ValueCache cache = getValueCache();
+		int epoch = cache.getEpoch();
+		if (epoch == lastRead) {
+			cache.hit();
 			return fValue;
 		}
-		Value currentValue = getCurrentValue();
-		lastRead = currentSuspendCount;
+		return updateValue(cache.getValue(getValueKey(), this::getCurrentValue), epoch);
+	}
+
+	/**
+	 * Sets the value of this variable to a value that was retrieved from the
+	 * debugged process along with the values of other variables, unless the
+	 * value was read already in the given epoch, or the epoch is over.
+	 *
+	 * @param value
+	 *            the underlying jdi value of this variable
+	 * @param epoch
+	 *            the epoch of the value cache of this variable when the value
+	 *            was requested
+	 */
+	void setPrefetchedValue(Value value, int epoch) {
+		ValueCache cache = getValueCache();
+		if (epoch != lastRead && epoch == cache.getEpoch()) {
+			cache.putValue(getValueKey(), value, epoch);
+			updateValue(value, epoch);
+		}
+	}
+
+	/**
+	 * Returns whether the value of this variable was read in the current
+	 * epoch of its value cache.
+	 *
+	 * @return whether the cached value of this variable is current
+	 */
+	boolean isValueRead() {
+		return lastRead == getValueCache().getEpoch();
+	}
+
+	/**
+	 * Discards the values read in the current epoch of the value cache of this
+	 * variable, after its value was modified.
+	 */
+	protected void valueModified() {
+		getValueCache().invalidate();
+	}
+
+	/**
+	 * Returns the cached value of this variable, without reading it from the
+	 * debugged process.
+	 *
+	 * @return the cached value, or <code>null</code> if the value has not been
+	 *         read yet
+	 */
+	JDIValue getCachedValue() {
+		return fValue;
+	}
+
+	private IValue updateValue(Value currentValue, int epoch) {
+		final var javaDebugTarget = getJavaDebugTarget();
+		var currentSuspendCount = javaDebugTarget.getSuspendCount();
+		lastRead = epoch;
 		if (fValue == null) {
 			fValue = JDIValue.createValue(javaDebugTarget, currentValue);
 		} else {
@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.core.model;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import com.sun.jdi.ThreadReference;
+
+/**
+ * The model threads of a debug target, indexed by the unique ID of their
+ * underlying thread. Threads are iterated in the order they were added,
+ * without copying: iteration reflects the threads at some point during or
+ * since its creation, and never fails because of concurrent changes. Lookups
+ * and iteration do not lock, only changes are serialized.
+ */
+final class ThreadRegistry implements Iterable<JDIThread> {
+
+	/**
+	 * A thread with the position it was added at.
+	 */
+	private record Registration(long order, JDIThread thread) {
+	}
+
+	private final Map<Long, Registration> fById = new ConcurrentHashMap<>();
+
+	private final ConcurrentSkipListMap<Long, JDIThread> fInOrder = new ConcurrentSkipListMap<>();
+
+	private long fNextOrder;
+
+	/**
+	 * Adds the given thread, unless a thread with the same underlying thread
+	 * was added already.
+	 *
+	 * @param thread
+	 *            the thread to add
+	 * @return the thread registered for the underlying thread of the given
+	 *         thread
+	 */
+	synchronized JDIThread add(JDIThread thread) {
+		Long id = Long.valueOf(thread.getUnderlyingThread().uniqueID());
+		Registration existing = fById.get(id);
+		if (existing != null) {
+			return existing.thread();
+		}
+		Registration registration = new Registration(fNextOrder++, thread);
+		fById.put(id, registration);
+		fInOrder.put(Long.valueOf(registration.order()), thread);
+		return thread;
+	}
+
+	/**
+	 * Removes the given thread.
+	 *
+	 * @param thread
+	 *            the thread to remove
+	 */
+	synchronized void remove(JDIThread thread) {
+		Long id = Long.valueOf(thread.getUnderlyingThread().uniqueID());
+		Registration registration = fById.get(id);
+		if (registration != null && registration.thread() == thread) {
+			fById.remove(id);
+			fInOrder.remove(Long.valueOf(registration.order()));
+		}
+	}
+
+	/**
+	 * Removes all threads.
+	 */
+	synchronized void clear() {
+		fById.clear();
+		fInOrder.clear();
+	}
+
+	/**
+	 * @param thread
+	 *            an underlying thread
+	 * @return the model thread of the given underlying thread, or
+	 *         <code>null</code> if there is none
+	 */
+	JDIThread find(ThreadReference thread) {
+		Registration registration = fById.get(Long.valueOf(thread.uniqueID()));
+		return registration == null ? null : registration.thread();
+	}
+
+	/**
+	 * @return the number of threads
+	 */
+	int size() {
+		return fById.size();
+	}
+
+	/**
+	 * @return whether there are no threads
+	 */
+	boolean isEmpty() {
+		return fById.isEmpty();
+	}
+
+	@Override
+	public Iterator<JDIThread> iterator() {
+		return Collections.unmodifiableCollection(fInOrder.values()).iterator();
+	}
+}
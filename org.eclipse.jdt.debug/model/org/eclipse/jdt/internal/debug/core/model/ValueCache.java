@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.core.model;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.debug.core.DebugException;
+
+import com.sun.jdi.Value;
+
+/**
+ * Values read from the target during one suspend epoch, shared by all
+ * variables that read the same value, such as the variables of the different
+ * views showing a frame or an object. A debug target has a cache for the
+ * values of fields and array entries, and each thread has one for the values
+ * of the local variables of its frames.
+ * <p>
+ * The epoch is bumped, discarding all values, whenever code may have run that
+ * changed them: when a thread resumes or suspends, including to invoke a
+ * method for an evaluation, after hot code replace, and when a variable is
+ * modified.
+ * </p>
+ */
+public final class ValueCache {
+
+	/**
+	 * Retrieves a value from the target.
+	 */
+	interface Retriever {
+		Value retrieve() throws DebugException;
+	}
+
+	/**
+	 * A value with the epoch it was read in.
+	 */
+	private record Entry(int epoch, Value value) {
+	}
+
+	private final AtomicInteger fEpoch = new AtomicInteger();
+
+	private final Map<Object, Entry> fValues = new ConcurrentHashMap<>();
+
+	private final LongAdder fHits = new LongAdder();
+
+	private final LongAdder fMisses = new LongAdder();
+
+	/**
+	 * @return the current epoch
+	 */
+	public int getEpoch() {
+		return fEpoch.get();
+	}
+
+	/**
+	 * @return the number of values that were served from this cache
+	 */
+	public long getHitCount() {
+		return fHits.sum();
+	}
+
+	/**
+	 * @return the number of values that had to be read from the target
+	 */
+	public long getMissCount() {
+		return fMisses.sum();
+	}
+
+	/**
+	 * Discards all values, starting a new epoch.
+	 */
+	void invalidate() {
+		fEpoch.incrementAndGet();
+		fValues.clear();
+	}
+
+	/**
+	 * Returns the value with the given key read in the current epoch, reading
+	 * it with the given retriever if it has not been read yet.
+	 *
+	 * @param key
+	 *            the key of the value, or <code>null</code> if the value is
+	 *            not shared
+	 * @param retriever
+	 *            reads the value from the target
+	 * @return the value
+	 * @throws DebugException
+	 *             if the value cannot be read
+	 */
+	Value getValue(Object key, Retriever retriever) throws DebugException {
+		int epoch = fEpoch.get();
+		if (key != null) {
+			Entry entry = fValues.get(key);
+			if (entry != null && entry.epoch() == epoch) {
+				fHits.increment();
+				return entry.value();
+			}
+		}
+		fMisses.increment();
+		Value value = retriever.retrieve();
+		putValue(key, value, epoch);
+		return value;
+	}
+
+	/**
+	 * Adds a value that was read in the given epoch, unless the epoch is over.
+	 *
+	 * @param key
+	 *            the key of the value, or <code>null</code> if the value is
+	 *            not shared
+	 * @param value
+	 *            the value
+	 * @param epoch
+	 *            the epoch the value was read in
+	 */
+	void putValue(Object key, Value value, int epoch) {
+		if (key != null && fEpoch.get() == epoch) {
+			fValues.put(key, new Entry(epoch, value));
+		}
+	}
+
+	/**
+	 * Counts a value that was served by a variable which had already read it
+	 * in the current epoch.
+	 */
+	void hit() {
+		fHits.increment();
+	}
+}
@@ -0,0 +1,236 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.core.model;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.jdi.internal.ObjectReferenceImpl;
+import org.eclipse.jdt.debug.core.IJavaVariable;
+import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
+
+import com.sun.jdi.Field;
+import com.sun.jdi.LocalVariable;
+import com.sun.jdi.ObjectReference;
+import com.sun.jdi.ReferenceType;
+import com.sun.jdi.StackFrame;
+import com.sun.jdi.StringReference;
+import com.sun.jdi.Value;
+
+/**
+ * Retrieves the values of the variables of an expanded stack frame or object
+ * in a single request to the target, instead of one request per variable, and
+ * seeds the variables with them. Optionally, the field values of the objects
+ * the variables refer to are retrieved as well, with the requests for all
+ * objects sent at once.
+ * <p>
+ * Prefetching is best effort: variables whose values could not be prefetched
+ * retrieve them one by one when asked, and report failures then.
+ * </p>
+ */
+final class ValuePrefetcher {
+
+	private ValuePrefetcher() {
+	}
+
+	/**
+	 * @return whether the field values of the objects the variables of an
+	 *         expanded frame or object refer to are prefetched as well
+	 */
+	static boolean isPrefetchChildValues() {
+		return Platform.getPreferencesService().getBoolean(
+				JDIDebugPlugin.getUniqueIdentifier(),
+				JDIDebugPlugin.PREF_PREFETCH_CHILD_VALUES,
+				false,
+				null);
+	}
+
+	/**
+	 * Prefetches the values of the local variables and static fields of the
+	 * given frame. The caller must hold the lock of the thread of the frame.
+	 *
+	 * @param frame
+	 *            the frame
+	 * @param variables
+	 *            the variables of the frame
+	 */
+	static void prefetchFrameValues(JDIStackFrame frame, List<IJavaVariable> variables) {
+		int localsEpoch = ((JDIThread) frame.getThread()).getValueCache().getEpoch();
+		int staticsEpoch = frame.getJavaDebugTarget().getValueCache().getEpoch();
+		Map<LocalVariable, JDILocalVariable> locals = new LinkedHashMap<>();
+		Map<Field, JDIFieldVariable> statics = new LinkedHashMap<>();
+		for (IJavaVariable variable : variables) {
+			if (variable instanceof JDILocalVariable) {
+				JDILocalVariable local = (JDILocalVariable) variable;
+				if (!local.isValueRead()) {
+					locals.put(local.getLocal(), local);
+				}
+			} else if (variable instanceof JDIFieldVariable) {
+				JDIFieldVariable field = (JDIFieldVariable) variable;
+				if (!field.isValueRead()) {
+					statics.put(field.getField(), field);
+				}
+			}
+		}
+		if (locals.size() < 2 && statics.size() < 2) {
+			return;
+		}
+		try {
+			if (!frame.isSuspended()) {
+				return;
+			}
+			if (locals.size() > 1) {
+				StackFrame underlyingFrame = frame.getUnderlyingStackFrame();
+				if (underlyingFrame != null) {
+					seed(locals, underlyingFrame.getValues(new ArrayList<>(locals.keySet())), localsEpoch);
+				}
+			}
+			if (statics.size() > 1) {
+				ReferenceType type = frame.getUnderlyingMethod().declaringType();
+				seed(statics, type.getValues(new ArrayList<>(statics.keySet())), staticsEpoch);
+			}
+		} catch (DebugException | RuntimeException e) {
+			// the values are retrieved one by one
+		}
+	}
+
+	/**
+	 * Prefetches the values of the fields of the given object.
+	 *
+	 * @param object
+	 *            the object
+	 * @param variables
+	 *            the variables of the object
+	 * @param cache
+	 *            the value cache of the debug target
+	 */
+	static void prefetchFieldValues(ObjectReference object, List<IJavaVariable> variables, ValueCache cache) {
+		int epoch = cache.getEpoch();
+		Map<Field, JDIFieldVariable> fields = getUnreadFields(variables);
+		if (fields.size() < 2) {
+			return;
+		}
+		try {
+			seed(fields, object.getValues(new ArrayList<>(fields.keySet())), epoch);
+		} catch (RuntimeException e) {
+			// the values are retrieved one by one
+		}
+	}
+
+	/**
+	 * Prefetches the field values of the objects the given variables refer
+	 * to, for the variables whose values have been read. The values of all
+	 * objects are requested before waiting for any reply. Must not be called
+	 * while holding a lock of a frame's thread or of a value.
+	 *
+	 * @param variables
+	 *            the variables of an expanded frame or object
+	 * @param cache
+	 *            the value cache of the debug target
+	 */
+	static void prefetchChildValues(List<IJavaVariable> variables, ValueCache cache) {
+		int epoch = cache.getEpoch();
+		List<CompletableFuture<Map<Field, Value>>> requests = new ArrayList<>();
+		List<Map<Field, JDIFieldVariable>> requested = new ArrayList<>();
+		Set<ObjectReference> objects = new HashSet<>();
+		for (IJavaVariable variable : variables) {
+			JDIValue value = getReadValue(variable);
+			if (!(value instanceof JDIObjectValue) || value instanceof JDIArrayValue || value instanceof JDIReferenceListValue) {
+				continue;
+			}
+			ObjectReference object = ((JDIObjectValue) value).getUnderlyingObject();
+			if (object == null || object instanceof StringReference || !objects.add(object)) {
+				continue;
+			}
+			try {
+				Map<Field, JDIFieldVariable> fields = getUnreadFields(value.getVariablesList());
+				if (fields.isEmpty()) {
+					continue;
+				}
+				List<Field> keys = new ArrayList<>(fields.keySet());
+				if (object instanceof ObjectReferenceImpl) {
+					CompletableFuture<Map<Field, Value>> request = ((ObjectReferenceImpl) object).getValuesAsync(keys);
+					if (request != null) {
+						requests.add(request);
+						requested.add(fields);
+					}
+				} else {
+					seed(fields, object.getValues(keys), epoch);
+				}
+			} catch (DebugException | RuntimeException e) {
+				// the values are retrieved one by one
+			}
+		}
+		for (int i = 0; i < requests.size(); i++) {
+			try {
+				seed(requested.get(i), requests.get(i).join(), epoch);
+			} catch (CompletionException | CancellationException e) {
+				// the values are retrieved one by one
+			}
+		}
+	}
+
+	/**
+	 * @return the value of the given variable if it has been read in the
+	 *         current epoch, or <code>null</code>
+	 */
+	private static JDIValue getReadValue(IJavaVariable variable) {
+		if (variable instanceof JDIThisVariable) {
+			// the receiver is known without a request to the target
+			try {
+				return (JDIValue) variable.getValue();
+			} catch (DebugException e) {
+				return null;
+			}
+		}
+		if (variable instanceof JDIVariable && ((JDIVariable) variable).isValueRead()) {
+			return ((JDIVariable) variable).getCachedValue();
+		}
+		return null;
+	}
+
+	private static Map<Field, JDIFieldVariable> getUnreadFields(List<IJavaVariable> variables) {
+		Map<Field, JDIFieldVariable> fields = new LinkedHashMap<>();
+		for (IJavaVariable variable : variables) {
+			if (variable instanceof JDIFieldVariable) {
+				JDIFieldVariable field = (JDIFieldVariable) variable;
+				if (!field.isValueRead()) {
+					fields.put(field.getField(), field);
+				}
+			}
+		}
+		return fields;
+	}
+
+	private static <K> void seed(Map<K, ? extends JDIVariable> variables, Map<K, Value> values, int epoch) {
+		if (values == null) {
+			return;
+		}
+		for (Entry<K, ? extends JDIVariable> entry : variables.entrySet()) {
+			if (values.containsKey(entry.getKey())) {
+				entry.getValue().setPrefetchedValue(values.get(entry.getKey()), epoch);
+			}
+		}
+	}
+}